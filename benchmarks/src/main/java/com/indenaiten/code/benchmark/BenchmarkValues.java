@@ -0,0 +1,109 @@
+package com.indenaiten.code.benchmark;
+
+import com.indenaiten.code.util.DateTimeUtil;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Random;
+
+
+/**
+ * <p>Input values shared by the benchmarks.</p>
+ * <p>The values are random date-times between 1970 and 2050, always generated with the same seed, so every run and
+ * every thread measures the same inputs. The "String" values are produced with "DateTimeFormatter" so they do not
+ * depend on the library under measure.</p>
+ * <p>The "patternsIn" argument selects one of the sets of patterns:</p>
+ * <ul>
+ *     <li><b>default:</b> The default patterns of "DateTimeUtil".</li>
+ *     <li><b>numeric:</b> ISO-like patterns with numeric fields only.</li>
+ *     <li><b>text:</b> Patterns with localized names of days, months and AM/PM.</li>
+ * </ul>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see com.indenaiten.code.util.DateTimeUtil
+ */
+final class BenchmarkValues{
+
+    static final int SIZE = 1024;
+    private static final int MASK = SIZE - 1;
+    private static final long SEED = 24062021L;
+    private static final long FIRST_EPOCH_SECOND = 0L;
+    private static final long LAST_EPOCH_SECOND = 2524608000L;
+
+    final String datePattern;
+    final String timePattern;
+    final String dateTimePattern;
+    final ZoneId zoneId;
+    final Locale locale;
+    final LocalDate[] localDates = new LocalDate[ SIZE ];
+    final LocalDateTime[] localDateTimes = new LocalDateTime[ SIZE ];
+    final LocalTime[] localTimes = new LocalTime[ SIZE ];
+    final Date[] dates = new Date[ SIZE ];
+    final String[] dateStrings = new String[ SIZE ];
+    final String[] timeStrings = new String[ SIZE ];
+    final String[] dateTimeStrings = new String[ SIZE ];
+    private int index;
+
+    /**
+     * <p>Generates the input values.</p>
+     *
+     * @param patternsIn The set of patterns: "default", "numeric" or "text".
+     * @param zoneIdIn The "ZoneId" as "String" object.
+     * @param localeIn The "Locale" as language tag.
+     *
+     * @throws IllegalArgumentException If "patternsIn" is not a known set of patterns.
+     */
+    BenchmarkValues( String patternsIn, String zoneIdIn, String localeIn ){
+        switch( patternsIn ){
+            case "default":
+                this.datePattern = DateTimeUtil.DEFAULT_DATE_PATTERN;
+                this.timePattern = DateTimeUtil.DEFAULT_TIME_PATTERN;
+                this.dateTimePattern = DateTimeUtil.DEFAULT_DATE_TIME_PATTERN;
+                break;
+            case "numeric":
+                this.datePattern = "uuuu-MM-dd";
+                this.timePattern = "HH:mm:ss.SSS";
+                this.dateTimePattern = "uuuu-MM-dd'T'HH:mm:ss.SSS";
+                break;
+            case "text":
+                this.datePattern = "EEEE, d MMMM uuuu";
+                this.timePattern = "h:mm:ss a";
+                this.dateTimePattern = "EEE, d MMM uuuu HH:mm:ss";
+                break;
+            default:
+                throw new IllegalArgumentException( "Unknown patterns: " + patternsIn );
+        }
+        this.zoneId = ZoneId.of( zoneIdIn );
+        this.locale = Locale.forLanguageTag( localeIn );
+        final DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern( this.datePattern, this.locale );
+        final DateTimeFormatter timeFormatter = DateTimeFormatter.ofPattern( this.timePattern, this.locale );
+        final DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern( this.dateTimePattern, this.locale );
+        final Random random = new Random( SEED );
+        for( int i = 0; i < SIZE; i++ ){
+            final long epochSecond = FIRST_EPOCH_SECOND + (long) ( random.nextDouble() * ( LAST_EPOCH_SECOND - FIRST_EPOCH_SECOND ) );
+            final Date date = new Date( epochSecond * 1000L + random.nextInt( 1000 ) );
+            final LocalDateTime dateTime = LocalDateTime.ofInstant( date.toInstant(), this.zoneId );
+            this.dates[ i ] = date;
+            this.localDateTimes[ i ] = dateTime;
+            this.localDates[ i ] = dateTime.toLocalDate();
+            this.localTimes[ i ] = dateTime.toLocalTime();
+            this.dateStrings[ i ] = dateFormatter.format( dateTime );
+            this.timeStrings[ i ] = timeFormatter.format( dateTime );
+            this.dateTimeStrings[ i ] = dateTimeFormatter.format( dateTime );
+        }
+    }
+
+    /**
+     * @return The index of the next input value, cycling through all of them.
+     */
+    int next(){
+        this.index = ( this.index + 1 ) & MASK;
+        return this.index;
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.indenaiten.code.benchmark;
+
+import com.indenaiten.code.util.DateTimeUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Date;
+
+
+/**
+ * <p>Benchmarks of the conversions between "Date", "LocalDate", "LocalDateTime" and "LocalTime".</p>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see com.indenaiten.code.util.DateTimeUtil
+ */
+@State( Scope.Thread )
+public class ConversionBenchmark{
+
+    @Param( { "UTC", "Europe/Paris", "America/Sao_Paulo" } )
+    public String zoneId;
+
+    private BenchmarkValues values;
+
+    @Setup
+    public void setUp(){
+        this.values = new BenchmarkValues( "default", this.zoneId, "en-US" );
+    }
+
+    @Benchmark
+    public Date getDateFromLocalDate(){
+        return DateTimeUtil.getDateFromLocalDate( this.values.localDates[ this.values.next() ], this.values.zoneId );
+    }
+
+    @Benchmark
+    public Date getDateFromLocalDateTime(){
+        return DateTimeUtil.getDateFromLocalDateTime( this.values.localDateTimes[ this.values.next() ], this.values.zoneId );
+    }
+
+    @Benchmark
+    public LocalDate getLocalDateFromDate(){
+        return DateTimeUtil.getLocalDateFromDate( this.values.dates[ this.values.next() ], this.values.zoneId );
+    }
+
+    @Benchmark
+    public LocalDateTime getLocalDateTimeFromDate(){
+        return DateTimeUtil.getLocalDateTimeFromDate( this.values.dates[ this.values.next() ], this.values.zoneId );
+    }
+
+    @Benchmark
+    public LocalTime getLocalTimeFromDate(){
+        return DateTimeUtil.getLocalTimeFromDate( this.values.dates[ this.values.next() ], this.values.zoneId );
+    }
+
+    @Benchmark
+    public LocalDateTime getLocalDateTimeFromLocalDate(){
+        return DateTimeUtil.getLocalDateTimeFromLocalDate( this.values.localDates[ this.values.next() ], this.values.zoneId );
+    }
+
+    @Benchmark
+    public LocalDate getLocalDateFromLocalDateTime(){
+        return DateTimeUtil.getLocalDateFromLocalDateTime( this.values.localDateTimes[ this.values.next() ], this.values.zoneId );
+    }
+
+    @Benchmark
+    public LocalTime getLocalTimeFromLocalDateTime(){
+        return DateTimeUtil.getLocalTimeFromLocalDateTime( this.values.localDateTimes[ this.values.next() ], this.values.zoneId );
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.indenaiten.code.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.NoBenchmarksException;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.TimeValue;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+
+/**
+ * <p>Runs every benchmark with 1, 4 and as many threads as available processors.</p>
+ * <p>Every run measures the throughput in ops/s and profiles the garbage collector, whose "gc.alloc.rate.norm" metric
+ * is the number of bytes allocated per operation. The results of each number of threads are also written as JSON to
+ * "jmh-result-&lt;threads&gt;.json".</p>
+ * <p>"ParallelBenchmark" and "FileTransformBenchmark" are run apart with a single thread and a "parallelism" of every
+ * power of two up to the number of available processors, writing their results to "jmh-result-parallel.json".</p>
+ * <p>Example:</p>
+ * <code>
+ * java -jar target/benchmarks.jar ParseBenchmark FormatBenchmark
+ * </code>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see org.openjdk.jmh.profile.GCProfiler
+ */
+public final class DateTimeUtilBenchmarks{
+
+    private static final String PARALLEL_BENCHMARK = ".*\\.(" + ParallelBenchmark.class.getSimpleName() + "|" + FileTransformBenchmark.class.getSimpleName()
+                                                     + ")\\..*";
+
+    /**
+     * Private constructor to avoid instantiating the class.
+     */
+    private DateTimeUtilBenchmarks(){
+        throw new IllegalStateException( "Utility class" );
+    }
+
+    /**
+     * <p>Runs the benchmarks.</p>
+     *
+     * @param argsIn Regular expressions of the benchmarks to run. All of them are run if there are none.
+     *
+     * @throws RunnerException If a benchmark fails.
+     */
+    public static void main( String[] argsIn ) throws RunnerException{
+        final int processors = Runtime.getRuntime().availableProcessors();
+        final Set<Integer> threads = new LinkedHashSet<>();
+        threads.add( 1 );
+        threads.add( 4 );
+        threads.add( processors );
+        for( final int thread : threads ){
+            final ChainedOptionsBuilder options = DateTimeUtilBenchmarks.options( argsIn, "jmh-result-" + thread + ".json" )
+                    .threads( thread )
+                    .exclude( PARALLEL_BENCHMARK );
+            DateTimeUtilBenchmarks.run( options );
+        }
+        final Set<String> parallelisms = new LinkedHashSet<>();
+        for( int parallelism = 1; parallelism < processors; parallelism *= 2 ){
+            parallelisms.add( String.valueOf( parallelism ) );
+        }
+        parallelisms.add( String.valueOf( processors ) );
+        final ChainedOptionsBuilder options = DateTimeUtilBenchmarks.options( argsIn, "jmh-result-parallel.json" )
+                .threads( 1 )
+                .exclude( "^(?!" + PARALLEL_BENCHMARK + ").*" )
+                .param( "parallelism", parallelisms.toArray( new String[ 0 ] ) );
+        DateTimeUtilBenchmarks.run( options );
+    }
+
+    /**
+     * <p>Runs the benchmarks of "optionsIn", doing nothing if the included ones have all been excluded.</p>
+     */
+    private static void run( ChainedOptionsBuilder optionsIn ) throws RunnerException{
+        try{
+            new Runner( optionsIn.build() ).run();
+        }
+        catch( NoBenchmarksException e ){
+            //Nothing to run with these options
+        }
+    }
+
+    /**
+     * @return The options shared by every run, including the benchmarks of "argsIn" or all of them if there are none.
+     */
+    private static ChainedOptionsBuilder options( String[] argsIn, String resultIn ){
+        final ChainedOptionsBuilder options = new OptionsBuilder()
+                .forks( 1 )
+                .warmupIterations( 3 )
+                .warmupTime( TimeValue.seconds( 1 ) )
+                .measurementIterations( 5 )
+                .measurementTime( TimeValue.seconds( 1 ) )
+                .timeUnit( TimeUnit.SECONDS )
+                .addProfiler( GCProfiler.class )
+                .result( resultIn )
+                .resultFormat( ResultFormatType.JSON );
+        if( argsIn.length == 0 ){
+            options.include( DateTimeUtilBenchmarks.class.getPackage().getName() + "\\..*Benchmark\\..*" );
+        }
+        for( final String include : argsIn ){
+            options.include( include );
+        }
+        return options;
+    }
+
+}
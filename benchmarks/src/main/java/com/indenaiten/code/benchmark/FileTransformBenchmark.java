@@ -0,0 +1,101 @@
+package com.indenaiten.code.benchmark;
+
+import com.indenaiten.code.util.DateColumnTransformer;
+import com.indenaiten.code.util.DateTimeUtil;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ForkJoinPool;
+
+
+/**
+ * <p>Benchmarks of the memory-mapped reformatting of a file with "DateColumnTransformer".</p>
+ * <p>Every operation reformats a whole file of "LINES" lines, about 40 MiB, with a "ForkJoinPool" whose parallelism is
+ * the "parallelism" parameter. The bytes of the input transformed per second are reported as the secondary result
+ * "bytes", to be compared with the bandwidth of the disk. "DateTimeUtilBenchmarks" runs it like "ParallelBenchmark".</p>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see com.indenaiten.code.util.DateColumnTransformer
+ */
+@State( Scope.Thread )
+public class FileTransformBenchmark{
+
+    static final int LINES = 1 << 20;
+
+    @Param( { "1", "2", "4", "8" } )
+    public int parallelism;
+
+    @Param( { "default", "numeric" } )
+    public String patterns;
+
+    private ForkJoinPool pool;
+    private DateColumnTransformer transformer;
+    private Path directory;
+    private Path input;
+    private Path output;
+    private long size;
+
+    @Setup
+    public void setUp() throws IOException{
+        final BenchmarkValues values = new BenchmarkValues( this.patterns, "Europe/Paris", "es-ES" );
+        this.pool = new ForkJoinPool( this.parallelism );
+        this.transformer = new DateColumnTransformer( ';', values.zoneId, values.locale )
+                .withHeaderLines( 1 )
+                .withDateColumn( 1, values.datePattern, DateTimeUtil.DEFAULT_DATE_PATTERN )
+                .withDateTimeColumn( 3, values.dateTimePattern, DateTimeUtil.DEFAULT_DATE_TIME_PATTERN );
+        this.directory = Files.createTempDirectory( "date-column-transformer" );
+        this.input = this.directory.resolve( "input.csv" );
+        this.output = this.directory.resolve( "output.csv" );
+        try( BufferedWriter writer = Files.newBufferedWriter( this.input, StandardCharsets.UTF_8 ) ){
+            writer.write( "id;date;description;dateTime\n" );
+            for( int i = 0; i < LINES; i++ ){
+                final int index = i % BenchmarkValues.SIZE;
+                writer.write( i + ";" + values.dateStrings[ index ] + ";row number " + i + ";" + values.dateTimeStrings[ index ] + "\n" );
+            }
+        }
+        this.size = Files.size( this.input );
+    }
+
+    @TearDown
+    public void tearDown() throws IOException{
+        this.pool.shutdown();
+        Files.deleteIfExists( this.input );
+        Files.deleteIfExists( this.output );
+        Files.deleteIfExists( this.directory );
+    }
+
+    @Benchmark
+    public long transform( Throughput throughputIn ) throws IOException{
+        final long lines = this.transformer.transform( this.input, this.output, StandardCharsets.UTF_8, this.pool );
+        throughputIn.bytes += this.size;
+        return lines;
+    }
+
+    /**
+     * <p>Secondary result with the bytes of the input transformed, which JMH reports per second.</p>
+     */
+    @State( Scope.Thread )
+    @AuxCounters( AuxCounters.Type.OPERATIONS )
+    public static class Throughput{
+
+        public long bytes;
+
+        @Setup( Level.Iteration )
+        public void reset(){
+            this.bytes = 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.indenaiten.code.benchmark;
+
+import com.indenaiten.code.util.DateTimeUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * <p>Benchmarks of the "formatXxx" methods of "Date", "LocalDate", "LocalDateTime" and "LocalTime" objects.</p>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see com.indenaiten.code.util.DateTimeUtil
+ */
+@State( Scope.Thread )
+public class FormatBenchmark{
+
+    @Param( { "default", "numeric", "text" } )
+    public String patterns;
+
+    @Param( { "UTC", "Europe/Paris", "America/Sao_Paulo" } )
+    public String zoneId;
+
+    @Param( { "en-US", "es-ES", "fr-FR" } )
+    public String locale;
+
+    private BenchmarkValues values;
+
+    @Setup
+    public void setUp(){
+        this.values = new BenchmarkValues( this.patterns, this.zoneId, this.locale );
+    }
+
+    @Benchmark
+    public String formatLocalDate(){
+        return DateTimeUtil.formatDate( this.values.localDates[ this.values.next() ], this.values.datePattern,
+                                        this.values.zoneId, this.values.locale );
+    }
+
+    @Benchmark
+    public String formatLocalDateTime(){
+        return DateTimeUtil.formatDateTime( this.values.localDateTimes[ this.values.next() ], this.values.dateTimePattern,
+                                            this.values.zoneId, this.values.locale );
+    }
+
+    @Benchmark
+    public String formatLocalTime(){
+        return DateTimeUtil.formatTime( this.values.localTimes[ this.values.next() ], this.values.timePattern,
+                                        this.values.zoneId, this.values.locale );
+    }
+
+    @Benchmark
+    public String formatDate(){
+        return DateTimeUtil.formatDate( this.values.dates[ this.values.next() ], this.values.datePattern,
+                                        this.values.zoneId, this.values.locale );
+    }
+
+    @Benchmark
+    public String formatDateTime(){
+        return DateTimeUtil.formatDateTime( this.values.dates[ this.values.next() ], this.values.dateTimePattern,
+                                            this.values.zoneId, this.values.locale );
+    }
+
+}
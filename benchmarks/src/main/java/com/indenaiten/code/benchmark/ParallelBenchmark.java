@@ -0,0 +1,87 @@
+package com.indenaiten.code.benchmark;
+
+import com.indenaiten.code.util.DateTimeUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ForkJoinPool;
+
+
+/**
+ * <p>Benchmarks of the parallel bulk methods of "DateTimeUtil" over large arrays.</p>
+ * <p>Every operation converts a whole array of "LENGTH" elements in a "ForkJoinPool" with the parallelism of the
+ * "parallelism" parameter, so the scores of the different parallelisms show how the conversion scales with the number
+ * of cores. "DateTimeUtilBenchmarks" runs it with a single JMH thread and every power of two up to the number of
+ * available processors.</p>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see com.indenaiten.code.util.DateTimeUtil
+ * @see java.util.concurrent.ForkJoinPool
+ */
+@State( Scope.Thread )
+public class ParallelBenchmark{
+
+    static final int LENGTH = 1 << 20;
+
+    @Param( { "1", "2", "4", "8" } )
+    public int parallelism;
+
+    @Param( { "default", "numeric", "text" } )
+    public String patterns;
+
+    @Param( { "Europe/Paris" } )
+    public String zoneId;
+
+    @Param( { "es-ES" } )
+    public String locale;
+
+    private BenchmarkValues values;
+    private ForkJoinPool pool;
+    private LocalDateTime[] localDateTimes;
+    private String[] dateTimeStrings;
+    private LocalDateTime[] localDateTimeResults;
+    private String[] stringResults;
+
+    @Setup
+    public void setUp(){
+        this.values = new BenchmarkValues( this.patterns, this.zoneId, this.locale );
+        this.pool = new ForkJoinPool( this.parallelism );
+        this.localDateTimes = new LocalDateTime[ LENGTH ];
+        this.dateTimeStrings = new String[ LENGTH ];
+        for( int i = 0; i < LENGTH; i++ ){
+            this.localDateTimes[ i ] = this.values.localDateTimes[ i % BenchmarkValues.SIZE ];
+            this.dateTimeStrings[ i ] = this.values.dateTimeStrings[ i % BenchmarkValues.SIZE ];
+        }
+        this.localDateTimeResults = new LocalDateTime[ LENGTH ];
+        this.stringResults = new String[ LENGTH ];
+    }
+
+    @TearDown
+    public void tearDown(){
+        this.pool.shutdown();
+    }
+
+    @Benchmark
+    public LocalDateTime[] getLocalDateTimesFromStrings(){
+        return DateTimeUtil.getLocalDateTimesFromStrings( this.dateTimeStrings, this.values.dateTimePattern, this.values.zoneId, this.values.locale,
+                                                          this.localDateTimeResults, this.pool );
+    }
+
+    @Benchmark
+    public String[] formatDateTimes(){
+        return DateTimeUtil.formatDateTimes( this.localDateTimes, this.values.dateTimePattern, this.values.zoneId, this.values.locale, this.stringResults,
+                                             this.pool );
+    }
+
+    @Benchmark
+    public String[] reformatDateTimes(){
+        return DateTimeUtil.formatDateTimes( this.dateTimeStrings, this.values.dateTimePattern, DateTimeUtil.DEFAULT_DATE_TIME_PATTERN, this.values.zoneId,
+                                             this.values.locale, this.stringResults, this.pool );
+    }
+
+}
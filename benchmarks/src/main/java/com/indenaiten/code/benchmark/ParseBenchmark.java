@@ -0,0 +1,71 @@
+package com.indenaiten.code.benchmark;
+
+import com.indenaiten.code.util.DateTimeUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.Date;
+
+
+/**
+ * <p>Benchmarks of the "getXxxFromString" methods.</p>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see com.indenaiten.code.util.DateTimeUtil
+ */
+@State( Scope.Thread )
+public class ParseBenchmark{
+
+    @Param( { "default", "numeric", "text" } )
+    public String patterns;
+
+    @Param( { "UTC", "Europe/Paris", "America/Sao_Paulo" } )
+    public String zoneId;
+
+    @Param( { "en-US", "es-ES", "fr-FR" } )
+    public String locale;
+
+    private BenchmarkValues values;
+
+    @Setup
+    public void setUp(){
+        this.values = new BenchmarkValues( this.patterns, this.zoneId, this.locale );
+    }
+
+    @Benchmark
+    public LocalDate getLocalDateFromString(){
+        return DateTimeUtil.getLocalDateFromString( this.values.dateStrings[ this.values.next() ], this.values.datePattern,
+                                                    this.values.zoneId, this.values.locale );
+    }
+
+    @Benchmark
+    public LocalDateTime getLocalDateTimeFromString(){
+        return DateTimeUtil.getLocalDateTimeFromString( this.values.dateTimeStrings[ this.values.next() ], this.values.dateTimePattern,
+                                                        this.values.zoneId, this.values.locale );
+    }
+
+    @Benchmark
+    public LocalTime getLocalTimeFromString(){
+        return DateTimeUtil.getLocalTimeFromString( this.values.timeStrings[ this.values.next() ], this.values.timePattern,
+                                                    this.values.zoneId, this.values.locale );
+    }
+
+    @Benchmark
+    public Date getDateFromString(){
+        return DateTimeUtil.getDateFromString( this.values.dateStrings[ this.values.next() ], this.values.datePattern,
+                                               this.values.zoneId, this.values.locale );
+    }
+
+    @Benchmark
+    public Date getDateTimeFromString(){
+        return DateTimeUtil.getDateTimeFromString( this.values.dateTimeStrings[ this.values.next() ], this.values.dateTimePattern,
+                                                   this.values.zoneId, this.values.locale );
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.indenaiten.code.benchmark;
+
+import com.indenaiten.code.util.DateTimeUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+
+/**
+ * <p>Benchmarks of the "formatXxx" methods that reformat a "String" object from one pattern to another.</p>
+ * <p>The input is parsed with the patterns of the "patterns" parameter and formatted with the default patterns of
+ * "DateTimeUtil".</p>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see com.indenaiten.code.util.DateTimeUtil
+ */
+@State( Scope.Thread )
+public class ReformatBenchmark{
+
+    @Param( { "default", "numeric", "text" } )
+    public String patterns;
+
+    @Param( { "UTC", "Europe/Paris", "America/Sao_Paulo" } )
+    public String zoneId;
+
+    @Param( { "en-US", "es-ES", "fr-FR" } )
+    public String locale;
+
+    private BenchmarkValues values;
+
+    @Setup
+    public void setUp(){
+        this.values = new BenchmarkValues( this.patterns, this.zoneId, this.locale );
+    }
+
+    @Benchmark
+    public String reformatDate(){
+        return DateTimeUtil.formatDate( this.values.dateStrings[ this.values.next() ], this.values.datePattern, DateTimeUtil.DEFAULT_DATE_PATTERN,
+                                        this.values.zoneId, this.values.locale );
+    }
+
+    @Benchmark
+    public String reformatDateTime(){
+        return DateTimeUtil.formatDateTime( this.values.dateTimeStrings[ this.values.next() ], this.values.dateTimePattern,
+                                            DateTimeUtil.DEFAULT_DATE_TIME_PATTERN, this.values.zoneId, this.values.locale );
+    }
+
+}
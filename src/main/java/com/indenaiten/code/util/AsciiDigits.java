@@ -0,0 +1,69 @@
+package com.indenaiten.code.util;
+
+
+/**
+ * <p>Writes numbers as ASCII digits and turns ASCII bytes into "String" objects.</p>
+ * <p>The digits are written in pairs taken from a table of the 100 pairs from "00" to "99", which saves a division
+ * and a remainder for every digit. The "String" objects are built with the constructor that copies every byte as a
+ * character, which neither looks up nor creates a "CharsetDecoder".</p>
+ * <p>This is the implementation for Java 8. The multi-release JAR has another one for Java 17 and later, with the same
+ * methods, that writes every pair with a single store.</p>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see com.indenaiten.code.util.FixedWidthPattern
+ */
+final class AsciiDigits{
+
+    private static final byte[] TENS = new byte[ 100 ];
+    private static final byte[] ONES = new byte[ 100 ];
+
+    static{
+        for( int i = 0; i < 100; i++ ){
+            AsciiDigits.TENS[ i ] = (byte) ( '0' + i / 10 );
+            AsciiDigits.ONES[ i ] = (byte) ( '0' + i % 10 );
+        }
+    }
+
+    /**
+     * Private constructor to avoid instantiating the class.
+     */
+    private AsciiDigits(){
+        throw new IllegalStateException( "Utility class" );
+    }
+
+    /**
+     * <p>Writes "valueIn" as ASCII digits, padded with zeros to "widthIn" digits.</p>
+     *
+     * @param bytesIn The destination array.
+     * @param offsetIn The position of the first digit.
+     * @param widthIn The number of digits.
+     * @param valueIn The number, from 0 to the highest number of "widthIn" digits.
+     */
+    static void writeDigits( byte[] bytesIn, int offsetIn, int widthIn, int valueIn ){
+        int value = valueIn;
+        int position = offsetIn + widthIn;
+        while( position - offsetIn >= 2 ){
+            position -= 2;
+            final int pair = value % 100;
+            bytesIn[ position ] = AsciiDigits.TENS[ pair ];
+            bytesIn[ position + 1 ] = AsciiDigits.ONES[ pair ];
+            value /= 100;
+        }
+        if( position > offsetIn ){
+            bytesIn[ offsetIn ] = (byte) ( '0' + value % 10 );
+        }
+    }
+
+    /**
+     * <p>Returns the "String" object with a character for every byte of "bytesIn".</p>
+     *
+     * @param bytesIn The ASCII bytes.
+     *
+     * @return The "String" object.
+     */
+    @SuppressWarnings( "deprecation" )
+    static String newString( byte[] bytesIn ){
+        return new String( bytesIn, 0, 0, bytesIn.length );
+    }
+
+}
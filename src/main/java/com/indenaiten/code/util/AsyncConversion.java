@@ -0,0 +1,219 @@
+package com.indenaiten.code.util;
+
+import java.time.ZoneId;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+
+/**
+ * <p>Applies the conversion of a single value to every element of an array in the tasks of an "Executor", completing a
+ * "CompletableFuture" with the results.</p>
+ * <p>The array is converted in chunks of {@value #CHUNK_SIZE} elements, and a batch never has more chunks in the
+ * executor than half of its parallelism. Every task converts one chunk and submits the next one to the executor
+ * instead of converting it, so the tasks of other batches queued in the meantime run in between and a huge batch
+ * cannot hold all the threads of the executor until it ends.</p>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see com.indenaiten.code.util.BulkConversion
+ * @see com.indenaiten.code.util.DateTimeAsync
+ */
+final class AsyncConversion{
+
+    static final int CHUNK_SIZE = 4096;
+
+    /**
+     * Private constructor to avoid instantiating the class.
+     */
+    private AsyncConversion(){
+        throw new IllegalStateException( "Utility class" );
+    }
+
+    /**
+     * <p>Converts every element of "valuesIn" in the tasks of "executorIn" and puts the result in the same position of
+     * a new array.</p>
+     * <p>When several elements fail, the future completes with the exception of the element with the lowest index, like
+     * the sequential conversion. Cancelling the future stops the conversion of the chunks that have not started.</p>
+     *
+     * @param valuesIn The values to convert.
+     * @param zoneIdIn The "ZoneId" object used by the conversion, checked even when "valuesIn" is empty.
+     * @param generatorIn The function that creates the results array with the given length.
+     * @param executorIn The "Executor" object that runs the conversion.
+     * @param conversionIn The conversion of a single value, which must be thread-safe.
+     *
+     * @return The "CompletableFuture" object completed with the results array, or with a "BulkConversionException" if
+     * any element cannot be converted.
+     *
+     * @throws NullPointerException If "valuesIn", "zoneIdIn" or "executorIn" is null.
+     */
+    static <I, O> CompletableFuture<O[]> convert( I[] valuesIn, ZoneId zoneIdIn, IntFunction<O[]> generatorIn, Executor executorIn,
+                                                  Function<? super I, ? extends O> conversionIn ){
+        Objects.requireNonNull( valuesIn, "values" );
+        Objects.requireNonNull( zoneIdIn, "zoneId" );
+        Objects.requireNonNull( executorIn, "executor" );
+        final Batch<I, O> batch = new Batch<>( valuesIn, generatorIn.apply( valuesIn.length ), executorIn, conversionIn );
+        batch.start( AsyncConversion.window( executorIn ) );
+        return batch.result;
+    }
+
+    /**
+     * <p>Returns the largest number of chunks of a batch in "executorIn" at the same time: half of the parallelism of a
+     * "ForkJoinPool" or a "ThreadPoolExecutor", or half of the available processors for any other executor, such as
+     * one that starts a thread for every task.</p>
+     *
+     * @param executorIn The "Executor" object.
+     *
+     * @return The number of chunks, at least 1.
+     */
+    static int window( Executor executorIn ){
+        final int processors = Runtime.getRuntime().availableProcessors();
+        int parallelism = processors;
+        if( executorIn instanceof ForkJoinPool ){
+            parallelism = ( (ForkJoinPool) executorIn ).getParallelism();
+        }
+        else if( executorIn instanceof ThreadPoolExecutor ){
+            parallelism = Math.min( ( (ThreadPoolExecutor) executorIn ).getMaximumPoolSize(), processors );
+        }
+        return Math.max( 1, parallelism / 2 );
+    }
+
+    /**
+     * <p>State of the conversion of an array.</p>
+     * <p>The chunks are taken in order, so when a chunk fails every chunk before it has been taken, and the chunks after
+     * the first failure found are not converted.</p>
+     */
+    private static final class Batch<I, O>{
+        private final I[] values;
+        private final O[] results;
+        private final Executor executor;
+        private final Function<? super I, ? extends O> conversion;
+        private final int chunks;
+        private final AtomicInteger nextChunk = new AtomicInteger();
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicReference<BulkConversionException> failure = new AtomicReference<>();
+        private final CompletableFuture<O[]> result = new CompletableFuture<>();
+
+        private Batch( I[] valuesIn, O[] resultsIn, Executor executorIn, Function<? super I, ? extends O> conversionIn ){
+            this.values = valuesIn;
+            this.results = resultsIn;
+            this.executor = executorIn;
+            this.conversion = conversionIn;
+            this.chunks = (int) ( ( (long) valuesIn.length + CHUNK_SIZE - 1 ) / CHUNK_SIZE );
+        }
+
+        /**
+         * <p>Submits the first chunks, as many as "windowIn" or the number of chunks.</p>
+         */
+        private void start( int windowIn ){
+            if( this.chunks == 0 ){
+                this.result.complete( this.results );
+                return;
+            }
+            final int tasks = Math.min( windowIn, this.chunks );
+            this.running.set( tasks );
+            for( int i = 0; i < tasks; i++ ){
+                this.submit();
+            }
+        }
+
+        /**
+         * <p>Submits a task that converts the next chunk.</p>
+         * <p>When the executor runs the task in the calling thread, the task leaves its chunk to this method, which
+         * converts it and submits the next one in a loop, so a direct executor does not nest a call for every chunk.</p>
+         */
+        private void submit(){
+            while( true ){
+                final Task task = new Task( this );
+                try{
+                    this.executor.execute( task );
+                }
+                catch( RejectedExecutionException e ){
+                    this.result.completeExceptionally( e );
+                    this.finish();
+                    return;
+                }
+                task.submitting = false;
+                if( !task.deferred || !this.convertNextChunk() ){
+                    return;
+                }
+            }
+        }
+
+        /**
+         * <p>Converts the next chunk, or ends this line of tasks if there is no chunk left, a chunk before it has failed
+         * or the future has been cancelled.</p>
+         *
+         * @return True if a chunk has been converted and the next one has to be submitted.
+         */
+        private boolean convertNextChunk(){
+            final long from = (long) this.nextChunk.getAndIncrement() * CHUNK_SIZE;
+            final BulkConversionException failed = this.failure.get();
+            if( from >= this.values.length || this.result.isDone() || ( failed != null && failed.getIndex() < from ) ){
+                this.finish();
+                return false;
+            }
+            try{
+                BulkConversion.convert( this.values, (int) from, (int) Math.min( from + CHUNK_SIZE, this.values.length ), this.results, this.conversion );
+            }
+            catch( BulkConversionException e ){
+                this.failure.accumulateAndGet( e, ( current, other ) -> current == null || other.getIndex() < current.getIndex() ? other : current );
+            }
+            catch( Error e ){
+                this.result.completeExceptionally( e );
+                this.finish();
+                throw e;
+            }
+            return true;
+        }
+
+        /**
+         * <p>Ends a line of tasks, completing the future when it is the last one.</p>
+         */
+        private void finish(){
+            if( this.running.decrementAndGet() == 0 ){
+                final BulkConversionException failed = this.failure.get();
+                if( failed != null ){
+                    this.result.completeExceptionally( failed );
+                }
+                else{
+                    this.result.complete( this.results );
+                }
+            }
+        }
+    }
+
+    /**
+     * <p>Task that converts a chunk and submits the next one.</p>
+     * <p>If it runs in the thread that is still submitting it, it only marks itself as deferred and that thread
+     * converts its chunk.</p>
+     */
+    private static final class Task implements Runnable{
+        private final Batch<?, ?> batch;
+        private final Thread submitter = Thread.currentThread();
+        private boolean submitting = true;
+        private boolean deferred;
+
+        private Task( Batch<?, ?> batchIn ){
+            this.batch = batchIn;
+        }
+
+        @Override
+        public void run(){
+            if( Thread.currentThread() == this.submitter && this.submitting ){
+                this.deferred = true;
+                return;
+            }
+            if( this.batch.convertNextChunk() ){
+                this.batch.submit();
+            }
+        }
+    }
+
+}
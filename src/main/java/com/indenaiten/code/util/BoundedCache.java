@@ -0,0 +1,166 @@
+package com.indenaiten.code.util;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+
+/**
+ * <p>Thread-safe cache with a maximum number of entries.</p>
+ * <p>Reads are lock-free and only mark the entry as referenced. When the cache grows over its maximum size the entries
+ * are evicted in insertion order, giving a second chance to the ones that have been read since the last pass
+ * ("CLOCK" policy).</p>
+ * <p>Values produced by a loader that throws an exception are never cached.</p>
+ *
+ * @param <K> The type of the keys.
+ * @param <V> The type of the values.
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see java.util.concurrent.ConcurrentHashMap
+ */
+final class BoundedCache<K, V>{
+
+    private final ConcurrentHashMap<K, Node<K, V>> map = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Node<K, V>> queue = new ConcurrentLinkedQueue<>();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private volatile int maximumSize;
+
+    /**
+     * <p>Creates an empty cache.</p>
+     *
+     * @param maximumSizeIn The maximum number of entries. It must be greater than zero.
+     *
+     * @throws IllegalArgumentException If "maximumSizeIn" is lower than one.
+     */
+    BoundedCache( int maximumSizeIn ){
+        this.setMaximumSize( maximumSizeIn );
+    }
+
+    /**
+     * <p>Returns the value associated with "keyIn", computing it with "loaderIn" when it is not cached.</p>
+     *
+     * @param keyIn The key.
+     * @param loaderIn The function that computes the value of a missing key.
+     *
+     * @return The cached or computed value.
+     */
+    V get( K keyIn, Function<? super K, ? extends V> loaderIn ){
+        Node<K, V> node = this.map.get( keyIn );
+        if( node != null ){
+            if( !node.referenced ){
+                node.referenced = true;
+            }
+            this.hitCount.increment();
+            return node.value;
+        }
+
+        this.missCount.increment();
+        final Node<K, V> created = new Node<>( keyIn, Objects.requireNonNull( loaderIn.apply( keyIn ) ) );
+        node = this.map.putIfAbsent( keyIn, created );
+        if( node != null ){
+            return node.value;
+        }
+        this.queue.add( created );
+        this.evict();
+        return created.value;
+    }
+
+    /**
+     * <p>Removes entries until the cache fits its maximum size.</p>
+     */
+    private void evict(){
+        while( this.map.size() > this.maximumSize ){
+            final Node<K, V> node = this.queue.poll();
+            if( node == null ){
+                return;
+            }
+            if( node.referenced ){
+                node.referenced = false;
+                this.queue.add( node );
+            }
+            else if( this.map.remove( node.key, node ) ){
+                this.evictionCount.increment();
+            }
+        }
+    }
+
+    /**
+     * @return The number of lookups served from the cache.
+     */
+    long getHitCount(){
+        return this.hitCount.sum();
+    }
+
+    /**
+     * @return The number of lookups that had to compute the value.
+     */
+    long getMissCount(){
+        return this.missCount.sum();
+    }
+
+    /**
+     * @return The number of entries removed to keep the cache bounded.
+     */
+    long getEvictionCount(){
+        return this.evictionCount.sum();
+    }
+
+    /**
+     * @return The current number of entries.
+     */
+    int size(){
+        return this.map.size();
+    }
+
+    /**
+     * @return The maximum number of entries.
+     */
+    int getMaximumSize(){
+        return this.maximumSize;
+    }
+
+    /**
+     * <p>Changes the maximum number of entries, evicting the entries over the new bound.</p>
+     *
+     * @param maximumSizeIn The maximum number of entries. It must be greater than zero.
+     *
+     * @throws IllegalArgumentException If "maximumSizeIn" is lower than one.
+     */
+    void setMaximumSize( int maximumSizeIn ){
+        if( maximumSizeIn < 1 ){
+            throw new IllegalArgumentException( "The maximum size must be greater than zero: " + maximumSizeIn );
+        }
+        this.maximumSize = maximumSizeIn;
+        this.evict();
+    }
+
+    /**
+     * <p>Removes all the entries and resets the statistics.</p>
+     */
+    void clear(){
+        this.map.clear();
+        this.queue.clear();
+        this.hitCount.reset();
+        this.missCount.reset();
+        this.evictionCount.reset();
+    }
+
+    /**
+     * <p>Entry of the cache.</p>
+     */
+    private static final class Node<K, V>{
+        private final K key;
+        private final V value;
+        private volatile boolean referenced;
+
+        private Node( K keyIn, V valueIn ){
+            this.key = keyIn;
+            this.value = valueIn;
+        }
+    }
+
+}
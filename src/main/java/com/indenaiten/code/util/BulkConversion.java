@@ -0,0 +1,188 @@
+package com.indenaiten.code.util;
+
+import java.time.ZoneId;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+
+/**
+ * <p>Applies the conversion of a single value to every element of an array.</p>
+ * <p>The bulk methods of "DateTimeUtil" resolve the pattern, the "ZoneId" and the "Locale" once and pass here the
+ * conversion of one element, so the loop, the checks of the arrays and the report of the element that fails are the
+ * same for every family of methods.</p>
+ * <p>The parallel conversions split the array into ranges converted by the workers of a "ForkJoinPool". Every range
+ * writes only its own positions of the results array and keeps its failure in its own task, so the workers share
+ * nothing but the index of the first failure found, which is only written when an element fails.</p>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see com.indenaiten.code.util.BulkConversionException
+ */
+final class BulkConversion{
+
+    static final int MINIMUM_RANGE = 512;
+    static final int TASKS_PER_WORKER = 8;
+
+    /**
+     * Private constructor to avoid instantiating the class.
+     */
+    private BulkConversion(){
+        throw new IllegalStateException( "Utility class" );
+    }
+
+    /**
+     * <p>Converts every element of "valuesIn" and puts the result in the same position of "resultsIn".</p>
+     *
+     * @param valuesIn The values to convert.
+     * @param zoneIdIn The "ZoneId" object used by the conversion, checked even when "valuesIn" is empty.
+     * @param resultsIn The array where the results are put, at least as long as "valuesIn".
+     * @param conversionIn The conversion of a single value.
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "valuesIn", "zoneIdIn" or "resultsIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "valuesIn".
+     * @throws BulkConversionException If any element cannot be converted.
+     */
+    static <I, O> O[] convert( I[] valuesIn, ZoneId zoneIdIn, O[] resultsIn, Function<? super I, ? extends O> conversionIn ){
+        BulkConversion.check( valuesIn, zoneIdIn, resultsIn );
+        BulkConversion.convert( valuesIn, 0, valuesIn.length, resultsIn, conversionIn );
+        return resultsIn;
+    }
+
+    /**
+     * <p>Converts every element of "valuesIn" in parallel in "poolIn" and puts the result in the same position of
+     * "resultsIn".</p>
+     * <p>When several elements fail, the exception is the one of the element with the lowest index, like in the
+     * sequential conversion, and all the elements before it have been converted.</p>
+     *
+     * @param valuesIn The values to convert.
+     * @param zoneIdIn The "ZoneId" object used by the conversion, checked even when "valuesIn" is empty.
+     * @param resultsIn The array where the results are put, at least as long as "valuesIn".
+     * @param poolIn The "ForkJoinPool" object that runs the conversion.
+     * @param conversionIn The conversion of a single value, which must be thread-safe.
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "valuesIn", "zoneIdIn", "resultsIn" or "poolIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "valuesIn".
+     * @throws BulkConversionException If any element cannot be converted.
+     */
+    static <I, O> O[] convert( I[] valuesIn, ZoneId zoneIdIn, O[] resultsIn, ForkJoinPool poolIn, Function<? super I, ? extends O> conversionIn ){
+        BulkConversion.check( valuesIn, zoneIdIn, resultsIn );
+        Objects.requireNonNull( poolIn, "pool" );
+        final int threshold = BulkConversion.threshold( valuesIn.length, poolIn.getParallelism() );
+        if( valuesIn.length <= threshold ){
+            BulkConversion.convert( valuesIn, 0, valuesIn.length, resultsIn, conversionIn );
+            return resultsIn;
+        }
+        final ConversionTask<I, O> task = new ConversionTask<>( valuesIn, 0, valuesIn.length, resultsIn, conversionIn, threshold,
+                                                                new AtomicInteger( Integer.MAX_VALUE ) );
+        poolIn.invoke( task );
+        if( task.failure != null ){
+            throw task.failure;
+        }
+        return resultsIn;
+    }
+
+    /**
+     * <p>Returns the largest number of elements converted by a single task.</p>
+     * <p>Every worker of the pool gets about {@value #TASKS_PER_WORKER} ranges, so the ones that finish first can steal
+     * work from the slower ones, but never less than {@value #MINIMUM_RANGE} elements, so the cost of a task stays
+     * small compared with the cost of its conversions.</p>
+     *
+     * @param lengthIn The number of elements to convert.
+     * @param parallelismIn The parallelism of the pool.
+     *
+     * @return The maximum size of a range.
+     */
+    static int threshold( int lengthIn, int parallelismIn ){
+        final long tasks = (long) Math.max( parallelismIn, 1 ) * TASKS_PER_WORKER;
+        return (int) Math.max( MINIMUM_RANGE, ( lengthIn + tasks - 1 ) / tasks );
+    }
+
+    /**
+     * <p>Converts the elements of "valuesIn" from "fromIn", inclusive, to "toIn", exclusive.</p>
+     *
+     * @throws BulkConversionException If any element cannot be converted, with the index of the first one.
+     */
+    static <I, O> void convert( I[] valuesIn, int fromIn, int toIn, O[] resultsIn, Function<? super I, ? extends O> conversionIn ){
+        int index = fromIn;
+        try{
+            for( ; index < toIn; index++ ){
+                resultsIn[ index ] = conversionIn.apply( valuesIn[ index ] );
+            }
+        }
+        catch( RuntimeException e ){
+            throw new BulkConversionException( index, e );
+        }
+    }
+
+    /**
+     * <p>Checks the arguments of a bulk conversion before converting any element.</p>
+     */
+    static void check( Object[] valuesIn, ZoneId zoneIdIn, Object[] resultsIn ){
+        Objects.requireNonNull( valuesIn, "values" );
+        Objects.requireNonNull( zoneIdIn, "zoneId" );
+        Objects.requireNonNull( resultsIn, "results" );
+        if( resultsIn.length < valuesIn.length ){
+            throw new IllegalArgumentException( "The results array is shorter than the values array: " + resultsIn.length + " < " + valuesIn.length );
+        }
+    }
+
+    /**
+     * <p>Task that converts a range of the array, splitting it in halves while it is larger than the threshold.</p>
+     */
+    private static final class ConversionTask<I, O> extends RecursiveAction{
+        private static final long serialVersionUID = 1L;
+
+        private final I[] values;
+        private final int from;
+        private final int to;
+        private final O[] results;
+        private final Function<? super I, ? extends O> conversion;
+        private final int threshold;
+        private final AtomicInteger firstFailure;
+        private BulkConversionException failure;
+
+        private ConversionTask( I[] valuesIn, int fromIn, int toIn, O[] resultsIn, Function<? super I, ? extends O> conversionIn,
+                                int thresholdIn, AtomicInteger firstFailureIn ){
+            this.values = valuesIn;
+            this.from = fromIn;
+            this.to = toIn;
+            this.results = resultsIn;
+            this.conversion = conversionIn;
+            this.threshold = thresholdIn;
+            this.firstFailure = firstFailureIn;
+        }
+
+        @Override
+        protected void compute(){
+            if( this.to - this.from <= this.threshold ){
+                if( this.firstFailure.get() < this.from ){
+                    return;
+                }
+                try{
+                    BulkConversion.convert( this.values, this.from, this.to, this.results, this.conversion );
+                }
+                catch( BulkConversionException e ){
+                    this.failure = e;
+                    this.firstFailure.accumulateAndGet( e.getIndex(), Math::min );
+                }
+                return;
+            }
+            final int middle = ( this.from + this.to ) >>> 1;
+            final ConversionTask<I, O> left = new ConversionTask<>( this.values, this.from, middle, this.results, this.conversion, this.threshold,
+                                                                    this.firstFailure );
+            final ConversionTask<I, O> right = new ConversionTask<>( this.values, middle, this.to, this.results, this.conversion, this.threshold,
+                                                                     this.firstFailure );
+            right.fork();
+            left.compute();
+            right.join();
+            this.failure = left.failure != null ? left.failure : right.failure;
+        }
+    }
+
+}
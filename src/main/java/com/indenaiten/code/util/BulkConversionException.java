@@ -0,0 +1,52 @@
+package com.indenaiten.code.util;
+
+
+/**
+ * <p>Exception thrown by the bulk methods of "DateTimeUtil" when an element of the array cannot be converted.</p>
+ * <p>It gives the index of the element that failed, and its cause is the exception thrown for that element, the same
+ * one that the method for a single value throws. The elements before that index have already been put in the results
+ * array.</p>
+ * <p>Example:</p>
+ * <code>
+ * try{
+ *     LocalDate[] result = DateTimeUtil.getLocalDatesFromStrings( dates );
+ * }
+ * catch( BulkConversionException e ){
+ *     String invalid = dates[ e.getIndex() ];
+ * }
+ * </code>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see com.indenaiten.code.util.DateTimeUtil
+ */
+public class BulkConversionException extends RuntimeException{
+
+    private static final long serialVersionUID = 1L;
+
+    private final int index;
+
+    /**
+     * @param indexIn The index of the element that cannot be converted.
+     * @param causeIn The exception thrown for the element.
+     */
+    public BulkConversionException( int indexIn, RuntimeException causeIn ){
+        super( "The element at index " + indexIn + " cannot be converted: " + causeIn.getMessage(), causeIn );
+        this.index = indexIn;
+    }
+
+    /**
+     * @return The index of the element that cannot be converted.
+     */
+    public int getIndex(){
+        return this.index;
+    }
+
+    /**
+     * @return The exception thrown for the element.
+     */
+    @Override
+    public synchronized RuntimeException getCause(){
+        return (RuntimeException) super.getCause();
+    }
+
+}
@@ -0,0 +1,97 @@
+package com.indenaiten.code.util;
+
+import java.time.ZoneId;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Objects;
+
+
+/**
+ * <p>Parses a column of texts straight into a column of primitive values.</p>
+ * <p>The epoch milliseconds and epoch days are put in "long" and "int" arrays given by the caller, so the column is
+ * held without a "Date" or "LocalDate" object per row. The rows that cannot be parsed are reported in a "BitSet"
+ * instead of an exception, and their position of the results array is set to 0.</p>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see com.indenaiten.code.util.CompiledPattern#getEpochMillisFromString(CharSequence, ZoneId)
+ * @see com.indenaiten.code.util.CompiledPattern#getEpochDayFromString(CharSequence, ZoneId)
+ */
+final class ColumnarConversion{
+
+    /**
+     * Private constructor to avoid instantiating the class.
+     */
+    private ColumnarConversion(){
+        throw new IllegalStateException( "Utility class" );
+    }
+
+    /**
+     * <p>Parses every date-time of "valuesIn" and puts its epoch milliseconds in the same position of "resultsIn".</p>
+     *
+     * @param valuesIn The date-times as "CharSequence" objects.
+     * @param patternIn The "CompiledPattern" object of the date-times.
+     * @param zoneIdIn The "ZoneId" object.
+     * @param resultsIn The array where the epoch milliseconds are put, at least as long as "valuesIn".
+     *
+     * @return The indexes of the rows that cannot be parsed, empty if all of them are valid.
+     *
+     * @throws NullPointerException If "valuesIn", "zoneIdIn" or "resultsIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "valuesIn".
+     */
+    static BitSet getEpochMillis( List<? extends CharSequence> valuesIn, CompiledPattern patternIn, ZoneId zoneIdIn, long[] resultsIn ){
+        Objects.requireNonNull( valuesIn, "values" );
+        Objects.requireNonNull( zoneIdIn, "zoneId" );
+        ColumnarConversion.check( valuesIn.size(), Objects.requireNonNull( resultsIn, "results" ).length );
+        final BitSet invalid = new BitSet();
+        int index = 0;
+        for( final CharSequence value : valuesIn ){
+            if( !patternIn.tryGetEpochMillisFromString( value, zoneIdIn, resultsIn, index ) ){
+                resultsIn[ index ] = 0L;
+                invalid.set( index );
+            }
+            index++;
+        }
+        return invalid;
+    }
+
+    /**
+     * <p>Parses every date of "valuesIn" and puts its epoch day in the same position of "resultsIn".</p>
+     *
+     * @param valuesIn The dates as "CharSequence" objects.
+     * @param patternIn The "CompiledPattern" object of the dates.
+     * @param zoneIdIn The "ZoneId" object.
+     * @param resultsIn The array where the epoch days are put, at least as long as "valuesIn".
+     *
+     * @return The indexes of the rows that cannot be parsed, empty if all of them are valid.
+     *
+     * @throws NullPointerException If "valuesIn", "zoneIdIn" or "resultsIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "valuesIn".
+     */
+    static BitSet getEpochDays( List<? extends CharSequence> valuesIn, CompiledPattern patternIn, ZoneId zoneIdIn, int[] resultsIn ){
+        Objects.requireNonNull( valuesIn, "values" );
+        Objects.requireNonNull( zoneIdIn, "zoneId" );
+        ColumnarConversion.check( valuesIn.size(), Objects.requireNonNull( resultsIn, "results" ).length );
+        final BitSet invalid = new BitSet();
+        int index = 0;
+        for( final CharSequence value : valuesIn ){
+            if( !patternIn.tryGetEpochDayFromString( value, resultsIn, index ) ){
+                resultsIn[ index ] = 0;
+                invalid.set( index );
+            }
+            index++;
+        }
+        return invalid;
+    }
+
+    /**
+     * <p>Checks that the results array is long enough, with the same message as "BulkConversion".</p>
+     *
+     * @throws IllegalArgumentException If "resultsLengthIn" is lower than "valuesSizeIn".
+     */
+    private static void check( int valuesSizeIn, int resultsLengthIn ){
+        if( resultsLengthIn < valuesSizeIn ){
+            throw new IllegalArgumentException( "The results array is shorter than the values array: " + resultsLengthIn + " < " + valuesSizeIn );
+        }
+    }
+
+}
@@ -0,0 +1,2254 @@
+package com.indenaiten.code.util;
+
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.Date;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+
+
+/**
+ * <p>A date and time pattern compiled once with a given "Locale".</p>
+ * <p>It offers the same conversions as the "getXxxFromString" and "formatXxx" methods of "DateTimeUtil" without looking
+ * up the pattern on every call, so it can be kept in a static field and used from hot loops.</p>
+ * <p>Objects of this class are immutable and thread-safe. A compiled pattern can also keep a memo of the dates it has
+ * parsed, which does not change the results, only how fast the repeated texts are parsed.</p>
+ * <p>Example:</p>
+ * <code>
+ * private static final CompiledPattern PATTERN = DateTimeUtil.compile( "dd/MM/yyyy", new Locale( "es", "ES" ) );
+ * LocalDate result = PATTERN.getLocalDateFromString( "25/06/2021" );
+ * </code>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see com.indenaiten.code.util.DateTimeUtil#compile(String, Locale)
+ * @see java.time.format.DateTimeFormatter
+ */
+public final class CompiledPattern{
+
+    private final String pattern;
+    private final Locale locale;
+    private final DateTimeFormatter formatter;
+    private final FastPattern fastPattern;
+    private final boolean zoned;
+    private final boolean plainFields;
+    private final ParseMemo<LocalDate> dateMemo;
+    private final FormatMemo formatMemo;
+
+    /**
+     * <p>Compiles "patternIn" with "localeIn".</p>
+     *
+     * @param patternIn The format pattern.
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param localeIn The "Locale" object.
+     *
+     * @throws NullPointerException If "patternIn" or "localeIn" is null.
+     * @throws IllegalArgumentException If "patternIn" is not a valid pattern.
+     */
+    CompiledPattern( String patternIn, Locale localeIn ){
+        this( patternIn, localeIn, 0 );
+    }
+
+    /**
+     * <p>Compiles "patternIn" with "localeIn" and a memo of the parsed dates.</p>
+     *
+     * @param patternIn The format pattern.
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param localeIn The "Locale" object.
+     * @param parseMemoSizeIn The maximum number of dates kept in the memo, or zero or less to parse every text.
+     *
+     * @throws NullPointerException If "patternIn" or "localeIn" is null.
+     * @throws IllegalArgumentException If "patternIn" is not a valid pattern.
+     */
+    CompiledPattern( String patternIn, Locale localeIn, int parseMemoSizeIn ){
+        this.pattern = Objects.requireNonNull( patternIn, "pattern" );
+        this.locale = Objects.requireNonNull( localeIn, "locale" );
+        this.formatter = DateTimeFormatter.ofPattern( patternIn ).withLocale( localeIn );
+        this.fastPattern = FastPattern.of( patternIn );
+        this.zoned = PatternAnalyzer.hasZone( this.formatter );
+        this.plainFields = PatternAnalyzer.hasPlainFields( patternIn );
+        this.dateMemo = parseMemoSizeIn > 0 ? new ParseMemo<>( parseMemoSizeIn ) : null;
+        this.formatMemo = this.zoned ? null : FormatMemo.of( patternIn );
+    }
+
+    /**
+     * @return The format pattern.
+     */
+    public String getPattern(){
+        return this.pattern;
+    }
+
+    /**
+     * @return The "Locale" object.
+     */
+    public Locale getLocale(){
+        return this.locale;
+    }
+
+    /**
+     * @return The "DateTimeFormatter" object built from the pattern and the "Locale".
+     */
+    public DateTimeFormatter getFormatter(){
+        return this.formatter;
+    }
+
+    /**
+     * <p>Returns a copy of this compiled pattern with its own memo of the dates it parses.</p>
+     * <p>The memo maps every text that "getLocalDateFromString", "tryGetLocalDateFromString" and "getDateFromString"
+     * have parsed to the resulting "LocalDate", so a feed that repeats the same few thousand dates millions of times
+     * parses every one of them only once. "getDateFromString" still returns a new "Date" object on every call. The
+     * texts that cannot be parsed are never kept.</p>
+     * <p>The memo is bounded and lock-free, and it is resistant to scans: the texts that are seen only once are evicted
+     * before they displace the ones that repeat.</p>
+     * <p>Example:</p>
+     * <code>
+     * private static final CompiledPattern PATTERN = DateTimeUtil.compile( "dd/MM/yyyy" ).withParseMemo( 4096 );
+     * LocalDate result = PATTERN.getLocalDateFromString( "25/06/2021" );
+     * </code>
+     *
+     * @param maximumSizeIn The maximum number of dates kept in the memo.
+     *
+     * @return The "CompiledPattern" object with the memo.
+     *
+     * @throws IllegalArgumentException If "maximumSizeIn" is lower than one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see com.indenaiten.code.util.DateTimeUtil#PARSE_MEMO_SIZE_PROPERTY
+     */
+    public CompiledPattern withParseMemo( int maximumSizeIn ){
+        if( maximumSizeIn < 1 ){
+            throw new IllegalArgumentException( "The maximum size must be greater than zero: " + maximumSizeIn );
+        }
+        return new CompiledPattern( this.pattern, this.locale, maximumSizeIn );
+    }
+
+    /**
+     * <p>Gets the number of parsed dates that have been served from the memo.</p>
+     * <p>Example:</p>
+     * <code>
+     * long result = DateTimeUtil.compile( "dd/MM/yyyy" ).withParseMemo( 4096 ).getParseMemoHitCount();
+     * </code>
+     *
+     * @return The number of hits of the memo, or zero if this compiled pattern has no memo.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     */
+    public long getParseMemoHitCount(){
+        return this.dateMemo != null ? this.dateMemo.getHitCount() : 0;
+    }
+
+    /**
+     * <p>Gets the number of dates that have had to be parsed because they were not in the memo.</p>
+     * <p>Example:</p>
+     * <code>
+     * long result = DateTimeUtil.compile( "dd/MM/yyyy" ).withParseMemo( 4096 ).getParseMemoMissCount();
+     * </code>
+     *
+     * @return The number of misses of the memo, or zero if this compiled pattern has no memo.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     */
+    public long getParseMemoMissCount(){
+        return this.dateMemo != null ? this.dateMemo.getMissCount() : 0;
+    }
+
+    /**
+     * <p>Gets the number of dates that have been evicted to keep the memo bounded.</p>
+     * <p>Example:</p>
+     * <code>
+     * long result = DateTimeUtil.compile( "dd/MM/yyyy" ).withParseMemo( 4096 ).getParseMemoEvictionCount();
+     * </code>
+     *
+     * @return The number of evictions of the memo, or zero if this compiled pattern has no memo.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     */
+    public long getParseMemoEvictionCount(){
+        return this.dateMemo != null ? this.dateMemo.getEvictionCount() : 0;
+    }
+
+    /**
+     * <p>Gets the fraction of the parsed dates that have been served from the memo.</p>
+     * <p>Example:</p>
+     * <code>
+     * double result = DateTimeUtil.compile( "dd/MM/yyyy" ).withParseMemo( 4096 ).getParseMemoHitRate();
+     * </code>
+     *
+     * @return The hit rate of the memo, from 0 to 1, or zero if this compiled pattern has no memo or has not parsed
+     * any date yet.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     */
+    public double getParseMemoHitRate(){
+        return this.dateMemo != null ? this.dateMemo.getHitRate() : 0;
+    }
+
+    /**
+     * <p>Gets the number of dates currently held by the memo.</p>
+     * <p>Example:</p>
+     * <code>
+     * int result = DateTimeUtil.compile( "dd/MM/yyyy" ).withParseMemo( 4096 ).getParseMemoSize();
+     * </code>
+     *
+     * @return The size of the memo, or zero if this compiled pattern has no memo.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     */
+    public int getParseMemoSize(){
+        return this.dateMemo != null ? this.dateMemo.size() : 0;
+    }
+
+    /**
+     * <p>Gets the maximum number of dates held by the memo.</p>
+     * <p>Example:</p>
+     * <code>
+     * int result = DateTimeUtil.compile( "dd/MM/yyyy" ).withParseMemo( 4096 ).getParseMemoMaximumSize();
+     * </code>
+     *
+     * @return The maximum size of the memo, or zero if this compiled pattern has no memo.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     */
+    public int getParseMemoMaximumSize(){
+        return this.dateMemo != null ? this.dateMemo.getMaximumSize() : 0;
+    }
+
+    /**
+     * <p>Removes all the dates from the memo and resets its counters. It does nothing if this compiled pattern has no
+     * memo.</p>
+     * <p>Example:</p>
+     * <code>
+     * DateTimeUtil.compile( "dd/MM/yyyy" ).withParseMemo( 4096 ).clearParseMemo();
+     * </code>
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     */
+    public void clearParseMemo(){
+        if( this.dateMemo != null ){
+            this.dateMemo.clear();
+        }
+    }
+
+    /**
+     * <p>Converts a date in "String" format to the "LocalDate" object.</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalDate result = DateTimeUtil.compile( "dd/MM/yyyy" ).getLocalDateFromString( "25/06/2021" );
+     * </code>
+     *
+     * @param dateIn The date as "String" object.
+     *
+     * @return The date as "LocalDate" object.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.LocalDate
+     */
+    public LocalDate getLocalDateFromString( CharSequence dateIn ){
+        return this.getLocalDateFromString( dateIn, DateTimeUtil.DEFAULT_ZONE_ID );
+    }
+
+    /**
+     * <p>Converts a date in "String" format to the "LocalDate" object with "ZoneId".</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalDate result = DateTimeUtil.compile( "dd/MM/yyyy" ).getLocalDateFromString( "25/06/2021", ZoneId.of( "Europe/Paris" ) );
+     * </code>
+     *
+     * @param dateIn The date as "String" object.
+     * @param zoneIdIn The "ZoneId" object.
+     *
+     * @return The date as "LocalDate" object.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.LocalDate
+     * @see java.time.ZoneId
+     */
+    public LocalDate getLocalDateFromString( CharSequence dateIn, ZoneId zoneIdIn ){
+        final LocalDate date = this.parseLocalDate( dateIn );
+        Objects.requireNonNull( zoneIdIn, "zoneId" );
+        return date;
+    }
+
+    /**
+     * <p>Converts a date-time in "String" format to the "LocalDateTime" object.</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalDateTime result = DateTimeUtil.compile( "dd/MM/yyyy HH:mm" ).getLocalDateTimeFromString( "25/06/2021 17:36" );
+     * </code>
+     *
+     * @param dateTimeIn The date-time as "String" object.
+     *
+     * @return The date-time as "LocalDateTime" object.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.LocalDateTime
+     */
+    public LocalDateTime getLocalDateTimeFromString( CharSequence dateTimeIn ){
+        return this.getLocalDateTimeFromString( dateTimeIn, DateTimeUtil.DEFAULT_ZONE_ID );
+    }
+
+    /**
+     * <p>Converts a date-time in "String" format to the "LocalDateTime" object with "ZoneId".</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalDateTime result = DateTimeUtil.compile( "dd/MM/yyyy HH:mm" ).getLocalDateTimeFromString( "25/06/2021 17:36", ZoneId.of( "Europe/Paris" ) );
+     * </code>
+     *
+     * @param dateTimeIn The date-time as "String" object.
+     * @param zoneIdIn The "ZoneId" object.
+     *
+     * @return The date-time as "LocalDateTime" object.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.LocalDateTime
+     * @see java.time.ZoneId
+     */
+    public LocalDateTime getLocalDateTimeFromString( CharSequence dateTimeIn, ZoneId zoneIdIn ){
+        return ZoneGaps.atZone( this.parseLocalDateTime( dateTimeIn ), zoneIdIn );
+    }
+
+    /**
+     * <p>Converts a time in "String" format to the "LocalTime" object.</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalTime result = DateTimeUtil.compile( "HH:mm:ss" ).getLocalTimeFromString( "17:36:27" );
+     * </code>
+     *
+     * @param timeIn The time as "String" object.
+     *
+     * @return The time as "LocalTime" object.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.LocalTime
+     */
+    public LocalTime getLocalTimeFromString( CharSequence timeIn ){
+        return this.getLocalTimeFromString( timeIn, DateTimeUtil.DEFAULT_ZONE_ID );
+    }
+
+    /**
+     * <p>Converts a time in "String" format to the "LocalTime" object with "ZoneId".</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalTime result = DateTimeUtil.compile( "HH:mm:ss" ).getLocalTimeFromString( "17:36:27", ZoneId.of( "Europe/Paris" ) );
+     * </code>
+     *
+     * @param timeIn The time as "String" object.
+     * @param zoneIdIn The "ZoneId" object.
+     *
+     * @return The time as "LocalTime" object.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.LocalTime
+     * @see java.time.ZoneId
+     */
+    public LocalTime getLocalTimeFromString( CharSequence timeIn, ZoneId zoneIdIn ){
+        final LocalTime time = this.parseLocalTime( timeIn );
+        Objects.requireNonNull( zoneIdIn, "zoneId" );
+        return time;
+    }
+
+    /**
+     * <p>Converts a date in "String" format to the "LocalDate" object, without throwing when it is not valid.</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * Optional&lt;LocalDate&gt; result = DateTimeUtil.compile( "dd/MM/yyyy" ).tryGetLocalDateFromString( "25/06/2021" );
+     * </code>
+     *
+     * @param dateIn The date as "String" object.
+     *
+     * @return The date as "LocalDate" object, or an empty "Optional" if "dateIn" cannot be parsed.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.LocalDate
+     * @see #getLocalDateFromString(CharSequence)
+     */
+    public Optional<LocalDate> tryGetLocalDateFromString( CharSequence dateIn ){
+        return this.tryGetLocalDateFromString( dateIn, DateTimeUtil.DEFAULT_ZONE_ID );
+    }
+
+    /**
+     * <p>Converts a date in "String" format to the "LocalDate" object with "ZoneId", without throwing when it is not
+     * valid.</p>
+     * <p>The result is the same as the one of "getLocalDateFromString", but an invalid text gives an empty "Optional"
+     * instead of a "DateTimeParseException". Numeric patterns reject the texts with a wrong length or with characters
+     * that cannot appear in the pattern before running any parser, and the rest of texts are checked with
+     * "DateTimeFormatter.parseUnresolved", so no exception is created for them.</p>
+     * <p>Example:</p>
+     * <code>
+     * Optional&lt;LocalDate&gt; result = DateTimeUtil.compile( "dd/MM/yyyy" ).tryGetLocalDateFromString( "25/06/2021", ZoneId.of( "Europe/Paris" ) );
+     * </code>
+     *
+     * @param dateIn The date as "String" object.
+     * @param zoneIdIn The "ZoneId" object.
+     *
+     * @return The date as "LocalDate" object, or an empty "Optional" if "dateIn" cannot be parsed.
+     *
+     * @throws NullPointerException If "dateIn" or "zoneIdIn" is null.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.LocalDate
+     * @see java.time.ZoneId
+     * @see #getLocalDateFromString(CharSequence, ZoneId)
+     */
+    public Optional<LocalDate> tryGetLocalDateFromString( CharSequence dateIn, ZoneId zoneIdIn ){
+        final LocalDate date = this.tryParseLocalDate( dateIn );
+        Objects.requireNonNull( zoneIdIn, "zoneId" );
+        return Optional.ofNullable( date );
+    }
+
+    /**
+     * <p>Converts a date-time in "String" format to the "LocalDateTime" object, without throwing when it is not valid.</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * Optional&lt;LocalDateTime&gt; result = DateTimeUtil.compile( "dd/MM/yyyy HH:mm" ).tryGetLocalDateTimeFromString( "25/06/2021 17:36" );
+     * </code>
+     *
+     * @param dateTimeIn The date-time as "String" object.
+     *
+     * @return The date-time as "LocalDateTime" object, or an empty "Optional" if "dateTimeIn" cannot be parsed.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.LocalDateTime
+     * @see #getLocalDateTimeFromString(CharSequence)
+     */
+    public Optional<LocalDateTime> tryGetLocalDateTimeFromString( CharSequence dateTimeIn ){
+        return this.tryGetLocalDateTimeFromString( dateTimeIn, DateTimeUtil.DEFAULT_ZONE_ID );
+    }
+
+    /**
+     * <p>Converts a date-time in "String" format to the "LocalDateTime" object with "ZoneId", without throwing when it is not
+     * valid.</p>
+     * <p>The result is the same as the one of "getLocalDateTimeFromString", but an invalid text gives an empty "Optional"
+     * instead of a "DateTimeParseException". Numeric patterns reject the texts with a wrong length or with characters
+     * that cannot appear in the pattern before running any parser, and the rest of texts are checked with
+     * "DateTimeFormatter.parseUnresolved", so no exception is created for them.</p>
+     * <p>Example:</p>
+     * <code>
+     * Optional&lt;LocalDateTime&gt; result = DateTimeUtil.compile( "dd/MM/yyyy HH:mm" ).tryGetLocalDateTimeFromString( "25/06/2021 17:36", ZoneId.of( "Europe/Paris" ) );
+     * </code>
+     *
+     * @param dateTimeIn The date-time as "String" object.
+     * @param zoneIdIn The "ZoneId" object.
+     *
+     * @return The date-time as "LocalDateTime" object, or an empty "Optional" if "dateTimeIn" cannot be parsed.
+     *
+     * @throws NullPointerException If "dateTimeIn" or "zoneIdIn" is null.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.LocalDateTime
+     * @see java.time.ZoneId
+     * @see #getLocalDateTimeFromString(CharSequence, ZoneId)
+     */
+    public Optional<LocalDateTime> tryGetLocalDateTimeFromString( CharSequence dateTimeIn, ZoneId zoneIdIn ){
+        final LocalDateTime dateTime = this.tryParseLocalDateTime( dateTimeIn );
+        Objects.requireNonNull( zoneIdIn, "zoneId" );
+        return dateTime == null ? Optional.empty() : Optional.of( ZoneGaps.atZone( dateTime, zoneIdIn ) );
+    }
+
+    /**
+     * <p>Converts a time in "String" format to the "LocalTime" object, without throwing when it is not valid.</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * Optional&lt;LocalTime&gt; result = DateTimeUtil.compile( "HH:mm:ss" ).tryGetLocalTimeFromString( "17:36:27" );
+     * </code>
+     *
+     * @param timeIn The time as "String" object.
+     *
+     * @return The time as "LocalTime" object, or an empty "Optional" if "timeIn" cannot be parsed.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.LocalTime
+     * @see #getLocalTimeFromString(CharSequence)
+     */
+    public Optional<LocalTime> tryGetLocalTimeFromString( CharSequence timeIn ){
+        return this.tryGetLocalTimeFromString( timeIn, DateTimeUtil.DEFAULT_ZONE_ID );
+    }
+
+    /**
+     * <p>Converts a time in "String" format to the "LocalTime" object with "ZoneId", without throwing when it is not
+     * valid.</p>
+     * <p>The result is the same as the one of "getLocalTimeFromString", but an invalid text gives an empty "Optional"
+     * instead of a "DateTimeParseException". Numeric patterns reject the texts with a wrong length or with characters
+     * that cannot appear in the pattern before running any parser, and the rest of texts are checked with
+     * "DateTimeFormatter.parseUnresolved", so no exception is created for them.</p>
+     * <p>Example:</p>
+     * <code>
+     * Optional&lt;LocalTime&gt; result = DateTimeUtil.compile( "HH:mm:ss" ).tryGetLocalTimeFromString( "17:36:27", ZoneId.of( "Europe/Paris" ) );
+     * </code>
+     *
+     * @param timeIn The time as "String" object.
+     * @param zoneIdIn The "ZoneId" object.
+     *
+     * @return The time as "LocalTime" object, or an empty "Optional" if "timeIn" cannot be parsed.
+     *
+     * @throws NullPointerException If "timeIn" or "zoneIdIn" is null.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.LocalTime
+     * @see java.time.ZoneId
+     * @see #getLocalTimeFromString(CharSequence, ZoneId)
+     */
+    public Optional<LocalTime> tryGetLocalTimeFromString( CharSequence timeIn, ZoneId zoneIdIn ){
+        final LocalTime time = this.tryParseLocalTime( timeIn );
+        Objects.requireNonNull( zoneIdIn, "zoneId" );
+        return Optional.ofNullable( time );
+    }
+
+    /**
+     * <p>Converts a time in "String" format to the "LocalDateTime" object of that time today.</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalDateTime result = DateTimeUtil.compile( "HH:mm:ss" ).getLocalDateTimeFromTimeString( "17:36:27" );
+     * </code>
+     *
+     * @param timeIn The time as "String" object.
+     *
+     * @return The date-time as "LocalDateTime" object, with the current date.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.LocalDateTime
+     */
+    public LocalDateTime getLocalDateTimeFromTimeString( CharSequence timeIn ){
+        return this.getLocalDateTimeFromTimeString( timeIn, DateTimeUtil.DEFAULT_ZONE_ID );
+    }
+
+    /**
+     * <p>Converts a time in "String" format to the "LocalDateTime" object of that time today in "zoneIdIn".</p>
+     * <p>The current date in "zoneIdIn" is cached until midnight, so the rules of the zone are not looked up on every
+     * call.</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalDateTime result = DateTimeUtil.compile( "HH:mm:ss" ).getLocalDateTimeFromTimeString( "17:36:27", ZoneId.of( "Europe/Paris" ) );
+     * </code>
+     *
+     * @param timeIn The time as "String" object.
+     * @param zoneIdIn The "ZoneId" object.
+     *
+     * @return The date-time as "LocalDateTime" object, with the current date.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.LocalDateTime
+     * @see java.time.ZoneId
+     */
+    public LocalDateTime getLocalDateTimeFromTimeString( CharSequence timeIn, ZoneId zoneIdIn ){
+        final LocalTime time = this.parseLocalTime( timeIn );
+        return ZoneGaps.atZone( time.atDate( TodayCache.today( zoneIdIn ) ), zoneIdIn );
+    }
+
+    /**
+     * <p>Converts a time in "String" format to the "LocalDateTime" object of that time on the current date of
+     * "clockIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalDateTime result = DateTimeUtil.compile( "HH:mm:ss" ).getLocalDateTimeFromTimeString( "17:36:27", Clock.systemUTC() );
+     * </code>
+     *
+     * @param timeIn The time as "String" object.
+     * @param clockIn The "Clock" object that gives the current date and the "ZoneId".
+     *
+     * @return The date-time as "LocalDateTime" object, with the current date of "clockIn".
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.Clock
+     * @see java.time.LocalDateTime
+     */
+    public LocalDateTime getLocalDateTimeFromTimeString( CharSequence timeIn, Clock clockIn ){
+        final LocalTime time = this.parseLocalTime( timeIn );
+        return ZoneGaps.atZone( time.atDate( LocalDate.now( clockIn ) ), clockIn.getZone() );
+    }
+
+    /**
+     * <p>Converts a date in "String" format to the "Date" object.</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * Date result = DateTimeUtil.compile( "dd/MM/yyyy" ).getDateFromString( "25/06/2021" );
+     * </code>
+     *
+     * @param dateIn The date as "String" object.
+     *
+     * @return The date as "Date" object.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.util.Date
+     */
+    public Date getDateFromString( CharSequence dateIn ){
+        return this.getDateFromString( dateIn, DateTimeUtil.DEFAULT_ZONE_ID );
+    }
+
+    /**
+     * <p>Converts a date in "String" format to the "Date" object with "ZoneId".</p>
+     * <p>Example:</p>
+     * <code>
+     * Date result = DateTimeUtil.compile( "dd/MM/yyyy" ).getDateFromString( "25/06/2021", ZoneId.of( "Europe/Paris" ) );
+     * </code>
+     *
+     * @param dateIn The date as "String" object.
+     * @param zoneIdIn The "ZoneId" object.
+     *
+     * @return The date as "Date" object.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.ZoneId
+     * @see java.util.Date
+     */
+    public Date getDateFromString( CharSequence dateIn, ZoneId zoneIdIn ){
+        LocalDate date = this.getLocalDateFromString( dateIn, zoneIdIn );
+        return DateConversions.toDate( date, zoneIdIn );
+    }
+
+    /**
+     * <p>Converts a date-time in "String" format to the "Date" object.</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * Date result = DateTimeUtil.compile( "dd/MM/yyyy HH:mm" ).getDateTimeFromString( "25/06/2021 17:36" );
+     * </code>
+     *
+     * @param dateTimeIn The date-time as "String" object.
+     *
+     * @return The date-time as "Date" object.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.util.Date
+     */
+    public Date getDateTimeFromString( CharSequence dateTimeIn ){
+        return this.getDateTimeFromString( dateTimeIn, DateTimeUtil.DEFAULT_ZONE_ID );
+    }
+
+    /**
+     * <p>Converts a date-time in "String" format to the "Date" object with "ZoneId".</p>
+     * <p>Example:</p>
+     * <code>
+     * Date result = DateTimeUtil.compile( "dd/MM/yyyy HH:mm" ).getDateTimeFromString( "25/06/2021 17:36", ZoneId.of( "Europe/Paris" ) );
+     * </code>
+     *
+     * @param dateTimeIn The date-time as "String" object.
+     * @param zoneIdIn The "ZoneId" object.
+     *
+     * @return The date-time as "Date" object.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.ZoneId
+     * @see java.util.Date
+     */
+    public Date getDateTimeFromString( CharSequence dateTimeIn, ZoneId zoneIdIn ){
+        LocalDateTime dateTime = this.getLocalDateTimeFromString( dateTimeIn, zoneIdIn );
+        return DateConversions.toDate( dateTime, zoneIdIn );
+    }
+
+    /**
+     * <p>Converts a date-time in "String" format to the number of milliseconds since 1970-01-01T00:00:00Z.</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * long result = DateTimeUtil.compile( "dd/MM/yyyy HH:mm" ).getEpochMillisFromString( "25/06/2021 17:36" );
+     * </code>
+     *
+     * @param dateTimeIn The date-time as "String" object.
+     *
+     * @return The epoch milliseconds, the same as "getDateTimeFromString( dateTimeIn ).getTime()".
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     */
+    public long getEpochMillisFromString( CharSequence dateTimeIn ){
+        return this.getEpochMillisFromString( dateTimeIn, DateTimeUtil.DEFAULT_ZONE_ID );
+    }
+
+    /**
+     * <p>Converts a date-time in "String" format to the number of milliseconds since 1970-01-01T00:00:00Z with
+     * "ZoneId".</p>
+     * <p>Numeric patterns compute the result from the parsed fields, without creating any "Date", "Instant" or
+     * "ZonedDateTime" object.</p>
+     * <p>Example:</p>
+     * <code>
+     * long result = DateTimeUtil.compile( "dd/MM/yyyy HH:mm" ).getEpochMillisFromString( "25/06/2021 17:36", ZoneId.of( "Europe/Paris" ) );
+     * </code>
+     *
+     * @param dateTimeIn The date-time as "String" object.
+     * @param zoneIdIn The "ZoneId" object.
+     *
+     * @return The epoch milliseconds, the same as "getDateTimeFromString( dateTimeIn, zoneIdIn ).getTime()".
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.ZoneId
+     */
+    public long getEpochMillisFromString( CharSequence dateTimeIn, ZoneId zoneIdIn ){
+        if( this.fastPattern != null && this.fastPattern.hasDate() && this.fastPattern.hasTime() ){
+            final long packed = this.fastPattern.parse( dateTimeIn );
+            if( packed != PackedDateTime.NO_MATCH ){
+                final long localSecond = PackedDateTime.toEpochDay( packed ) * PackedDateTime.SECONDS_PER_DAY + PackedDateTime.toSecondOfDay( packed );
+                return ( localSecond - ZoneOffsets.secondsAtLocal( packed, zoneIdIn ) ) * 1000 + PackedDateTime.micro( packed ) / 1000;
+            }
+        }
+        return this.getLocalDateTimeFromString( dateTimeIn, zoneIdIn ).atZone( zoneIdIn ).toInstant().toEpochMilli();
+    }
+
+    /**
+     * <p>Converts a date in "String" format to the number of days since 1970-01-01.</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * int result = DateTimeUtil.compile( "dd/MM/yyyy" ).getEpochDayFromString( "25/06/2021" );
+     * </code>
+     *
+     * @param dateIn The date as "String" object.
+     *
+     * @return The epoch day, the same as "getLocalDateFromString( dateIn ).toEpochDay()".
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     */
+    public int getEpochDayFromString( CharSequence dateIn ){
+        return this.getEpochDayFromString( dateIn, DateTimeUtil.DEFAULT_ZONE_ID );
+    }
+
+    /**
+     * <p>Converts a date in "String" format to the number of days since 1970-01-01 with "ZoneId".</p>
+     * <p>Numeric patterns compute the result from the parsed fields, without creating any "LocalDate" object.</p>
+     * <p>Example:</p>
+     * <code>
+     * int result = DateTimeUtil.compile( "dd/MM/yyyy" ).getEpochDayFromString( "25/06/2021", ZoneId.of( "Europe/Paris" ) );
+     * </code>
+     *
+     * @param dateIn The date as "String" object.
+     * @param zoneIdIn The "ZoneId" object.
+     *
+     * @return The epoch day, the same as "getLocalDateFromString( dateIn, zoneIdIn ).toEpochDay()".
+     *
+     * @throws ArithmeticException If the epoch day does not fit in an "int".
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.ZoneId
+     */
+    public int getEpochDayFromString( CharSequence dateIn, ZoneId zoneIdIn ){
+        if( this.fastPattern != null && this.fastPattern.hasDate() ){
+            final long packed = this.fastPattern.parse( dateIn );
+            if( packed != PackedDateTime.NO_MATCH ){
+                Objects.requireNonNull( zoneIdIn, "zoneId" );
+                return (int) PackedDateTime.toEpochDay( packed );
+            }
+        }
+        return Math.toIntExact( this.getLocalDateFromString( dateIn, zoneIdIn ).toEpochDay() );
+    }
+
+    /**
+     * <p>Formats a "LocalDate" object to "String" object.</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * String result = DateTimeUtil.compile( "dd/MM/yyyy" ).formatDate( LocalDate.now() );
+     * </code>
+     *
+     * @param dateIn The date as "LocalDate" object.
+     *
+     * @return The date formatted as "String" object.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.LocalDate
+     */
+    public String formatDate( LocalDate dateIn ){
+        return this.formatDate( dateIn, DateTimeUtil.DEFAULT_ZONE_ID );
+    }
+
+    /**
+     * <p>Formats a "LocalDate" object to "String" object with "ZoneId".</p>
+     * <p>Example:</p>
+     * <code>
+     * String result = DateTimeUtil.compile( "dd/MM/yyyy" ).formatDate( LocalDate.now(), ZoneId.of( "Europe/Paris" ) );
+     * </code>
+     *
+     * @param dateIn The date as "LocalDate" object.
+     * @param zoneIdIn The "ZoneId" object.
+     *
+     * @return The date formatted as "String" object.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.LocalDate
+     * @see java.time.ZoneId
+     */
+    public String formatDate( LocalDate dateIn, ZoneId zoneIdIn ){
+        return this.format( ZoneGaps.atStartOfDay( dateIn, zoneIdIn ), zoneIdIn );
+    }
+
+    /**
+     * <p>Formats a "Date" object to "String" object.</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * String result = DateTimeUtil.compile( "dd/MM/yyyy" ).formatDate( new Date() );
+     * </code>
+     *
+     * @param dateIn The date as "Date" object.
+     *
+     * @return The date formatted as "String" object.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.util.Date
+     */
+    public String formatDate( Date dateIn ){
+        return this.formatDate( dateIn, DateTimeUtil.DEFAULT_ZONE_ID );
+    }
+
+    /**
+     * <p>Formats a "Date" object to "String" object with "ZoneId".</p>
+     * <p>Example:</p>
+     * <code>
+     * String result = DateTimeUtil.compile( "dd/MM/yyyy" ).formatDate( new Date(), ZoneId.of( "Europe/Paris" ) );
+     * </code>
+     *
+     * @param dateIn The date as "Date" object.
+     * @param zoneIdIn The "ZoneId" object.
+     *
+     * @return The date formatted as "String" object.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.ZoneId
+     * @see java.util.Date
+     */
+    public String formatDate( Date dateIn, ZoneId zoneIdIn ){
+        return this.formatDateTime( dateIn, zoneIdIn );
+    }
+
+    /**
+     * <p>Formats a "LocalDateTime" object to "String" object.</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * String result = DateTimeUtil.compile( "dd/MM/yyyy HH:mm" ).formatDateTime( LocalDateTime.now() );
+     * </code>
+     *
+     * @param dateTimeIn The date-time as "LocalDateTime" object.
+     *
+     * @return The date-time formatted as "String" object.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.LocalDateTime
+     */
+    public String formatDateTime( LocalDateTime dateTimeIn ){
+        return this.formatDateTime( dateTimeIn, DateTimeUtil.DEFAULT_ZONE_ID );
+    }
+
+    /**
+     * <p>Formats a "LocalDateTime" object to "String" object with "ZoneId".</p>
+     * <p>Example:</p>
+     * <code>
+     * String result = DateTimeUtil.compile( "dd/MM/yyyy HH:mm" ).formatDateTime( LocalDateTime.now(), ZoneId.of( "Europe/Paris" ) );
+     * </code>
+     *
+     * @param dateTimeIn The date-time as "LocalDateTime" object.
+     * @param zoneIdIn The "ZoneId" object.
+     *
+     * @return The date-time formatted as "String" object.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.LocalDateTime
+     * @see java.time.ZoneId
+     */
+    public String formatDateTime( LocalDateTime dateTimeIn, ZoneId zoneIdIn ){
+        return this.format( dateTimeIn, zoneIdIn );
+    }
+
+    /**
+     * <p>Formats a "Date" object to "String" object.</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * String result = DateTimeUtil.compile( "dd/MM/yyyy HH:mm" ).formatDateTime( new Date() );
+     * </code>
+     *
+     * @param dateTimeIn The date-time as "Date" object.
+     *
+     * @return The date-time formatted as "String" object.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.util.Date
+     */
+    public String formatDateTime( Date dateTimeIn ){
+        return this.formatDateTime( dateTimeIn, DateTimeUtil.DEFAULT_ZONE_ID );
+    }
+
+    /**
+     * <p>Formats a "Date" object to "String" object with "ZoneId".</p>
+     * <p>Patterns without zone take the fields straight from "Date.getTime()", without converting it to "Instant",
+     * "ZonedDateTime" or "LocalDateTime".</p>
+     * <p>Example:</p>
+     * <code>
+     * String result = DateTimeUtil.compile( "dd/MM/yyyy HH:mm" ).formatDateTime( new Date(), ZoneId.of( "Europe/Paris" ) );
+     * </code>
+     *
+     * @param dateTimeIn The date-time as "Date" object.
+     * @param zoneIdIn The "ZoneId" object.
+     *
+     * @return The date-time formatted as "String" object.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.ZoneId
+     * @see java.util.Date
+     */
+    public String formatDateTime( Date dateTimeIn, ZoneId zoneIdIn ){
+        if( !this.zoned && dateTimeIn.getClass() == Date.class ){
+            return this.formatEpochMillis( dateTimeIn.getTime(), zoneIdIn );
+        }
+        LocalDateTime dateTime = DateConversions.toLocalDateTime( dateTimeIn, zoneIdIn );
+        return this.formatDateTime( dateTime, zoneIdIn );
+    }
+
+    /**
+     * <p>Formats a "LocalTime" object to "String" object.</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * String result = DateTimeUtil.compile( "HH:mm:ss" ).formatTime( LocalTime.now() );
+     * </code>
+     *
+     * @param timeIn The time as "LocalTime" object.
+     *
+     * @return The time formatted as "String" object.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.LocalTime
+     */
+    public String formatTime( LocalTime timeIn ){
+        return this.formatTime( timeIn, DateTimeUtil.DEFAULT_ZONE_ID );
+    }
+
+    /**
+     * <p>Formats a "LocalTime" object to "String" object with "ZoneId".</p>
+     * <p>Example:</p>
+     * <code>
+     * String result = DateTimeUtil.compile( "HH:mm:ss" ).formatTime( LocalTime.now(), ZoneId.of( "Europe/Paris" ) );
+     * </code>
+     *
+     * @param timeIn The time as "LocalTime" object.
+     * @param zoneIdIn The "ZoneId" object.
+     *
+     * @return The time formatted as "String" object.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.LocalTime
+     * @see java.time.ZoneId
+     */
+    public String formatTime( LocalTime timeIn, ZoneId zoneIdIn ){
+        Objects.requireNonNull( zoneIdIn, "zoneId" );
+        if( this.fastPattern != null && !this.fastPattern.hasDate() ){
+            final String result = this.fastPattern.format( 0, 0, 0, timeIn.getHour(), timeIn.getMinute(), timeIn.getSecond(), timeIn.getNano() );
+            if( result != null ){
+                return result;
+            }
+        }
+        return timeIn.format( this.formatter );
+    }
+
+    /**
+     * <p>Formats a number of milliseconds since 1970-01-01T00:00:00Z to "String" object.</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * String result = DateTimeUtil.compile( "dd/MM/yyyy HH:mm" ).formatEpochMillis( System.currentTimeMillis() );
+     * </code>
+     *
+     * @param epochMilliIn The epoch milliseconds.
+     *
+     * @return The date-time formatted as "String" object, the same as "formatDateTime( new Date( epochMilliIn ) )".
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     */
+    public String formatEpochMillis( long epochMilliIn ){
+        return this.formatEpochMillis( epochMilliIn, DateTimeUtil.DEFAULT_ZONE_ID );
+    }
+
+    /**
+     * <p>Formats a number of milliseconds since 1970-01-01T00:00:00Z to "String" object with "ZoneId".</p>
+     * <p>Patterns without zone take the fields from the epoch milliseconds, without creating any "Date", "Instant" or
+     * "ZonedDateTime" object.</p>
+     * <p>Example:</p>
+     * <code>
+     * String result = DateTimeUtil.compile( "dd/MM/yyyy HH:mm" ).formatEpochMillis( System.currentTimeMillis(), ZoneId.of( "Europe/Paris" ) );
+     * </code>
+     *
+     * @param epochMilliIn The epoch milliseconds.
+     * @param zoneIdIn The "ZoneId" object.
+     *
+     * @return The date-time formatted as "String" object, the same as "formatDateTime( new Date( epochMilliIn ), zoneIdIn )".
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.ZoneId
+     */
+    public String formatEpochMillis( long epochMilliIn, ZoneId zoneIdIn ){
+        if( this.zoned ){
+            LocalDateTime dateTime = DateConversions.toLocalDateTime( new Date( epochMilliIn ), zoneIdIn );
+            return this.formatDateTime( dateTime, zoneIdIn );
+        }
+        final long epochSecond = Math.floorDiv( epochMilliIn, 1000L );
+        final long localSecond = epochSecond + ZoneOffsets.secondsAtInstant( epochSecond, zoneIdIn );
+        final int nano = (int) Math.floorMod( epochMilliIn, 1000L ) * 1000000;
+        if( this.formatMemo == null ){
+            return this.formatLocal( localSecond, nano );
+        }
+        final long key = this.formatMemo.key( localSecond );
+        String result = this.formatMemo.get( key );
+        if( result == null ){
+            result = this.formatLocal( localSecond, nano );
+            this.formatMemo.put( key, result );
+        }
+        return result;
+    }
+
+    /**
+     * <p>Formats a local date-time given as seconds since 1970-01-01T00:00 and nanoseconds, with the fast pattern when
+     * it can format it.</p>
+     */
+    private String formatLocal( long localSecondIn, int nanoIn ){
+        if( this.fastPattern != null ){
+            final long date = PackedDateTime.ofEpochDay( Math.floorDiv( localSecondIn, PackedDateTime.SECONDS_PER_DAY ) );
+            if( date != PackedDateTime.NO_MATCH ){
+                final int secondOfDay = (int) Math.floorMod( localSecondIn, PackedDateTime.SECONDS_PER_DAY );
+                final String result = this.fastPattern.format( PackedDateTime.year( date ), PackedDateTime.month( date ), PackedDateTime.day( date ),
+                                                               secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60, nanoIn );
+                if( result != null ){
+                    return result;
+                }
+            }
+        }
+        return this.formatter.format( new LocalDateTimeFields( localSecondIn, nanoIn ) );
+    }
+
+    /**
+     * <p>Formats a number of days since 1970-01-01 to "String" object.</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * String result = DateTimeUtil.compile( "dd/MM/yyyy" ).formatEpochDay( 18803 );
+     * </code>
+     *
+     * @param epochDayIn The epoch day.
+     *
+     * @return The date formatted as "String" object, the same as "formatDate( LocalDate.ofEpochDay( epochDayIn ) )".
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     */
+    public String formatEpochDay( int epochDayIn ){
+        return this.formatEpochDay( epochDayIn, DateTimeUtil.DEFAULT_ZONE_ID );
+    }
+
+    /**
+     * <p>Formats a number of days since 1970-01-01 to "String" object with "ZoneId".</p>
+     * <p>Numeric date patterns take the fields from the epoch day, without creating any "LocalDate" object.</p>
+     * <p>Example:</p>
+     * <code>
+     * String result = DateTimeUtil.compile( "dd/MM/yyyy" ).formatEpochDay( 18803, ZoneId.of( "Europe/Paris" ) );
+     * </code>
+     *
+     * @param epochDayIn The epoch day.
+     * @param zoneIdIn The "ZoneId" object.
+     *
+     * @return The date formatted as "String" object, the same as "formatDate( LocalDate.ofEpochDay( epochDayIn ), zoneIdIn )".
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.ZoneId
+     */
+    public String formatEpochDay( int epochDayIn, ZoneId zoneIdIn ){
+        if( this.fastPattern != null && !this.fastPattern.hasTime() ){
+            Objects.requireNonNull( zoneIdIn, "zoneId" );
+            final long date = PackedDateTime.ofEpochDay( epochDayIn );
+            if( date != PackedDateTime.NO_MATCH ){
+                final String result = this.fastPattern.format( PackedDateTime.year( date ), PackedDateTime.month( date ), PackedDateTime.day( date ),
+                                                               0, 0, 0, 0 );
+                if( result != null ){
+                    return result;
+                }
+            }
+        }
+        return this.formatDate( LocalDate.ofEpochDay( epochDayIn ), zoneIdIn );
+    }
+
+    /**
+     * <p>Formats a "LocalDate" object appending the result to "appendableIn".</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * DateTimeUtil.compile( "dd/MM/yyyy" ).formatDate( LocalDate.now(), builder );
+     * </code>
+     *
+     * @param dateIn The date as "LocalDate" object.
+     * @param appendableIn The "Appendable" object, like a "StringBuilder", that receives the formatted date.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.lang.Appendable
+     * @see java.time.LocalDate
+     */
+    public void formatDate( LocalDate dateIn, Appendable appendableIn ){
+        this.formatDate( dateIn, DateTimeUtil.DEFAULT_ZONE_ID, appendableIn );
+    }
+
+    /**
+     * <p>Formats a "LocalDate" object with "ZoneId" appending the result to "appendableIn".</p>
+     * <p>Numeric patterns append the characters directly, without creating any intermediate "String".</p>
+     * <p>Example:</p>
+     * <code>
+     * DateTimeUtil.compile( "dd/MM/yyyy" ).formatDate( LocalDate.now(), ZoneId.of( "Europe/Paris" ), builder );
+     * </code>
+     *
+     * @param dateIn The date as "LocalDate" object.
+     * @param zoneIdIn The "ZoneId" object.
+     * @param appendableIn The "Appendable" object, like a "StringBuilder", that receives the formatted date.
+     *
+     * @throws java.time.DateTimeException If "appendableIn" throws an "IOException".
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.lang.Appendable
+     * @see java.time.LocalDate
+     * @see java.time.ZoneId
+     */
+    public void formatDate( LocalDate dateIn, ZoneId zoneIdIn, Appendable appendableIn ){
+        this.format( ZoneGaps.atStartOfDay( dateIn, zoneIdIn ), zoneIdIn, appendableIn );
+    }
+
+    /**
+     * <p>Formats a "LocalDate" object as ASCII bytes written to "bytesIn" from "offsetIn".</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * int length = DateTimeUtil.compile( "dd/MM/yyyy" ).formatDate( LocalDate.now(), bytes, 0 );
+     * </code>
+     *
+     * @param dateIn The date as "LocalDate" object.
+     * @param bytesIn The destination array.
+     * @param offsetIn The position of the first byte in "bytesIn".
+     *
+     * @return The number of bytes written.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.LocalDate
+     */
+    public int formatDate( LocalDate dateIn, byte[] bytesIn, int offsetIn ){
+        return this.formatDate( dateIn, DateTimeUtil.DEFAULT_ZONE_ID, bytesIn, offsetIn );
+    }
+
+    /**
+     * <p>Formats a "LocalDate" object with "ZoneId" as ASCII bytes written to "bytesIn" from "offsetIn".</p>
+     * <p>Numeric patterns write the digits directly, without creating any intermediate object. Nothing is written when
+     * the result does not fit in "bytesIn" or is not ASCII.</p>
+     * <p>Example:</p>
+     * <code>
+     * int length = DateTimeUtil.compile( "dd/MM/yyyy" ).formatDate( LocalDate.now(), ZoneId.of( "Europe/Paris" ), bytes, 0 );
+     * </code>
+     *
+     * @param dateIn The date as "LocalDate" object.
+     * @param zoneIdIn The "ZoneId" object.
+     * @param bytesIn The destination array.
+     * @param offsetIn The position of the first byte in "bytesIn".
+     *
+     * @return The number of bytes written.
+     *
+     * @throws IndexOutOfBoundsException If the formatted date does not fit in "bytesIn" from "offsetIn".
+     * @throws java.time.DateTimeException If the formatted date has characters that are not ASCII.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.LocalDate
+     * @see java.time.ZoneId
+     */
+    public int formatDate( LocalDate dateIn, ZoneId zoneIdIn, byte[] bytesIn, int offsetIn ){
+        if( !this.zoned && this.fastPattern != null && CompiledPattern.hasRoom( this.fastPattern, bytesIn, offsetIn )
+            && CompiledPattern.startsAtMidnight( dateIn, zoneIdIn )
+            && this.fastPattern.format( dateIn.getYear(), dateIn.getMonthValue(), dateIn.getDayOfMonth(), 0, 0, 0, 0, bytesIn, offsetIn ) ){
+            return this.fastPattern.length();
+        }
+        return this.format( ZoneGaps.atStartOfDay( dateIn, zoneIdIn ), zoneIdIn, bytesIn, offsetIn );
+    }
+
+    /**
+     * <p>Formats a "LocalDate" object as ASCII bytes put in "bufferIn".</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * int length = DateTimeUtil.compile( "dd/MM/yyyy" ).formatDate( LocalDate.now(), buffer );
+     * </code>
+     *
+     * @param dateIn The date as "LocalDate" object.
+     * @param bufferIn The destination buffer.
+     *
+     * @return The number of bytes written.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.nio.ByteBuffer
+     * @see java.time.LocalDate
+     */
+    public int formatDate( LocalDate dateIn, ByteBuffer bufferIn ){
+        return this.formatDate( dateIn, DateTimeUtil.DEFAULT_ZONE_ID, bufferIn );
+    }
+
+    /**
+     * <p>Formats a "LocalDate" object with "ZoneId" as ASCII bytes put in "bufferIn".</p>
+     * <p>The bytes are written from the current position of "bufferIn", heap or direct, and the position is advanced
+     * past them. Numeric patterns write the digits directly, without creating any intermediate object. Nothing is
+     * written when the result does not fit in "bufferIn" or is not ASCII.</p>
+     * <p>Example:</p>
+     * <code>
+     * int length = DateTimeUtil.compile( "dd/MM/yyyy" ).formatDate( LocalDate.now(), ZoneId.of( "Europe/Paris" ), buffer );
+     * </code>
+     *
+     * @param dateIn The date as "LocalDate" object.
+     * @param zoneIdIn The "ZoneId" object.
+     * @param bufferIn The destination buffer.
+     *
+     * @return The number of bytes written.
+     *
+     * @throws java.nio.BufferOverflowException If the formatted date does not fit in the remaining bytes of "bufferIn".
+     * @throws java.nio.ReadOnlyBufferException If "bufferIn" is read-only.
+     * @throws java.time.DateTimeException If the formatted date has characters that are not ASCII.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.nio.ByteBuffer
+     * @see java.time.LocalDate
+     * @see java.time.ZoneId
+     */
+    public int formatDate( LocalDate dateIn, ZoneId zoneIdIn, ByteBuffer bufferIn ){
+        final int position = bufferIn.position();
+        if( !this.zoned && this.fastPattern != null && bufferIn.remaining() >= this.fastPattern.length()
+            && CompiledPattern.startsAtMidnight( dateIn, zoneIdIn )
+            && this.fastPattern.format( dateIn.getYear(), dateIn.getMonthValue(), dateIn.getDayOfMonth(), 0, 0, 0, 0, bufferIn, position ) ){
+            bufferIn.position( position + this.fastPattern.length() );
+            return this.fastPattern.length();
+        }
+        return this.format( ZoneGaps.atStartOfDay( dateIn, zoneIdIn ), zoneIdIn, bufferIn );
+    }
+
+    /**
+     * <p>Formats a "Date" object appending the result to "appendableIn".</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * DateTimeUtil.compile( "dd/MM/yyyy" ).formatDate( new Date(), builder );
+     * </code>
+     *
+     * @param dateIn The date as "Date" object.
+     * @param appendableIn The "Appendable" object, like a "StringBuilder", that receives the formatted date.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.lang.Appendable
+     * @see java.util.Date
+     */
+    public void formatDate( Date dateIn, Appendable appendableIn ){
+        this.formatDate( dateIn, DateTimeUtil.DEFAULT_ZONE_ID, appendableIn );
+    }
+
+    /**
+     * <p>Formats a "Date" object with "ZoneId" appending the result to "appendableIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * DateTimeUtil.compile( "dd/MM/yyyy" ).formatDate( new Date(), ZoneId.of( "Europe/Paris" ), builder );
+     * </code>
+     *
+     * @param dateIn The date as "Date" object.
+     * @param zoneIdIn The "ZoneId" object.
+     * @param appendableIn The "Appendable" object, like a "StringBuilder", that receives the formatted date.
+     *
+     * @throws java.time.DateTimeException If "appendableIn" throws an "IOException".
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.lang.Appendable
+     * @see java.time.ZoneId
+     * @see java.util.Date
+     */
+    public void formatDate( Date dateIn, ZoneId zoneIdIn, Appendable appendableIn ){
+        this.formatDateTime( dateIn, zoneIdIn, appendableIn );
+    }
+
+    /**
+     * <p>Formats a "Date" object as ASCII bytes written to "bytesIn" from "offsetIn".</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * int length = DateTimeUtil.compile( "dd/MM/yyyy" ).formatDate( new Date(), bytes, 0 );
+     * </code>
+     *
+     * @param dateIn The date as "Date" object.
+     * @param bytesIn The destination array.
+     * @param offsetIn The position of the first byte in "bytesIn".
+     *
+     * @return The number of bytes written.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.util.Date
+     */
+    public int formatDate( Date dateIn, byte[] bytesIn, int offsetIn ){
+        return this.formatDate( dateIn, DateTimeUtil.DEFAULT_ZONE_ID, bytesIn, offsetIn );
+    }
+
+    /**
+     * <p>Formats a "Date" object with "ZoneId" as ASCII bytes written to "bytesIn" from "offsetIn".</p>
+     * <p>Numeric patterns write the digits directly, without creating any intermediate object. Nothing is written when
+     * the result does not fit in "bytesIn" or is not ASCII.</p>
+     * <p>Example:</p>
+     * <code>
+     * int length = DateTimeUtil.compile( "dd/MM/yyyy" ).formatDate( new Date(), ZoneId.of( "Europe/Paris" ), bytes, 0 );
+     * </code>
+     *
+     * @param dateIn The date as "Date" object.
+     * @param zoneIdIn The "ZoneId" object.
+     * @param bytesIn The destination array.
+     * @param offsetIn The position of the first byte in "bytesIn".
+     *
+     * @return The number of bytes written.
+     *
+     * @throws IndexOutOfBoundsException If the formatted date does not fit in "bytesIn" from "offsetIn".
+     * @throws java.time.DateTimeException If the formatted date has characters that are not ASCII.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.util.Date
+     * @see java.time.ZoneId
+     */
+    public int formatDate( Date dateIn, ZoneId zoneIdIn, byte[] bytesIn, int offsetIn ){
+        return this.formatDateTime( dateIn, zoneIdIn, bytesIn, offsetIn );
+    }
+
+    /**
+     * <p>Formats a "Date" object as ASCII bytes put in "bufferIn".</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * int length = DateTimeUtil.compile( "dd/MM/yyyy" ).formatDate( new Date(), buffer );
+     * </code>
+     *
+     * @param dateIn The date as "Date" object.
+     * @param bufferIn The destination buffer.
+     *
+     * @return The number of bytes written.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.nio.ByteBuffer
+     * @see java.util.Date
+     */
+    public int formatDate( Date dateIn, ByteBuffer bufferIn ){
+        return this.formatDate( dateIn, DateTimeUtil.DEFAULT_ZONE_ID, bufferIn );
+    }
+
+    /**
+     * <p>Formats a "Date" object with "ZoneId" as ASCII bytes put in "bufferIn".</p>
+     * <p>The bytes are written from the current position of "bufferIn", heap or direct, and the position is advanced
+     * past them. Numeric patterns write the digits directly, without creating any intermediate object. Nothing is
+     * written when the result does not fit in "bufferIn" or is not ASCII.</p>
+     * <p>Example:</p>
+     * <code>
+     * int length = DateTimeUtil.compile( "dd/MM/yyyy" ).formatDate( new Date(), ZoneId.of( "Europe/Paris" ), buffer );
+     * </code>
+     *
+     * @param dateIn The date as "Date" object.
+     * @param zoneIdIn The "ZoneId" object.
+     * @param bufferIn The destination buffer.
+     *
+     * @return The number of bytes written.
+     *
+     * @throws java.nio.BufferOverflowException If the formatted date does not fit in the remaining bytes of "bufferIn".
+     * @throws java.nio.ReadOnlyBufferException If "bufferIn" is read-only.
+     * @throws java.time.DateTimeException If the formatted date has characters that are not ASCII.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.nio.ByteBuffer
+     * @see java.util.Date
+     * @see java.time.ZoneId
+     */
+    public int formatDate( Date dateIn, ZoneId zoneIdIn, ByteBuffer bufferIn ){
+        return this.formatDateTime( dateIn, zoneIdIn, bufferIn );
+    }
+
+    /**
+     * <p>Formats a "LocalDateTime" object appending the result to "appendableIn".</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * DateTimeUtil.compile( "dd/MM/yyyy HH:mm" ).formatDateTime( LocalDateTime.now(), builder );
+     * </code>
+     *
+     * @param dateTimeIn The date-time as "LocalDateTime" object.
+     * @param appendableIn The "Appendable" object, like a "StringBuilder", that receives the formatted date-time.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.lang.Appendable
+     * @see java.time.LocalDateTime
+     */
+    public void formatDateTime( LocalDateTime dateTimeIn, Appendable appendableIn ){
+        this.formatDateTime( dateTimeIn, DateTimeUtil.DEFAULT_ZONE_ID, appendableIn );
+    }
+
+    /**
+     * <p>Formats a "LocalDateTime" object with "ZoneId" appending the result to "appendableIn".</p>
+     * <p>Numeric patterns append the characters directly, without creating any intermediate "String".</p>
+     * <p>Example:</p>
+     * <code>
+     * DateTimeUtil.compile( "dd/MM/yyyy HH:mm" ).formatDateTime( LocalDateTime.now(), ZoneId.of( "Europe/Paris" ), builder );
+     * </code>
+     *
+     * @param dateTimeIn The date-time as "LocalDateTime" object.
+     * @param zoneIdIn The "ZoneId" object.
+     * @param appendableIn The "Appendable" object, like a "StringBuilder", that receives the formatted date-time.
+     *
+     * @throws java.time.DateTimeException If "appendableIn" throws an "IOException".
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.lang.Appendable
+     * @see java.time.LocalDateTime
+     * @see java.time.ZoneId
+     */
+    public void formatDateTime( LocalDateTime dateTimeIn, ZoneId zoneIdIn, Appendable appendableIn ){
+        this.format( dateTimeIn, zoneIdIn, appendableIn );
+    }
+
+    /**
+     * <p>Formats a "LocalDateTime" object as ASCII bytes written to "bytesIn" from "offsetIn".</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * int length = DateTimeUtil.compile( "dd/MM/yyyy HH:mm" ).formatDateTime( LocalDateTime.now(), bytes, 0 );
+     * </code>
+     *
+     * @param dateTimeIn The date-time as "LocalDateTime" object.
+     * @param bytesIn The destination array.
+     * @param offsetIn The position of the first byte in "bytesIn".
+     *
+     * @return The number of bytes written.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.LocalDateTime
+     */
+    public int formatDateTime( LocalDateTime dateTimeIn, byte[] bytesIn, int offsetIn ){
+        return this.formatDateTime( dateTimeIn, DateTimeUtil.DEFAULT_ZONE_ID, bytesIn, offsetIn );
+    }
+
+    /**
+     * <p>Formats a "LocalDateTime" object with "ZoneId" as ASCII bytes written to "bytesIn" from "offsetIn".</p>
+     * <p>Numeric patterns write the digits directly, without creating any intermediate object. Nothing is written when
+     * the result does not fit in "bytesIn" or is not ASCII.</p>
+     * <p>Example:</p>
+     * <code>
+     * int length = DateTimeUtil.compile( "dd/MM/yyyy HH:mm" ).formatDateTime( LocalDateTime.now(), ZoneId.of( "Europe/Paris" ), bytes, 0 );
+     * </code>
+     *
+     * @param dateTimeIn The date-time as "LocalDateTime" object.
+     * @param zoneIdIn The "ZoneId" object.
+     * @param bytesIn The destination array.
+     * @param offsetIn The position of the first byte in "bytesIn".
+     *
+     * @return The number of bytes written.
+     *
+     * @throws IndexOutOfBoundsException If the formatted date-time does not fit in "bytesIn" from "offsetIn".
+     * @throws java.time.DateTimeException If the formatted date-time has characters that are not ASCII.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.LocalDateTime
+     * @see java.time.ZoneId
+     */
+    public int formatDateTime( LocalDateTime dateTimeIn, ZoneId zoneIdIn, byte[] bytesIn, int offsetIn ){
+        return this.format( dateTimeIn, zoneIdIn, bytesIn, offsetIn );
+    }
+
+    /**
+     * <p>Formats a "LocalDateTime" object as ASCII bytes put in "bufferIn".</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * int length = DateTimeUtil.compile( "dd/MM/yyyy HH:mm" ).formatDateTime( LocalDateTime.now(), buffer );
+     * </code>
+     *
+     * @param dateTimeIn The date-time as "LocalDateTime" object.
+     * @param bufferIn The destination buffer.
+     *
+     * @return The number of bytes written.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.nio.ByteBuffer
+     * @see java.time.LocalDateTime
+     */
+    public int formatDateTime( LocalDateTime dateTimeIn, ByteBuffer bufferIn ){
+        return this.formatDateTime( dateTimeIn, DateTimeUtil.DEFAULT_ZONE_ID, bufferIn );
+    }
+
+    /**
+     * <p>Formats a "LocalDateTime" object with "ZoneId" as ASCII bytes put in "bufferIn".</p>
+     * <p>The bytes are written from the current position of "bufferIn", heap or direct, and the position is advanced
+     * past them. Numeric patterns write the digits directly, without creating any intermediate object. Nothing is
+     * written when the result does not fit in "bufferIn" or is not ASCII.</p>
+     * <p>Example:</p>
+     * <code>
+     * int length = DateTimeUtil.compile( "dd/MM/yyyy HH:mm" ).formatDateTime( LocalDateTime.now(), ZoneId.of( "Europe/Paris" ), buffer );
+     * </code>
+     *
+     * @param dateTimeIn The date-time as "LocalDateTime" object.
+     * @param zoneIdIn The "ZoneId" object.
+     * @param bufferIn The destination buffer.
+     *
+     * @return The number of bytes written.
+     *
+     * @throws java.nio.BufferOverflowException If the formatted date-time does not fit in the remaining bytes of "bufferIn".
+     * @throws java.nio.ReadOnlyBufferException If "bufferIn" is read-only.
+     * @throws java.time.DateTimeException If the formatted date-time has characters that are not ASCII.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.nio.ByteBuffer
+     * @see java.time.LocalDateTime
+     * @see java.time.ZoneId
+     */
+    public int formatDateTime( LocalDateTime dateTimeIn, ZoneId zoneIdIn, ByteBuffer bufferIn ){
+        return this.format( dateTimeIn, zoneIdIn, bufferIn );
+    }
+
+    /**
+     * <p>Formats a "Date" object appending the result to "appendableIn".</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * DateTimeUtil.compile( "dd/MM/yyyy HH:mm" ).formatDateTime( new Date(), builder );
+     * </code>
+     *
+     * @param dateTimeIn The date-time as "Date" object.
+     * @param appendableIn The "Appendable" object, like a "StringBuilder", that receives the formatted date-time.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.lang.Appendable
+     * @see java.util.Date
+     */
+    public void formatDateTime( Date dateTimeIn, Appendable appendableIn ){
+        this.formatDateTime( dateTimeIn, DateTimeUtil.DEFAULT_ZONE_ID, appendableIn );
+    }
+
+    /**
+     * <p>Formats a "Date" object with "ZoneId" appending the result to "appendableIn".</p>
+     * <p>Numeric patterns append the characters directly, without creating any intermediate "String".</p>
+     * <p>Example:</p>
+     * <code>
+     * DateTimeUtil.compile( "dd/MM/yyyy HH:mm" ).formatDateTime( new Date(), ZoneId.of( "Europe/Paris" ), builder );
+     * </code>
+     *
+     * @param dateTimeIn The date-time as "Date" object.
+     * @param zoneIdIn The "ZoneId" object.
+     * @param appendableIn The "Appendable" object, like a "StringBuilder", that receives the formatted date-time.
+     *
+     * @throws java.time.DateTimeException If "appendableIn" throws an "IOException".
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.lang.Appendable
+     * @see java.time.ZoneId
+     * @see java.util.Date
+     */
+    public void formatDateTime( Date dateTimeIn, ZoneId zoneIdIn, Appendable appendableIn ){
+        if( !this.zoned && dateTimeIn.getClass() == Date.class ){
+            final long epochMilli = dateTimeIn.getTime();
+            final long epochSecond = Math.floorDiv( epochMilli, 1000L );
+            this.formatLocal( epochSecond + ZoneOffsets.secondsAtInstant( epochSecond, zoneIdIn ),
+                              (int) Math.floorMod( epochMilli, 1000L ) * 1000000, appendableIn );
+            return;
+        }
+        LocalDateTime dateTime = DateConversions.toLocalDateTime( dateTimeIn, zoneIdIn );
+        this.formatDateTime( dateTime, zoneIdIn, appendableIn );
+    }
+
+    /**
+     * <p>Formats a "Date" object as ASCII bytes written to "bytesIn" from "offsetIn".</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * int length = DateTimeUtil.compile( "dd/MM/yyyy HH:mm" ).formatDateTime( new Date(), bytes, 0 );
+     * </code>
+     *
+     * @param dateTimeIn The date-time as "Date" object.
+     * @param bytesIn The destination array.
+     * @param offsetIn The position of the first byte in "bytesIn".
+     *
+     * @return The number of bytes written.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.util.Date
+     */
+    public int formatDateTime( Date dateTimeIn, byte[] bytesIn, int offsetIn ){
+        return this.formatDateTime( dateTimeIn, DateTimeUtil.DEFAULT_ZONE_ID, bytesIn, offsetIn );
+    }
+
+    /**
+     * <p>Formats a "Date" object with "ZoneId" as ASCII bytes written to "bytesIn" from "offsetIn".</p>
+     * <p>Numeric patterns write the digits directly, without creating any intermediate object. Nothing is written when
+     * the result does not fit in "bytesIn" or is not ASCII.</p>
+     * <p>Example:</p>
+     * <code>
+     * int length = DateTimeUtil.compile( "dd/MM/yyyy HH:mm" ).formatDateTime( new Date(), ZoneId.of( "Europe/Paris" ), bytes, 0 );
+     * </code>
+     *
+     * @param dateTimeIn The date-time as "Date" object.
+     * @param zoneIdIn The "ZoneId" object.
+     * @param bytesIn The destination array.
+     * @param offsetIn The position of the first byte in "bytesIn".
+     *
+     * @return The number of bytes written.
+     *
+     * @throws IndexOutOfBoundsException If the formatted date-time does not fit in "bytesIn" from "offsetIn".
+     * @throws java.time.DateTimeException If the formatted date-time has characters that are not ASCII.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.util.Date
+     * @see java.time.ZoneId
+     */
+    public int formatDateTime( Date dateTimeIn, ZoneId zoneIdIn, byte[] bytesIn, int offsetIn ){
+        if( !this.zoned && dateTimeIn.getClass() == Date.class ){
+            final long epochMilli = dateTimeIn.getTime();
+            final long epochSecond = Math.floorDiv( epochMilli, 1000L );
+            return this.formatLocal( epochSecond + ZoneOffsets.secondsAtInstant( epochSecond, zoneIdIn ),
+                                     (int) Math.floorMod( epochMilli, 1000L ) * 1000000, bytesIn, offsetIn );
+        }
+        LocalDateTime dateTime = DateConversions.toLocalDateTime( dateTimeIn, zoneIdIn );
+        return this.formatDateTime( dateTime, zoneIdIn, bytesIn, offsetIn );
+    }
+
+    /**
+     * <p>Formats a "Date" object as ASCII bytes put in "bufferIn".</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * int length = DateTimeUtil.compile( "dd/MM/yyyy HH:mm" ).formatDateTime( new Date(), buffer );
+     * </code>
+     *
+     * @param dateTimeIn The date-time as "Date" object.
+     * @param bufferIn The destination buffer.
+     *
+     * @return The number of bytes written.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.nio.ByteBuffer
+     * @see java.util.Date
+     */
+    public int formatDateTime( Date dateTimeIn, ByteBuffer bufferIn ){
+        return this.formatDateTime( dateTimeIn, DateTimeUtil.DEFAULT_ZONE_ID, bufferIn );
+    }
+
+    /**
+     * <p>Formats a "Date" object with "ZoneId" as ASCII bytes put in "bufferIn".</p>
+     * <p>The bytes are written from the current position of "bufferIn", heap or direct, and the position is advanced
+     * past them. Numeric patterns write the digits directly, without creating any intermediate object. Nothing is
+     * written when the result does not fit in "bufferIn" or is not ASCII.</p>
+     * <p>Example:</p>
+     * <code>
+     * int length = DateTimeUtil.compile( "dd/MM/yyyy HH:mm" ).formatDateTime( new Date(), ZoneId.of( "Europe/Paris" ), buffer );
+     * </code>
+     *
+     * @param dateTimeIn The date-time as "Date" object.
+     * @param zoneIdIn The "ZoneId" object.
+     * @param bufferIn The destination buffer.
+     *
+     * @return The number of bytes written.
+     *
+     * @throws java.nio.BufferOverflowException If the formatted date-time does not fit in the remaining bytes of "bufferIn".
+     * @throws java.nio.ReadOnlyBufferException If "bufferIn" is read-only.
+     * @throws java.time.DateTimeException If the formatted date-time has characters that are not ASCII.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.nio.ByteBuffer
+     * @see java.util.Date
+     * @see java.time.ZoneId
+     */
+    public int formatDateTime( Date dateTimeIn, ZoneId zoneIdIn, ByteBuffer bufferIn ){
+        if( !this.zoned && dateTimeIn.getClass() == Date.class ){
+            final long epochMilli = dateTimeIn.getTime();
+            final long epochSecond = Math.floorDiv( epochMilli, 1000L );
+            return this.formatLocal( epochSecond + ZoneOffsets.secondsAtInstant( epochSecond, zoneIdIn ),
+                                     (int) Math.floorMod( epochMilli, 1000L ) * 1000000, bufferIn );
+        }
+        LocalDateTime dateTime = DateConversions.toLocalDateTime( dateTimeIn, zoneIdIn );
+        return this.formatDateTime( dateTime, zoneIdIn, bufferIn );
+    }
+
+    /**
+     * <p>Formats a "LocalTime" object appending the result to "appendableIn".</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * DateTimeUtil.compile( "HH:mm:ss" ).formatTime( LocalTime.now(), builder );
+     * </code>
+     *
+     * @param timeIn The time as "LocalTime" object.
+     * @param appendableIn The "Appendable" object, like a "StringBuilder", that receives the formatted time.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.lang.Appendable
+     * @see java.time.LocalTime
+     */
+    public void formatTime( LocalTime timeIn, Appendable appendableIn ){
+        this.formatTime( timeIn, DateTimeUtil.DEFAULT_ZONE_ID, appendableIn );
+    }
+
+    /**
+     * <p>Formats a "LocalTime" object with "ZoneId" appending the result to "appendableIn".</p>
+     * <p>Numeric patterns append the characters directly, without creating any intermediate "String".</p>
+     * <p>Example:</p>
+     * <code>
+     * DateTimeUtil.compile( "HH:mm:ss" ).formatTime( LocalTime.now(), ZoneId.of( "Europe/Paris" ), builder );
+     * </code>
+     *
+     * @param timeIn The time as "LocalTime" object.
+     * @param zoneIdIn The "ZoneId" object.
+     * @param appendableIn The "Appendable" object, like a "StringBuilder", that receives the formatted time.
+     *
+     * @throws java.time.DateTimeException If "appendableIn" throws an "IOException".
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.lang.Appendable
+     * @see java.time.LocalTime
+     * @see java.time.ZoneId
+     */
+    public void formatTime( LocalTime timeIn, ZoneId zoneIdIn, Appendable appendableIn ){
+        Objects.requireNonNull( zoneIdIn, "zoneId" );
+        Objects.requireNonNull( appendableIn, "appendable" );
+        try{
+            if( this.fastPattern == null || this.fastPattern.hasDate()
+                || !this.fastPattern.format( 0, 0, 0, timeIn.getHour(), timeIn.getMinute(), timeIn.getSecond(), timeIn.getNano(), appendableIn ) ){
+                this.formatter.formatTo( timeIn, appendableIn );
+            }
+        }
+        catch( IOException e ){
+            throw new DateTimeException( e.getMessage(), e );
+        }
+    }
+
+    /**
+     * <p>Formats a "LocalTime" object as ASCII bytes written to "bytesIn" from "offsetIn".</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * int length = DateTimeUtil.compile( "HH:mm:ss" ).formatTime( LocalTime.now(), bytes, 0 );
+     * </code>
+     *
+     * @param timeIn The time as "LocalTime" object.
+     * @param bytesIn The destination array.
+     * @param offsetIn The position of the first byte in "bytesIn".
+     *
+     * @return The number of bytes written.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.LocalTime
+     */
+    public int formatTime( LocalTime timeIn, byte[] bytesIn, int offsetIn ){
+        return this.formatTime( timeIn, DateTimeUtil.DEFAULT_ZONE_ID, bytesIn, offsetIn );
+    }
+
+    /**
+     * <p>Formats a "LocalTime" object with "ZoneId" as ASCII bytes written to "bytesIn" from "offsetIn".</p>
+     * <p>Numeric patterns write the digits directly, without creating any intermediate object. Nothing is written when
+     * the result does not fit in "bytesIn" or is not ASCII.</p>
+     * <p>Example:</p>
+     * <code>
+     * int length = DateTimeUtil.compile( "HH:mm:ss" ).formatTime( LocalTime.now(), ZoneId.of( "Europe/Paris" ), bytes, 0 );
+     * </code>
+     *
+     * @param timeIn The time as "LocalTime" object.
+     * @param zoneIdIn The "ZoneId" object.
+     * @param bytesIn The destination array.
+     * @param offsetIn The position of the first byte in "bytesIn".
+     *
+     * @return The number of bytes written.
+     *
+     * @throws IndexOutOfBoundsException If the formatted time does not fit in "bytesIn" from "offsetIn".
+     * @throws java.time.DateTimeException If the formatted time has characters that are not ASCII.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.LocalTime
+     * @see java.time.ZoneId
+     */
+    public int formatTime( LocalTime timeIn, ZoneId zoneIdIn, byte[] bytesIn, int offsetIn ){
+        Objects.requireNonNull( zoneIdIn, "zoneId" );
+        if( this.fastPattern != null && !this.fastPattern.hasDate() && CompiledPattern.hasRoom( this.fastPattern, bytesIn, offsetIn )
+            && this.fastPattern.format( 0, 0, 0, timeIn.getHour(), timeIn.getMinute(), timeIn.getSecond(), timeIn.getNano(), bytesIn, offsetIn ) ){
+            return this.fastPattern.length();
+        }
+        return CompiledPattern.putAscii( timeIn.format( this.formatter ), bytesIn, offsetIn );
+    }
+
+    /**
+     * <p>Formats a "LocalTime" object as ASCII bytes put in "bufferIn".</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * int length = DateTimeUtil.compile( "HH:mm:ss" ).formatTime( LocalTime.now(), buffer );
+     * </code>
+     *
+     * @param timeIn The time as "LocalTime" object.
+     * @param bufferIn The destination buffer.
+     *
+     * @return The number of bytes written.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.nio.ByteBuffer
+     * @see java.time.LocalTime
+     */
+    public int formatTime( LocalTime timeIn, ByteBuffer bufferIn ){
+        return this.formatTime( timeIn, DateTimeUtil.DEFAULT_ZONE_ID, bufferIn );
+    }
+
+    /**
+     * <p>Formats a "LocalTime" object with "ZoneId" as ASCII bytes put in "bufferIn".</p>
+     * <p>The bytes are written from the current position of "bufferIn", heap or direct, and the position is advanced
+     * past them. Numeric patterns write the digits directly, without creating any intermediate object. Nothing is
+     * written when the result does not fit in "bufferIn" or is not ASCII.</p>
+     * <p>Example:</p>
+     * <code>
+     * int length = DateTimeUtil.compile( "HH:mm:ss" ).formatTime( LocalTime.now(), ZoneId.of( "Europe/Paris" ), buffer );
+     * </code>
+     *
+     * @param timeIn The time as "LocalTime" object.
+     * @param zoneIdIn The "ZoneId" object.
+     * @param bufferIn The destination buffer.
+     *
+     * @return The number of bytes written.
+     *
+     * @throws java.nio.BufferOverflowException If the formatted time does not fit in the remaining bytes of "bufferIn".
+     * @throws java.nio.ReadOnlyBufferException If "bufferIn" is read-only.
+     * @throws java.time.DateTimeException If the formatted time has characters that are not ASCII.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.nio.ByteBuffer
+     * @see java.time.LocalTime
+     * @see java.time.ZoneId
+     */
+    public int formatTime( LocalTime timeIn, ZoneId zoneIdIn, ByteBuffer bufferIn ){
+        Objects.requireNonNull( zoneIdIn, "zoneId" );
+        final int position = bufferIn.position();
+        if( this.fastPattern != null && !this.fastPattern.hasDate() && bufferIn.remaining() >= this.fastPattern.length()
+            && this.fastPattern.format( 0, 0, 0, timeIn.getHour(), timeIn.getMinute(), timeIn.getSecond(), timeIn.getNano(), bufferIn, position ) ){
+            bufferIn.position( position + this.fastPattern.length() );
+            return this.fastPattern.length();
+        }
+        return CompiledPattern.putAscii( timeIn.format( this.formatter ), bufferIn );
+    }
+
+    /**
+     * <p>Parses a date with "parseLocalDateText", or takes it from the memo when there is one and it has already
+     * parsed the same text.</p>
+     */
+    private LocalDate parseLocalDate( CharSequence dateIn ){
+        if( this.dateMemo == null ){
+            return this.parseLocalDateText( dateIn );
+        }
+        final String key = dateIn.toString();
+        LocalDate date = this.dateMemo.get( key );
+        if( date == null ){
+            date = this.parseLocalDateText( key );
+            this.dateMemo.put( key, date );
+        }
+        return date;
+    }
+
+    /**
+     * <p>Parses a date like "parseLocalDate", but returns null instead of throwing when it is not valid.</p>
+     */
+    private LocalDate tryParseLocalDate( CharSequence dateIn ){
+        if( this.dateMemo == null ){
+            return this.tryParseLocalDateText( dateIn );
+        }
+        final String key = dateIn.toString();
+        LocalDate date = this.dateMemo.get( key );
+        if( date == null ){
+            date = this.tryParseLocalDateText( key );
+            if( date != null ){
+                this.dateMemo.put( key, date );
+            }
+        }
+        return date;
+    }
+
+    /**
+     * <p>Parses a date with the fast pattern, falling back to "DateTimeFormatter" when it does not match.</p>
+     */
+    private LocalDate parseLocalDateText( CharSequence dateIn ){
+        if( this.fastPattern != null && this.fastPattern.hasDate() ){
+            final long packed = this.fastPattern.parse( dateIn );
+            if( packed != PackedDateTime.NO_MATCH ){
+                return PackedDateTime.toLocalDate( packed );
+            }
+        }
+        return ParseFailures.parse( dateIn, this.formatter, this.plainFields, LocalDate::from );
+    }
+
+    /**
+     * <p>Parses a date like "parseLocalDateText", but returns null instead of throwing when it is not valid.</p>
+     */
+    private LocalDate tryParseLocalDateText( CharSequence dateIn ){
+        if( this.fastPattern != null ){
+            if( !this.fastPattern.mayParse( dateIn ) ){
+                return null;
+            }
+            if( this.fastPattern.hasDate() ){
+                final long packed = this.fastPattern.parse( dateIn );
+                if( packed != PackedDateTime.NO_MATCH ){
+                    return PackedDateTime.toLocalDate( packed );
+                }
+            }
+        }
+        return ParseFailures.tryParse( dateIn, this.formatter, this.plainFields, LocalDate::from );
+    }
+
+    /**
+     * <p>Parses a date-time with the fast pattern, falling back to "DateTimeFormatter" when it does not match.</p>
+     */
+    private LocalDateTime parseLocalDateTime( CharSequence dateTimeIn ){
+        if( this.fastPattern != null && this.fastPattern.hasDate() && this.fastPattern.hasTime() ){
+            final long packed = this.fastPattern.parse( dateTimeIn );
+            if( packed != PackedDateTime.NO_MATCH ){
+                return PackedDateTime.toLocalDateTime( packed );
+            }
+        }
+        return ParseFailures.parse( dateTimeIn, this.formatter, this.plainFields, LocalDateTime::from );
+    }
+
+    /**
+     * <p>Parses a date-time like "parseLocalDateTime", but returns null instead of throwing when it is not valid.</p>
+     */
+    private LocalDateTime tryParseLocalDateTime( CharSequence dateTimeIn ){
+        if( this.fastPattern != null ){
+            if( !this.fastPattern.mayParse( dateTimeIn ) ){
+                return null;
+            }
+            if( this.fastPattern.hasDate() && this.fastPattern.hasTime() ){
+                final long packed = this.fastPattern.parse( dateTimeIn );
+                if( packed != PackedDateTime.NO_MATCH ){
+                    return PackedDateTime.toLocalDateTime( packed );
+                }
+            }
+        }
+        return ParseFailures.tryParse( dateTimeIn, this.formatter, this.plainFields, LocalDateTime::from );
+    }
+
+    /**
+     * <p>Parses a time with the fast pattern, falling back to "DateTimeFormatter" when it does not match.</p>
+     */
+    private LocalTime parseLocalTime( CharSequence timeIn ){
+        if( this.fastPattern != null && this.fastPattern.hasTime() ){
+            final long packed = this.fastPattern.parse( timeIn );
+            if( packed != PackedDateTime.NO_MATCH ){
+                return PackedDateTime.toLocalTime( packed );
+            }
+        }
+        return ParseFailures.parse( timeIn, this.formatter, this.plainFields, LocalTime::from );
+    }
+
+    /**
+     * <p>Parses a time like "parseLocalTime", but returns null instead of throwing when it is not valid.</p>
+     */
+    private LocalTime tryParseLocalTime( CharSequence timeIn ){
+        if( this.fastPattern != null ){
+            if( !this.fastPattern.mayParse( timeIn ) ){
+                return null;
+            }
+            if( this.fastPattern.hasTime() ){
+                final long packed = this.fastPattern.parse( timeIn );
+                if( packed != PackedDateTime.NO_MATCH ){
+                    return PackedDateTime.toLocalTime( packed );
+                }
+            }
+        }
+        return ParseFailures.tryParse( timeIn, this.formatter, this.plainFields, LocalTime::from );
+    }
+
+    /**
+     * <p>Converts a date-time like "getEpochMillisFromString", but puts the result in the position "indexIn" of
+     * "resultsIn" and returns false instead of throwing when it is not valid.</p>
+     *
+     * @return True if the epoch milliseconds have been put in "resultsIn", false if "dateTimeIn" is null, cannot be
+     * parsed or is out of the range of the epoch milliseconds.
+     */
+    boolean tryGetEpochMillisFromString( CharSequence dateTimeIn, ZoneId zoneIdIn, long[] resultsIn, int indexIn ){
+        if( dateTimeIn == null ){
+            return false;
+        }
+        if( this.fastPattern != null && this.fastPattern.hasDate() && this.fastPattern.hasTime() && this.fastPattern.mayParse( dateTimeIn ) ){
+            final long packed = this.fastPattern.parse( dateTimeIn );
+            if( packed != PackedDateTime.NO_MATCH ){
+                final long localSecond = PackedDateTime.toEpochDay( packed ) * PackedDateTime.SECONDS_PER_DAY + PackedDateTime.toSecondOfDay( packed );
+                resultsIn[ indexIn ] = ( localSecond - ZoneOffsets.secondsAtLocal( packed, zoneIdIn ) ) * 1000 + PackedDateTime.micro( packed ) / 1000;
+                return true;
+            }
+        }
+        final LocalDateTime dateTime = this.tryParseLocalDateTime( dateTimeIn );
+        if( dateTime == null ){
+            return false;
+        }
+        try{
+            resultsIn[ indexIn ] = ZoneGaps.atZone( dateTime, zoneIdIn ).atZone( zoneIdIn ).toInstant().toEpochMilli();
+            return true;
+        }
+        catch( ArithmeticException | DateTimeException e ){
+            return false;
+        }
+    }
+
+    /**
+     * <p>Converts a date like "getEpochDayFromString", but puts the result in the position "indexIn" of "resultsIn"
+     * and returns false instead of throwing when it is not valid.</p>
+     *
+     * @return True if the epoch day has been put in "resultsIn", false if "dateIn" is null, cannot be parsed or its
+     * epoch day does not fit in an "int".
+     */
+    boolean tryGetEpochDayFromString( CharSequence dateIn, int[] resultsIn, int indexIn ){
+        if( dateIn == null ){
+            return false;
+        }
+        if( this.fastPattern != null && this.fastPattern.hasDate() && this.fastPattern.mayParse( dateIn ) ){
+            final long packed = this.fastPattern.parse( dateIn );
+            if( packed != PackedDateTime.NO_MATCH ){
+                resultsIn[ indexIn ] = (int) PackedDateTime.toEpochDay( packed );
+                return true;
+            }
+        }
+        final LocalDate date = this.tryParseLocalDate( dateIn );
+        if( date == null || date.toEpochDay() != (int) date.toEpochDay() ){
+            return false;
+        }
+        resultsIn[ indexIn ] = (int) date.toEpochDay();
+        return true;
+    }
+
+    /**
+     * <p>Formats a date-time with the fast pattern, falling back to "DateTimeFormatter" when it cannot format it.</p>
+     * <p>The "ZonedDateTime" is only created when the pattern prints the zone or the offset, otherwise the local
+     * date-time it would hold is formatted directly, or taken from the format memo when a date-time of the same period
+     * has just been formatted.</p>
+     */
+    private String format( LocalDateTime dateTimeIn, ZoneId zoneIdIn ){
+        if( this.zoned ){
+            return this.formatter.format( dateTimeIn.atZone( zoneIdIn ) );
+        }
+        final LocalDateTime dateTime = ZoneGaps.atZone( dateTimeIn, zoneIdIn );
+        if( this.formatMemo == null ){
+            return this.formatLocal( dateTime );
+        }
+        final long key = this.formatMemo.key( dateTime.toLocalDate().toEpochDay() * PackedDateTime.SECONDS_PER_DAY + dateTime.toLocalTime().toSecondOfDay() );
+        String result = this.formatMemo.get( key );
+        if( result == null ){
+            result = this.formatLocal( dateTime );
+            this.formatMemo.put( key, result );
+        }
+        return result;
+    }
+
+    /**
+     * <p>Formats a local date-time with the fast pattern, falling back to "DateTimeFormatter" when it cannot format
+     * it.</p>
+     */
+    private String formatLocal( LocalDateTime dateTimeIn ){
+        if( this.fastPattern != null ){
+            final String result = this.fastPattern.format( dateTimeIn.getYear(), dateTimeIn.getMonthValue(), dateTimeIn.getDayOfMonth(),
+                                                           dateTimeIn.getHour(), dateTimeIn.getMinute(), dateTimeIn.getSecond(), dateTimeIn.getNano() );
+            if( result != null ){
+                return result;
+            }
+        }
+        return this.formatter.format( dateTimeIn );
+    }
+
+    /**
+     * <p>Formats a date-time appending the result to "appendableIn", with the fast pattern when it can format it.</p>
+     */
+    private void format( LocalDateTime dateTimeIn, ZoneId zoneIdIn, Appendable appendableIn ){
+        Objects.requireNonNull( appendableIn, "appendable" );
+        try{
+            if( this.zoned ){
+                this.formatter.formatTo( dateTimeIn.atZone( zoneIdIn ), appendableIn );
+                return;
+            }
+            final LocalDateTime dateTime = ZoneGaps.atZone( dateTimeIn, zoneIdIn );
+            if( this.fastPattern == null
+                || !this.fastPattern.format( dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth(), dateTime.getHour(),
+                                             dateTime.getMinute(), dateTime.getSecond(), dateTime.getNano(), appendableIn ) ){
+                this.formatter.formatTo( dateTime, appendableIn );
+            }
+        }
+        catch( IOException e ){
+            throw new DateTimeException( e.getMessage(), e );
+        }
+    }
+
+    /**
+     * <p>Formats a date-time as ASCII bytes written to "bytesIn", with the fast pattern when it can format it.</p>
+     */
+    private int format( LocalDateTime dateTimeIn, ZoneId zoneIdIn, byte[] bytesIn, int offsetIn ){
+        if( this.zoned ){
+            return CompiledPattern.putAscii( this.formatter.format( dateTimeIn.atZone( zoneIdIn ) ), bytesIn, offsetIn );
+        }
+        final LocalDateTime dateTime = ZoneGaps.atZone( dateTimeIn, zoneIdIn );
+        if( this.fastPattern != null && CompiledPattern.hasRoom( this.fastPattern, bytesIn, offsetIn )
+            && this.fastPattern.format( dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth(), dateTime.getHour(),
+                                        dateTime.getMinute(), dateTime.getSecond(), dateTime.getNano(), bytesIn, offsetIn ) ){
+            return this.fastPattern.length();
+        }
+        return CompiledPattern.putAscii( this.formatter.format( dateTime ), bytesIn, offsetIn );
+    }
+
+    /**
+     * <p>Formats a date-time as ASCII bytes put in "bufferIn", with the fast pattern when it can format it.</p>
+     */
+    private int format( LocalDateTime dateTimeIn, ZoneId zoneIdIn, ByteBuffer bufferIn ){
+        if( this.zoned ){
+            return CompiledPattern.putAscii( this.formatter.format( dateTimeIn.atZone( zoneIdIn ) ), bufferIn );
+        }
+        final LocalDateTime dateTime = ZoneGaps.atZone( dateTimeIn, zoneIdIn );
+        final int position = bufferIn.position();
+        if( this.fastPattern != null && bufferIn.remaining() >= this.fastPattern.length()
+            && this.fastPattern.format( dateTime.getYear(), dateTime.getMonthValue(), dateTime.getDayOfMonth(), dateTime.getHour(),
+                                        dateTime.getMinute(), dateTime.getSecond(), dateTime.getNano(), bufferIn, position ) ){
+            bufferIn.position( position + this.fastPattern.length() );
+            return this.fastPattern.length();
+        }
+        return CompiledPattern.putAscii( this.formatter.format( dateTime ), bufferIn );
+    }
+
+    /**
+     * <p>Formats a local date-time given as seconds since 1970-01-01T00:00 and nanoseconds appending the result to
+     * "appendableIn", with the fast pattern when it can format it.</p>
+     */
+    private void formatLocal( long localSecondIn, int nanoIn, Appendable appendableIn ){
+        Objects.requireNonNull( appendableIn, "appendable" );
+        try{
+            if( this.fastPattern != null ){
+                final long date = PackedDateTime.ofEpochDay( Math.floorDiv( localSecondIn, PackedDateTime.SECONDS_PER_DAY ) );
+                if( date != PackedDateTime.NO_MATCH ){
+                    final int secondOfDay = (int) Math.floorMod( localSecondIn, PackedDateTime.SECONDS_PER_DAY );
+                    if( this.fastPattern.format( PackedDateTime.year( date ), PackedDateTime.month( date ), PackedDateTime.day( date ),
+                                                 secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60, nanoIn, appendableIn ) ){
+                        return;
+                    }
+                }
+            }
+            this.formatter.formatTo( new LocalDateTimeFields( localSecondIn, nanoIn ), appendableIn );
+        }
+        catch( IOException e ){
+            throw new DateTimeException( e.getMessage(), e );
+        }
+    }
+
+    /**
+     * <p>Formats a local date-time given as seconds since 1970-01-01T00:00 and nanoseconds as ASCII bytes written to
+     * "bytesIn", with the fast pattern when it can format it.</p>
+     */
+    private int formatLocal( long localSecondIn, int nanoIn, byte[] bytesIn, int offsetIn ){
+        if( this.fastPattern != null && CompiledPattern.hasRoom( this.fastPattern, bytesIn, offsetIn ) ){
+            final long date = PackedDateTime.ofEpochDay( Math.floorDiv( localSecondIn, PackedDateTime.SECONDS_PER_DAY ) );
+            if( date != PackedDateTime.NO_MATCH ){
+                final int secondOfDay = (int) Math.floorMod( localSecondIn, PackedDateTime.SECONDS_PER_DAY );
+                if( this.fastPattern.format( PackedDateTime.year( date ), PackedDateTime.month( date ), PackedDateTime.day( date ),
+                                             secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60, nanoIn, bytesIn, offsetIn ) ){
+                    return this.fastPattern.length();
+                }
+            }
+        }
+        return CompiledPattern.putAscii( this.formatter.format( new LocalDateTimeFields( localSecondIn, nanoIn ) ), bytesIn, offsetIn );
+    }
+
+    /**
+     * <p>Formats a local date-time given as seconds since 1970-01-01T00:00 and nanoseconds as ASCII bytes put in
+     * "bufferIn", with the fast pattern when it can format it.</p>
+     */
+    private int formatLocal( long localSecondIn, int nanoIn, ByteBuffer bufferIn ){
+        final int position = bufferIn.position();
+        if( this.fastPattern != null && bufferIn.remaining() >= this.fastPattern.length() ){
+            final long date = PackedDateTime.ofEpochDay( Math.floorDiv( localSecondIn, PackedDateTime.SECONDS_PER_DAY ) );
+            if( date != PackedDateTime.NO_MATCH ){
+                final int secondOfDay = (int) Math.floorMod( localSecondIn, PackedDateTime.SECONDS_PER_DAY );
+                if( this.fastPattern.format( PackedDateTime.year( date ), PackedDateTime.month( date ), PackedDateTime.day( date ),
+                                             secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60, nanoIn, bufferIn, position ) ){
+                    bufferIn.position( position + this.fastPattern.length() );
+                    return this.fastPattern.length();
+                }
+            }
+        }
+        return CompiledPattern.putAscii( this.formatter.format( new LocalDateTimeFields( localSecondIn, nanoIn ) ), bufferIn );
+    }
+
+    /**
+     * @return True if "dateIn" starts at midnight in "zoneIdIn", false if it may start later because of a gap of the
+     * zone.
+     */
+    private static boolean startsAtMidnight( LocalDate dateIn, ZoneId zoneIdIn ){
+        return zoneIdIn instanceof ZoneOffset
+               || ZoneOffsetTable.of( zoneIdIn ).getLocalOffsetSeconds( dateIn.toEpochDay() * PackedDateTime.SECONDS_PER_DAY ) != ZoneOffsetTable.UNRESOLVED;
+    }
+
+    /**
+     * @return True if the text of "patternIn" fits in "bytesIn" from "offsetIn".
+     */
+    private static boolean hasRoom( FastPattern patternIn, byte[] bytesIn, int offsetIn ){
+        return offsetIn >= 0 && offsetIn <= bytesIn.length - patternIn.length();
+    }
+
+    /**
+     * <p>Writes the characters of "textIn" as ASCII bytes to "bytesIn", checking them all before writing any.</p>
+     */
+    private static int putAscii( String textIn, byte[] bytesIn, int offsetIn ){
+        final int length = textIn.length();
+        if( offsetIn < 0 || offsetIn > bytesIn.length - length ){
+            throw new IndexOutOfBoundsException( "Text '" + textIn + "' does not fit in " + bytesIn.length + " bytes from " + offsetIn );
+        }
+        CompiledPattern.checkAscii( textIn );
+        for( int i = 0; i < length; i++ ){
+            bytesIn[ offsetIn + i ] = (byte) textIn.charAt( i );
+        }
+        return length;
+    }
+
+    /**
+     * <p>Puts the characters of "textIn" as ASCII bytes in "bufferIn", checking them all before writing any.</p>
+     */
+    private static int putAscii( String textIn, ByteBuffer bufferIn ){
+        final int length = textIn.length();
+        if( bufferIn.remaining() < length ){
+            throw new BufferOverflowException();
+        }
+        CompiledPattern.checkAscii( textIn );
+        for( int i = 0; i < length; i++ ){
+            bufferIn.put( (byte) textIn.charAt( i ) );
+        }
+        return length;
+    }
+
+    private static void checkAscii( String textIn ){
+        for( int i = 0; i < textIn.length(); i++ ){
+            if( textIn.charAt( i ) >= 0x80 ){
+                throw new DateTimeException( "Text '" + textIn + "' has characters that are not ASCII" );
+            }
+        }
+    }
+
+    @Override
+    public boolean equals( Object objectIn ){
+        if( this == objectIn ){
+            return true;
+        }
+        if( !( objectIn instanceof CompiledPattern ) ){
+            return false;
+        }
+        final CompiledPattern other = (CompiledPattern) objectIn;
+        return this.pattern.equals( other.pattern ) && this.locale.equals( other.locale );
+    }
+
+    @Override
+    public int hashCode(){
+        return 31 * this.pattern.hashCode() + this.locale.hashCode();
+    }
+
+    @Override
+    public String toString(){
+        return "CompiledPattern[" + this.pattern + ", " + this.locale + "]";
+    }
+
+}
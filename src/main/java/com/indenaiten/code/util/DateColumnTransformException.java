@@ -0,0 +1,62 @@
+package com.indenaiten.code.util;
+
+
+/**
+ * <p>Exception thrown by "DateColumnTransformer" when a value of a date column cannot be converted.</p>
+ * <p>It gives the line number and the column of the value that failed, and its cause is the exception thrown for that
+ * value, the same one that the "formatXxx" methods of "DateTimeUtil" throw. The lines before it may have been written
+ * already.</p>
+ * <p>Example:</p>
+ * <code>
+ * try{
+ *     transformer.transform( reader, writer );
+ * }
+ * catch( DateColumnTransformException e ){
+ *     System.err.println( "Invalid value at line " + e.getLineNumber() + ", column " + e.getColumn() );
+ * }
+ * </code>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see com.indenaiten.code.util.DateColumnTransformer
+ */
+public class DateColumnTransformException extends RuntimeException{
+
+    private static final long serialVersionUID = 1L;
+
+    private final long lineNumber;
+    private final int column;
+
+    /**
+     * @param lineNumberIn The number of the line of the value, starting at 1.
+     * @param columnIn The index of the column of the value, starting at 0.
+     * @param causeIn The exception thrown for the value.
+     */
+    public DateColumnTransformException( long lineNumberIn, int columnIn, RuntimeException causeIn ){
+        super( "The value at line " + lineNumberIn + ", column " + columnIn + " cannot be converted: " + causeIn.getMessage(), causeIn );
+        this.lineNumber = lineNumberIn;
+        this.column = columnIn;
+    }
+
+    /**
+     * @return The number of the line of the value, starting at 1.
+     */
+    public long getLineNumber(){
+        return this.lineNumber;
+    }
+
+    /**
+     * @return The index of the column of the value, starting at 0.
+     */
+    public int getColumn(){
+        return this.column;
+    }
+
+    /**
+     * @return The exception thrown for the value.
+     */
+    @Override
+    public synchronized RuntimeException getCause(){
+        return (RuntimeException) super.getCause();
+    }
+
+}
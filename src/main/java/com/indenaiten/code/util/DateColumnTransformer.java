@@ -0,0 +1,691 @@
+package com.indenaiten.code.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+
+/**
+ * <p>Rewrites the date columns of a delimited text, such as a CSV or TSV file, from one pattern to another.</p>
+ * <p>Every configured column is reformatted like the "formatDate", "formatDateTime" and "formatTime" methods of
+ * "DateTimeUtil" that take a "String", and the rest of the text is copied unchanged. The text is streamed through
+ * buffers of a fixed size, so files of any size are transformed with constant memory: the only value held in memory
+ * is the one of the date column being read, and lines of any length are copied without being buffered.</p>
+ * <p>Lines end with "\n" or "\r\n", and the values can be quoted with '"', so the delimiters and line ends between
+ * quotes are part of the value. A quoted date is rewritten between quotes. The empty values are copied unchanged.</p>
+ * <p>Objects of this class are immutable and thread-safe: the "withXxx" methods return a new transformer and every
+ * call to "transform" uses its own buffers.</p>
+ * <p>Example:</p>
+ * <code>
+ * DateColumnTransformer transformer = new DateColumnTransformer( ';', ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ) )
+ *         .withHeaderLines( 1 )
+ *         .withDateColumn( 0, "dd/MM/yyyy", "yyyy-MM-dd" )
+ *         .withDateTimeColumn( 3, "dd/MM/yyyy HH:mm", "yyyy-MM-dd'T'HH:mm" );
+ * long lines = transformer.transform( reader, writer );
+ * </code>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see com.indenaiten.code.util.DateTimeUtil#formatDate(String, String, String, ZoneId, Locale)
+ * @see com.indenaiten.code.util.DateTimeUtil#formatDateTime(String, String, String, ZoneId, Locale)
+ * @see com.indenaiten.code.util.DateColumnTransformException
+ */
+public final class DateColumnTransformer{
+
+    static final int BUFFER_SIZE = 8192;
+    static final int MAXIMUM_VALUE_LENGTH = 256;
+    private static final char QUOTE = '"';
+
+    private final char delimiter;
+    private final ZoneId zoneId;
+    private final Locale locale;
+    private final long headerLines;
+    private final Column[] columns;
+
+    /**
+     * <p>Creates a transformer without date columns.</p>
+     * <p>"ZoneId" and "Locale" are set as the system default.</p>
+     *
+     * @param delimiterIn The character between the columns.
+     *
+     * @throws IllegalArgumentException If "delimiterIn" is a line end or a quote.
+     */
+    public DateColumnTransformer( char delimiterIn ){
+        this( delimiterIn, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Creates a transformer without date columns with "ZoneId" and "Locale".</p>
+     *
+     * @param delimiterIn The character between the columns.
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object of the patterns.
+     *
+     * @throws NullPointerException If "zoneIdIn" or "localeIn" is null.
+     * @throws IllegalArgumentException If "delimiterIn" is a line end or a quote.
+     */
+    public DateColumnTransformer( char delimiterIn, ZoneId zoneIdIn, Locale localeIn ){
+        this( DateColumnTransformer.checkDelimiter( delimiterIn ), Objects.requireNonNull( zoneIdIn, "zoneId" ), Objects.requireNonNull( localeIn, "locale" ), 0,
+              new Column[ 0 ] );
+    }
+
+    private DateColumnTransformer( char delimiterIn, ZoneId zoneIdIn, Locale localeIn, long headerLinesIn, Column[] columnsIn ){
+        this.delimiter = delimiterIn;
+        this.zoneId = zoneIdIn;
+        this.locale = localeIn;
+        this.headerLines = headerLinesIn;
+        this.columns = columnsIn;
+    }
+
+    /**
+     * <p>Returns a transformer that also rewrites the dates of a column.</p>
+     *
+     * @param columnIn The index of the column, starting at 0.
+     * @param patternIn The format pattern of the dates of the column.
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param formatterIn The format pattern to format the dates.
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     *
+     * @return The new "DateColumnTransformer" object.
+     *
+     * @throws NullPointerException If "patternIn" or "formatterIn" is null.
+     * @throws IllegalArgumentException If "columnIn" is negative or a pattern is not valid.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see com.indenaiten.code.util.DateTimeUtil#formatDate(String, String, String, ZoneId, Locale)
+     */
+    public DateColumnTransformer withDateColumn( int columnIn, String patternIn, String formatterIn ){
+        return this.withColumn( columnIn, new Column( Kind.DATE, PatternCache.get( patternIn, this.locale ), PatternCache.get( formatterIn, this.locale ) ) );
+    }
+
+    /**
+     * <p>Returns a transformer that also rewrites the date-times of a column.</p>
+     *
+     * @param columnIn The index of the column, starting at 0.
+     * @param patternIn The format pattern of the date-times of the column.
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param formatterIn The format pattern to format the date-times.
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     *
+     * @return The new "DateColumnTransformer" object.
+     *
+     * @throws NullPointerException If "patternIn" or "formatterIn" is null.
+     * @throws IllegalArgumentException If "columnIn" is negative or a pattern is not valid.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see com.indenaiten.code.util.DateTimeUtil#formatDateTime(String, String, String, ZoneId, Locale)
+     */
+    public DateColumnTransformer withDateTimeColumn( int columnIn, String patternIn, String formatterIn ){
+        return this.withColumn( columnIn, new Column( Kind.DATE_TIME, PatternCache.get( patternIn, this.locale ), PatternCache.get( formatterIn, this.locale ) ) );
+    }
+
+    /**
+     * <p>Returns a transformer that also rewrites the times of a column.</p>
+     *
+     * @param columnIn The index of the column, starting at 0.
+     * @param patternIn The format pattern of the times of the column.
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param formatterIn The format pattern to format the times.
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     *
+     * @return The new "DateColumnTransformer" object.
+     *
+     * @throws NullPointerException If "patternIn" or "formatterIn" is null.
+     * @throws IllegalArgumentException If "columnIn" is negative or a pattern is not valid.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see com.indenaiten.code.util.DateTimeUtil#formatTime(String, String, String, ZoneId, Locale)
+     */
+    public DateColumnTransformer withTimeColumn( int columnIn, String patternIn, String formatterIn ){
+        return this.withColumn( columnIn, new Column( Kind.TIME, PatternCache.get( patternIn, this.locale ), PatternCache.get( formatterIn, this.locale ) ) );
+    }
+
+    /**
+     * <p>Returns a transformer that copies the first lines unchanged, such as the header of a CSV file.</p>
+     *
+     * @param headerLinesIn The number of lines copied unchanged.
+     *
+     * @return The new "DateColumnTransformer" object.
+     *
+     * @throws IllegalArgumentException If "headerLinesIn" is negative.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     */
+    public DateColumnTransformer withHeaderLines( long headerLinesIn ){
+        if( headerLinesIn < 0 ){
+            throw new IllegalArgumentException( "The number of header lines is negative: " + headerLinesIn );
+        }
+        return new DateColumnTransformer( this.delimiter, this.zoneId, this.locale, headerLinesIn, this.columns );
+    }
+
+    /**
+     * <p>Reads the text of "readerIn" and writes it to "writerIn" with the date columns rewritten.</p>
+     * <p>Neither "readerIn" nor "writerIn" is closed, and "writerIn" is flushed at the end.</p>
+     * <p>Example:</p>
+     * <code>
+     * long lines = transformer.transform( reader, writer );
+     * </code>
+     *
+     * @param readerIn The "Reader" object of the text.
+     * @param writerIn The "Writer" object that receives the transformed text.
+     *
+     * @return The number of lines read.
+     *
+     * @throws IOException If "readerIn" or "writerIn" throws it.
+     * @throws NullPointerException If "readerIn" or "writerIn" is null.
+     * @throws com.indenaiten.code.util.DateColumnTransformException If a value of a date column cannot be converted.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.io.Reader
+     * @see java.io.Writer
+     */
+    public long transform( Reader readerIn, Writer writerIn ) throws IOException{
+        Objects.requireNonNull( readerIn, "reader" );
+        Objects.requireNonNull( writerIn, "writer" );
+        final char[] input = new char[ BUFFER_SIZE ];
+        final char[] chunk = new char[ BUFFER_SIZE ];
+        final StringBuilder output = new StringBuilder( BUFFER_SIZE * 2 );
+        final StringBuilder value = new StringBuilder( MAXIMUM_VALUE_LENGTH );
+        long lineNumber = 1;
+        int column = 0;
+        Column current = this.column( lineNumber, column );
+        boolean quoted = false;
+        char last = '\n';
+        int read;
+        while( ( read = readerIn.read( input ) ) != -1 ){
+            int run = 0;
+            for( int i = 0; i < read; i++ ){
+                final char character = input[ i ];
+                if( character == QUOTE ){
+                    quoted = !quoted;
+                }
+                if( quoted || character != this.delimiter && character != '\n' && character != '\r' ){
+                    continue;
+                }
+                DateColumnTransformer.append( current, input, run, i, value, output );
+                run = i + 1;
+                if( current != null ){
+                    this.reformat( current, value, lineNumber, column, output );
+                    value.setLength( 0 );
+                }
+                output.append( character );
+                if( character == this.delimiter ){
+                    column++;
+                }
+                else{
+                    column = 0;
+                    if( character == '\n' ){
+                        lineNumber++;
+                    }
+                }
+                current = this.column( lineNumber, column );
+            }
+            DateColumnTransformer.append( current, input, run, read, value, output );
+            if( read > 0 ){
+                last = input[ read - 1 ];
+            }
+            if( output.length() >= BUFFER_SIZE ){
+                DateColumnTransformer.write( output, chunk, writerIn );
+            }
+        }
+        if( current != null ){
+            this.reformat( current, value, lineNumber, column, output );
+        }
+        DateColumnTransformer.write( output, chunk, writerIn );
+        writerIn.flush();
+        return last == '\n' ? lineNumber - 1 : lineNumber;
+    }
+
+    /**
+     * <p>Reads the text of "channelIn" and writes it to "channelOut" with the date columns rewritten, decoding and
+     * encoding it with "charsetIn".</p>
+     * <p>Neither channel is closed. Bytes that are not valid in "charsetIn" throw a "CharacterCodingException".</p>
+     * <p>Example:</p>
+     * <code>
+     * long lines = transformer.transform( FileChannel.open( in ), FileChannel.open( out, StandardOpenOption.WRITE ), StandardCharsets.UTF_8 );
+     * </code>
+     *
+     * @param channelIn The "ReadableByteChannel" object of the text.
+     * @param channelOut The "WritableByteChannel" object that receives the transformed text.
+     * @param charsetIn The "Charset" object of both texts.
+     *
+     * @return The number of lines read.
+     *
+     * @throws IOException If a channel throws it or the text cannot be decoded or encoded.
+     * @throws NullPointerException If "channelIn", "channelOut" or "charsetIn" is null.
+     * @throws com.indenaiten.code.util.DateColumnTransformException If a value of a date column cannot be converted.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.nio.channels.Channels
+     */
+    public long transform( ReadableByteChannel channelIn, WritableByteChannel channelOut, Charset charsetIn ) throws IOException{
+        Objects.requireNonNull( channelIn, "channelIn" );
+        Objects.requireNonNull( channelOut, "channelOut" );
+        return this.transform( Channels.newReader( channelIn, charsetIn.newDecoder(), BUFFER_SIZE ), Channels.newWriter( channelOut, charsetIn.newEncoder(), BUFFER_SIZE ) );
+    }
+
+    /**
+     * <p>Reads the text of the file "inputIn" and writes it to the file "outputIn" with the date columns rewritten,
+     * transforming it in parallel in the common "ForkJoinPool".</p>
+     * <p>Example:</p>
+     * <code>
+     * long lines = transformer.transform( Paths.get( "in.csv" ), Paths.get( "out.csv" ), StandardCharsets.UTF_8 );
+     * </code>
+     *
+     * @param inputIn The "Path" object of the file to read.
+     * @param outputIn The "Path" object of the file to write, created or truncated.
+     * @param charsetIn The "Charset" object of both files.
+     *
+     * @return The number of lines read.
+     *
+     * @throws IOException If a file cannot be read or written or the text cannot be decoded or encoded.
+     * @throws NullPointerException If "inputIn", "outputIn" or "charsetIn" is null.
+     * @throws IllegalArgumentException If "charsetIn" does not encode the line end and the quote as the single bytes
+     * '\n' and '"' or both paths are the same file.
+     * @throws com.indenaiten.code.util.DateColumnTransformException If a value of a date column cannot be converted.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #transform(Path, Path, Charset, ForkJoinPool)
+     */
+    public long transform( Path inputIn, Path outputIn, Charset charsetIn ) throws IOException{
+        return this.transform( inputIn, outputIn, charsetIn, ForkJoinPool.commonPool() );
+    }
+
+    /**
+     * <p>Reads the text of the file "inputIn" and writes it to the file "outputIn" with the date columns rewritten,
+     * transforming it in parallel in "poolIn".</p>
+     * <p>The input is memory-mapped with "FileChannel.map" and split into chunks of about 1 MiB that end at a line end.
+     * The chunks are transformed by the workers of "poolIn" and written to "outputIn" in their order, so the output is
+     * the same as the one of the sequential methods. Only a few chunks per worker are held in memory, so files larger
+     * than the heap are transformed too.</p>
+     * <p>The chunks are split at the line ends that are not between quotes, so the quoted values can contain line ends
+     * like in the sequential methods. To tell them apart, the calling thread reads the whole input once looking for the
+     * quotes and the line ends, which is much faster than transforming it. "charsetIn" must encode "\n" and '"' as single
+     * bytes that are not part of other characters, like "UTF-8" or "ISO-8859-1" do. When a value cannot be converted, the
+     * lines before it have been written to "outputIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * long lines = transformer.transform( Paths.get( "in.csv" ), Paths.get( "out.csv" ), StandardCharsets.UTF_8, ForkJoinPool.commonPool() );
+     * </code>
+     *
+     * @param inputIn The "Path" object of the file to read.
+     * @param outputIn The "Path" object of the file to write, created or truncated.
+     * @param charsetIn The "Charset" object of both files.
+     * @param poolIn The "ForkJoinPool" object that runs the transformation.
+     *
+     * @return The number of lines read.
+     *
+     * @throws IOException If a file cannot be read or written or the text cannot be decoded or encoded.
+     * @throws NullPointerException If "inputIn", "outputIn", "charsetIn" or "poolIn" is null.
+     * @throws IllegalArgumentException If "charsetIn" does not encode the line end and the quote as the single bytes
+     * '\n' and '"' or both paths are the same file.
+     * @throws com.indenaiten.code.util.DateColumnTransformException If a value of a date column cannot be converted.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.nio.channels.FileChannel#map(FileChannel.MapMode, long, long)
+     * @see java.util.concurrent.ForkJoinPool
+     */
+    public long transform( Path inputIn, Path outputIn, Charset charsetIn, ForkJoinPool poolIn ) throws IOException{
+        Objects.requireNonNull( inputIn, "input" );
+        Objects.requireNonNull( outputIn, "output" );
+        Objects.requireNonNull( poolIn, "pool" );
+        if( !Arrays.equals( "\n".getBytes( charsetIn ), new byte[]{ '\n' } ) || !Arrays.equals( "\"".getBytes( charsetIn ), new byte[]{ QUOTE } ) ){
+            throw new IllegalArgumentException( "The charset does not encode the line end and the quote as single bytes: " + charsetIn );
+        }
+        if( Files.exists( outputIn ) && Files.isSameFile( inputIn, outputIn ) ){
+            throw new IllegalArgumentException( "The input and output are the same file: " + inputIn );
+        }
+        try( FileChannel input = FileChannel.open( inputIn, StandardOpenOption.READ );
+             FileChannel output = FileChannel.open( outputIn, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE ) ){
+            return new MappedTransformation( this, input, output, charsetIn, poolIn ).run();
+        }
+    }
+
+    /**
+     * @return The transformer with "columnIn" added to the columns, replacing the one with the same index.
+     */
+    private DateColumnTransformer withColumn( int columnIn, Column columnToAddIn ){
+        if( columnIn < 0 ){
+            throw new IllegalArgumentException( "The index of the column is negative: " + columnIn );
+        }
+        final Column[] columns = Arrays.copyOf( this.columns, Math.max( this.columns.length, columnIn + 1 ) );
+        columns[ columnIn ] = columnToAddIn;
+        return new DateColumnTransformer( this.delimiter, this.zoneId, this.locale, this.headerLines, columns );
+    }
+
+    /**
+     * @return The date column at "columnIn" of the line, or null if it is copied unchanged.
+     */
+    private Column column( long lineNumberIn, int columnIn ){
+        return lineNumberIn > this.headerLines && columnIn < this.columns.length ? this.columns[ columnIn ] : null;
+    }
+
+    /**
+     * <p>Appends the value of a date column rewritten with its formatter to "outputIn", keeping its quotes.</p>
+     *
+     * @throws DateColumnTransformException If "valueIn" cannot be converted.
+     */
+    private void reformat( Column columnIn, StringBuilder valueIn, long lineNumberIn, int columnIndexIn, StringBuilder outputIn ){
+        final int length = valueIn.length();
+        final boolean quoted = length >= 2 && valueIn.charAt( 0 ) == QUOTE && valueIn.charAt( length - 1 ) == QUOTE;
+        if( length == 0 || quoted && length == 2 ){
+            outputIn.append( valueIn );
+            return;
+        }
+        final CharSequence text = quoted ? CharBuffer.wrap( valueIn, 1, length - 1 ) : valueIn;
+        try{
+            if( length > MAXIMUM_VALUE_LENGTH ){
+                throw new DateTimeParseException( "Text is longer than " + MAXIMUM_VALUE_LENGTH + " characters", text, MAXIMUM_VALUE_LENGTH );
+            }
+            if( quoted ){
+                outputIn.append( QUOTE );
+            }
+            columnIn.reformat( text, this.zoneId, outputIn );
+            if( quoted ){
+                outputIn.append( QUOTE );
+            }
+        }
+        catch( RuntimeException e ){
+            throw new DateColumnTransformException( lineNumberIn, columnIndexIn, e );
+        }
+    }
+
+    /**
+     * <p>Appends the characters of "inputIn" from "fromIn" to "toIn" to "outputIn", or to "valueIn" when they belong to
+     * the date column "columnIn", keeping at most one character over "MAXIMUM_VALUE_LENGTH" in it.</p>
+     */
+    private static void append( Column columnIn, char[] inputIn, int fromIn, int toIn, StringBuilder valueIn, StringBuilder outputIn ){
+        if( columnIn == null ){
+            outputIn.append( inputIn, fromIn, toIn - fromIn );
+            return;
+        }
+        final int length = Math.min( toIn - fromIn, MAXIMUM_VALUE_LENGTH + 1 - valueIn.length() );
+        if( length > 0 ){
+            valueIn.append( inputIn, fromIn, length );
+        }
+    }
+
+    /**
+     * <p>Writes the content of "outputIn" to "writerIn" through "chunkIn" and empties it.</p>
+     */
+    private static void write( StringBuilder outputIn, char[] chunkIn, Writer writerIn ) throws IOException{
+        for( int start = 0; start < outputIn.length(); start += chunkIn.length ){
+            final int end = Math.min( start + chunkIn.length, outputIn.length() );
+            outputIn.getChars( start, end, chunkIn, 0 );
+            writerIn.write( chunkIn, 0, end - start );
+        }
+        outputIn.setLength( 0 );
+    }
+
+    /**
+     * @return "delimiterIn" if it can separate the columns.
+     *
+     * @throws IllegalArgumentException If "delimiterIn" is a line end or a quote.
+     */
+    private static char checkDelimiter( char delimiterIn ){
+        if( delimiterIn == '\n' || delimiterIn == '\r' || delimiterIn == QUOTE ){
+            throw new IllegalArgumentException( "The delimiter cannot be a line end or a quote" );
+        }
+        return delimiterIn;
+    }
+
+    /**
+     * <p>Transformation of a memory-mapped file in line-aligned chunks run in parallel.</p>
+     * <p>The header lines are copied in the calling thread, which then submits the chunks to the pool, keeping at most
+     * "CHUNKS_PER_WORKER" chunks per worker in flight, and writes their output in order as they complete. The line
+     * numbers of the exceptions of a chunk are made absolute with the lines of the chunks before it.</p>
+     * <p>The input is scanned once from the start to find the line ends, keeping whether the scan is between quotes, so
+     * every chunk starts outside quotes like the sequential transformation at the start of a line.</p>
+     */
+    private static final class MappedTransformation{
+        private static final int CHUNK_SIZE = 1 << 20;
+        private static final int CHUNKS_PER_WORKER = 2;
+
+        private final DateColumnTransformer transformer;
+        private final long headerLines;
+        private final FileChannel input;
+        private final FileChannel output;
+        private final Charset charset;
+        private final ForkJoinPool pool;
+        private final ByteBuffer scan = ByteBuffer.allocate( BUFFER_SIZE );
+        private long scanned;
+        private boolean quoted;
+
+        private MappedTransformation( DateColumnTransformer transformerIn, FileChannel inputIn, FileChannel outputIn, Charset charsetIn, ForkJoinPool poolIn ){
+            this.transformer = new DateColumnTransformer( transformerIn.delimiter, transformerIn.zoneId, transformerIn.locale, 0, transformerIn.columns );
+            this.headerLines = transformerIn.headerLines;
+            this.input = inputIn;
+            this.output = outputIn;
+            this.charset = charsetIn;
+            this.pool = poolIn;
+        }
+
+        /**
+         * @return The number of lines read.
+         */
+        private long run() throws IOException{
+            final long size = this.input.size();
+            long lines = 0;
+            long position = 0;
+            while( lines < this.headerLines && position < size ){
+                position = this.lineEnd( position, size );
+                lines++;
+            }
+            for( long copied = 0; copied < position; ){
+                copied += this.input.transferTo( copied, position - copied, this.output );
+            }
+            final OutputStream output = Channels.newOutputStream( this.output );
+            final Deque<ForkJoinTask<Chunk>> pending = new ArrayDeque<>();
+            final int window = Math.max( 1, this.pool.getParallelism() * CHUNKS_PER_WORKER );
+            try{
+                while( position < size || !pending.isEmpty() ){
+                    while( position < size && pending.size() < window ){
+                        final long start = position;
+                        final long end = size - start <= CHUNK_SIZE ? size : this.lineEnd( start + CHUNK_SIZE - 1, size );
+                        pending.add( this.pool.submit( () -> this.transform( start, end ) ) );
+                        position = end;
+                    }
+                    final Chunk chunk = MappedTransformation.join( pending.removeFirst(), lines );
+                    chunk.output.writeTo( output );
+                    lines += chunk.lines;
+                }
+            }
+            finally{
+                for( final ForkJoinTask<Chunk> task : pending ){
+                    task.cancel( false );
+                }
+            }
+            return lines;
+        }
+
+        /**
+         * <p>Finds the first line end from "positionIn" that is not between quotes, scanning the quotes from the position
+         * where the previous call stopped, which must not be after "positionIn".</p>
+         *
+         * @return The position after the line end, or "sizeIn" if there is none.
+         */
+        private long lineEnd( long positionIn, long sizeIn ) throws IOException{
+            long position = this.scanned;
+            while( position < sizeIn ){
+                this.scan.clear();
+                final int read = this.input.read( this.scan, position );
+                if( read < 0 ){
+                    break;
+                }
+                for( int i = 0; i < read; i++ ){
+                    final byte character = this.scan.get( i );
+                    if( character == QUOTE ){
+                        this.quoted = !this.quoted;
+                    }
+                    else if( character == '\n' && !this.quoted && position + i >= positionIn ){
+                        this.scanned = position + i + 1;
+                        return this.scanned;
+                    }
+                }
+                position += read;
+            }
+            this.scanned = sizeIn;
+            return sizeIn;
+        }
+
+        /**
+         * @return The chunk from "startIn" to "endIn" of the input, transformed.
+         */
+        private Chunk transform( long startIn, long endIn ) throws IOException{
+            final MappedByteBuffer buffer = this.input.map( FileChannel.MapMode.READ_ONLY, startIn, endIn - startIn );
+            final ByteArrayOutputStream output = new ByteArrayOutputStream( (int) ( endIn - startIn ) + BUFFER_SIZE );
+            final long lines = this.transformer.transform( Channels.newReader( new BufferChannel( buffer ), this.charset.newDecoder(), BUFFER_SIZE ),
+                                                           Channels.newWriter( Channels.newChannel( output ), this.charset.newEncoder(), BUFFER_SIZE ) );
+            return new Chunk( output, lines );
+        }
+
+        /**
+         * @return The transformed chunk of "taskIn", waiting for it to complete.
+         *
+         * @throws DateColumnTransformException With the absolute line number if the chunk has a value that cannot be
+         * converted.
+         */
+        private static Chunk join( ForkJoinTask<Chunk> taskIn, long linesBeforeIn ) throws IOException{
+            try{
+                return taskIn.get();
+            }
+            catch( InterruptedException e ){
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException( "Interrupted while transforming the file" );
+            }
+            catch( ExecutionException e ){
+                final Throwable cause = e.getCause();
+                if( cause instanceof DateColumnTransformException ){
+                    final DateColumnTransformException failure = (DateColumnTransformException) cause;
+                    throw new DateColumnTransformException( linesBeforeIn + failure.getLineNumber(), failure.getColumn(), failure.getCause() );
+                }
+                if( cause instanceof IOException ){
+                    throw (IOException) cause;
+                }
+                if( cause instanceof RuntimeException ){
+                    throw (RuntimeException) cause;
+                }
+                if( cause instanceof Error ){
+                    throw (Error) cause;
+                }
+                throw new IOException( cause );
+            }
+        }
+    }
+
+    /**
+     * <p>Output and number of lines of a transformed chunk.</p>
+     */
+    private static final class Chunk{
+        private final ByteArrayOutputStream output;
+        private final long lines;
+
+        private Chunk( ByteArrayOutputStream outputIn, long linesIn ){
+            this.output = outputIn;
+            this.lines = linesIn;
+        }
+    }
+
+    /**
+     * <p>"ReadableByteChannel" over the remaining bytes of a "ByteBuffer", such as a mapped region of a file.</p>
+     */
+    private static final class BufferChannel implements ReadableByteChannel{
+        private final ByteBuffer buffer;
+
+        private BufferChannel( ByteBuffer bufferIn ){
+            this.buffer = bufferIn;
+        }
+
+        @Override
+        public int read( ByteBuffer destinationIn ){
+            if( !this.buffer.hasRemaining() ){
+                return -1;
+            }
+            final int length = Math.min( this.buffer.remaining(), destinationIn.remaining() );
+            final ByteBuffer slice = this.buffer.duplicate();
+            slice.limit( slice.position() + length );
+            destinationIn.put( slice );
+            this.buffer.position( this.buffer.position() + length );
+            return length;
+        }
+
+        @Override
+        public boolean isOpen(){
+            return true;
+        }
+
+        @Override
+        public void close(){
+            //The mapped region is released by the garbage collector
+        }
+    }
+
+    /**
+     * <p>Kind of value of a date column.</p>
+     */
+    private enum Kind{
+        DATE, DATE_TIME, TIME
+    }
+
+    /**
+     * <p>Date column with the compiled patterns to parse and format its values.</p>
+     */
+    private static final class Column{
+        private final Kind kind;
+        private final CompiledPattern pattern;
+        private final CompiledPattern formatter;
+
+        private Column( Kind kindIn, CompiledPattern patternIn, CompiledPattern formatterIn ){
+            this.kind = kindIn;
+            this.pattern = patternIn;
+            this.formatter = formatterIn;
+        }
+
+        /**
+         * <p>Appends "textIn" parsed with the pattern and formatted with the formatter to "outputIn".</p>
+         */
+        private void reformat( CharSequence textIn, ZoneId zoneIdIn, StringBuilder outputIn ){
+            switch( this.kind ){
+                case DATE:
+                    final LocalDate date = this.pattern.getLocalDateFromString( textIn, zoneIdIn );
+                    this.formatter.formatDate( date, zoneIdIn, outputIn );
+                    break;
+                case DATE_TIME:
+                    final LocalDateTime dateTime = this.pattern.getLocalDateTimeFromString( textIn, zoneIdIn );
+                    this.formatter.formatDateTime( dateTime, zoneIdIn, outputIn );
+                    break;
+                default:
+                    final LocalTime time = this.pattern.getLocalTimeFromString( textIn, zoneIdIn );
+                    this.formatter.formatTime( time, zoneIdIn, outputIn );
+                    break;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,108 @@
+package com.indenaiten.code.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+
+/**
+ * <p>Conversions between "Date" objects and local values.</p>
+ * <p>The offsets of the zone are looked up in its "ZoneOffsetTable", so plain "Date" objects and local values that are
+ * not in a gap or an overlap are converted arithmetically. The rest are converted through "Instant" and
+ * "ZonedDateTime", which keeps the nanoseconds of subclasses like "java.sql.Timestamp".</p>
+ * <p>These are the conversions behind the public methods of "DateTimeUtil", used directly by "CompiledPattern" so
+ * they are not measured twice by "DateTimeMetrics".</p>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see com.indenaiten.code.util.DateTimeUtil
+ * @see com.indenaiten.code.util.ZoneOffsetTable
+ */
+final class DateConversions{
+
+    /**
+     * Private constructor to avoid instantiating the class.
+     */
+    private DateConversions(){
+        throw new IllegalStateException( "Utility class" );
+    }
+
+    /**
+     * <p>Returns the same value as "Date.from( dateIn.atStartOfDay( zoneIdIn ).toInstant() )".</p>
+     *
+     * @param dateIn The "LocalDate" object.
+     * @param zoneIdIn The "ZoneId" object.
+     *
+     * @return The "Date" object.
+     *
+     * @throws NullPointerException If "dateIn" or "zoneIdIn" is null.
+     */
+    static Date toDate( LocalDate dateIn, ZoneId zoneIdIn ){
+        final long localSecond = dateIn.toEpochDay() * PackedDateTime.SECONDS_PER_DAY;
+        final int offset = ZoneOffsetTable.of( zoneIdIn ).getLocalOffsetSeconds( localSecond );
+        if( offset != ZoneOffsetTable.UNRESOLVED ){
+            return new Date( ( localSecond - offset ) * 1000 );
+        }
+        return Date.from( dateIn.atStartOfDay( zoneIdIn ).toInstant() );
+    }
+
+    /**
+     * <p>Returns the same value as "Date.from( dateTimeIn.atZone( zoneIdIn ).toInstant() )".</p>
+     *
+     * @param dateTimeIn The "LocalDateTime" object.
+     * @param zoneIdIn The "ZoneId" object.
+     *
+     * @return The "Date" object.
+     *
+     * @throws NullPointerException If "dateTimeIn" or "zoneIdIn" is null.
+     */
+    static Date toDate( LocalDateTime dateTimeIn, ZoneId zoneIdIn ){
+        final long localSecond = dateTimeIn.toEpochSecond( ZoneOffset.UTC );
+        final int offset = ZoneOffsetTable.of( zoneIdIn ).getLocalOffsetSeconds( localSecond );
+        if( offset != ZoneOffsetTable.UNRESOLVED ){
+            return new Date( ( localSecond - offset ) * 1000 + dateTimeIn.getNano() / 1000000 );
+        }
+        return Date.from( dateTimeIn.atZone( zoneIdIn ).toInstant() );
+    }
+
+    /**
+     * <p>Returns the same value as "dateIn.toInstant().atZone( zoneIdIn ).toLocalDate()".</p>
+     *
+     * @param dateIn The "Date" object.
+     * @param zoneIdIn The "ZoneId" object.
+     *
+     * @return The "LocalDate" object.
+     *
+     * @throws NullPointerException If "dateIn" or "zoneIdIn" is null.
+     */
+    static LocalDate toLocalDate( Date dateIn, ZoneId zoneIdIn ){
+        if( dateIn.getClass() == Date.class ){
+            final long epochSecond = Math.floorDiv( dateIn.getTime(), 1000L );
+            final long localSecond = epochSecond + ZoneOffsetTable.of( zoneIdIn ).getOffsetSeconds( epochSecond );
+            return LocalDate.ofEpochDay( Math.floorDiv( localSecond, PackedDateTime.SECONDS_PER_DAY ) );
+        }
+        return dateIn.toInstant().atZone( zoneIdIn ).toLocalDate();
+    }
+
+    /**
+     * <p>Returns the same value as "LocalDateTime.ofInstant( dateIn.toInstant(), zoneIdIn )".</p>
+     *
+     * @param dateIn The "Date" object.
+     * @param zoneIdIn The "ZoneId" object.
+     *
+     * @return The "LocalDateTime" object.
+     *
+     * @throws NullPointerException If "dateIn" or "zoneIdIn" is null.
+     */
+    static LocalDateTime toLocalDateTime( Date dateIn, ZoneId zoneIdIn ){
+        if( dateIn.getClass() == Date.class ){
+            final long epochMilli = dateIn.getTime();
+            final long epochSecond = Math.floorDiv( epochMilli, 1000L );
+            final int nano = (int) Math.floorMod( epochMilli, 1000L ) * 1000000;
+            return LocalDateTime.ofEpochSecond( epochSecond, nano, ZoneOffsetTable.of( zoneIdIn ).getOffset( epochSecond ) );
+        }
+        return LocalDateTime.ofInstant( dateIn.toInstant(), zoneIdIn );
+    }
+
+}
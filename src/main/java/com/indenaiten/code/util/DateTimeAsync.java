@@ -0,0 +1,533 @@
+package com.indenaiten.code.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+
+/**
+ * <p>Asynchronous versions of the bulk "getXxxFromStrings" and "formatXxx" methods of "DateTimeUtil".</p>
+ * <p>The methods return at once with a "CompletableFuture" object and convert the array in the tasks of an "Executor"
+ * given by the caller, or of the default executor: "ForkJoinPool.commonPool()", or a new virtual thread for every task
+ * on Java 21 and later.</p>
+ * <p>The array is converted in chunks of {@value #CHUNK_SIZE} elements. A conversion never has more chunks in the
+ * executor than half of its parallelism, and every chunk submits the next one to the executor when it ends, so a huge
+ * array cannot take all the threads of the executor while the requests that came after it wait.</p>
+ * <p>Example:</p>
+ * <code>
+ * DateTimeAsync.getLocalDateTimesFromStrings( dateTimes, "dd/MM/yyyy HH:mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), executor )
+ *              .thenAccept( result -&gt; store( result ) );
+ * </code>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see com.indenaiten.code.util.DateTimeUtil
+ * @see java.util.concurrent.CompletableFuture
+ */
+public final class DateTimeAsync{
+
+    public static final int CHUNK_SIZE = AsyncConversion.CHUNK_SIZE;
+
+    /**
+     * Private constructor to avoid instantiating the class.
+     */
+    private DateTimeAsync(){
+        throw new IllegalStateException( "Utility class" );
+    }
+
+    /**
+     * <p>Converts the dates in "String" format of an array to "LocalDate" objects in the background.</p>
+     * <p>"ZoneId" and "Locale" are set as the system default, "String" date pattern is set as default
+     * ("dd/MM/yyyy") and the conversion runs in the default executor.</p>
+     * <p>Example:</p>
+     * <code>
+     * CompletableFuture&lt;LocalDate[]&gt; result = DateTimeAsync.getLocalDatesFromStrings( dates );
+     * </code>
+     *
+     * @param datesIn The dates as "String" objects with pattern "dd/MM/yyyy".
+     *
+     * @return The "CompletableFuture" object completed with the dates as "LocalDate" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalDatesFromStrings(String[], String, ZoneId, Locale, Executor)
+     */
+    public static CompletableFuture<LocalDate[]> getLocalDatesFromStrings( String[] datesIn ){
+        return DateTimeAsync.getLocalDatesFromStrings( datesIn, DateTimeUtil.DEFAULT_DATE_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Converts the dates in "String" format of an array with a given pattern to "LocalDate" objects with
+     * "ZoneId" and "Locale" in the background.</p>
+     * <p>The conversion runs in the default executor: "ForkJoinPool.commonPool()", or a new virtual thread for every
+     * task on Java 21 and later.</p>
+     * <p>Example:</p>
+     * <code>
+     * CompletableFuture&lt;LocalDate[]&gt; result = DateTimeAsync.getLocalDatesFromStrings( dates, "dd/MM/yyyy", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ) );
+     * </code>
+     *
+     * @param datesIn The dates as "String" objects.
+     * @param patternIn The format pattern of "datesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     *
+     * @return The "CompletableFuture" object completed with the dates as "LocalDate" objects, in the same order.
+     *
+     * @throws NullPointerException If "datesIn" or "zoneIdIn" is null.
+     * @throws IllegalArgumentException If "patternIn" is not a valid pattern.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalDatesFromStrings(String[], String, ZoneId, Locale, Executor)
+     */
+    public static CompletableFuture<LocalDate[]> getLocalDatesFromStrings( String[] datesIn, String patternIn, ZoneId zoneIdIn, Locale localeIn ){
+        return DateTimeAsync.getLocalDatesFromStrings( datesIn, patternIn, zoneIdIn, localeIn, DefaultExecutor.get() );
+    }
+
+    /**
+     * <p>Converts the dates in "String" format of an array with a given pattern to "LocalDate" objects with
+     * "ZoneId" and "Locale" in the tasks of an "Executor".</p>
+     * <p>The pattern is compiled and the "ZoneId" and "Locale" are resolved before returning, and every element gets
+     * the same result as "DateTimeUtil.getLocalDateFromString". The array is converted in chunks of
+     * {@value #CHUNK_SIZE} elements, with no more chunks in "executorIn" at the same time than half of its parallelism, so
+     * other tasks of the executor keep running while a large array is converted. When any element fails, the future
+     * completes with the "BulkConversionException" of the element with the lowest index.</p>
+     * <p>Example:</p>
+     * <code>
+     * CompletableFuture&lt;LocalDate[]&gt; result = DateTimeAsync.getLocalDatesFromStrings( dates, "dd/MM/yyyy", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), executor );
+     * </code>
+     *
+     * @param datesIn The dates as "String" objects.
+     * @param patternIn The format pattern of "datesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param executorIn The "Executor" object that runs the conversion.
+     *
+     * @return The "CompletableFuture" object completed with the dates as "LocalDate" objects, in the same order.
+     *
+     * @throws NullPointerException If "datesIn", "zoneIdIn" or "executorIn" is null.
+     * @throws IllegalArgumentException If "patternIn" is not a valid pattern.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see com.indenaiten.code.util.DateTimeUtil#getLocalDateFromString(String, String, ZoneId, Locale)
+     * @see java.util.concurrent.CompletableFuture
+     */
+    public static CompletableFuture<LocalDate[]> getLocalDatesFromStrings( String[] datesIn, String patternIn, ZoneId zoneIdIn, Locale localeIn, Executor executorIn ){
+        final CompiledPattern pattern = PatternCache.get( patternIn, localeIn );
+        return AsyncConversion.convert( datesIn, zoneIdIn, LocalDate[]::new, executorIn, date -> pattern.getLocalDateFromString( date, zoneIdIn ) );
+    }
+
+    /**
+     * <p>Converts the date-times in "String" format of an array to "LocalDateTime" objects in the background.</p>
+     * <p>"ZoneId" and "Locale" are set as the system default, "String" date-time pattern is set as default
+     * ("dd/MM/yyyy HH:mm") and the conversion runs in the default executor.</p>
+     * <p>Example:</p>
+     * <code>
+     * CompletableFuture&lt;LocalDateTime[]&gt; result = DateTimeAsync.getLocalDateTimesFromStrings( dateTimes );
+     * </code>
+     *
+     * @param dateTimesIn The date-times as "String" objects with pattern "dd/MM/yyyy HH:mm".
+     *
+     * @return The "CompletableFuture" object completed with the date-times as "LocalDateTime" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalDateTimesFromStrings(String[], String, ZoneId, Locale, Executor)
+     */
+    public static CompletableFuture<LocalDateTime[]> getLocalDateTimesFromStrings( String[] dateTimesIn ){
+        return DateTimeAsync.getLocalDateTimesFromStrings( dateTimesIn, DateTimeUtil.DEFAULT_DATE_TIME_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Converts the date-times in "String" format of an array with a given pattern to "LocalDateTime" objects
+     * with "ZoneId" and "Locale" in the background.</p>
+     * <p>The conversion runs in the default executor: "ForkJoinPool.commonPool()", or a new virtual thread for every
+     * task on Java 21 and later.</p>
+     * <p>Example:</p>
+     * <code>
+     * CompletableFuture&lt;LocalDateTime[]&gt; result = DateTimeAsync.getLocalDateTimesFromStrings( dateTimes, "dd/MM/yyyy HH:mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ) );
+     * </code>
+     *
+     * @param dateTimesIn The date-times as "String" objects.
+     * @param patternIn The format pattern of "dateTimesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     *
+     * @return The "CompletableFuture" object completed with the date-times as "LocalDateTime" objects, in the same order.
+     *
+     * @throws NullPointerException If "dateTimesIn" or "zoneIdIn" is null.
+     * @throws IllegalArgumentException If "patternIn" is not a valid pattern.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalDateTimesFromStrings(String[], String, ZoneId, Locale, Executor)
+     */
+    public static CompletableFuture<LocalDateTime[]> getLocalDateTimesFromStrings( String[] dateTimesIn, String patternIn, ZoneId zoneIdIn, Locale localeIn ){
+        return DateTimeAsync.getLocalDateTimesFromStrings( dateTimesIn, patternIn, zoneIdIn, localeIn, DefaultExecutor.get() );
+    }
+
+    /**
+     * <p>Converts the date-times in "String" format of an array with a given pattern to "LocalDateTime" objects
+     * with "ZoneId" and "Locale" in the tasks of an "Executor".</p>
+     * <p>The pattern is compiled and the "ZoneId" and "Locale" are resolved before returning, and every element gets
+     * the same result as "DateTimeUtil.getLocalDateTimeFromString". The array is converted in chunks of
+     * {@value #CHUNK_SIZE} elements, with no more chunks in "executorIn" at the same time than half of its parallelism, so
+     * other tasks of the executor keep running while a large array is converted. When any element fails, the future
+     * completes with the "BulkConversionException" of the element with the lowest index.</p>
+     * <p>Example:</p>
+     * <code>
+     * CompletableFuture&lt;LocalDateTime[]&gt; result = DateTimeAsync.getLocalDateTimesFromStrings( dateTimes, "dd/MM/yyyy HH:mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), executor );
+     * </code>
+     *
+     * @param dateTimesIn The date-times as "String" objects.
+     * @param patternIn The format pattern of "dateTimesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param executorIn The "Executor" object that runs the conversion.
+     *
+     * @return The "CompletableFuture" object completed with the date-times as "LocalDateTime" objects, in the same order.
+     *
+     * @throws NullPointerException If "dateTimesIn", "zoneIdIn" or "executorIn" is null.
+     * @throws IllegalArgumentException If "patternIn" is not a valid pattern.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see com.indenaiten.code.util.DateTimeUtil#getLocalDateTimeFromString(String, String, ZoneId, Locale)
+     * @see java.util.concurrent.CompletableFuture
+     */
+    public static CompletableFuture<LocalDateTime[]> getLocalDateTimesFromStrings( String[] dateTimesIn, String patternIn, ZoneId zoneIdIn, Locale localeIn, Executor executorIn ){
+        final CompiledPattern pattern = PatternCache.get( patternIn, localeIn );
+        return AsyncConversion.convert( dateTimesIn, zoneIdIn, LocalDateTime[]::new, executorIn, dateTime -> pattern.getLocalDateTimeFromString( dateTime, zoneIdIn ) );
+    }
+
+    /**
+     * <p>Converts the times in "String" format of an array to "LocalTime" objects in the background.</p>
+     * <p>"ZoneId" and "Locale" are set as the system default, "String" time pattern is set as default
+     * ("HH:mm:ss") and the conversion runs in the default executor.</p>
+     * <p>Example:</p>
+     * <code>
+     * CompletableFuture&lt;LocalTime[]&gt; result = DateTimeAsync.getLocalTimesFromStrings( times );
+     * </code>
+     *
+     * @param timesIn The times as "String" objects with pattern "HH:mm:ss".
+     *
+     * @return The "CompletableFuture" object completed with the times as "LocalTime" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalTimesFromStrings(String[], String, ZoneId, Locale, Executor)
+     */
+    public static CompletableFuture<LocalTime[]> getLocalTimesFromStrings( String[] timesIn ){
+        return DateTimeAsync.getLocalTimesFromStrings( timesIn, DateTimeUtil.DEFAULT_TIME_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Converts the times in "String" format of an array with a given pattern to "LocalTime" objects with
+     * "ZoneId" and "Locale" in the background.</p>
+     * <p>The conversion runs in the default executor: "ForkJoinPool.commonPool()", or a new virtual thread for every
+     * task on Java 21 and later.</p>
+     * <p>Example:</p>
+     * <code>
+     * CompletableFuture&lt;LocalTime[]&gt; result = DateTimeAsync.getLocalTimesFromStrings( times, "HH:mm:ss", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ) );
+     * </code>
+     *
+     * @param timesIn The times as "String" objects.
+     * @param patternIn The format pattern of "timesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     *
+     * @return The "CompletableFuture" object completed with the times as "LocalTime" objects, in the same order.
+     *
+     * @throws NullPointerException If "timesIn" or "zoneIdIn" is null.
+     * @throws IllegalArgumentException If "patternIn" is not a valid pattern.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalTimesFromStrings(String[], String, ZoneId, Locale, Executor)
+     */
+    public static CompletableFuture<LocalTime[]> getLocalTimesFromStrings( String[] timesIn, String patternIn, ZoneId zoneIdIn, Locale localeIn ){
+        return DateTimeAsync.getLocalTimesFromStrings( timesIn, patternIn, zoneIdIn, localeIn, DefaultExecutor.get() );
+    }
+
+    /**
+     * <p>Converts the times in "String" format of an array with a given pattern to "LocalTime" objects with
+     * "ZoneId" and "Locale" in the tasks of an "Executor".</p>
+     * <p>The pattern is compiled and the "ZoneId" and "Locale" are resolved before returning, and every element gets
+     * the same result as "DateTimeUtil.getLocalTimeFromString". The array is converted in chunks of
+     * {@value #CHUNK_SIZE} elements, with no more chunks in "executorIn" at the same time than half of its parallelism, so
+     * other tasks of the executor keep running while a large array is converted. When any element fails, the future
+     * completes with the "BulkConversionException" of the element with the lowest index.</p>
+     * <p>Example:</p>
+     * <code>
+     * CompletableFuture&lt;LocalTime[]&gt; result = DateTimeAsync.getLocalTimesFromStrings( times, "HH:mm:ss", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), executor );
+     * </code>
+     *
+     * @param timesIn The times as "String" objects.
+     * @param patternIn The format pattern of "timesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param executorIn The "Executor" object that runs the conversion.
+     *
+     * @return The "CompletableFuture" object completed with the times as "LocalTime" objects, in the same order.
+     *
+     * @throws NullPointerException If "timesIn", "zoneIdIn" or "executorIn" is null.
+     * @throws IllegalArgumentException If "patternIn" is not a valid pattern.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see com.indenaiten.code.util.DateTimeUtil#getLocalTimeFromString(String, String, ZoneId, Locale)
+     * @see java.util.concurrent.CompletableFuture
+     */
+    public static CompletableFuture<LocalTime[]> getLocalTimesFromStrings( String[] timesIn, String patternIn, ZoneId zoneIdIn, Locale localeIn, Executor executorIn ){
+        final CompiledPattern pattern = PatternCache.get( patternIn, localeIn );
+        return AsyncConversion.convert( timesIn, zoneIdIn, LocalTime[]::new, executorIn, time -> pattern.getLocalTimeFromString( time, zoneIdIn ) );
+    }
+
+    /**
+     * <p>Formats the dates of an array of "LocalDate" objects to "String" objects in the background.</p>
+     * <p>"ZoneId" and "Locale" are set as the system default, "String" date formatter is set as default
+     * ("dd/MM/yyyy") and the conversion runs in the default executor.</p>
+     * <p>Example:</p>
+     * <code>
+     * CompletableFuture&lt;String[]&gt; result = DateTimeAsync.formatDates( dates );
+     * </code>
+     *
+     * @param datesIn The dates as "LocalDate" objects.
+     *
+     * @return The "CompletableFuture" object completed with the dates formatted as "String" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #formatDates(LocalDate[], String, ZoneId, Locale, Executor)
+     */
+    public static CompletableFuture<String[]> formatDates( LocalDate[] datesIn ){
+        return DateTimeAsync.formatDates( datesIn, DateTimeUtil.DEFAULT_DATE_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Formats the dates of an array of "LocalDate" objects to "String" objects with a given pattern, "ZoneId"
+     * and "Locale" in the background.</p>
+     * <p>The conversion runs in the default executor: "ForkJoinPool.commonPool()", or a new virtual thread for every
+     * task on Java 21 and later.</p>
+     * <p>Example:</p>
+     * <code>
+     * CompletableFuture&lt;String[]&gt; result = DateTimeAsync.formatDates( dates, "yyyy-MM-dd", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ) );
+     * </code>
+     *
+     * @param datesIn The dates as "LocalDate" objects.
+     * @param formatterIn The format pattern to format "datesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     *
+     * @return The "CompletableFuture" object completed with the dates formatted as "String" objects, in the same order.
+     *
+     * @throws NullPointerException If "datesIn" or "zoneIdIn" is null.
+     * @throws IllegalArgumentException If "formatterIn" is not a valid pattern.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #formatDates(LocalDate[], String, ZoneId, Locale, Executor)
+     */
+    public static CompletableFuture<String[]> formatDates( LocalDate[] datesIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn ){
+        return DateTimeAsync.formatDates( datesIn, formatterIn, zoneIdIn, localeIn, DefaultExecutor.get() );
+    }
+
+    /**
+     * <p>Formats the dates of an array of "LocalDate" objects to "String" objects with a given pattern, "ZoneId"
+     * and "Locale" in the tasks of an "Executor".</p>
+     * <p>The pattern is compiled and the "ZoneId" and "Locale" are resolved before returning, and every element gets
+     * the same result as "DateTimeUtil.formatDate". The array is converted in chunks of {@value #CHUNK_SIZE} elements,
+     * with no more chunks in "executorIn" at the same time than half of its parallelism, so other tasks of the executor
+     * keep running while a large array is converted. When any element fails, the future completes with the
+     * "BulkConversionException" of the element with the lowest index.</p>
+     * <p>Example:</p>
+     * <code>
+     * CompletableFuture&lt;String[]&gt; result = DateTimeAsync.formatDates( dates, "yyyy-MM-dd", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), executor );
+     * </code>
+     *
+     * @param datesIn The dates as "LocalDate" objects.
+     * @param formatterIn The format pattern to format "datesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param executorIn The "Executor" object that runs the conversion.
+     *
+     * @return The "CompletableFuture" object completed with the dates formatted as "String" objects, in the same order.
+     *
+     * @throws NullPointerException If "datesIn", "zoneIdIn" or "executorIn" is null.
+     * @throws IllegalArgumentException If "formatterIn" is not a valid pattern.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see com.indenaiten.code.util.DateTimeUtil#formatDate(LocalDate, String, ZoneId, Locale)
+     * @see java.util.concurrent.CompletableFuture
+     */
+    public static CompletableFuture<String[]> formatDates( LocalDate[] datesIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn, Executor executorIn ){
+        final CompiledPattern formatter = PatternCache.get( formatterIn, localeIn );
+        return AsyncConversion.convert( datesIn, zoneIdIn, String[]::new, executorIn, date -> formatter.formatDate( date, zoneIdIn ) );
+    }
+
+    /**
+     * <p>Formats the date-times of an array of "LocalDateTime" objects to "String" objects in the background.</p>
+     * <p>"ZoneId" and "Locale" are set as the system default, "String" date-time formatter is set as default
+     * ("dd/MM/yyyy HH:mm") and the conversion runs in the default executor.</p>
+     * <p>Example:</p>
+     * <code>
+     * CompletableFuture&lt;String[]&gt; result = DateTimeAsync.formatDateTimes( dateTimes );
+     * </code>
+     *
+     * @param dateTimesIn The date-times as "LocalDateTime" objects.
+     *
+     * @return The "CompletableFuture" object completed with the date-times formatted as "String" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #formatDateTimes(LocalDateTime[], String, ZoneId, Locale, Executor)
+     */
+    public static CompletableFuture<String[]> formatDateTimes( LocalDateTime[] dateTimesIn ){
+        return DateTimeAsync.formatDateTimes( dateTimesIn, DateTimeUtil.DEFAULT_DATE_TIME_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Formats the date-times of an array of "LocalDateTime" objects to "String" objects with a given pattern,
+     * "ZoneId" and "Locale" in the background.</p>
+     * <p>The conversion runs in the default executor: "ForkJoinPool.commonPool()", or a new virtual thread for every
+     * task on Java 21 and later.</p>
+     * <p>Example:</p>
+     * <code>
+     * CompletableFuture&lt;String[]&gt; result = DateTimeAsync.formatDateTimes( dateTimes, "yyyy-MM-dd'T'HH:mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ) );
+     * </code>
+     *
+     * @param dateTimesIn The date-times as "LocalDateTime" objects.
+     * @param formatterIn The format pattern to format "dateTimesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     *
+     * @return The "CompletableFuture" object completed with the date-times formatted as "String" objects, in the same order.
+     *
+     * @throws NullPointerException If "dateTimesIn" or "zoneIdIn" is null.
+     * @throws IllegalArgumentException If "formatterIn" is not a valid pattern.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #formatDateTimes(LocalDateTime[], String, ZoneId, Locale, Executor)
+     */
+    public static CompletableFuture<String[]> formatDateTimes( LocalDateTime[] dateTimesIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn ){
+        return DateTimeAsync.formatDateTimes( dateTimesIn, formatterIn, zoneIdIn, localeIn, DefaultExecutor.get() );
+    }
+
+    /**
+     * <p>Formats the date-times of an array of "LocalDateTime" objects to "String" objects with a given pattern,
+     * "ZoneId" and "Locale" in the tasks of an "Executor".</p>
+     * <p>The pattern is compiled and the "ZoneId" and "Locale" are resolved before returning, and every element gets
+     * the same result as "DateTimeUtil.formatDateTime". The array is converted in chunks of {@value #CHUNK_SIZE}
+     * elements, with no more chunks in "executorIn" at the same time than half of its parallelism, so other tasks of
+     * the executor keep running while a large array is converted. When any element fails, the future completes with the
+     * "BulkConversionException" of the element with the lowest index.</p>
+     * <p>Example:</p>
+     * <code>
+     * CompletableFuture&lt;String[]&gt; result = DateTimeAsync.formatDateTimes( dateTimes, "yyyy-MM-dd'T'HH:mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), executor );
+     * </code>
+     *
+     * @param dateTimesIn The date-times as "LocalDateTime" objects.
+     * @param formatterIn The format pattern to format "dateTimesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param executorIn The "Executor" object that runs the conversion.
+     *
+     * @return The "CompletableFuture" object completed with the date-times formatted as "String" objects, in the same order.
+     *
+     * @throws NullPointerException If "dateTimesIn", "zoneIdIn" or "executorIn" is null.
+     * @throws IllegalArgumentException If "formatterIn" is not a valid pattern.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see com.indenaiten.code.util.DateTimeUtil#formatDateTime(LocalDateTime, String, ZoneId, Locale)
+     * @see java.util.concurrent.CompletableFuture
+     */
+    public static CompletableFuture<String[]> formatDateTimes( LocalDateTime[] dateTimesIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn, Executor executorIn ){
+        final CompiledPattern formatter = PatternCache.get( formatterIn, localeIn );
+        return AsyncConversion.convert( dateTimesIn, zoneIdIn, String[]::new, executorIn, dateTime -> formatter.formatDateTime( dateTime, zoneIdIn ) );
+    }
+
+    /**
+     * <p>Formats the times of an array of "LocalTime" objects to "String" objects in the background.</p>
+     * <p>"ZoneId" and "Locale" are set as the system default, "String" time formatter is set as default
+     * ("HH:mm:ss") and the conversion runs in the default executor.</p>
+     * <p>Example:</p>
+     * <code>
+     * CompletableFuture&lt;String[]&gt; result = DateTimeAsync.formatTimes( times );
+     * </code>
+     *
+     * @param timesIn The times as "LocalTime" objects.
+     *
+     * @return The "CompletableFuture" object completed with the times formatted as "String" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #formatTimes(LocalTime[], String, ZoneId, Locale, Executor)
+     */
+    public static CompletableFuture<String[]> formatTimes( LocalTime[] timesIn ){
+        return DateTimeAsync.formatTimes( timesIn, DateTimeUtil.DEFAULT_TIME_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Formats the times of an array of "LocalTime" objects to "String" objects with a given pattern, "ZoneId"
+     * and "Locale" in the background.</p>
+     * <p>The conversion runs in the default executor: "ForkJoinPool.commonPool()", or a new virtual thread for every
+     * task on Java 21 and later.</p>
+     * <p>Example:</p>
+     * <code>
+     * CompletableFuture&lt;String[]&gt; result = DateTimeAsync.formatTimes( times, "HH:mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ) );
+     * </code>
+     *
+     * @param timesIn The times as "LocalTime" objects.
+     * @param formatterIn The format pattern to format "timesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     *
+     * @return The "CompletableFuture" object completed with the times formatted as "String" objects, in the same order.
+     *
+     * @throws NullPointerException If "timesIn" or "zoneIdIn" is null.
+     * @throws IllegalArgumentException If "formatterIn" is not a valid pattern.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #formatTimes(LocalTime[], String, ZoneId, Locale, Executor)
+     */
+    public static CompletableFuture<String[]> formatTimes( LocalTime[] timesIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn ){
+        return DateTimeAsync.formatTimes( timesIn, formatterIn, zoneIdIn, localeIn, DefaultExecutor.get() );
+    }
+
+    /**
+     * <p>Formats the times of an array of "LocalTime" objects to "String" objects with a given pattern, "ZoneId"
+     * and "Locale" in the tasks of an "Executor".</p>
+     * <p>The pattern is compiled and the "ZoneId" and "Locale" are resolved before returning, and every element gets
+     * the same result as "DateTimeUtil.formatTime". The array is converted in chunks of {@value #CHUNK_SIZE} elements,
+     * with no more chunks in "executorIn" at the same time than half of its parallelism, so other tasks of the executor
+     * keep running while a large array is converted. When any element fails, the future completes with the
+     * "BulkConversionException" of the element with the lowest index.</p>
+     * <p>Example:</p>
+     * <code>
+     * CompletableFuture&lt;String[]&gt; result = DateTimeAsync.formatTimes( times, "HH:mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), executor );
+     * </code>
+     *
+     * @param timesIn The times as "LocalTime" objects.
+     * @param formatterIn The format pattern to format "timesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param executorIn The "Executor" object that runs the conversion.
+     *
+     * @return The "CompletableFuture" object completed with the times formatted as "String" objects, in the same order.
+     *
+     * @throws NullPointerException If "timesIn", "zoneIdIn" or "executorIn" is null.
+     * @throws IllegalArgumentException If "formatterIn" is not a valid pattern.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see com.indenaiten.code.util.DateTimeUtil#formatTime(LocalTime, String, ZoneId, Locale)
+     * @see java.util.concurrent.CompletableFuture
+     */
+    public static CompletableFuture<String[]> formatTimes( LocalTime[] timesIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn, Executor executorIn ){
+        final CompiledPattern formatter = PatternCache.get( formatterIn, localeIn );
+        return AsyncConversion.convert( timesIn, zoneIdIn, String[]::new, executorIn, time -> formatter.formatTime( time, zoneIdIn ) );
+    }
+
+}
@@ -0,0 +1,473 @@
+package com.indenaiten.code.util;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * <p>Optional metrics of the calls of "DateTimeUtil".</p>
+ * <p>While enabled, every public method of "DateTimeUtil" that does the work of its overloads counts its calls and
+ * failures and records its latency in a lock-free histogram, grouped by method family, pattern and zone. The metrics
+ * are available with {@link #getMetrics()}, through the platform MXBean {@link #OBJECT_NAME} and through the
+ * "DateTimeMetricsListener" objects added with {@link #addListener(DateTimeMetricsListener)}.</p>
+ * <p>Metrics are disabled by default, and then every call only reads a volatile flag. They are enabled at startup with
+ * the system property {@link DateTimeUtil#METRICS_ENABLED_PROPERTY} set to "true", or at any time with
+ * {@link #setEnabled(boolean)}, both of which also register the MXBean.</p>
+ * <p>The number of patterns and zones measured is bounded by the system property
+ * {@link DateTimeUtil#METRICS_MAX_KEYS_PROPERTY}, {@link DateTimeUtil#DEFAULT_METRICS_MAX_KEYS} by default and at most
+ * 65536. Once it is reached, the calls with a new family, pattern and zone are added to a single snapshot per family
+ * whose {@link DateTimeMetricsSnapshot#isOther()} is true.</p>
+ * <p>Example:</p>
+ * <code>
+ * DateTimeMetrics.setEnabled( true );
+ * List&lt;DateTimeMetricsSnapshot&gt; result = DateTimeMetrics.getMetrics();
+ * </code>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see com.indenaiten.code.util.DateTimeMetricsMXBean
+ * @see com.indenaiten.code.util.DateTimeMetricsListener
+ */
+public final class DateTimeMetrics{
+
+    public static final String OBJECT_NAME = "com.indenaiten.code.util:type=DateTimeMetrics";
+
+    //Value returned by "start()" while the metrics are disabled.
+    private static final long DISABLED = Long.MIN_VALUE;
+    private static final int MAX_KEYS = DateTimeMetrics.initialMaxKeys();
+    //Copied on every change, so the calls iterate over them without creating an iterator.
+    private static volatile DateTimeMetricsListener[] listeners = new DateTimeMetricsListener[ 0 ];
+    private static volatile Table table = new Table( MAX_KEYS );
+    private static volatile boolean enabled;
+    private static volatile boolean registered;
+
+    static{
+        if( Boolean.getBoolean( DateTimeUtil.METRICS_ENABLED_PROPERTY ) ){
+            DateTimeMetrics.enabled = true;
+            try{
+                DateTimeMetrics.registerMXBean();
+            }
+            catch( IllegalStateException e ){
+                //The metrics are still available with "getMetrics()".
+            }
+        }
+    }
+
+    /**
+     * Private constructor to avoid instantiating the class.
+     */
+    private DateTimeMetrics(){
+        throw new IllegalStateException( "Utility class" );
+    }
+
+    /**
+     * <p>Checks if the calls of "DateTimeUtil" are being measured.</p>
+     * <p>Example:</p>
+     * <code>
+     * boolean result = DateTimeMetrics.isEnabled();
+     * </code>
+     *
+     * @return True if the metrics are enabled.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     */
+    public static boolean isEnabled(){
+        return DateTimeMetrics.enabled;
+    }
+
+    /**
+     * <p>Enables or disables the metrics.</p>
+     * <p>Enabling them registers the MXBean {@link #OBJECT_NAME} in the platform "MBeanServer" if it is not registered
+     * yet. The metrics measured so far are kept when they are disabled.</p>
+     * <p>Example:</p>
+     * <code>
+     * DateTimeMetrics.setEnabled( true );
+     * </code>
+     *
+     * @param enabledIn True to measure the calls of "DateTimeUtil", false to stop.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     */
+    public static void setEnabled( boolean enabledIn ){
+        if( enabledIn ){
+            DateTimeMetrics.registerMXBean();
+        }
+        DateTimeMetrics.enabled = enabledIn;
+    }
+
+    /**
+     * <p>Registers the MXBean {@link #OBJECT_NAME} in the platform "MBeanServer", so the metrics can be enabled from a
+     * JMX console. It does nothing if it is already registered.</p>
+     * <p>Example:</p>
+     * <code>
+     * DateTimeMetrics.registerMXBean();
+     * </code>
+     *
+     * @throws IllegalStateException If the MXBean cannot be registered.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.lang.management.ManagementFactory#getPlatformMBeanServer()
+     */
+    public static synchronized void registerMXBean(){
+        if( DateTimeMetrics.registered ){
+            return;
+        }
+        try{
+            final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            server.registerMBean( new MXBean(), new ObjectName( OBJECT_NAME ) );
+        }
+        catch( InstanceAlreadyExistsException e ){
+            //Registered by another copy of the library in a different class loader.
+        }
+        catch( JMException e ){
+            throw new IllegalStateException( "The MXBean " + OBJECT_NAME + " cannot be registered", e );
+        }
+        DateTimeMetrics.registered = true;
+    }
+
+    /**
+     * <p>Gets the metrics of every method family, pattern and zone measured since the last reset.</p>
+     * <p>Example:</p>
+     * <code>
+     * List&lt;DateTimeMetricsSnapshot&gt; result = DateTimeMetrics.getMetrics();
+     * </code>
+     *
+     * @return A new list of snapshots.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     */
+    public static List<DateTimeMetricsSnapshot> getMetrics(){
+        final Table current = DateTimeMetrics.table;
+        final List<DateTimeMetricsSnapshot> result = new ArrayList<>( current.size.get() + current.others.size() );
+        for( int i = 0; i < current.slots.length(); i++ ){
+            final Metrics metrics = current.slots.get( i );
+            if( metrics != null ){
+                result.add( metrics.snapshot() );
+            }
+        }
+        for( final Metrics metrics : current.others.values() ){
+            result.add( metrics.snapshot() );
+        }
+        return result;
+    }
+
+    /**
+     * <p>Discards the metrics measured so far.</p>
+     * <p>Example:</p>
+     * <code>
+     * DateTimeMetrics.reset();
+     * </code>
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     */
+    public static void reset(){
+        DateTimeMetrics.table = new Table( MAX_KEYS );
+    }
+
+    /**
+     * <p>Adds a listener that receives every measured call.</p>
+     * <p>Example:</p>
+     * <code>
+     * DateTimeMetrics.addListener( ( family, pattern, zoneId, nanos, failure ) -&gt; timer( family ).record( nanos ) );
+     * </code>
+     *
+     * @param listenerIn The "DateTimeMetricsListener" object.
+     *
+     * @throws NullPointerException If "listenerIn" is null.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     */
+    public static synchronized void addListener( DateTimeMetricsListener listenerIn ){
+        Objects.requireNonNull( listenerIn, "listener" );
+        final DateTimeMetricsListener[] result = Arrays.copyOf( DateTimeMetrics.listeners, DateTimeMetrics.listeners.length + 1 );
+        result[ result.length - 1 ] = listenerIn;
+        DateTimeMetrics.listeners = result;
+    }
+
+    /**
+     * <p>Removes a listener added with {@link #addListener(DateTimeMetricsListener)}.</p>
+     * <p>Example:</p>
+     * <code>
+     * DateTimeMetrics.removeListener( listener );
+     * </code>
+     *
+     * @param listenerIn The "DateTimeMetricsListener" object.
+     *
+     * @return True if the listener was added.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     */
+    public static synchronized boolean removeListener( DateTimeMetricsListener listenerIn ){
+        final DateTimeMetricsListener[] current = DateTimeMetrics.listeners;
+        for( int i = 0; i < current.length; i++ ){
+            if( current[ i ].equals( listenerIn ) ){
+                final DateTimeMetricsListener[] result = new DateTimeMetricsListener[ current.length - 1 ];
+                System.arraycopy( current, 0, result, 0, i );
+                System.arraycopy( current, i + 1, result, i, current.length - i - 1 );
+                DateTimeMetrics.listeners = result;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * <p>Starts measuring a call.</p>
+     *
+     * @return The current "System.nanoTime()", or a marker value if the metrics are disabled.
+     */
+    static long start(){
+        return DateTimeMetrics.enabled ? System.nanoTime() : DISABLED;
+    }
+
+    /**
+     * <p>Records a call that returned a value.</p>
+     *
+     * @param startIn The value returned by {@link #start()}.
+     * @param familyIn The method family.
+     * @param patternIn The pattern, or null if the method has no pattern.
+     * @param zoneIdIn The "ZoneId" object, or null if it was not given.
+     * @param resultIn The result of the call.
+     * @param <T> The type of the result.
+     *
+     * @return "resultIn".
+     */
+    static <T> T success( long startIn, String familyIn, String patternIn, ZoneId zoneIdIn, T resultIn ){
+        if( startIn != DISABLED ){
+            DateTimeMetrics.record( startIn, familyIn, patternIn, zoneIdIn, null );
+        }
+        return resultIn;
+    }
+
+    /**
+     * <p>Records a call that returned a "long" value, without boxing it.</p>
+     *
+     * @see #success(long, String, String, ZoneId, Object)
+     */
+    static long success( long startIn, String familyIn, String patternIn, ZoneId zoneIdIn, long resultIn ){
+        if( startIn != DISABLED ){
+            DateTimeMetrics.record( startIn, familyIn, patternIn, zoneIdIn, null );
+        }
+        return resultIn;
+    }
+
+    /**
+     * <p>Records a call that returned an "int" value, without boxing it.</p>
+     *
+     * @see #success(long, String, String, ZoneId, Object)
+     */
+    static int success( long startIn, String familyIn, String patternIn, ZoneId zoneIdIn, int resultIn ){
+        if( startIn != DISABLED ){
+            DateTimeMetrics.record( startIn, familyIn, patternIn, zoneIdIn, null );
+        }
+        return resultIn;
+    }
+
+    /**
+     * <p>Records a call that returned no value.</p>
+     *
+     * @see #success(long, String, String, ZoneId, Object)
+     */
+    static void success( long startIn, String familyIn, String patternIn, ZoneId zoneIdIn ){
+        if( startIn != DISABLED ){
+            DateTimeMetrics.record( startIn, familyIn, patternIn, zoneIdIn, null );
+        }
+    }
+
+    /**
+     * <p>Records a call that threw an exception.</p>
+     *
+     * @param startIn The value returned by {@link #start()}.
+     * @param familyIn The method family.
+     * @param patternIn The pattern, or null if the method has no pattern.
+     * @param zoneIdIn The "ZoneId" object, or null if it was not given.
+     * @param failureIn The exception thrown by the call.
+     *
+     * @return "failureIn", to be thrown again by the caller.
+     */
+    static RuntimeException failure( long startIn, String familyIn, String patternIn, ZoneId zoneIdIn, RuntimeException failureIn ){
+        if( startIn != DISABLED ){
+            DateTimeMetrics.record( startIn, familyIn, patternIn, zoneIdIn, failureIn );
+        }
+        return failureIn;
+    }
+
+    /**
+     * <p>Adds a call to the metrics of its family, pattern and zone and notifies the listeners.</p>
+     */
+    private static void record( long startIn, String familyIn, String patternIn, ZoneId zoneIdIn, RuntimeException failureIn ){
+        final long nanos = System.nanoTime() - startIn;
+        DateTimeMetrics.table.metrics( familyIn, patternIn, zoneIdIn ).record( nanos, failureIn != null );
+        for( final DateTimeMetricsListener listener : DateTimeMetrics.listeners ){
+            try{
+                listener.onCall( familyIn, patternIn, zoneIdIn, nanos, failureIn );
+            }
+            catch( RuntimeException e ){
+                //A failing listener must not make the measured call fail.
+            }
+        }
+    }
+
+    /**
+     * <p>Reads the maximum number of keys from its system property, falling back to the default when it is below one.</p>
+     */
+    private static int initialMaxKeys(){
+        final int maxKeys = Integer.getInteger( DateTimeUtil.METRICS_MAX_KEYS_PROPERTY, DateTimeUtil.DEFAULT_METRICS_MAX_KEYS );
+        return maxKeys < 1 ? DateTimeUtil.DEFAULT_METRICS_MAX_KEYS : Math.min( maxKeys, 1 << 16 );
+    }
+
+    /**
+     * <p>Metrics of every method family, pattern and zone, in an open addressing table with at least twice as many
+     * slots as keys, so it never grows and is looked up by the fields of the call without creating any key object.</p>
+     * <p>Slots are only filled with "compareAndSet" and never emptied: a reset replaces the whole table.</p>
+     */
+    private static final class Table{
+        private final int maxKeys;
+        private final AtomicReferenceArray<Metrics> slots;
+        private final AtomicInteger size = new AtomicInteger();
+        private final ConcurrentMap<String, Metrics> others = new ConcurrentHashMap<>();
+
+        private Table( int maxKeysIn ){
+            this.maxKeys = maxKeysIn;
+            this.slots = new AtomicReferenceArray<>( Integer.highestOneBit( maxKeysIn ) << 2 );
+        }
+
+        /**
+         * @return The metrics of the family, pattern and zone, or the ones of every other key of the family once the
+         * table is full.
+         */
+        private Metrics metrics( String familyIn, String patternIn, ZoneId zoneIdIn ){
+            final int hash = ( familyIn.hashCode() * 31 + Objects.hashCode( patternIn ) ) * 31 + Objects.hashCode( zoneIdIn );
+            final int mask = this.slots.length() - 1;
+            int index = ( hash ^ ( hash >>> 16 ) ) & mask;
+            while( true ){
+                Metrics metrics = this.slots.get( index );
+                if( metrics == null ){
+                    if( !this.reserve() ){
+                        return this.other( familyIn );
+                    }
+                    final Metrics created = new Metrics( familyIn, patternIn, zoneIdIn, hash, false );
+                    if( this.slots.compareAndSet( index, null, created ) ){
+                        return created;
+                    }
+                    this.size.decrementAndGet();
+                    metrics = this.slots.get( index );
+                }
+                if( metrics.matches( familyIn, patternIn, zoneIdIn, hash ) ){
+                    return metrics;
+                }
+                index = ( index + 1 ) & mask;
+            }
+        }
+
+        /**
+         * @return True if there was room for one more key, which is then counted.
+         */
+        private boolean reserve(){
+            int current;
+            do{
+                current = this.size.get();
+                if( current >= this.maxKeys ){
+                    return false;
+                }
+            }
+            while( !this.size.compareAndSet( current, current + 1 ) );
+            return true;
+        }
+
+        private Metrics other( String familyIn ){
+            final Metrics metrics = this.others.get( familyIn );
+            if( metrics != null ){
+                return metrics;
+            }
+            return this.others.computeIfAbsent( familyIn, family -> new Metrics( family, null, null, 0, true ) );
+        }
+    }
+
+    /**
+     * <p>Lock-free counters and latency histogram of a method family, pattern and zone.</p>
+     */
+    private static final class Metrics{
+        private final String family;
+        private final String pattern;
+        private final ZoneId zoneId;
+        private final int hash;
+        private final boolean other;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final LatencyHistogram histogram = new LatencyHistogram();
+
+        private Metrics( String familyIn, String patternIn, ZoneId zoneIdIn, int hashIn, boolean otherIn ){
+            this.family = familyIn;
+            this.pattern = patternIn;
+            this.zoneId = zoneIdIn;
+            this.hash = hashIn;
+            this.other = otherIn;
+        }
+
+        private boolean matches( String familyIn, String patternIn, ZoneId zoneIdIn, int hashIn ){
+            return this.hash == hashIn && this.family.equals( familyIn ) && Objects.equals( this.pattern, patternIn )
+                   && Objects.equals( this.zoneId, zoneIdIn );
+        }
+
+        private void record( long nanosIn, boolean failedIn ){
+            this.calls.increment();
+            if( failedIn ){
+                this.failures.increment();
+            }
+            this.totalNanos.add( nanosIn );
+            this.histogram.record( nanosIn );
+            long max = this.maxNanos.get();
+            while( nanosIn > max && !this.maxNanos.compareAndSet( max, nanosIn ) ){
+                max = this.maxNanos.get();
+            }
+        }
+
+        private DateTimeMetricsSnapshot snapshot(){
+            return new DateTimeMetricsSnapshot( this.family, this.pattern, this.zoneId == null ? null : this.zoneId.getId(), this.other,
+                                                this.calls.sum(), this.failures.sum(), this.totalNanos.sum(), this.maxNanos.get(),
+                                                this.histogram.getCounts() );
+        }
+    }
+
+    /**
+     * <p>Implementation of the MXBean, delegating on the static methods.</p>
+     */
+    private static final class MXBean implements DateTimeMetricsMXBean{
+        @Override
+        public boolean isEnabled(){
+            return DateTimeMetrics.isEnabled();
+        }
+
+        @Override
+        public void setEnabled( boolean enabledIn ){
+            DateTimeMetrics.setEnabled( enabledIn );
+        }
+
+        @Override
+        public List<DateTimeMetricsSnapshot> getMetrics(){
+            return DateTimeMetrics.getMetrics();
+        }
+
+        @Override
+        public void reset(){
+            DateTimeMetrics.reset();
+        }
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.indenaiten.code.util;
+
+import java.time.ZoneId;
+
+
+/**
+ * <p>Receives every call measured by "DateTimeMetrics", to forward it to another metrics system.</p>
+ * <p>Listeners are called synchronously in the thread of the measured call, only while the metrics are enabled, so
+ * they should be fast and thread-safe. Exceptions thrown by a listener are ignored.</p>
+ * <p>Example:</p>
+ * <code>
+ * DateTimeMetrics.addListener( ( family, pattern, zoneId, nanos, failure ) -&gt; timer( family ).record( nanos ) );
+ * </code>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see com.indenaiten.code.util.DateTimeMetrics
+ */
+@FunctionalInterface
+public interface DateTimeMetricsListener{
+
+    /**
+     * <p>Called after every measured call of "DateTimeUtil".</p>
+     *
+     * @param familyIn The method family, like "getLocalDateFromString" or "formatDate(LocalDate)".
+     * @param patternIn The pattern of the call, or null if the method has no pattern.
+     * @param zoneIdIn The "ZoneId" of the call, or null if it was not given.
+     * @param nanosIn The latency of the call in nanoseconds.
+     * @param failureIn The exception thrown by the call, or null if it succeeded.
+     */
+    void onCall( String familyIn, String patternIn, ZoneId zoneIdIn, long nanosIn, RuntimeException failureIn );
+
+}
@@ -0,0 +1,36 @@
+package com.indenaiten.code.util;
+
+import java.util.List;
+
+
+/**
+ * <p>Management interface of "DateTimeMetrics", registered in the platform "MBeanServer" with the name
+ * {@link DateTimeMetrics#OBJECT_NAME}.</p>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see com.indenaiten.code.util.DateTimeMetrics
+ * @see java.lang.management.ManagementFactory#getPlatformMBeanServer()
+ */
+public interface DateTimeMetricsMXBean{
+
+    /**
+     * @return True if the calls of "DateTimeUtil" are being measured.
+     */
+    boolean isEnabled();
+
+    /**
+     * @param enabledIn True to measure the calls of "DateTimeUtil", false to stop.
+     */
+    void setEnabled( boolean enabledIn );
+
+    /**
+     * @return The metrics of every method family, pattern and zone measured since the last reset.
+     */
+    List<DateTimeMetricsSnapshot> getMetrics();
+
+    /**
+     * <p>Discards the metrics measured so far.</p>
+     */
+    void reset();
+
+}
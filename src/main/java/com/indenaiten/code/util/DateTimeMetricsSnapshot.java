@@ -0,0 +1,152 @@
+package com.indenaiten.code.util;
+
+import java.util.Arrays;
+
+
+/**
+ * <p>Metrics of a method family, pattern and zone at a point in time.</p>
+ * <p>Latencies are taken from a histogram with power of two buckets, so the percentiles are the upper limit of their
+ * bucket.</p>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see com.indenaiten.code.util.DateTimeMetrics
+ */
+public final class DateTimeMetricsSnapshot{
+
+    private final String family;
+    private final String pattern;
+    private final String zoneId;
+    private final boolean other;
+    private final long calls;
+    private final long failures;
+    private final long totalNanos;
+    private final long maxNanos;
+    private final long[] histogram;
+
+    /**
+     * <p>Creates a snapshot.</p>
+     *
+     * @param familyIn The method family.
+     * @param patternIn The pattern, or null if the method has no pattern.
+     * @param zoneIdIn The "ZoneId" as "String" object, or null if it was not given.
+     * @param otherIn True if the snapshot adds up the calls of the keys over the limit of the family.
+     * @param callsIn The number of calls.
+     * @param failuresIn The number of calls that threw an exception.
+     * @param totalNanosIn The sum of the latencies in nanoseconds.
+     * @param maxNanosIn The greatest latency in nanoseconds.
+     * @param histogramIn The counts of every bucket of the latency histogram.
+     */
+    DateTimeMetricsSnapshot( String familyIn, String patternIn, String zoneIdIn, boolean otherIn, long callsIn, long failuresIn,
+                             long totalNanosIn, long maxNanosIn, long[] histogramIn ){
+        this.family = familyIn;
+        this.pattern = patternIn;
+        this.zoneId = zoneIdIn;
+        this.other = otherIn;
+        this.calls = callsIn;
+        this.failures = failuresIn;
+        this.totalNanos = totalNanosIn;
+        this.maxNanos = maxNanosIn;
+        this.histogram = histogramIn;
+    }
+
+    /**
+     * @return The method family, like "getLocalDateFromString" or "formatDate(LocalDate)".
+     */
+    public String getFamily(){
+        return this.family;
+    }
+
+    /**
+     * @return The pattern, or null if the method has no pattern or the snapshot is the one of the other keys.
+     */
+    public String getPattern(){
+        return this.pattern;
+    }
+
+    /**
+     * @return The "ZoneId" as "String" object, or null if it was not given or the snapshot is the one of the other keys.
+     */
+    public String getZoneId(){
+        return this.zoneId;
+    }
+
+    /**
+     * @return True if the snapshot adds up the calls of every pattern and zone of the family measured after reaching
+     * the limit {@link DateTimeUtil#METRICS_MAX_KEYS_PROPERTY}.
+     */
+    public boolean isOther(){
+        return this.other;
+    }
+
+    /**
+     * @return The number of calls.
+     */
+    public long getCalls(){
+        return this.calls;
+    }
+
+    /**
+     * @return The number of calls that threw an exception.
+     */
+    public long getFailures(){
+        return this.failures;
+    }
+
+    /**
+     * @return The sum of the latencies in nanoseconds.
+     */
+    public long getTotalNanos(){
+        return this.totalNanos;
+    }
+
+    /**
+     * @return The mean latency in nanoseconds, or 0 if there are no calls.
+     */
+    public long getMeanNanos(){
+        return this.calls == 0 ? 0 : this.totalNanos / this.calls;
+    }
+
+    /**
+     * @return The greatest latency in nanoseconds.
+     */
+    public long getMaxNanos(){
+        return this.maxNanos;
+    }
+
+    /**
+     * @return The median latency in nanoseconds.
+     */
+    public long getP50Nanos(){
+        return LatencyHistogram.percentile( this.histogram, 50 );
+    }
+
+    /**
+     * @return The 90th percentile of the latency in nanoseconds.
+     */
+    public long getP90Nanos(){
+        return LatencyHistogram.percentile( this.histogram, 90 );
+    }
+
+    /**
+     * @return The 99th percentile of the latency in nanoseconds.
+     */
+    public long getP99Nanos(){
+        return LatencyHistogram.percentile( this.histogram, 99 );
+    }
+
+    /**
+     * @return The counts of the latency histogram: bucket "0" counts the latencies of 0 ns and bucket "i" the ones from
+     * 2^(i-1) ns included to 2^i ns excluded.
+     */
+    public long[] getHistogram(){
+        return this.histogram.clone();
+    }
+
+    @Override
+    public String toString(){
+        return "DateTimeMetricsSnapshot{family=" + this.family + ", pattern=" + this.pattern + ", zoneId=" + this.zoneId + ", other=" + this.other
+               + ", calls=" + this.calls + ", failures=" + this.failures + ", meanNanos=" + this.getMeanNanos()
+               + ", p99Nanos=" + this.getP99Nanos() + ", maxNanos=" + this.maxNanos + ", histogram=" + Arrays.toString( this.histogram ) + "}";
+    }
+
+}
@@ -0,0 +1,674 @@
+package com.indenaiten.code.util;
+
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.SortedMap;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.stream.Collector;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+
+/**
+ * <p>Adapters of the "getXxxFromString" and "formatXxx" methods of "DateTimeUtil" for "Stream" objects.</p>
+ * <p>The pattern is compiled once when the adapter is created, and every element is parsed or formatted lazily when
+ * the stream is consumed. The sources whose size is not known, such as the "Iterator" objects or the lines of a file,
+ * are split in batches of a fixed number of elements, so their streams scale when they are made parallel.</p>
+ * <p>The collectors find the first and last day and count the elements by day keeping only primitive values, so the
+ * parsed "LocalDate" objects are not kept.</p>
+ * <p>Example:</p>
+ * <code>
+ * long max = DateTimeStreams.getEpochMillisFromStrings( lines, "dd/MM/yyyy HH:mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ) ).parallel().max().getAsLong();
+ * SortedMap&lt;LocalDate, Long&gt; counts = lines.parallel().collect( DateTimeStreams.countByLocalDate( "dd/MM/yyyy HH:mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ) ) );
+ * </code>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see com.indenaiten.code.util.DateTimeUtil
+ * @see java.util.stream.Stream
+ */
+public final class DateTimeStreams{
+
+    static final int BATCH_SIZE = 1024;
+
+    /**
+     * Private constructor to avoid instantiating the class.
+     */
+    private DateTimeStreams(){
+        throw new IllegalStateException( "Utility class" );
+    }
+
+    /**
+     * <p>Converts a "Stream" of date-times in "String" format to a "LongStream" of the number of milliseconds since
+     * 1970-01-01T00:00:00Z.</p>
+     * <p>"ZoneId" and "Locale" are set as the system default and "String" date-time formatter is set as default ("dd/MM/yyyy HH:mm").</p>
+     * <p>Example:</p>
+     * <code>
+     * LongStream result = DateTimeStreams.getEpochMillisFromStrings( Stream.of( "25/06/2021 17:36" ) );
+     * </code>
+     *
+     * @param dateTimesIn The date-times as "String" objects with pattern "dd/MM/yyyy HH:mm".
+     *
+     * @return The epoch milliseconds, computed lazily.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see com.indenaiten.code.util.DateTimeUtil#getEpochMillisFromString(String)
+     */
+    public static LongStream getEpochMillisFromStrings( Stream<? extends CharSequence> dateTimesIn ){
+        return DateTimeStreams.getEpochMillisFromStrings( dateTimesIn, DateTimeUtil.DEFAULT_DATE_TIME_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID,
+                DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Converts a "Stream" of date-times in "String" format with a given date-time pattern, "ZoneId" and "Locale" to a
+     * "LongStream" of the number of milliseconds since 1970-01-01T00:00:00Z.</p>
+     * <p>Every element gets the same value as "DateTimeUtil.getEpochMillisFromString", and an element that cannot be
+     * parsed throws its "DateTimeParseException" when the stream reaches it. The returned stream is parallel if
+     * "dateTimesIn" is parallel and closes "dateTimesIn" when it is closed.</p>
+     * <p>Example:</p>
+     * <code>
+     * LongStream result = DateTimeStreams.getEpochMillisFromStrings( Files.lines( path ), "dd/MM/yyyy HH:mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ) );
+     * </code>
+     *
+     * @param dateTimesIn The date-times as "String" objects.
+     * @param patternIn The format pattern of "dateTimesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     *
+     * @return The epoch milliseconds, computed lazily.
+     *
+     * @throws NullPointerException If "dateTimesIn" or "zoneIdIn" is null.
+     * @throws IllegalArgumentException If "patternIn" is not a valid pattern.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see com.indenaiten.code.util.DateTimeUtil#getEpochMillisFromString(String, String, ZoneId, Locale)
+     * @see java.util.stream.LongStream
+     */
+    public static LongStream getEpochMillisFromStrings( Stream<? extends CharSequence> dateTimesIn, String patternIn, ZoneId zoneIdIn, Locale localeIn ){
+        final CompiledPattern pattern = DateTimeStreams.compile( patternIn, zoneIdIn, localeIn );
+        return DateTimeStreams.split( dateTimesIn ).mapToLong( dateTime -> pattern.getEpochMillisFromString( dateTime, zoneIdIn ) );
+    }
+
+    /**
+     * <p>Converts the date-times in "String" format of an "Iterator" to a "LongStream" of the number of milliseconds
+     * since 1970-01-01T00:00:00Z.</p>
+     * <p>"ZoneId" and "Locale" are set as the system default and "String" date-time formatter is set as default ("dd/MM/yyyy HH:mm").</p>
+     * <p>Example:</p>
+     * <code>
+     * LongStream result = DateTimeStreams.getEpochMillisFromStrings( dateTimes.iterator() );
+     * </code>
+     *
+     * @param dateTimesIn The "Iterator" of the date-times as "String" objects with pattern "dd/MM/yyyy HH:mm".
+     *
+     * @return The epoch milliseconds, computed lazily.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see com.indenaiten.code.util.DateTimeUtil#getEpochMillisFromString(String)
+     */
+    public static LongStream getEpochMillisFromStrings( Iterator<? extends CharSequence> dateTimesIn ){
+        return DateTimeStreams.getEpochMillisFromStrings( dateTimesIn, DateTimeUtil.DEFAULT_DATE_TIME_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID,
+                DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Converts the date-times in "String" format of an "Iterator" with a given date-time pattern, "ZoneId" and
+     * "Locale" to a "LongStream" of the number of milliseconds since 1970-01-01T00:00:00Z.</p>
+     * <p>The returned stream is sequential and reads "dateTimesIn" as it is consumed. When it is made parallel, the
+     * elements are taken from "dateTimesIn" in batches that are converted by different threads.</p>
+     * <p>Example:</p>
+     * <code>
+     * LongStream result = DateTimeStreams.getEpochMillisFromStrings( dateTimes.iterator(), "dd/MM/yyyy HH:mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ) );
+     * </code>
+     *
+     * @param dateTimesIn The "Iterator" of the date-times as "String" objects.
+     * @param patternIn The format pattern of "dateTimesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     *
+     * @return The epoch milliseconds, computed lazily.
+     *
+     * @throws NullPointerException If "dateTimesIn" or "zoneIdIn" is null.
+     * @throws IllegalArgumentException If "patternIn" is not a valid pattern.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see com.indenaiten.code.util.DateTimeUtil#getEpochMillisFromString(String, String, ZoneId, Locale)
+     * @see java.util.stream.LongStream
+     */
+    public static LongStream getEpochMillisFromStrings( Iterator<? extends CharSequence> dateTimesIn, String patternIn, ZoneId zoneIdIn, Locale localeIn ){
+        final CompiledPattern pattern = DateTimeStreams.compile( patternIn, zoneIdIn, localeIn );
+        return DateTimeStreams.split( dateTimesIn ).mapToLong( dateTime -> pattern.getEpochMillisFromString( dateTime, zoneIdIn ) );
+    }
+
+    /**
+     * <p>Converts a "Stream" of dates in "String" format to a "Stream" of "LocalDate" objects.</p>
+     * <p>"ZoneId" and "Locale" are set as the system default and "String" date formatter is set as default ("dd/MM/yyyy").</p>
+     * <p>Example:</p>
+     * <code>
+     * Stream&lt;LocalDate&gt; result = DateTimeStreams.getLocalDatesFromStrings( Stream.of( "25/06/2021" ) );
+     * </code>
+     *
+     * @param datesIn The dates as "String" objects with pattern "dd/MM/yyyy".
+     *
+     * @return The dates as "LocalDate" objects, parsed lazily.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see com.indenaiten.code.util.DateTimeUtil#getLocalDateFromString(String)
+     */
+    public static Stream<LocalDate> getLocalDatesFromStrings( Stream<? extends CharSequence> datesIn ){
+        return DateTimeStreams.getLocalDatesFromStrings( datesIn, DateTimeUtil.DEFAULT_DATE_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Converts a "Stream" of dates in "String" format with a given date pattern, "ZoneId" and "Locale" to a "Stream"
+     * of "LocalDate" objects.</p>
+     * <p>Every element gets the same value as "DateTimeUtil.getLocalDateFromString", and an element that cannot be
+     * parsed throws its "DateTimeParseException" when the stream reaches it. The returned stream is parallel if
+     * "datesIn" is parallel and closes "datesIn" when it is closed.</p>
+     * <p>Example:</p>
+     * <code>
+     * Stream&lt;LocalDate&gt; result = DateTimeStreams.getLocalDatesFromStrings( Files.lines( path ), "dd/MM/yyyy", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ) );
+     * </code>
+     *
+     * @param datesIn The dates as "String" objects.
+     * @param patternIn The format pattern of "datesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     *
+     * @return The dates as "LocalDate" objects, parsed lazily.
+     *
+     * @throws NullPointerException If "datesIn" or "zoneIdIn" is null.
+     * @throws IllegalArgumentException If "patternIn" is not a valid pattern.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see com.indenaiten.code.util.DateTimeUtil#getLocalDateFromString(String, String, ZoneId, Locale)
+     * @see java.time.LocalDate
+     */
+    public static Stream<LocalDate> getLocalDatesFromStrings( Stream<? extends CharSequence> datesIn, String patternIn, ZoneId zoneIdIn, Locale localeIn ){
+        final CompiledPattern pattern = DateTimeStreams.compile( patternIn, zoneIdIn, localeIn );
+        return DateTimeStreams.split( datesIn ).map( date -> pattern.getLocalDateFromString( date, zoneIdIn ) );
+    }
+
+    /**
+     * <p>Converts the dates in "String" format of an "Iterator" to a "Stream" of "LocalDate" objects.</p>
+     * <p>"ZoneId" and "Locale" are set as the system default and "String" date formatter is set as default ("dd/MM/yyyy").</p>
+     * <p>Example:</p>
+     * <code>
+     * Stream&lt;LocalDate&gt; result = DateTimeStreams.getLocalDatesFromStrings( dates.iterator() );
+     * </code>
+     *
+     * @param datesIn The "Iterator" of the dates as "String" objects with pattern "dd/MM/yyyy".
+     *
+     * @return The dates as "LocalDate" objects, parsed lazily.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see com.indenaiten.code.util.DateTimeUtil#getLocalDateFromString(String)
+     */
+    public static Stream<LocalDate> getLocalDatesFromStrings( Iterator<? extends CharSequence> datesIn ){
+        return DateTimeStreams.getLocalDatesFromStrings( datesIn, DateTimeUtil.DEFAULT_DATE_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Converts the dates in "String" format of an "Iterator" with a given date pattern, "ZoneId" and "Locale" to a
+     * "Stream" of "LocalDate" objects.</p>
+     * <p>The returned stream is sequential and reads "datesIn" as it is consumed. When it is made parallel, the elements
+     * are taken from "datesIn" in batches that are converted by different threads.</p>
+     * <p>Example:</p>
+     * <code>
+     * Stream&lt;LocalDate&gt; result = DateTimeStreams.getLocalDatesFromStrings( dates.iterator(), "dd/MM/yyyy", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ) );
+     * </code>
+     *
+     * @param datesIn The "Iterator" of the dates as "String" objects.
+     * @param patternIn The format pattern of "datesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     *
+     * @return The dates as "LocalDate" objects, parsed lazily.
+     *
+     * @throws NullPointerException If "datesIn" or "zoneIdIn" is null.
+     * @throws IllegalArgumentException If "patternIn" is not a valid pattern.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see com.indenaiten.code.util.DateTimeUtil#getLocalDateFromString(String, String, ZoneId, Locale)
+     * @see java.time.LocalDate
+     */
+    public static Stream<LocalDate> getLocalDatesFromStrings( Iterator<? extends CharSequence> datesIn, String patternIn, ZoneId zoneIdIn, Locale localeIn ){
+        final CompiledPattern pattern = DateTimeStreams.compile( patternIn, zoneIdIn, localeIn );
+        return DateTimeStreams.split( datesIn ).map( date -> pattern.getLocalDateFromString( date, zoneIdIn ) );
+    }
+
+    /**
+     * <p>Formats a "LongStream" of the number of milliseconds since 1970-01-01T00:00:00Z to a "Stream" of "String"
+     * objects.</p>
+     * <p>"ZoneId" and "Locale" are set as the system default and "String" date-time formatter is set as default ("dd/MM/yyyy HH:mm").</p>
+     * <p>Example:</p>
+     * <code>
+     * Stream&lt;String&gt; result = DateTimeStreams.formatEpochMillis( LongStream.of( System.currentTimeMillis() ) );
+     * </code>
+     *
+     * @param epochMillisIn The epoch milliseconds.
+     *
+     * @return The date-times formatted as "String" objects, formatted lazily.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see com.indenaiten.code.util.DateTimeUtil#formatEpochMillis(long)
+     */
+    public static Stream<String> formatEpochMillis( LongStream epochMillisIn ){
+        return DateTimeStreams.formatEpochMillis( epochMillisIn, DateTimeUtil.DEFAULT_DATE_TIME_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Formats a "LongStream" of the number of milliseconds since 1970-01-01T00:00:00Z to a "Stream" of "String"
+     * objects with a given pattern, "ZoneId" and "Locale".</p>
+     * <p>Every element gets the same value as "DateTimeUtil.formatEpochMillis". The returned stream keeps the splitting
+     * and the parallelism of "epochMillisIn" and closes it when it is closed.</p>
+     * <p>Example:</p>
+     * <code>
+     * Stream&lt;String&gt; result = DateTimeStreams.formatEpochMillis( epochMillis, "yyyy-MM-dd'T'HH:mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ) );
+     * </code>
+     *
+     * @param epochMillisIn The epoch milliseconds.
+     * @param formatterIn The format pattern to format "epochMillisIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     *
+     * @return The date-times formatted as "String" objects, formatted lazily.
+     *
+     * @throws NullPointerException If "epochMillisIn" or "zoneIdIn" is null.
+     * @throws IllegalArgumentException If "formatterIn" is not a valid pattern.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see com.indenaiten.code.util.DateTimeUtil#formatEpochMillis(long, String, ZoneId, Locale)
+     * @see java.util.stream.LongStream
+     */
+    public static Stream<String> formatEpochMillis( LongStream epochMillisIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn ){
+        Objects.requireNonNull( epochMillisIn, "stream" );
+        final CompiledPattern formatter = DateTimeStreams.compile( formatterIn, zoneIdIn, localeIn );
+        return epochMillisIn.mapToObj( epochMilli -> formatter.formatEpochMillis( epochMilli, zoneIdIn ) );
+    }
+
+    /**
+     * <p>Formats a "Stream" of "LocalDate" objects to a "Stream" of "String" objects.</p>
+     * <p>"ZoneId" and "Locale" are set as the system default and "String" date formatter is set as default ("dd/MM/yyyy").</p>
+     * <p>Example:</p>
+     * <code>
+     * Stream&lt;String&gt; result = DateTimeStreams.formatDates( Stream.of( LocalDate.now() ) );
+     * </code>
+     *
+     * @param datesIn The dates as "LocalDate" objects.
+     *
+     * @return The dates formatted as "String" objects, formatted lazily.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see com.indenaiten.code.util.DateTimeUtil#formatDate(LocalDate)
+     */
+    public static Stream<String> formatDates( Stream<LocalDate> datesIn ){
+        return DateTimeStreams.formatDates( datesIn, DateTimeUtil.DEFAULT_DATE_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Formats a "Stream" of "LocalDate" objects to a "Stream" of "String" objects with a given pattern, "ZoneId" and
+     * "Locale".</p>
+     * <p>Every element gets the same value as "DateTimeUtil.formatDate". The returned stream is parallel if "datesIn"
+     * is parallel and closes "datesIn" when it is closed.</p>
+     * <p>Example:</p>
+     * <code>
+     * Stream&lt;String&gt; result = DateTimeStreams.formatDates( dates, "yyyy-MM-dd", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ) );
+     * </code>
+     *
+     * @param datesIn The dates as "LocalDate" objects.
+     * @param formatterIn The format pattern to format "datesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     *
+     * @return The dates formatted as "String" objects, formatted lazily.
+     *
+     * @throws NullPointerException If "datesIn" or "zoneIdIn" is null.
+     * @throws IllegalArgumentException If "formatterIn" is not a valid pattern.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see com.indenaiten.code.util.DateTimeUtil#formatDate(LocalDate, String, ZoneId, Locale)
+     * @see java.time.LocalDate
+     */
+    public static Stream<String> formatDates( Stream<LocalDate> datesIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn ){
+        final CompiledPattern formatter = DateTimeStreams.compile( formatterIn, zoneIdIn, localeIn );
+        return DateTimeStreams.split( datesIn ).map( date -> formatter.formatDate( date, zoneIdIn ) );
+    }
+
+    /**
+     * <p>Returns a "Collector" that finds the earliest day of the dates in "String" format.</p>
+     * <p>"ZoneId" and "Locale" are set as the system default and "String" date formatter is set as default ("dd/MM/yyyy").</p>
+     * <p>Example:</p>
+     * <code>
+     * Optional&lt;LocalDate&gt; result = dates.stream().collect( DateTimeStreams.minLocalDate() );
+     * </code>
+     *
+     * @return The "Collector" object, whose result is empty if there are no elements.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #minLocalDate(String, ZoneId, Locale)
+     */
+    public static Collector<CharSequence, ?, Optional<LocalDate>> minLocalDate(){
+        return DateTimeStreams.minLocalDate( DateTimeUtil.DEFAULT_DATE_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Returns a "Collector" that finds the earliest day of the dates or date-times in "String" format with a given
+     * pattern, "ZoneId" and "Locale".</p>
+     * <p>The elements are parsed to their epoch day, like "DateTimeUtil.getEpochDayFromString", and only the lowest one
+     * is kept, so no "LocalDate" object is created but the result. An element that cannot be parsed throws its
+     * "DateTimeParseException".</p>
+     * <p>Example:</p>
+     * <code>
+     * Optional&lt;LocalDate&gt; result = lines.parallel().collect( DateTimeStreams.minLocalDate( "dd/MM/yyyy HH:mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ) ) );
+     * </code>
+     *
+     * @param patternIn The format pattern of the elements.
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     *
+     * @return The "Collector" object, whose result is empty if there are no elements.
+     *
+     * @throws NullPointerException If "zoneIdIn" is null.
+     * @throws IllegalArgumentException If "patternIn" is not a valid pattern.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see com.indenaiten.code.util.DateTimeUtil#getEpochDayFromString(String, String, ZoneId, Locale)
+     * @see java.util.stream.Collector
+     */
+    public static Collector<CharSequence, ?, Optional<LocalDate>> minLocalDate( String patternIn, ZoneId zoneIdIn, Locale localeIn ){
+        final CompiledPattern pattern = DateTimeStreams.compile( patternIn, zoneIdIn, localeIn );
+        return Collector.of( DayRange::new, ( range, text ) -> range.add( pattern.getEpochDayFromString( text, zoneIdIn ) ), DayRange::combine, DayRange::min,
+                             Collector.Characteristics.UNORDERED );
+    }
+
+    /**
+     * <p>Returns a "Collector" that finds the latest day of the dates in "String" format.</p>
+     * <p>"ZoneId" and "Locale" are set as the system default and "String" date formatter is set as default ("dd/MM/yyyy").</p>
+     * <p>Example:</p>
+     * <code>
+     * Optional&lt;LocalDate&gt; result = dates.stream().collect( DateTimeStreams.maxLocalDate() );
+     * </code>
+     *
+     * @return The "Collector" object, whose result is empty if there are no elements.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #maxLocalDate(String, ZoneId, Locale)
+     */
+    public static Collector<CharSequence, ?, Optional<LocalDate>> maxLocalDate(){
+        return DateTimeStreams.maxLocalDate( DateTimeUtil.DEFAULT_DATE_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Returns a "Collector" that finds the latest day of the dates or date-times in "String" format with a given
+     * pattern, "ZoneId" and "Locale".</p>
+     * <p>The elements are parsed to their epoch day, like "DateTimeUtil.getEpochDayFromString", and only the highest
+     * one is kept, so no "LocalDate" object is created but the result. An element that cannot be parsed throws its
+     * "DateTimeParseException".</p>
+     * <p>Example:</p>
+     * <code>
+     * Optional&lt;LocalDate&gt; result = lines.parallel().collect( DateTimeStreams.maxLocalDate( "dd/MM/yyyy HH:mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ) ) );
+     * </code>
+     *
+     * @param patternIn The format pattern of the elements.
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     *
+     * @return The "Collector" object, whose result is empty if there are no elements.
+     *
+     * @throws NullPointerException If "zoneIdIn" is null.
+     * @throws IllegalArgumentException If "patternIn" is not a valid pattern.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see com.indenaiten.code.util.DateTimeUtil#getEpochDayFromString(String, String, ZoneId, Locale)
+     * @see java.util.stream.Collector
+     */
+    public static Collector<CharSequence, ?, Optional<LocalDate>> maxLocalDate( String patternIn, ZoneId zoneIdIn, Locale localeIn ){
+        final CompiledPattern pattern = DateTimeStreams.compile( patternIn, zoneIdIn, localeIn );
+        return Collector.of( DayRange::new, ( range, text ) -> range.add( pattern.getEpochDayFromString( text, zoneIdIn ) ), DayRange::combine, DayRange::max,
+                             Collector.Characteristics.UNORDERED );
+    }
+
+    /**
+     * <p>Returns a "Collector" that counts the dates in "String" format of every day.</p>
+     * <p>"ZoneId" and "Locale" are set as the system default and "String" date formatter is set as default ("dd/MM/yyyy").</p>
+     * <p>Example:</p>
+     * <code>
+     * SortedMap&lt;LocalDate, Long&gt; result = dates.stream().collect( DateTimeStreams.countByLocalDate() );
+     * </code>
+     *
+     * @return The "Collector" object, whose result has the number of elements of every day that has any.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #countByLocalDate(String, ZoneId, Locale)
+     */
+    public static Collector<CharSequence, ?, SortedMap<LocalDate, Long>> countByLocalDate(){
+        return DateTimeStreams.countByLocalDate( DateTimeUtil.DEFAULT_DATE_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Returns a "Collector" that counts the dates or date-times in "String" format of every day with a given
+     * pattern, "ZoneId" and "Locale".</p>
+     * <p>The elements are parsed to their epoch day, like "DateTimeUtil.getEpochDayFromString", and counted in a table of
+     * primitive values, so the "LocalDate" objects are only created for the days of the result. An element that cannot
+     * be parsed throws its "DateTimeParseException".</p>
+     * <p>Example:</p>
+     * <code>
+     * SortedMap&lt;LocalDate, Long&gt; result = lines.parallel().collect( DateTimeStreams.countByLocalDate( "dd/MM/yyyy HH:mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ) ) );
+     * </code>
+     *
+     * @param patternIn The format pattern of the elements.
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     *
+     * @return The "Collector" object, whose result has the number of elements of every day that has any.
+     *
+     * @throws NullPointerException If "zoneIdIn" is null.
+     * @throws IllegalArgumentException If "patternIn" is not a valid pattern.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see com.indenaiten.code.util.DateTimeUtil#getEpochDayFromString(String, String, ZoneId, Locale)
+     * @see java.util.stream.Collector
+     */
+    public static Collector<CharSequence, ?, SortedMap<LocalDate, Long>> countByLocalDate( String patternIn, ZoneId zoneIdIn, Locale localeIn ){
+        final CompiledPattern pattern = DateTimeStreams.compile( patternIn, zoneIdIn, localeIn );
+        return Collector.of( DayCounts::new, ( counts, text ) -> counts.add( pattern.getEpochDayFromString( text, zoneIdIn ), 1 ), DayCounts::combine,
+                             DayCounts::toMap, Collector.Characteristics.UNORDERED );
+    }
+
+    /**
+     * @return "patternIn" compiled with "localeIn", once "zoneIdIn" is checked.
+     */
+    private static CompiledPattern compile( String patternIn, ZoneId zoneIdIn, Locale localeIn ){
+        Objects.requireNonNull( zoneIdIn, "zoneId" );
+        return PatternCache.get( patternIn, localeIn );
+    }
+
+    /**
+     * @return A stream with the elements of "streamIn" that splits in batches when the size of "streamIn" is not known.
+     */
+    private static <T> Stream<T> split( Stream<T> streamIn ){
+        Objects.requireNonNull( streamIn, "stream" );
+        return StreamSupport.stream( DateTimeStreams.split( streamIn.spliterator() ), streamIn.isParallel() ).onClose( streamIn::close );
+    }
+
+    /**
+     * @return A sequential stream with the elements of "iteratorIn" that splits in batches.
+     */
+    private static <T> Stream<T> split( Iterator<T> iteratorIn ){
+        Objects.requireNonNull( iteratorIn, "iterator" );
+        return StreamSupport.stream( DateTimeStreams.split( Spliterators.spliteratorUnknownSize( iteratorIn, Spliterator.ORDERED ) ), false );
+    }
+
+    /**
+     * @return "spliteratorIn" if it splits by itself in parts of known size, or a "BatchSpliterator" over it.
+     */
+    private static <T> Spliterator<T> split( Spliterator<T> spliteratorIn ){
+        return spliteratorIn.hasCharacteristics( Spliterator.SUBSIZED ) ? spliteratorIn : new BatchSpliterator<>( spliteratorIn );
+    }
+
+    /**
+     * <p>"Spliterator" that splits a source of unknown size in batches of "BATCH_SIZE" elements.</p>
+     * <p>The "Spliterator" of an "Iterator" splits in batches that grow with every split, so the elements of a stream of
+     * a few thousand elements end up in one or two batches. Batches of a fixed size give every thread of a parallel
+     * stream a similar share of the elements, and each of them is small enough to be converted in well under a
+     * millisecond.</p>
+     */
+    private static final class BatchSpliterator<T> implements Spliterator<T>, Consumer<T>{
+        private final Spliterator<T> source;
+        private T next;
+
+        private BatchSpliterator( Spliterator<T> sourceIn ){
+            this.source = sourceIn;
+        }
+
+        @Override
+        public void accept( T valueIn ){
+            this.next = valueIn;
+        }
+
+        @Override
+        public boolean tryAdvance( Consumer<? super T> actionIn ){
+            return this.source.tryAdvance( actionIn );
+        }
+
+        @Override
+        public void forEachRemaining( Consumer<? super T> actionIn ){
+            this.source.forEachRemaining( actionIn );
+        }
+
+        @Override
+        public Spliterator<T> trySplit(){
+            final Object[] batch = new Object[ BATCH_SIZE ];
+            int size = 0;
+            while( size < BATCH_SIZE && this.source.tryAdvance( this ) ){
+                batch[ size++ ] = this.next;
+            }
+            this.next = null;
+            if( size == 0 ){
+                return null;
+            }
+            return Spliterators.spliterator( batch, 0, size, this.source.characteristics() & ( Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE ) );
+        }
+
+        @Override
+        public long estimateSize(){
+            return this.source.estimateSize();
+        }
+
+        @Override
+        public int characteristics(){
+            return this.source.characteristics() & ~Spliterator.SUBSIZED;
+        }
+    }
+
+    /**
+     * <p>Lowest and highest epoch day of the elements collected.</p>
+     */
+    private static final class DayRange{
+        private long count;
+        private int min = Integer.MAX_VALUE;
+        private int max = Integer.MIN_VALUE;
+
+        private void add( int epochDayIn ){
+            this.count++;
+            this.min = Math.min( this.min, epochDayIn );
+            this.max = Math.max( this.max, epochDayIn );
+        }
+
+        private DayRange combine( DayRange otherIn ){
+            this.count += otherIn.count;
+            this.min = Math.min( this.min, otherIn.min );
+            this.max = Math.max( this.max, otherIn.max );
+            return this;
+        }
+
+        private Optional<LocalDate> min(){
+            return this.count == 0 ? Optional.empty() : Optional.of( LocalDate.ofEpochDay( this.min ) );
+        }
+
+        private Optional<LocalDate> max(){
+            return this.count == 0 ? Optional.empty() : Optional.of( LocalDate.ofEpochDay( this.max ) );
+        }
+    }
+
+    /**
+     * <p>Number of elements of every epoch day, in an open addressing table of primitive values.</p>
+     * <p>A count of 0 marks a free slot, since every day in the table has at least one element. The slot of a day is
+     * taken from the highest bits of its Fibonacci hash, as many as the bits of the capacity, so the days are spread over
+     * the whole table whatever its size.</p>
+     */
+    private static final class DayCounts{
+        private static final int INITIAL_CAPACITY = 64;
+
+        private int[] days = new int[ INITIAL_CAPACITY ];
+        private long[] counts = new long[ INITIAL_CAPACITY ];
+        private int shift = Integer.numberOfLeadingZeros( INITIAL_CAPACITY - 1 );
+        private int size;
+
+        private void add( int epochDayIn, long countIn ){
+            final int mask = this.days.length - 1;
+            int index = ( epochDayIn * 0x9E3779B9 ) >>> this.shift;
+            while( this.counts[ index ] != 0 && this.days[ index ] != epochDayIn ){
+                index = index + 1 & mask;
+            }
+            if( this.counts[ index ] == 0 ){
+                this.days[ index ] = epochDayIn;
+                this.size++;
+            }
+            this.counts[ index ] += countIn;
+            if( this.size * 2 > this.days.length ){
+                this.grow();
+            }
+        }
+
+        private void grow(){
+            final int[] days = this.days;
+            final long[] counts = this.counts;
+            this.days = new int[ days.length * 2 ];
+            this.counts = new long[ counts.length * 2 ];
+            this.shift--;
+            this.size = 0;
+            for( int i = 0; i < days.length; i++ ){
+                if( counts[ i ] != 0 ){
+                    this.add( days[ i ], counts[ i ] );
+                }
+            }
+        }
+
+        private DayCounts combine( DayCounts otherIn ){
+            for( int i = 0; i < otherIn.days.length; i++ ){
+                if( otherIn.counts[ i ] != 0 ){
+                    this.add( otherIn.days[ i ], otherIn.counts[ i ] );
+                }
+            }
+            return this;
+        }
+
+        private SortedMap<LocalDate, Long> toMap(){
+            final SortedMap<LocalDate, Long> result = new TreeMap<>();
+            for( int i = 0; i < this.days.length; i++ ){
+                if( this.counts[ i ] != 0 ){
+                    result.put( LocalDate.ofEpochDay( this.days[ i ] ), this.counts[ i ] );
+                }
+            }
+            return result;
+        }
+    }
+
+}
@@ -1,12 +1,19 @@
 package com.indenaiten.code.util;
 
+import java.nio.ByteBuffer;
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
-import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Date;
+import java.util.List;
 import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
 
 
 /**
@@ -39,6 +46,74 @@ public abstract class DateTimeUtil{
     public static final String DEFAULT_DATE_TIME_PATTERN = "dd/MM/yyyy HH:mm";
     public static final ZoneId DEFAULT_ZONE_ID = ZoneId.systemDefault();
     public static final Locale DEFAULT_LOCALE = Locale.getDefault();
+    public static final int DEFAULT_PATTERN_CACHE_SIZE = 256;
+    public static final String PATTERN_CACHE_SIZE_PROPERTY = "com.indenaiten.code.util.DateTimeUtil.patternCacheSize";
+    public static final int DEFAULT_PARSE_MEMO_SIZE = 0;
+    public static final String PARSE_MEMO_SIZE_PROPERTY = "com.indenaiten.code.util.DateTimeUtil.parseMemoSize";
+    public static final int DEFAULT_FORMAT_MEMO_SIZE = 64;
+    public static final String FORMAT_MEMO_SIZE_PROPERTY = "com.indenaiten.code.util.DateTimeUtil.formatMemoSize";
+    public static final int DEFAULT_ZONE_TABLE_FIRST_YEAR = 1900;
+    public static final int DEFAULT_ZONE_TABLE_LAST_YEAR = 2100;
+    public static final String ZONE_TABLE_FIRST_YEAR_PROPERTY = "com.indenaiten.code.util.DateTimeUtil.zoneTableFirstYear";
+    public static final String ZONE_TABLE_LAST_YEAR_PROPERTY = "com.indenaiten.code.util.DateTimeUtil.zoneTableLastYear";
+    public static final String METRICS_ENABLED_PROPERTY = "com.indenaiten.code.util.DateTimeUtil.metrics";
+    public static final int DEFAULT_METRICS_MAX_KEYS = 1024;
+    public static final String METRICS_MAX_KEYS_PROPERTY = "com.indenaiten.code.util.DateTimeUtil.metricsMaxKeys";
+    public static final String STACKLESS_EXCEPTIONS_PROPERTY = "com.indenaiten.code.util.DateTimeUtil.stacklessExceptions";
+
+    //METRIC FAMILIES
+    private static final String METRIC_GET_DATE_FROM_LOCAL_DATE = "getDateFromLocalDate";
+    private static final String METRIC_GET_DATE_FROM_LOCAL_DATE_TIME = "getDateFromLocalDateTime";
+    private static final String METRIC_GET_LOCAL_DATE_FROM_DATE = "getLocalDateFromDate";
+    private static final String METRIC_GET_LOCAL_DATE_TIME_FROM_DATE = "getLocalDateTimeFromDate";
+    private static final String METRIC_GET_LOCAL_TIME_FROM_DATE = "getLocalTimeFromDate";
+    private static final String METRIC_GET_LOCAL_DATE_TIME_FROM_LOCAL_DATE = "getLocalDateTimeFromLocalDate";
+    private static final String METRIC_GET_LOCAL_DATE_FROM_LOCAL_DATE_TIME = "getLocalDateFromLocalDateTime";
+    private static final String METRIC_GET_LOCAL_TIME_FROM_LOCAL_DATE_TIME = "getLocalTimeFromLocalDateTime";
+    private static final String METRIC_GET_LOCAL_DATE_FROM_STRING = "getLocalDateFromString";
+    private static final String METRIC_GET_LOCAL_DATE_TIME_FROM_STRING = "getLocalDateTimeFromString";
+    private static final String METRIC_GET_DATE_FROM_STRING = "getDateFromString";
+    private static final String METRIC_GET_DATE_TIME_FROM_STRING = "getDateTimeFromString";
+    private static final String METRIC_GET_EPOCH_MILLIS_FROM_STRING = "getEpochMillisFromString";
+    private static final String METRIC_GET_EPOCH_DAY_FROM_STRING = "getEpochDayFromString";
+    private static final String METRIC_GET_LOCAL_TIME_FROM_STRING = "getLocalTimeFromString";
+    private static final String METRIC_TRY_GET_LOCAL_DATE_FROM_STRING = "tryGetLocalDateFromString";
+    private static final String METRIC_TRY_GET_LOCAL_DATE_TIME_FROM_STRING = "tryGetLocalDateTimeFromString";
+    private static final String METRIC_TRY_GET_LOCAL_TIME_FROM_STRING = "tryGetLocalTimeFromString";
+    private static final String METRIC_GET_LOCAL_DATE_TIME_FROM_TIME_STRING = "getLocalDateTimeFromTimeString";
+    private static final String METRIC_FORMAT_EPOCH_MILLIS = "formatEpochMillis";
+    private static final String METRIC_FORMAT_EPOCH_DAY = "formatEpochDay";
+    private static final String METRIC_FORMAT_DATE_STRING = "formatDate(String)";
+    private static final String METRIC_FORMAT_DATE_TIME_STRING = "formatDateTime(String)";
+    private static final String METRIC_FORMAT_TIME_STRING = "formatTime(String)";
+    private static final String METRIC_FORMAT_DATE_LOCAL_DATE = "formatDate(LocalDate)";
+    private static final String METRIC_FORMAT_DATE_TIME_LOCAL_DATE_TIME = "formatDateTime(LocalDateTime)";
+    private static final String METRIC_FORMAT_DATE_TIME_DATE = "formatDateTime(Date)";
+    private static final String METRIC_FORMAT_DATE_DATE = "formatDate(Date)";
+    private static final String METRIC_FORMAT_TIME_LOCAL_TIME = "formatTime(LocalTime)";
+    private static final String METRIC_GET_DATES_FROM_LOCAL_DATES = "getDatesFromLocalDates";
+    private static final String METRIC_GET_DATES_FROM_LOCAL_DATE_TIMES = "getDatesFromLocalDateTimes";
+    private static final String METRIC_GET_LOCAL_DATES_FROM_DATES = "getLocalDatesFromDates";
+    private static final String METRIC_GET_LOCAL_DATE_TIMES_FROM_DATES = "getLocalDateTimesFromDates";
+    private static final String METRIC_GET_LOCAL_TIMES_FROM_DATES = "getLocalTimesFromDates";
+    private static final String METRIC_GET_LOCAL_DATE_TIMES_FROM_LOCAL_DATES = "getLocalDateTimesFromLocalDates";
+    private static final String METRIC_GET_LOCAL_DATES_FROM_LOCAL_DATE_TIMES = "getLocalDatesFromLocalDateTimes";
+    private static final String METRIC_GET_LOCAL_TIMES_FROM_LOCAL_DATE_TIMES = "getLocalTimesFromLocalDateTimes";
+    private static final String METRIC_GET_LOCAL_DATES_FROM_STRINGS = "getLocalDatesFromStrings";
+    private static final String METRIC_GET_LOCAL_DATE_TIMES_FROM_STRINGS = "getLocalDateTimesFromStrings";
+    private static final String METRIC_GET_LOCAL_TIMES_FROM_STRINGS = "getLocalTimesFromStrings";
+    private static final String METRIC_GET_DATES_FROM_STRINGS = "getDatesFromStrings";
+    private static final String METRIC_GET_DATE_TIMES_FROM_STRINGS = "getDateTimesFromStrings";
+    private static final String METRIC_FORMAT_DATES_LOCAL_DATE = "formatDates(LocalDate[])";
+    private static final String METRIC_FORMAT_DATE_TIMES_LOCAL_DATE_TIME = "formatDateTimes(LocalDateTime[])";
+    private static final String METRIC_FORMAT_DATE_TIMES_DATE = "formatDateTimes(Date[])";
+    private static final String METRIC_FORMAT_DATES_DATE = "formatDates(Date[])";
+    private static final String METRIC_FORMAT_TIMES_LOCAL_TIME = "formatTimes(LocalTime[])";
+    private static final String METRIC_FORMAT_DATES_STRING = "formatDates(String[])";
+    private static final String METRIC_FORMAT_DATE_TIMES_STRING = "formatDateTimes(String[])";
+    private static final String METRIC_FORMAT_TIMES_STRING = "formatTimes(String[])";
+    private static final String METRIC_GET_EPOCH_MILLIS_FROM_STRINGS = "getEpochMillisFromStrings";
+    private static final String METRIC_GET_EPOCH_DAYS_FROM_STRINGS = "getEpochDaysFromStrings";
 
     /**
      * Private constructor to avoid instantiating the class.
@@ -85,7 +160,13 @@ public abstract class DateTimeUtil{
      * @see java.util.Date
      */
     public static Date getDateFromLocalDate( LocalDate dateIn, ZoneId zoneIdIn ){
-        return Date.from( dateIn.atStartOfDay( zoneIdIn ).toInstant() );
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_GET_DATE_FROM_LOCAL_DATE, null, zoneIdIn, DateConversions.toDate( dateIn, zoneIdIn ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_DATE_FROM_LOCAL_DATE, null, zoneIdIn, e );
+        }
     }
 
     /**
@@ -126,7 +207,14 @@ public abstract class DateTimeUtil{
      * @see java.util.Date
      */
     public static Date getDateFromLocalDateTime( LocalDateTime dateTimeIn, ZoneId zoneIdIn ){
-        return Date.from( dateTimeIn.atZone( zoneIdIn ).toInstant() );
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_GET_DATE_FROM_LOCAL_DATE_TIME, null, zoneIdIn,
+                                            DateConversions.toDate( dateTimeIn, zoneIdIn ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_DATE_FROM_LOCAL_DATE_TIME, null, zoneIdIn, e );
+        }
     }
 
     /**
@@ -167,7 +255,14 @@ public abstract class DateTimeUtil{
      * @see java.util.Date
      */
     public static LocalDate getLocalDateFromDate( Date dateIn, ZoneId zoneIdIn ){
-        return dateIn.toInstant().atZone( zoneIdIn ).toLocalDate();
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_GET_LOCAL_DATE_FROM_DATE, null, zoneIdIn,
+                                            DateConversions.toLocalDate( dateIn, zoneIdIn ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_LOCAL_DATE_FROM_DATE, null, zoneIdIn, e );
+        }
     }
 
     /**
@@ -208,7 +303,14 @@ public abstract class DateTimeUtil{
      * @see java.util.Date
      */
     public static LocalDateTime getLocalDateTimeFromDate( Date dateIn, ZoneId zoneIdIn ){
-        return LocalDateTime.ofInstant( dateIn.toInstant(), zoneIdIn );
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_GET_LOCAL_DATE_TIME_FROM_DATE, null, zoneIdIn,
+                                            DateConversions.toLocalDateTime( dateIn, zoneIdIn ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_LOCAL_DATE_TIME_FROM_DATE, null, zoneIdIn, e );
+        }
     }
 
     /**
@@ -249,7 +351,14 @@ public abstract class DateTimeUtil{
      * @see java.time.ZoneId
      */
     public static LocalDateTime getLocalDateTimeFromLocalDate( LocalDate dateIn, ZoneId zoneIdIn ){
-        return dateIn.atStartOfDay( zoneIdIn ).toLocalDateTime();
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_GET_LOCAL_DATE_TIME_FROM_LOCAL_DATE, null, zoneIdIn,
+                                            ZoneGaps.atStartOfDay( dateIn, zoneIdIn ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_LOCAL_DATE_TIME_FROM_LOCAL_DATE, null, zoneIdIn, e );
+        }
     }
 
     /**
@@ -290,7 +399,14 @@ public abstract class DateTimeUtil{
      * @see java.time.ZoneId
      */
     public static LocalDate getLocalDateFromLocalDateTime( LocalDateTime dateTimeIn, ZoneId zoneIdIn ){
-        return dateTimeIn.atZone( zoneIdIn ).toLocalDate();
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_GET_LOCAL_DATE_FROM_LOCAL_DATE_TIME, null, zoneIdIn,
+                                            ZoneGaps.atZone( dateTimeIn, zoneIdIn ).toLocalDate() );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_LOCAL_DATE_FROM_LOCAL_DATE_TIME, null, zoneIdIn, e );
+        }
     }
 
     /**
@@ -331,7 +447,14 @@ public abstract class DateTimeUtil{
      * @see java.time.ZoneId
      */
     public static LocalTime getLocalTimeFromLocalDateTime( LocalDateTime dateTimeIn, ZoneId zoneIdIn ){
-        return dateTimeIn.atZone( zoneIdIn ).toLocalTime();
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_GET_LOCAL_TIME_FROM_LOCAL_DATE_TIME, null, zoneIdIn,
+                                            ZoneGaps.atZone( dateTimeIn, zoneIdIn ).toLocalTime() );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_LOCAL_TIME_FROM_LOCAL_DATE_TIME, null, zoneIdIn, e );
+        }
     }
 
     /**
@@ -372,7 +495,14 @@ public abstract class DateTimeUtil{
      * @see java.util.Date
      */
     public static LocalTime getLocalTimeFromDate( Date dateTimeIn, ZoneId zoneIdIn ){
-        return DateTimeUtil.getLocalDateTimeFromDate( dateTimeIn, zoneIdIn ).toLocalTime();
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_GET_LOCAL_TIME_FROM_DATE, null, zoneIdIn,
+                                            DateConversions.toLocalDateTime( dateTimeIn, zoneIdIn ).toLocalTime() );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_LOCAL_TIME_FROM_DATE, null, zoneIdIn, e );
+        }
     }
 
     /**
@@ -550,8 +680,70 @@ public abstract class DateTimeUtil{
      * @see java.util.Locale
      */
     public static LocalDate getLocalDateFromString( String dateIn, String patternIn, ZoneId zoneIdIn, Locale localeIn ){
-        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern( patternIn ).withLocale( localeIn );
-        return LocalDate.parse( dateIn, dateTimeFormatter ).atStartOfDay( zoneIdIn ).toLocalDate();
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_GET_LOCAL_DATE_FROM_STRING, patternIn, zoneIdIn,
+                                            PatternCache.get( patternIn, localeIn ).getLocalDateFromString( dateIn, zoneIdIn ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_LOCAL_DATE_FROM_STRING, patternIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Converts a date in "String" format to the "LocalDate" object, without throwing when it is not valid.</p>
+     * <p>"ZoneId" and "Locale" are set as the system default and "String" date formatter is set as default ("dd/MM/yyyy").</p>
+     * <p>Example:</p>
+     * <code>
+     * Optional&lt;LocalDate&gt; result = DateTimeUtil.tryGetLocalDateFromString( "25/06/2021" );
+     * </code>
+     *
+     * @param dateIn The date as "String" object with pattern "dd/MM/yyyy".
+     *
+     * @return The date as "LocalDate" object, or an empty "Optional" if "dateIn" cannot be parsed.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.LocalDate
+     * @see java.util.Optional
+     */
+    public static Optional<LocalDate> tryGetLocalDateFromString( String dateIn ){
+        return DateTimeUtil.tryGetLocalDateFromString( dateIn, DateTimeUtil.DEFAULT_DATE_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Converts a date in "String" format with a given pattern to the "LocalDate" object with "ZoneId" and "Locale",
+     * without throwing when it is not valid.</p>
+     * <p>The result is the same as the one of "getLocalDateFromString", but an invalid text gives an empty "Optional"
+     * instead of a "DateTimeParseException", whose stack trace costs much more than the parsing itself.</p>
+     * <p>Example:</p>
+     * <code>
+     * Optional&lt;LocalDate&gt; result = DateTimeUtil.tryGetLocalDateFromString( "25/06/2021", "dd/MM/yyyy", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ) );
+     * </code>
+     *
+     * @param dateIn The date as "String" object.
+     * @param patternIn The format pattern of "dateIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     *
+     * @return The date as "LocalDate" object, or an empty "Optional" if "dateIn" cannot be parsed.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.format.DateTimeFormatter
+     * @see java.time.LocalDate
+     * @see java.time.ZoneId
+     * @see java.util.Locale
+     * @see java.util.Optional
+     */
+    public static Optional<LocalDate> tryGetLocalDateFromString( String dateIn, String patternIn, ZoneId zoneIdIn, Locale localeIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_TRY_GET_LOCAL_DATE_FROM_STRING, patternIn, zoneIdIn,
+                                            PatternCache.get( patternIn, localeIn ).tryGetLocalDateFromString( dateIn, zoneIdIn ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_TRY_GET_LOCAL_DATE_FROM_STRING, patternIn, zoneIdIn, e );
+        }
     }
 
     /**
@@ -730,8 +922,70 @@ public abstract class DateTimeUtil{
      * @see java.util.Locale
      */
     public static LocalDateTime getLocalDateTimeFromString( String dateTimeIn, String patternIn, ZoneId zoneIdIn, Locale localeIn ){
-        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern( patternIn ).withLocale( localeIn );
-        return LocalDateTime.parse( dateTimeIn, dateTimeFormatter ).atZone( zoneIdIn ).toLocalDateTime();
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_GET_LOCAL_DATE_TIME_FROM_STRING, patternIn, zoneIdIn,
+                                            PatternCache.get( patternIn, localeIn ).getLocalDateTimeFromString( dateTimeIn, zoneIdIn ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_LOCAL_DATE_TIME_FROM_STRING, patternIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Converts a date-time in "String" format to the "LocalDateTime" object, without throwing when it is not valid.</p>
+     * <p>"ZoneId" and "Locale" are set as the system default and "String" date-time formatter is set as default ("dd/MM/yyyy HH:mm").</p>
+     * <p>Example:</p>
+     * <code>
+     * Optional&lt;LocalDateTime&gt; result = DateTimeUtil.tryGetLocalDateTimeFromString( "25/06/2021 17:36" );
+     * </code>
+     *
+     * @param dateTimeIn The date-time as "String" object with pattern "dd/MM/yyyy HH:mm".
+     *
+     * @return The date-time as "LocalDateTime" object, or an empty "Optional" if "dateTimeIn" cannot be parsed.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.LocalDateTime
+     * @see java.util.Optional
+     */
+    public static Optional<LocalDateTime> tryGetLocalDateTimeFromString( String dateTimeIn ){
+        return DateTimeUtil.tryGetLocalDateTimeFromString( dateTimeIn, DateTimeUtil.DEFAULT_DATE_TIME_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Converts a date-time in "String" format with a given pattern to the "LocalDateTime" object with "ZoneId" and "Locale",
+     * without throwing when it is not valid.</p>
+     * <p>The result is the same as the one of "getLocalDateTimeFromString", but an invalid text gives an empty "Optional"
+     * instead of a "DateTimeParseException", whose stack trace costs much more than the parsing itself.</p>
+     * <p>Example:</p>
+     * <code>
+     * Optional&lt;LocalDateTime&gt; result = DateTimeUtil.tryGetLocalDateTimeFromString( "25/06/2021 17:36", "dd/MM/yyyy HH:mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ) );
+     * </code>
+     *
+     * @param dateTimeIn The date-time as "String" object.
+     * @param patternIn The format pattern of "dateTimeIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     *
+     * @return The date-time as "LocalDateTime" object, or an empty "Optional" if "dateTimeIn" cannot be parsed.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.format.DateTimeFormatter
+     * @see java.time.LocalDateTime
+     * @see java.time.ZoneId
+     * @see java.util.Locale
+     * @see java.util.Optional
+     */
+    public static Optional<LocalDateTime> tryGetLocalDateTimeFromString( String dateTimeIn, String patternIn, ZoneId zoneIdIn, Locale localeIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_TRY_GET_LOCAL_DATE_TIME_FROM_STRING, patternIn, zoneIdIn,
+                                            PatternCache.get( patternIn, localeIn ).tryGetLocalDateTimeFromString( dateTimeIn, zoneIdIn ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_TRY_GET_LOCAL_DATE_TIME_FROM_STRING, patternIn, zoneIdIn, e );
+        }
     }
 
     /**
@@ -909,8 +1163,14 @@ public abstract class DateTimeUtil{
      * @see java.util.Locale
      */
     public static Date getDateFromString( String dateIn, String patternIn, ZoneId zoneIdIn, Locale localeIn ){
-        LocalDate date = DateTimeUtil.getLocalDateFromString( dateIn, patternIn, zoneIdIn, localeIn );
-        return DateTimeUtil.getDateFromLocalDate( date, zoneIdIn );
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_GET_DATE_FROM_STRING, patternIn, zoneIdIn,
+                                            PatternCache.get( patternIn, localeIn ).getDateFromString( dateIn, zoneIdIn ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_DATE_FROM_STRING, patternIn, zoneIdIn, e );
+        }
     }
 
     /**
@@ -1090,8 +1350,121 @@ public abstract class DateTimeUtil{
      * @see java.util.Locale
      */
     public static Date getDateTimeFromString( String dateTimeIn, String patternIn, ZoneId zoneIdIn, Locale localeIn ){
-        LocalDateTime dateTime = DateTimeUtil.getLocalDateTimeFromString( dateTimeIn, patternIn, zoneIdIn, localeIn );
-        return DateTimeUtil.getDateFromLocalDateTime( dateTime, zoneIdIn );
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_GET_DATE_TIME_FROM_STRING, patternIn, zoneIdIn,
+                                            PatternCache.get( patternIn, localeIn ).getDateTimeFromString( dateTimeIn, zoneIdIn ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_DATE_TIME_FROM_STRING, patternIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Converts a date-time in "String" format to the number of milliseconds since 1970-01-01T00:00:00Z.</p>
+     * <p>"ZoneId" and "Locale" are set as the system default and "String" date-time formatter is set as default ("dd/MM/yyyy HH:mm").</p>
+     * <p>Example:</p>
+     * <code>
+     * long result = DateTimeUtil.getEpochMillisFromString( "25/06/2021 17:36" );
+     * </code>
+     *
+     * @param dateTimeIn The date-time as "String" object with pattern "dd/MM/yyyy HH:mm".
+     *
+     * @return The epoch milliseconds, the same as "getDateTimeFromString( dateTimeIn ).getTime()".
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     */
+    public static long getEpochMillisFromString( String dateTimeIn ){
+        return DateTimeUtil.getEpochMillisFromString( dateTimeIn, DateTimeUtil.DEFAULT_DATE_TIME_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID,
+                DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Converts a date-time in "String" format with a given date-time pattern, "ZoneId" and "Locale" to the number of
+     * milliseconds since 1970-01-01T00:00:00Z.</p>
+     * <p>Numeric patterns compute the result from the parsed fields, without creating any "Date", "Instant" or
+     * "ZonedDateTime" object.</p>
+     * <p>Example:</p>
+     * <code>
+     * long result = DateTimeUtil.getEpochMillisFromString( "25/06/2021 17:36", "dd/MM/yyyy HH:mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ) );
+     * </code>
+     *
+     * @param dateTimeIn The date-time as "String" object.
+     * @param patternIn The format pattern of "dateTimeIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     *
+     * @return The epoch milliseconds, the same as "getDateTimeFromString( dateTimeIn, patternIn, zoneIdIn, localeIn ).getTime()".
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.format.DateTimeFormatter
+     * @see java.time.ZoneId
+     * @see java.util.Locale
+     */
+    public static long getEpochMillisFromString( String dateTimeIn, String patternIn, ZoneId zoneIdIn, Locale localeIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_GET_EPOCH_MILLIS_FROM_STRING, patternIn, zoneIdIn,
+                                            PatternCache.get( patternIn, localeIn ).getEpochMillisFromString( dateTimeIn, zoneIdIn ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_EPOCH_MILLIS_FROM_STRING, patternIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Converts a date in "String" format to the number of days since 1970-01-01.</p>
+     * <p>"ZoneId" and "Locale" are set as the system default and "String" date formatter is set as default ("dd/MM/yyyy").</p>
+     * <p>Example:</p>
+     * <code>
+     * int result = DateTimeUtil.getEpochDayFromString( "25/06/2021" );
+     * </code>
+     *
+     * @param dateIn The date as "String" object with pattern "dd/MM/yyyy".
+     *
+     * @return The epoch day, the same as "getLocalDateFromString( dateIn ).toEpochDay()".
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     */
+    public static int getEpochDayFromString( String dateIn ){
+        return DateTimeUtil.getEpochDayFromString( dateIn, DateTimeUtil.DEFAULT_DATE_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID,
+                DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Converts a date in "String" format with a given date pattern, "ZoneId" and "Locale" to the number of days since
+     * 1970-01-01.</p>
+     * <p>Numeric patterns compute the result from the parsed fields, without creating any "LocalDate" object.</p>
+     * <p>Example:</p>
+     * <code>
+     * int result = DateTimeUtil.getEpochDayFromString( "25/06/2021", "dd/MM/yyyy", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ) );
+     * </code>
+     *
+     * @param dateIn The date as "String" object.
+     * @param patternIn The format pattern of "dateIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     *
+     * @return The epoch day, the same as "getLocalDateFromString( dateIn, patternIn, zoneIdIn, localeIn ).toEpochDay()".
+     *
+     * @throws ArithmeticException If the epoch day does not fit in an "int".
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.format.DateTimeFormatter
+     * @see java.time.ZoneId
+     * @see java.util.Locale
+     */
+    public static int getEpochDayFromString( String dateIn, String patternIn, ZoneId zoneIdIn, Locale localeIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_GET_EPOCH_DAY_FROM_STRING, patternIn, zoneIdIn,
+                                            PatternCache.get( patternIn, localeIn ).getEpochDayFromString( dateIn, zoneIdIn ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_EPOCH_DAY_FROM_STRING, patternIn, zoneIdIn, e );
+        }
     }
 
     /**
@@ -1269,8 +1642,158 @@ public abstract class DateTimeUtil{
      * @see java.util.Locale
      */
     public static LocalTime getLocalTimeFromString( String timeIn, String patternIn, ZoneId zoneIdIn, Locale localeIn ){
-        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern( patternIn ).withLocale( localeIn );
-        return LocalTime.parse( timeIn, dateTimeFormatter ).atDate( LocalDate.now( zoneIdIn ) ).toLocalTime();
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_GET_LOCAL_TIME_FROM_STRING, patternIn, zoneIdIn,
+                                            PatternCache.get( patternIn, localeIn ).getLocalTimeFromString( timeIn, zoneIdIn ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_LOCAL_TIME_FROM_STRING, patternIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Converts a time in "String" format to the "LocalTime" object, without throwing when it is not valid.</p>
+     * <p>"ZoneId" and "Locale" are set as the system default and "String" time pattern is set as default ("HH:mm:ss").</p>
+     * <p>Example:</p>
+     * <code>
+     * Optional&lt;LocalTime&gt; result = DateTimeUtil.tryGetLocalTimeFromString( "17:36:27" );
+     * </code>
+     *
+     * @param timeIn The time as "String" object with pattern "HH:mm:ss".
+     *
+     * @return The time as "LocalTime" object, or an empty "Optional" if "timeIn" cannot be parsed.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.LocalTime
+     * @see java.util.Optional
+     */
+    public static Optional<LocalTime> tryGetLocalTimeFromString( String timeIn ){
+        return DateTimeUtil.tryGetLocalTimeFromString( timeIn, DateTimeUtil.DEFAULT_TIME_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Converts a time in "String" format with a given pattern to the "LocalTime" object with "ZoneId" and "Locale",
+     * without throwing when it is not valid.</p>
+     * <p>The result is the same as the one of "getLocalTimeFromString", but an invalid text gives an empty "Optional"
+     * instead of a "DateTimeParseException", whose stack trace costs much more than the parsing itself.</p>
+     * <p>Example:</p>
+     * <code>
+     * Optional&lt;LocalTime&gt; result = DateTimeUtil.tryGetLocalTimeFromString( "17:36:27", "HH:mm:ss", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ) );
+     * </code>
+     *
+     * @param timeIn The time as "String" object.
+     * @param patternIn The format pattern of "timeIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     *
+     * @return The time as "LocalTime" object, or an empty "Optional" if "timeIn" cannot be parsed.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.format.DateTimeFormatter
+     * @see java.time.LocalTime
+     * @see java.time.ZoneId
+     * @see java.util.Locale
+     * @see java.util.Optional
+     */
+    public static Optional<LocalTime> tryGetLocalTimeFromString( String timeIn, String patternIn, ZoneId zoneIdIn, Locale localeIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_TRY_GET_LOCAL_TIME_FROM_STRING, patternIn, zoneIdIn,
+                                            PatternCache.get( patternIn, localeIn ).tryGetLocalTimeFromString( timeIn, zoneIdIn ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_TRY_GET_LOCAL_TIME_FROM_STRING, patternIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Converts a time in "String" format to the "LocalDateTime" object of that time today.</p>
+     * <p>"ZoneId" and "Locale" are set as the system default and "String" time formatter is set as default ("HH:mm:ss").</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalDateTime result = DateTimeUtil.getLocalDateTimeFromTimeString( "17:36:27" );
+     * </code>
+     *
+     * @param timeIn The time as "String" object with pattern "HH:mm:ss".
+     *
+     * @return The date-time as "LocalDateTime" object, with the current date.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.LocalDateTime
+     */
+    public static LocalDateTime getLocalDateTimeFromTimeString( String timeIn ){
+        return DateTimeUtil.getLocalDateTimeFromTimeString( timeIn, DateTimeUtil.DEFAULT_TIME_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID,
+                DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Converts a time in "String" format with a given time pattern, "ZoneId" and "Locale" to the "LocalDateTime"
+     * object of that time today.</p>
+     * <p>The current date in "zoneIdIn" is cached until midnight, so the rules of the zone are not looked up on every
+     * call.</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalDateTime result = DateTimeUtil.getLocalDateTimeFromTimeString( "17:36:27", "HH:mm:ss", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ) );
+     * </code>
+     *
+     * @param timeIn The time as "String" object.
+     * @param patternIn The format pattern of "timeIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     *
+     * @return The date-time as "LocalDateTime" object, with the current date.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.format.DateTimeFormatter
+     * @see java.time.LocalDateTime
+     * @see java.time.ZoneId
+     * @see java.util.Locale
+     */
+    public static LocalDateTime getLocalDateTimeFromTimeString( String timeIn, String patternIn, ZoneId zoneIdIn, Locale localeIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_GET_LOCAL_DATE_TIME_FROM_TIME_STRING, patternIn, zoneIdIn,
+                                            PatternCache.get( patternIn, localeIn ).getLocalDateTimeFromTimeString( timeIn, zoneIdIn ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_LOCAL_DATE_TIME_FROM_TIME_STRING, patternIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Converts a time in "String" format with a given time pattern and "Locale" to the "LocalDateTime" object of
+     * that time on the current date of "clockIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalDateTime result = DateTimeUtil.getLocalDateTimeFromTimeString( "17:36:27", "HH:mm:ss", Clock.systemUTC(), new Locale( "es", "ES" ) );
+     * </code>
+     *
+     * @param timeIn The time as "String" object.
+     * @param patternIn The format pattern of "timeIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param clockIn The "Clock" object that gives the current date and the "ZoneId".
+     * @param localeIn The "Locale" object.
+     *
+     * @return The date-time as "LocalDateTime" object, with the current date of "clockIn".
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.Clock
+     * @see java.time.format.DateTimeFormatter
+     * @see java.time.LocalDateTime
+     * @see java.util.Locale
+     */
+    public static LocalDateTime getLocalDateTimeFromTimeString( String timeIn, String patternIn, Clock clockIn, Locale localeIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_GET_LOCAL_DATE_TIME_FROM_TIME_STRING, patternIn, clockIn == null ? null : clockIn.getZone(),
+                                            PatternCache.get( patternIn, localeIn ).getLocalDateTimeFromTimeString( timeIn, clockIn ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_LOCAL_DATE_TIME_FROM_TIME_STRING, patternIn, clockIn == null ? null : clockIn.getZone(), e );
+        }
     }
 
     /**
@@ -1446,61 +1969,201 @@ public abstract class DateTimeUtil{
      * @see java.util.Locale
      */
     public static String formatDate( LocalDate dateIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn ){
-        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern( formatterIn );
-        return dateIn.atStartOfDay( zoneIdIn ).format( dateTimeFormatter.withLocale( localeIn ) );
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_FORMAT_DATE_LOCAL_DATE, formatterIn, zoneIdIn,
+                                            PatternCache.get( formatterIn, localeIn ).formatDate( dateIn, zoneIdIn ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_DATE_LOCAL_DATE, formatterIn, zoneIdIn, e );
+        }
     }
 
     /**
-     * <p>Formats a "LocalDateTime" object to "String" object without date-time formatter and with "ZoneId" and "Locale".</p>
-     * <p>"ZoneId" and "Locale" are set as the system default and "String" date-time formatter is set as default ("dd/MM/yyyy HH:mm").</p>
+     * <p>Formats a "LocalDate" object appending the result to "appendableIn", without date formatter and with "ZoneId" and "Locale".</p>
+     * <p>"ZoneId" and "Locale" are set as the system default and "String" date formatter is set as default ("dd/MM/yyyy").</p>
      * <p>Example:</p>
      * <code>
-     * String result = DateTimeUtil.formatDateTime( LocalDateTime.now() );
+     * DateTimeUtil.formatDate( LocalDate.now(), builder );
      * </code>
      *
-     * @param dateTimeIn The date-time as "LocalDateTime" object.
-     *
-     * @return The date-time formatted as "String" object.
+     * @param dateIn The date as "LocalDate" object.
+     * @param appendableIn The "Appendable" object, like a "StringBuilder", that receives the formatted date.
      *
      * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
-     * @see java.time.LocalDateTime
-     * @see java.time.ZoneId
-     * @see java.util.Locale
+     * @see java.lang.Appendable
+     * @see java.time.LocalDate
      */
-    public static String formatDateTime( LocalDateTime dateTimeIn ){
-        return DateTimeUtil.formatDateTime( dateTimeIn, DateTimeUtil.DEFAULT_DATE_TIME_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE );
+    public static void formatDate( LocalDate dateIn, Appendable appendableIn ){
+        DateTimeUtil.formatDate( dateIn, DateTimeUtil.DEFAULT_DATE_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE, appendableIn );
     }
 
     /**
-     * <p>Formats a "LocalDateTime" object to "String" object.</p>
-     * <p>"ZoneId" and "Locale" are set as the system default.</p>
+     * <p>Formats a "LocalDate" object with "ZoneId" and "Locale" appending the result to "appendableIn".</p>
+     * <p>Numeric patterns append the characters directly, without creating any intermediate "String".</p>
      * <p>Example:</p>
      * <code>
-     * String result = DateTimeUtil.formatDateTime( LocalDateTime.now(), "dd/MM/yyyy HH:mm" );
+     * DateTimeUtil.formatDate( LocalDate.now(), "dd/MM/yyyy", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), builder );
      * </code>
      *
-     * @param dateTimeIn The date-time as "LocalDateTime" object.
+     * @param dateIn The date as "LocalDate" object.
      * @param formatterIn The format pattern to format "dateIn".
      * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param appendableIn The "Appendable" object, like a "StringBuilder", that receives the formatted date.
      *
-     * @return The date-time formatted as "String" object.
+     * @throws java.time.DateTimeException If "appendableIn" throws an "IOException".
      *
      * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
-     * @see java.time.LocalDateTime
+     * @see java.lang.Appendable
+     * @see java.time.format.DateTimeFormatter
+     * @see java.time.LocalDate
+     * @see java.time.ZoneId
+     * @see java.util.Locale
      */
-    public static String formatDateTime( LocalDateTime dateTimeIn, String formatterIn ){
-        return DateTimeUtil.formatDateTime( dateTimeIn, formatterIn, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE );
+    public static void formatDate( LocalDate dateIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn, Appendable appendableIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            PatternCache.get( formatterIn, localeIn ).formatDate( dateIn, zoneIdIn, appendableIn );
+            DateTimeMetrics.success( start, METRIC_FORMAT_DATE_LOCAL_DATE, formatterIn, zoneIdIn );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_DATE_LOCAL_DATE, formatterIn, zoneIdIn, e );
+        }
     }
 
     /**
-     * <p>Formats a "LocalDateTime" object to "String" object without date-time formatter and with "ZoneId".</p>
-     * <p>"Locale" are set as the system default and "String" date-time formatter is set as default ("dd/MM/yyyy HH:mm").</p>
+     * <p>Formats a "LocalDate" object with "ZoneId" and "Locale" as ASCII bytes written to "bytesIn" from "offsetIn".</p>
+     * <p>Numeric patterns write the digits directly, without creating any intermediate object. Nothing is written when
+     * the result does not fit in "bytesIn" or is not ASCII.</p>
      * <p>Example:</p>
      * <code>
-     * String result = DateTimeUtil.formatDateTime( LocalDateTime.now(), ZoneId.of( "Europe/Paris" ) );
+     * int length = DateTimeUtil.formatDate( LocalDate.now(), "dd/MM/yyyy", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), bytes, 0 );
      * </code>
      *
-     * @param dateTimeIn The date-time as "LocalDateTime" object.
+     * @param dateIn The date as "LocalDate" object.
+     * @param formatterIn The format pattern to format "dateIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param bytesIn The destination array.
+     * @param offsetIn The position of the first byte in "bytesIn".
+     *
+     * @return The number of bytes written.
+     *
+     * @throws IndexOutOfBoundsException If the formatted date does not fit in "bytesIn" from "offsetIn".
+     * @throws java.time.DateTimeException If the formatted date has characters that are not ASCII.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.format.DateTimeFormatter
+     * @see java.time.LocalDate
+     * @see java.time.ZoneId
+     * @see java.util.Locale
+     */
+    public static int formatDate( LocalDate dateIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn, byte[] bytesIn, int offsetIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_FORMAT_DATE_LOCAL_DATE, formatterIn, zoneIdIn,
+                                            PatternCache.get( formatterIn, localeIn ).formatDate( dateIn, zoneIdIn, bytesIn, offsetIn ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_DATE_LOCAL_DATE, formatterIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Formats a "LocalDate" object with "ZoneId" and "Locale" as ASCII bytes put in "bufferIn".</p>
+     * <p>The bytes are written from the current position of "bufferIn", heap or direct, and the position is advanced
+     * past them. Numeric patterns write the digits directly, without creating any intermediate object. Nothing is
+     * written when the result does not fit in "bufferIn" or is not ASCII.</p>
+     * <p>Example:</p>
+     * <code>
+     * int length = DateTimeUtil.formatDate( LocalDate.now(), "dd/MM/yyyy", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), buffer );
+     * </code>
+     *
+     * @param dateIn The date as "LocalDate" object.
+     * @param formatterIn The format pattern to format "dateIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param bufferIn The destination buffer.
+     *
+     * @return The number of bytes written.
+     *
+     * @throws java.nio.BufferOverflowException If the formatted date does not fit in the remaining bytes of "bufferIn".
+     * @throws java.nio.ReadOnlyBufferException If "bufferIn" is read-only.
+     * @throws java.time.DateTimeException If the formatted date has characters that are not ASCII.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.nio.ByteBuffer
+     * @see java.time.format.DateTimeFormatter
+     * @see java.time.LocalDate
+     * @see java.time.ZoneId
+     * @see java.util.Locale
+     */
+    public static int formatDate( LocalDate dateIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn, ByteBuffer bufferIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_FORMAT_DATE_LOCAL_DATE, formatterIn, zoneIdIn,
+                                            PatternCache.get( formatterIn, localeIn ).formatDate( dateIn, zoneIdIn, bufferIn ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_DATE_LOCAL_DATE, formatterIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Formats a "LocalDateTime" object to "String" object without date-time formatter and with "ZoneId" and "Locale".</p>
+     * <p>"ZoneId" and "Locale" are set as the system default and "String" date-time formatter is set as default ("dd/MM/yyyy HH:mm").</p>
+     * <p>Example:</p>
+     * <code>
+     * String result = DateTimeUtil.formatDateTime( LocalDateTime.now() );
+     * </code>
+     *
+     * @param dateTimeIn The date-time as "LocalDateTime" object.
+     *
+     * @return The date-time formatted as "String" object.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.LocalDateTime
+     * @see java.time.ZoneId
+     * @see java.util.Locale
+     */
+    public static String formatDateTime( LocalDateTime dateTimeIn ){
+        return DateTimeUtil.formatDateTime( dateTimeIn, DateTimeUtil.DEFAULT_DATE_TIME_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Formats a "LocalDateTime" object to "String" object.</p>
+     * <p>"ZoneId" and "Locale" are set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * String result = DateTimeUtil.formatDateTime( LocalDateTime.now(), "dd/MM/yyyy HH:mm" );
+     * </code>
+     *
+     * @param dateTimeIn The date-time as "LocalDateTime" object.
+     * @param formatterIn The format pattern to format "dateIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     *
+     * @return The date-time formatted as "String" object.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.LocalDateTime
+     */
+    public static String formatDateTime( LocalDateTime dateTimeIn, String formatterIn ){
+        return DateTimeUtil.formatDateTime( dateTimeIn, formatterIn, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Formats a "LocalDateTime" object to "String" object without date-time formatter and with "ZoneId".</p>
+     * <p>"Locale" are set as the system default and "String" date-time formatter is set as default ("dd/MM/yyyy HH:mm").</p>
+     * <p>Example:</p>
+     * <code>
+     * String result = DateTimeUtil.formatDateTime( LocalDateTime.now(), ZoneId.of( "Europe/Paris" ) );
+     * </code>
+     *
+     * @param dateTimeIn The date-time as "LocalDateTime" object.
      * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
      * @param zoneIdIn The "ZoneId" object.
      *
@@ -1627,8 +2290,148 @@ public abstract class DateTimeUtil{
      * @see java.util.Locale
      */
     public static String formatDateTime( LocalDateTime dateTimeIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn ){
-        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern( formatterIn ).withLocale( localeIn );
-        return dateTimeIn.atZone( zoneIdIn ).format( dateTimeFormatter );
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_FORMAT_DATE_TIME_LOCAL_DATE_TIME, formatterIn, zoneIdIn,
+                                            PatternCache.get( formatterIn, localeIn ).formatDateTime( dateTimeIn, zoneIdIn ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_DATE_TIME_LOCAL_DATE_TIME, formatterIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Formats a "LocalDateTime" object appending the result to "appendableIn", without date-time formatter and with "ZoneId" and "Locale".</p>
+     * <p>"ZoneId" and "Locale" are set as the system default and "String" date-time formatter is set as default ("dd/MM/yyyy HH:mm").</p>
+     * <p>Example:</p>
+     * <code>
+     * DateTimeUtil.formatDateTime( LocalDateTime.now(), builder );
+     * </code>
+     *
+     * @param dateTimeIn The date-time as "LocalDateTime" object.
+     * @param appendableIn The "Appendable" object, like a "StringBuilder", that receives the formatted date-time.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.lang.Appendable
+     * @see java.time.LocalDateTime
+     */
+    public static void formatDateTime( LocalDateTime dateTimeIn, Appendable appendableIn ){
+        DateTimeUtil.formatDateTime( dateTimeIn, DateTimeUtil.DEFAULT_DATE_TIME_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE, appendableIn );
+    }
+
+    /**
+     * <p>Formats a "LocalDateTime" object with "ZoneId" and "Locale" appending the result to "appendableIn".</p>
+     * <p>Numeric patterns append the characters directly, without creating any intermediate "String".</p>
+     * <p>Example:</p>
+     * <code>
+     * DateTimeUtil.formatDateTime( LocalDateTime.now(), "dd/MM/yyyy HH:mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), builder );
+     * </code>
+     *
+     * @param dateTimeIn The date-time as "LocalDateTime" object.
+     * @param formatterIn The format pattern to format "dateTimeIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param appendableIn The "Appendable" object, like a "StringBuilder", that receives the formatted date-time.
+     *
+     * @throws java.time.DateTimeException If "appendableIn" throws an "IOException".
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.lang.Appendable
+     * @see java.time.format.DateTimeFormatter
+     * @see java.time.LocalDateTime
+     * @see java.time.ZoneId
+     * @see java.util.Locale
+     */
+    public static void formatDateTime( LocalDateTime dateTimeIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn, Appendable appendableIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            PatternCache.get( formatterIn, localeIn ).formatDateTime( dateTimeIn, zoneIdIn, appendableIn );
+            DateTimeMetrics.success( start, METRIC_FORMAT_DATE_TIME_LOCAL_DATE_TIME, formatterIn, zoneIdIn );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_DATE_TIME_LOCAL_DATE_TIME, formatterIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Formats a "LocalDateTime" object with "ZoneId" and "Locale" as ASCII bytes written to "bytesIn" from "offsetIn".</p>
+     * <p>Numeric patterns write the digits directly, without creating any intermediate object. Nothing is written when
+     * the result does not fit in "bytesIn" or is not ASCII.</p>
+     * <p>Example:</p>
+     * <code>
+     * int length = DateTimeUtil.formatDateTime( LocalDateTime.now(), "dd/MM/yyyy HH:mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), bytes, 0 );
+     * </code>
+     *
+     * @param dateTimeIn The date-time as "LocalDateTime" object.
+     * @param formatterIn The format pattern to format "dateTimeIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param bytesIn The destination array.
+     * @param offsetIn The position of the first byte in "bytesIn".
+     *
+     * @return The number of bytes written.
+     *
+     * @throws IndexOutOfBoundsException If the formatted date-time does not fit in "bytesIn" from "offsetIn".
+     * @throws java.time.DateTimeException If the formatted date-time has characters that are not ASCII.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.format.DateTimeFormatter
+     * @see java.time.LocalDateTime
+     * @see java.time.ZoneId
+     * @see java.util.Locale
+     */
+    public static int formatDateTime( LocalDateTime dateTimeIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn, byte[] bytesIn, int offsetIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_FORMAT_DATE_TIME_LOCAL_DATE_TIME, formatterIn, zoneIdIn,
+                                            PatternCache.get( formatterIn, localeIn ).formatDateTime( dateTimeIn, zoneIdIn, bytesIn, offsetIn ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_DATE_TIME_LOCAL_DATE_TIME, formatterIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Formats a "LocalDateTime" object with "ZoneId" and "Locale" as ASCII bytes put in "bufferIn".</p>
+     * <p>The bytes are written from the current position of "bufferIn", heap or direct, and the position is advanced
+     * past them. Numeric patterns write the digits directly, without creating any intermediate object. Nothing is
+     * written when the result does not fit in "bufferIn" or is not ASCII.</p>
+     * <p>Example:</p>
+     * <code>
+     * int length = DateTimeUtil.formatDateTime( LocalDateTime.now(), "dd/MM/yyyy HH:mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), buffer );
+     * </code>
+     *
+     * @param dateTimeIn The date-time as "LocalDateTime" object.
+     * @param formatterIn The format pattern to format "dateTimeIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param bufferIn The destination buffer.
+     *
+     * @return The number of bytes written.
+     *
+     * @throws java.nio.BufferOverflowException If the formatted date-time does not fit in the remaining bytes of "bufferIn".
+     * @throws java.nio.ReadOnlyBufferException If "bufferIn" is read-only.
+     * @throws java.time.DateTimeException If the formatted date-time has characters that are not ASCII.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.nio.ByteBuffer
+     * @see java.time.format.DateTimeFormatter
+     * @see java.time.LocalDateTime
+     * @see java.time.ZoneId
+     * @see java.util.Locale
+     */
+    public static int formatDateTime( LocalDateTime dateTimeIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn, ByteBuffer bufferIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_FORMAT_DATE_TIME_LOCAL_DATE_TIME, formatterIn, zoneIdIn,
+                                            PatternCache.get( formatterIn, localeIn ).formatDateTime( dateTimeIn, zoneIdIn, bufferIn ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_DATE_TIME_LOCAL_DATE_TIME, formatterIn, zoneIdIn, e );
+        }
     }
 
     /**
@@ -1808,8 +2611,148 @@ public abstract class DateTimeUtil{
      * @see java.util.Locale
      */
     public static String formatDateTime( Date dateTimeIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn ){
-        LocalDateTime dateTime = DateTimeUtil.getLocalDateTimeFromDate( dateTimeIn, zoneIdIn );
-        return DateTimeUtil.formatDateTime( dateTime, formatterIn, zoneIdIn, localeIn );
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_FORMAT_DATE_TIME_DATE, formatterIn, zoneIdIn,
+                                            PatternCache.get( formatterIn, localeIn ).formatDateTime( dateTimeIn, zoneIdIn ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_DATE_TIME_DATE, formatterIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Formats a "Date" object appending the result to "appendableIn", without date-time formatter and with "ZoneId" and "Locale".</p>
+     * <p>"ZoneId" and "Locale" are set as the system default and "String" date-time formatter is set as default ("dd/MM/yyyy HH:mm").</p>
+     * <p>Example:</p>
+     * <code>
+     * DateTimeUtil.formatDateTime( new Date(), builder );
+     * </code>
+     *
+     * @param dateTimeIn The date-time as "Date" object.
+     * @param appendableIn The "Appendable" object, like a "StringBuilder", that receives the formatted date-time.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.lang.Appendable
+     * @see java.util.Date
+     */
+    public static void formatDateTime( Date dateTimeIn, Appendable appendableIn ){
+        DateTimeUtil.formatDateTime( dateTimeIn, DateTimeUtil.DEFAULT_DATE_TIME_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE, appendableIn );
+    }
+
+    /**
+     * <p>Formats a "Date" object with "ZoneId" and "Locale" appending the result to "appendableIn".</p>
+     * <p>Numeric patterns append the characters directly, without creating any intermediate "String".</p>
+     * <p>Example:</p>
+     * <code>
+     * DateTimeUtil.formatDateTime( new Date(), "dd/MM/yyyy HH:mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), builder );
+     * </code>
+     *
+     * @param dateTimeIn The date-time as "Date" object.
+     * @param formatterIn The format pattern to format "dateTimeIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param appendableIn The "Appendable" object, like a "StringBuilder", that receives the formatted date-time.
+     *
+     * @throws java.time.DateTimeException If "appendableIn" throws an "IOException".
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.lang.Appendable
+     * @see java.time.format.DateTimeFormatter
+     * @see java.util.Date
+     * @see java.time.ZoneId
+     * @see java.util.Locale
+     */
+    public static void formatDateTime( Date dateTimeIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn, Appendable appendableIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            PatternCache.get( formatterIn, localeIn ).formatDateTime( dateTimeIn, zoneIdIn, appendableIn );
+            DateTimeMetrics.success( start, METRIC_FORMAT_DATE_TIME_DATE, formatterIn, zoneIdIn );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_DATE_TIME_DATE, formatterIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Formats a "Date" object with "ZoneId" and "Locale" as ASCII bytes written to "bytesIn" from "offsetIn".</p>
+     * <p>Numeric patterns write the digits directly, without creating any intermediate object. Nothing is written when
+     * the result does not fit in "bytesIn" or is not ASCII.</p>
+     * <p>Example:</p>
+     * <code>
+     * int length = DateTimeUtil.formatDateTime( new Date(), "dd/MM/yyyy HH:mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), bytes, 0 );
+     * </code>
+     *
+     * @param dateTimeIn The date-time as "Date" object.
+     * @param formatterIn The format pattern to format "dateTimeIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param bytesIn The destination array.
+     * @param offsetIn The position of the first byte in "bytesIn".
+     *
+     * @return The number of bytes written.
+     *
+     * @throws IndexOutOfBoundsException If the formatted date-time does not fit in "bytesIn" from "offsetIn".
+     * @throws java.time.DateTimeException If the formatted date-time has characters that are not ASCII.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.format.DateTimeFormatter
+     * @see java.util.Date
+     * @see java.time.ZoneId
+     * @see java.util.Locale
+     */
+    public static int formatDateTime( Date dateTimeIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn, byte[] bytesIn, int offsetIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_FORMAT_DATE_TIME_DATE, formatterIn, zoneIdIn,
+                                            PatternCache.get( formatterIn, localeIn ).formatDateTime( dateTimeIn, zoneIdIn, bytesIn, offsetIn ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_DATE_TIME_DATE, formatterIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Formats a "Date" object with "ZoneId" and "Locale" as ASCII bytes put in "bufferIn".</p>
+     * <p>The bytes are written from the current position of "bufferIn", heap or direct, and the position is advanced
+     * past them. Numeric patterns write the digits directly, without creating any intermediate object. Nothing is
+     * written when the result does not fit in "bufferIn" or is not ASCII.</p>
+     * <p>Example:</p>
+     * <code>
+     * int length = DateTimeUtil.formatDateTime( new Date(), "dd/MM/yyyy HH:mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), buffer );
+     * </code>
+     *
+     * @param dateTimeIn The date-time as "Date" object.
+     * @param formatterIn The format pattern to format "dateTimeIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param bufferIn The destination buffer.
+     *
+     * @return The number of bytes written.
+     *
+     * @throws java.nio.BufferOverflowException If the formatted date-time does not fit in the remaining bytes of "bufferIn".
+     * @throws java.nio.ReadOnlyBufferException If "bufferIn" is read-only.
+     * @throws java.time.DateTimeException If the formatted date-time has characters that are not ASCII.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.nio.ByteBuffer
+     * @see java.time.format.DateTimeFormatter
+     * @see java.util.Date
+     * @see java.time.ZoneId
+     * @see java.util.Locale
+     */
+    public static int formatDateTime( Date dateTimeIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn, ByteBuffer bufferIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_FORMAT_DATE_TIME_DATE, formatterIn, zoneIdIn,
+                                            PatternCache.get( formatterIn, localeIn ).formatDateTime( dateTimeIn, zoneIdIn, bufferIn ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_DATE_TIME_DATE, formatterIn, zoneIdIn, e );
+        }
     }
 
     /**
@@ -1985,40 +2928,180 @@ public abstract class DateTimeUtil{
      * @see java.util.Locale
      */
     public static String formatDate( Date dateIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn ){
-        LocalDateTime date = DateTimeUtil.getLocalDateTimeFromDate( dateIn, zoneIdIn );
-        return DateTimeUtil.formatDateTime( date, formatterIn, zoneIdIn, localeIn );
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_FORMAT_DATE_DATE, formatterIn, zoneIdIn,
+                                            PatternCache.get( formatterIn, localeIn ).formatDate( dateIn, zoneIdIn ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_DATE_DATE, formatterIn, zoneIdIn, e );
+        }
     }
 
     /**
-     * <p>Formats a "LocalTime" object to "String" object without time formatter and with "ZoneId" and "Locale".</p>
-     * <p>"ZoneId" and "Locale" are set as the system default and "String" time formatter is set as default ("HH:mm:ss").</p>
+     * <p>Formats a "Date" object appending the result to "appendableIn", without date formatter and with "ZoneId" and "Locale".</p>
+     * <p>"ZoneId" and "Locale" are set as the system default and "String" date formatter is set as default ("dd/MM/yyyy").</p>
      * <p>Example:</p>
      * <code>
-     * String result = DateTimeUtil.formatTime( LocalTime.now() );
+     * DateTimeUtil.formatDate( new Date(), builder );
      * </code>
      *
-     * @param timeIn The time as "LocalTime" object.
-     *
-     * @return The time formatted as "String" object.
+     * @param dateIn The date as "Date" object.
+     * @param appendableIn The "Appendable" object, like a "StringBuilder", that receives the formatted date.
      *
      * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
-     * @see java.time.LocalTime
+     * @see java.lang.Appendable
+     * @see java.util.Date
      */
-    public static String formatTime( LocalTime timeIn ){
-        return DateTimeUtil.formatTime( timeIn, DateTimeUtil.DEFAULT_TIME_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE );
+    public static void formatDate( Date dateIn, Appendable appendableIn ){
+        DateTimeUtil.formatDate( dateIn, DateTimeUtil.DEFAULT_DATE_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE, appendableIn );
     }
 
     /**
-     * <p>Formats a "LocalTime" object to "String" object with "ZoneId" and "Locale".</p>
-     * <p>"ZoneId" and "Locale" are set as the system default.</p>
+     * <p>Formats a "Date" object with "ZoneId" and "Locale" appending the result to "appendableIn".</p>
+     * <p>Numeric patterns append the characters directly, without creating any intermediate "String".</p>
      * <p>Example:</p>
      * <code>
-     * String result = DateTimeUtil.formatTime( LocalTime.now(), "HH:mm:ss" );
+     * DateTimeUtil.formatDate( new Date(), "dd/MM/yyyy", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), builder );
      * </code>
      *
-     * @param timeIn The time as "LocalTime" object.
-     * @param formatterIn The format pattern to format "timeIn".
-     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param dateIn The date as "Date" object.
+     * @param formatterIn The format pattern to format "dateIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param appendableIn The "Appendable" object, like a "StringBuilder", that receives the formatted date.
+     *
+     * @throws java.time.DateTimeException If "appendableIn" throws an "IOException".
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.lang.Appendable
+     * @see java.time.format.DateTimeFormatter
+     * @see java.util.Date
+     * @see java.time.ZoneId
+     * @see java.util.Locale
+     */
+    public static void formatDate( Date dateIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn, Appendable appendableIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            PatternCache.get( formatterIn, localeIn ).formatDate( dateIn, zoneIdIn, appendableIn );
+            DateTimeMetrics.success( start, METRIC_FORMAT_DATE_DATE, formatterIn, zoneIdIn );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_DATE_DATE, formatterIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Formats a "Date" object with "ZoneId" and "Locale" as ASCII bytes written to "bytesIn" from "offsetIn".</p>
+     * <p>Numeric patterns write the digits directly, without creating any intermediate object. Nothing is written when
+     * the result does not fit in "bytesIn" or is not ASCII.</p>
+     * <p>Example:</p>
+     * <code>
+     * int length = DateTimeUtil.formatDate( new Date(), "dd/MM/yyyy", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), bytes, 0 );
+     * </code>
+     *
+     * @param dateIn The date as "Date" object.
+     * @param formatterIn The format pattern to format "dateIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param bytesIn The destination array.
+     * @param offsetIn The position of the first byte in "bytesIn".
+     *
+     * @return The number of bytes written.
+     *
+     * @throws IndexOutOfBoundsException If the formatted date does not fit in "bytesIn" from "offsetIn".
+     * @throws java.time.DateTimeException If the formatted date has characters that are not ASCII.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.format.DateTimeFormatter
+     * @see java.util.Date
+     * @see java.time.ZoneId
+     * @see java.util.Locale
+     */
+    public static int formatDate( Date dateIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn, byte[] bytesIn, int offsetIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_FORMAT_DATE_DATE, formatterIn, zoneIdIn,
+                                            PatternCache.get( formatterIn, localeIn ).formatDate( dateIn, zoneIdIn, bytesIn, offsetIn ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_DATE_DATE, formatterIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Formats a "Date" object with "ZoneId" and "Locale" as ASCII bytes put in "bufferIn".</p>
+     * <p>The bytes are written from the current position of "bufferIn", heap or direct, and the position is advanced
+     * past them. Numeric patterns write the digits directly, without creating any intermediate object. Nothing is
+     * written when the result does not fit in "bufferIn" or is not ASCII.</p>
+     * <p>Example:</p>
+     * <code>
+     * int length = DateTimeUtil.formatDate( new Date(), "dd/MM/yyyy", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), buffer );
+     * </code>
+     *
+     * @param dateIn The date as "Date" object.
+     * @param formatterIn The format pattern to format "dateIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param bufferIn The destination buffer.
+     *
+     * @return The number of bytes written.
+     *
+     * @throws java.nio.BufferOverflowException If the formatted date does not fit in the remaining bytes of "bufferIn".
+     * @throws java.nio.ReadOnlyBufferException If "bufferIn" is read-only.
+     * @throws java.time.DateTimeException If the formatted date has characters that are not ASCII.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.nio.ByteBuffer
+     * @see java.time.format.DateTimeFormatter
+     * @see java.util.Date
+     * @see java.time.ZoneId
+     * @see java.util.Locale
+     */
+    public static int formatDate( Date dateIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn, ByteBuffer bufferIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_FORMAT_DATE_DATE, formatterIn, zoneIdIn,
+                                            PatternCache.get( formatterIn, localeIn ).formatDate( dateIn, zoneIdIn, bufferIn ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_DATE_DATE, formatterIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Formats a "LocalTime" object to "String" object without time formatter and with "ZoneId" and "Locale".</p>
+     * <p>"ZoneId" and "Locale" are set as the system default and "String" time formatter is set as default ("HH:mm:ss").</p>
+     * <p>Example:</p>
+     * <code>
+     * String result = DateTimeUtil.formatTime( LocalTime.now() );
+     * </code>
+     *
+     * @param timeIn The time as "LocalTime" object.
+     *
+     * @return The time formatted as "String" object.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.LocalTime
+     */
+    public static String formatTime( LocalTime timeIn ){
+        return DateTimeUtil.formatTime( timeIn, DateTimeUtil.DEFAULT_TIME_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Formats a "LocalTime" object to "String" object with "ZoneId" and "Locale".</p>
+     * <p>"ZoneId" and "Locale" are set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * String result = DateTimeUtil.formatTime( LocalTime.now(), "HH:mm:ss" );
+     * </code>
+     *
+     * @param timeIn The time as "LocalTime" object.
+     * @param formatterIn The format pattern to format "timeIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
      *
      * @return The time formatted as "String" object.
      *
@@ -2162,8 +3245,253 @@ public abstract class DateTimeUtil{
      * @see java.util.Locale
      */
     public static String formatTime( LocalTime timeIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn ){
-        DateTimeFormatter dateTimeFormatter = DateTimeFormatter.ofPattern( formatterIn ).withLocale( localeIn );
-        return timeIn.atDate( LocalDate.now( zoneIdIn ) ).toLocalTime().format( dateTimeFormatter );
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_FORMAT_TIME_LOCAL_TIME, formatterIn, zoneIdIn,
+                                            PatternCache.get( formatterIn, localeIn ).formatTime( timeIn, zoneIdIn ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_TIME_LOCAL_TIME, formatterIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Formats a number of milliseconds since 1970-01-01T00:00:00Z to "String" object without date-time formatter and
+     * with "ZoneId" and "Locale".</p>
+     * <p>"ZoneId" and "Locale" are set as the system default and "String" date-time formatter is set as default ("dd/MM/yyyy HH:mm").</p>
+     * <p>Example:</p>
+     * <code>
+     * String result = DateTimeUtil.formatEpochMillis( System.currentTimeMillis() );
+     * </code>
+     *
+     * @param epochMilliIn The epoch milliseconds.
+     *
+     * @return The date-time formatted as "String" object, the same as "formatDateTime( new Date( epochMilliIn ) )".
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     */
+    public static String formatEpochMillis( long epochMilliIn ){
+        return DateTimeUtil.formatEpochMillis( epochMilliIn, DateTimeUtil.DEFAULT_DATE_TIME_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID,
+                DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Formats a number of milliseconds since 1970-01-01T00:00:00Z to "String" object with "ZoneId" and "Locale".</p>
+     * <p>Numeric patterns take the fields from the epoch milliseconds, without creating any "Date", "Instant" or
+     * "ZonedDateTime" object.</p>
+     * <p>Example:</p>
+     * <code>
+     * String result = DateTimeUtil.formatEpochMillis( System.currentTimeMillis(), "dd/MM/yyyy HH:mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ) );
+     * </code>
+     *
+     * @param epochMilliIn The epoch milliseconds.
+     * @param formatterIn The format pattern to format "epochMilliIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     *
+     * @return The date-time formatted as "String" object, the same as "formatDateTime( new Date( epochMilliIn ), formatterIn, zoneIdIn, localeIn )".
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.format.DateTimeFormatter
+     * @see java.time.ZoneId
+     * @see java.util.Locale
+     */
+    public static String formatEpochMillis( long epochMilliIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_FORMAT_EPOCH_MILLIS, formatterIn, zoneIdIn,
+                                            PatternCache.get( formatterIn, localeIn ).formatEpochMillis( epochMilliIn, zoneIdIn ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_EPOCH_MILLIS, formatterIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Formats a number of days since 1970-01-01 to "String" object without date formatter and with "ZoneId" and
+     * "Locale".</p>
+     * <p>"ZoneId" and "Locale" are set as the system default and "String" date formatter is set as default ("dd/MM/yyyy").</p>
+     * <p>Example:</p>
+     * <code>
+     * String result = DateTimeUtil.formatEpochDay( 18803 );
+     * </code>
+     *
+     * @param epochDayIn The epoch day.
+     *
+     * @return The date formatted as "String" object, the same as "formatDate( LocalDate.ofEpochDay( epochDayIn ) )".
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     */
+    public static String formatEpochDay( int epochDayIn ){
+        return DateTimeUtil.formatEpochDay( epochDayIn, DateTimeUtil.DEFAULT_DATE_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID,
+                DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Formats a number of days since 1970-01-01 to "String" object with "ZoneId" and "Locale".</p>
+     * <p>Numeric date patterns take the fields from the epoch day, without creating any "LocalDate" object.</p>
+     * <p>Example:</p>
+     * <code>
+     * String result = DateTimeUtil.formatEpochDay( 18803, "dd/MM/yyyy", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ) );
+     * </code>
+     *
+     * @param epochDayIn The epoch day.
+     * @param formatterIn The format pattern to format "epochDayIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     *
+     * @return The date formatted as "String" object, the same as "formatDate( LocalDate.ofEpochDay( epochDayIn ), formatterIn, zoneIdIn, localeIn )".
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.format.DateTimeFormatter
+     * @see java.time.ZoneId
+     * @see java.util.Locale
+     */
+    public static String formatEpochDay( int epochDayIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_FORMAT_EPOCH_DAY, formatterIn, zoneIdIn,
+                                            PatternCache.get( formatterIn, localeIn ).formatEpochDay( epochDayIn, zoneIdIn ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_EPOCH_DAY, formatterIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Formats a "LocalTime" object appending the result to "appendableIn", without time formatter and with "ZoneId" and "Locale".</p>
+     * <p>"ZoneId" and "Locale" are set as the system default and "String" time formatter is set as default ("HH:mm:ss").</p>
+     * <p>Example:</p>
+     * <code>
+     * DateTimeUtil.formatTime( LocalTime.now(), builder );
+     * </code>
+     *
+     * @param timeIn The time as "LocalTime" object.
+     * @param appendableIn The "Appendable" object, like a "StringBuilder", that receives the formatted time.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.lang.Appendable
+     * @see java.time.LocalTime
+     */
+    public static void formatTime( LocalTime timeIn, Appendable appendableIn ){
+        DateTimeUtil.formatTime( timeIn, DateTimeUtil.DEFAULT_TIME_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE, appendableIn );
+    }
+
+    /**
+     * <p>Formats a "LocalTime" object with "ZoneId" and "Locale" appending the result to "appendableIn".</p>
+     * <p>Numeric patterns append the characters directly, without creating any intermediate "String".</p>
+     * <p>Example:</p>
+     * <code>
+     * DateTimeUtil.formatTime( LocalTime.now(), "HH:mm:ss", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), builder );
+     * </code>
+     *
+     * @param timeIn The time as "LocalTime" object.
+     * @param formatterIn The format pattern to format "timeIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param appendableIn The "Appendable" object, like a "StringBuilder", that receives the formatted time.
+     *
+     * @throws java.time.DateTimeException If "appendableIn" throws an "IOException".
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.lang.Appendable
+     * @see java.time.format.DateTimeFormatter
+     * @see java.time.LocalTime
+     * @see java.time.ZoneId
+     * @see java.util.Locale
+     */
+    public static void formatTime( LocalTime timeIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn, Appendable appendableIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            PatternCache.get( formatterIn, localeIn ).formatTime( timeIn, zoneIdIn, appendableIn );
+            DateTimeMetrics.success( start, METRIC_FORMAT_TIME_LOCAL_TIME, formatterIn, zoneIdIn );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_TIME_LOCAL_TIME, formatterIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Formats a "LocalTime" object with "ZoneId" and "Locale" as ASCII bytes written to "bytesIn" from "offsetIn".</p>
+     * <p>Numeric patterns write the digits directly, without creating any intermediate object. Nothing is written when
+     * the result does not fit in "bytesIn" or is not ASCII.</p>
+     * <p>Example:</p>
+     * <code>
+     * int length = DateTimeUtil.formatTime( LocalTime.now(), "HH:mm:ss", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), bytes, 0 );
+     * </code>
+     *
+     * @param timeIn The time as "LocalTime" object.
+     * @param formatterIn The format pattern to format "timeIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param bytesIn The destination array.
+     * @param offsetIn The position of the first byte in "bytesIn".
+     *
+     * @return The number of bytes written.
+     *
+     * @throws IndexOutOfBoundsException If the formatted time does not fit in "bytesIn" from "offsetIn".
+     * @throws java.time.DateTimeException If the formatted time has characters that are not ASCII.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.format.DateTimeFormatter
+     * @see java.time.LocalTime
+     * @see java.time.ZoneId
+     * @see java.util.Locale
+     */
+    public static int formatTime( LocalTime timeIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn, byte[] bytesIn, int offsetIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_FORMAT_TIME_LOCAL_TIME, formatterIn, zoneIdIn,
+                                            PatternCache.get( formatterIn, localeIn ).formatTime( timeIn, zoneIdIn, bytesIn, offsetIn ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_TIME_LOCAL_TIME, formatterIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Formats a "LocalTime" object with "ZoneId" and "Locale" as ASCII bytes put in "bufferIn".</p>
+     * <p>The bytes are written from the current position of "bufferIn", heap or direct, and the position is advanced
+     * past them. Numeric patterns write the digits directly, without creating any intermediate object. Nothing is
+     * written when the result does not fit in "bufferIn" or is not ASCII.</p>
+     * <p>Example:</p>
+     * <code>
+     * int length = DateTimeUtil.formatTime( LocalTime.now(), "HH:mm:ss", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), buffer );
+     * </code>
+     *
+     * @param timeIn The time as "LocalTime" object.
+     * @param formatterIn The format pattern to format "timeIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param bufferIn The destination buffer.
+     *
+     * @return The number of bytes written.
+     *
+     * @throws java.nio.BufferOverflowException If the formatted time does not fit in the remaining bytes of "bufferIn".
+     * @throws java.nio.ReadOnlyBufferException If "bufferIn" is read-only.
+     * @throws java.time.DateTimeException If the formatted time has characters that are not ASCII.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.nio.ByteBuffer
+     * @see java.time.format.DateTimeFormatter
+     * @see java.time.LocalTime
+     * @see java.time.ZoneId
+     * @see java.util.Locale
+     */
+    public static int formatTime( LocalTime timeIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn, ByteBuffer bufferIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_FORMAT_TIME_LOCAL_TIME, formatterIn, zoneIdIn,
+                                            PatternCache.get( formatterIn, localeIn ).formatTime( timeIn, zoneIdIn, bufferIn ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_TIME_LOCAL_TIME, formatterIn, zoneIdIn, e );
+        }
     }
 
     /**
@@ -2347,8 +3675,14 @@ public abstract class DateTimeUtil{
      * @see java.util.Locale
      */
     public static String formatDate( String dateIn, String patternIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn ){
-        LocalDate date = DateTimeUtil.getLocalDateFromString( dateIn, patternIn, zoneIdIn, localeIn );
-        return DateTimeUtil.formatDate( date, formatterIn, zoneIdIn, localeIn );
+        final long start = DateTimeMetrics.start();
+        try{
+            final LocalDate date = PatternCache.get( patternIn, localeIn ).getLocalDateFromString( dateIn, zoneIdIn );
+            return DateTimeMetrics.success( start, METRIC_FORMAT_DATE_STRING, patternIn, zoneIdIn, PatternCache.get( formatterIn, localeIn ).formatDate( date, zoneIdIn ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_DATE_STRING, patternIn, zoneIdIn, e );
+        }
     }
 
     /**
@@ -2531,8 +3865,14 @@ public abstract class DateTimeUtil{
      * @see java.util.Locale
      */
     public static String formatDateTime( String dateTimeIn, String patternIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn ){
-        LocalDateTime date = DateTimeUtil.getLocalDateTimeFromString( dateTimeIn, patternIn, zoneIdIn, localeIn );
-        return DateTimeUtil.formatDateTime( date, formatterIn, zoneIdIn, localeIn );
+        final long start = DateTimeMetrics.start();
+        try{
+            final LocalDateTime dateTime = PatternCache.get( patternIn, localeIn ).getLocalDateTimeFromString( dateTimeIn, zoneIdIn );
+            return DateTimeMetrics.success( start, METRIC_FORMAT_DATE_TIME_STRING, patternIn, zoneIdIn, PatternCache.get( formatterIn, localeIn ).formatDateTime( dateTime, zoneIdIn ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_DATE_TIME_STRING, patternIn, zoneIdIn, e );
+        }
     }
 
     /**
@@ -2716,8 +4056,3029 @@ public abstract class DateTimeUtil{
      * @see java.util.Locale
      */
     public static String formatTime( String timeIn, String patternIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn ){
-        LocalTime time = DateTimeUtil.getLocalTimeFromString( timeIn, patternIn, zoneIdIn, localeIn );
-        return DateTimeUtil.formatTime( time, formatterIn, zoneIdIn, localeIn );
+        final long start = DateTimeMetrics.start();
+        try{
+            final LocalTime time = PatternCache.get( patternIn, localeIn ).getLocalTimeFromString( timeIn, zoneIdIn );
+            return DateTimeMetrics.success( start, METRIC_FORMAT_TIME_STRING, patternIn, zoneIdIn, PatternCache.get( formatterIn, localeIn ).formatTime( time, zoneIdIn ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_TIME_STRING, patternIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Converts the "LocalDate" objects of an array in "Date" objects.</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * Date[] result = DateTimeUtil.getDatesFromLocalDates( dates );
+     * </code>
+     *
+     * @param datesIn The "LocalDate" objects.
+     *
+     * @return The "Date" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getDateFromLocalDate(LocalDate)
+     */
+    public static Date[] getDatesFromLocalDates( LocalDate[] datesIn ){
+        return DateTimeUtil.getDatesFromLocalDates( datesIn, DateTimeUtil.DEFAULT_ZONE_ID );
+    }
+
+    /**
+     * <p>Converts the "LocalDate" objects of an array in "Date" objects with "ZoneId".</p>
+     * <p>Example:</p>
+     * <code>
+     * Date[] result = DateTimeUtil.getDatesFromLocalDates( dates, ZoneId.of( "Europe/Paris" ) );
+     * </code>
+     *
+     * @param datesIn The "LocalDate" objects.
+     * @param zoneIdIn The "ZoneId" object.
+     *
+     * @return The "Date" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getDateFromLocalDate(LocalDate, ZoneId)
+     */
+    public static Date[] getDatesFromLocalDates( LocalDate[] datesIn, ZoneId zoneIdIn ){
+        return DateTimeUtil.getDatesFromLocalDates( datesIn, zoneIdIn, new Date[ datesIn.length ] );
+    }
+
+    /**
+     * <p>Converts the "LocalDate" objects of an array in "Date" objects with "ZoneId", putting them in an array given
+     * by the caller.</p>
+     * <p>"ZoneId" is resolved once for the whole array, and every element gets the same result as
+     * "getDateFromLocalDate". The results are put in the same positions of "resultsIn", so the same array can be reused
+     * for many calls. When an element fails, the elements before it have already been put in "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * Date[] result = DateTimeUtil.getDatesFromLocalDates( dates, ZoneId.of( "Europe/Paris" ), new Date[ dates.length ] );
+     * </code>
+     *
+     * @param datesIn The "LocalDate" objects.
+     * @param zoneIdIn The "ZoneId" object.
+     * @param resultsIn The array where the "Date" objects are put, at least as long as "datesIn".
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "datesIn", "zoneIdIn" or "resultsIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "datesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getDateFromLocalDate(LocalDate, ZoneId)
+     * @see java.time.ZoneId
+     */
+    public static Date[] getDatesFromLocalDates( LocalDate[] datesIn, ZoneId zoneIdIn, Date[] resultsIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_GET_DATES_FROM_LOCAL_DATES, null, zoneIdIn,
+                                            BulkConversion.convert( datesIn, zoneIdIn, resultsIn, date -> DateConversions.toDate( date, zoneIdIn ) ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_DATES_FROM_LOCAL_DATES, null, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Converts the "LocalDate" objects of an array in "Date" objects with "ZoneId", putting them in an array given
+     * by the caller and converting them in parallel.</p>
+     * <p>The array is split into ranges converted by the workers of "poolIn", such as "ForkJoinPool.commonPool()", and
+     * every element gets the same result as the sequential method, put in the same position of "resultsIn". The size of
+     * the ranges adapts to the length of the array and the parallelism of the pool, and short arrays are converted in
+     * the calling thread. When several elements fail, the exception is the one of the element with the lowest index and
+     * all the elements before it have been put in "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * Date[] result = DateTimeUtil.getDatesFromLocalDates( dates, ZoneId.of( "Europe/Paris" ), new Date[ dates.length ], ForkJoinPool.commonPool() );
+     * </code>
+     *
+     * @param datesIn The "LocalDate" objects.
+     * @param zoneIdIn The "ZoneId" object.
+     * @param resultsIn The array where the "Date" objects are put, at least as long as "datesIn".
+     * @param poolIn The "ForkJoinPool" object that runs the conversion.
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "datesIn", "zoneIdIn", "resultsIn" or "poolIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "datesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getDateFromLocalDate(LocalDate, ZoneId)
+     * @see java.time.ZoneId
+     * @see java.util.concurrent.ForkJoinPool
+     */
+    public static Date[] getDatesFromLocalDates( LocalDate[] datesIn, ZoneId zoneIdIn, Date[] resultsIn, ForkJoinPool poolIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_GET_DATES_FROM_LOCAL_DATES, null, zoneIdIn,
+                                            BulkConversion.convert( datesIn, zoneIdIn, resultsIn, poolIn, date -> DateConversions.toDate( date, zoneIdIn ) ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_DATES_FROM_LOCAL_DATES, null, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Converts the "LocalDateTime" objects of an array in "Date" objects.</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * Date[] result = DateTimeUtil.getDatesFromLocalDateTimes( dateTimes );
+     * </code>
+     *
+     * @param dateTimesIn The "LocalDateTime" objects.
+     *
+     * @return The "Date" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getDateFromLocalDateTime(LocalDateTime)
+     */
+    public static Date[] getDatesFromLocalDateTimes( LocalDateTime[] dateTimesIn ){
+        return DateTimeUtil.getDatesFromLocalDateTimes( dateTimesIn, DateTimeUtil.DEFAULT_ZONE_ID );
+    }
+
+    /**
+     * <p>Converts the "LocalDateTime" objects of an array in "Date" objects with "ZoneId".</p>
+     * <p>Example:</p>
+     * <code>
+     * Date[] result = DateTimeUtil.getDatesFromLocalDateTimes( dateTimes, ZoneId.of( "Europe/Paris" ) );
+     * </code>
+     *
+     * @param dateTimesIn The "LocalDateTime" objects.
+     * @param zoneIdIn The "ZoneId" object.
+     *
+     * @return The "Date" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getDateFromLocalDateTime(LocalDateTime, ZoneId)
+     */
+    public static Date[] getDatesFromLocalDateTimes( LocalDateTime[] dateTimesIn, ZoneId zoneIdIn ){
+        return DateTimeUtil.getDatesFromLocalDateTimes( dateTimesIn, zoneIdIn, new Date[ dateTimesIn.length ] );
+    }
+
+    /**
+     * <p>Converts the "LocalDateTime" objects of an array in "Date" objects with "ZoneId", putting them in an array given
+     * by the caller.</p>
+     * <p>"ZoneId" is resolved once for the whole array, and every element gets the same result as
+     * "getDateFromLocalDateTime". The results are put in the same positions of "resultsIn", so the same array can be
+     * reused for many calls. When an element fails, the elements before it have already been put in "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * Date[] result = DateTimeUtil.getDatesFromLocalDateTimes( dateTimes, ZoneId.of( "Europe/Paris" ), new Date[ dateTimes.length ] );
+     * </code>
+     *
+     * @param dateTimesIn The "LocalDateTime" objects.
+     * @param zoneIdIn The "ZoneId" object.
+     * @param resultsIn The array where the "Date" objects are put, at least as long as "dateTimesIn".
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "dateTimesIn", "zoneIdIn" or "resultsIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "dateTimesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getDateFromLocalDateTime(LocalDateTime, ZoneId)
+     * @see java.time.ZoneId
+     */
+    public static Date[] getDatesFromLocalDateTimes( LocalDateTime[] dateTimesIn, ZoneId zoneIdIn, Date[] resultsIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_GET_DATES_FROM_LOCAL_DATE_TIMES, null, zoneIdIn,
+                                            BulkConversion.convert( dateTimesIn, zoneIdIn, resultsIn, dateTime -> DateConversions.toDate( dateTime, zoneIdIn ) ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_DATES_FROM_LOCAL_DATE_TIMES, null, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Converts the "LocalDateTime" objects of an array in "Date" objects with "ZoneId", putting them in an array given
+     * by the caller and converting them in parallel.</p>
+     * <p>The array is split into ranges converted by the workers of "poolIn", such as "ForkJoinPool.commonPool()", and
+     * every element gets the same result as the sequential method, put in the same position of "resultsIn". The size of
+     * the ranges adapts to the length of the array and the parallelism of the pool, and short arrays are converted in
+     * the calling thread. When several elements fail, the exception is the one of the element with the lowest index and
+     * all the elements before it have been put in "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * Date[] result = DateTimeUtil.getDatesFromLocalDateTimes( dateTimes, ZoneId.of( "Europe/Paris" ), new Date[ dateTimes.length ], ForkJoinPool.commonPool() );
+     * </code>
+     *
+     * @param dateTimesIn The "LocalDateTime" objects.
+     * @param zoneIdIn The "ZoneId" object.
+     * @param resultsIn The array where the "Date" objects are put, at least as long as "dateTimesIn".
+     * @param poolIn The "ForkJoinPool" object that runs the conversion.
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "dateTimesIn", "zoneIdIn", "resultsIn" or "poolIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "dateTimesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getDateFromLocalDateTime(LocalDateTime, ZoneId)
+     * @see java.time.ZoneId
+     * @see java.util.concurrent.ForkJoinPool
+     */
+    public static Date[] getDatesFromLocalDateTimes( LocalDateTime[] dateTimesIn, ZoneId zoneIdIn, Date[] resultsIn, ForkJoinPool poolIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_GET_DATES_FROM_LOCAL_DATE_TIMES, null, zoneIdIn,
+                                            BulkConversion.convert( dateTimesIn, zoneIdIn, resultsIn, poolIn, dateTime -> DateConversions.toDate( dateTime, zoneIdIn ) ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_DATES_FROM_LOCAL_DATE_TIMES, null, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Converts the "Date" objects of an array in "LocalDate" objects.</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalDate[] result = DateTimeUtil.getLocalDatesFromDates( dates );
+     * </code>
+     *
+     * @param datesIn The "Date" objects.
+     *
+     * @return The "LocalDate" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalDateFromDate(Date)
+     */
+    public static LocalDate[] getLocalDatesFromDates( Date[] datesIn ){
+        return DateTimeUtil.getLocalDatesFromDates( datesIn, DateTimeUtil.DEFAULT_ZONE_ID );
+    }
+
+    /**
+     * <p>Converts the "Date" objects of an array in "LocalDate" objects with "ZoneId".</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalDate[] result = DateTimeUtil.getLocalDatesFromDates( dates, ZoneId.of( "Europe/Paris" ) );
+     * </code>
+     *
+     * @param datesIn The "Date" objects.
+     * @param zoneIdIn The "ZoneId" object.
+     *
+     * @return The "LocalDate" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalDateFromDate(Date, ZoneId)
+     */
+    public static LocalDate[] getLocalDatesFromDates( Date[] datesIn, ZoneId zoneIdIn ){
+        return DateTimeUtil.getLocalDatesFromDates( datesIn, zoneIdIn, new LocalDate[ datesIn.length ] );
+    }
+
+    /**
+     * <p>Converts the "Date" objects of an array in "LocalDate" objects with "ZoneId", putting them in an array given
+     * by the caller.</p>
+     * <p>"ZoneId" is resolved once for the whole array, and every element gets the same result as
+     * "getLocalDateFromDate". The results are put in the same positions of "resultsIn", so the same array can be reused
+     * for many calls. When an element fails, the elements before it have already been put in "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalDate[] result = DateTimeUtil.getLocalDatesFromDates( dates, ZoneId.of( "Europe/Paris" ), new LocalDate[ dates.length ] );
+     * </code>
+     *
+     * @param datesIn The "Date" objects.
+     * @param zoneIdIn The "ZoneId" object.
+     * @param resultsIn The array where the "LocalDate" objects are put, at least as long as "datesIn".
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "datesIn", "zoneIdIn" or "resultsIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "datesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalDateFromDate(Date, ZoneId)
+     * @see java.time.ZoneId
+     */
+    public static LocalDate[] getLocalDatesFromDates( Date[] datesIn, ZoneId zoneIdIn, LocalDate[] resultsIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_GET_LOCAL_DATES_FROM_DATES, null, zoneIdIn,
+                                            BulkConversion.convert( datesIn, zoneIdIn, resultsIn, date -> DateConversions.toLocalDate( date, zoneIdIn ) ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_LOCAL_DATES_FROM_DATES, null, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Converts the "Date" objects of an array in "LocalDate" objects with "ZoneId", putting them in an array given
+     * by the caller and converting them in parallel.</p>
+     * <p>The array is split into ranges converted by the workers of "poolIn", such as "ForkJoinPool.commonPool()", and
+     * every element gets the same result as the sequential method, put in the same position of "resultsIn". The size of
+     * the ranges adapts to the length of the array and the parallelism of the pool, and short arrays are converted in
+     * the calling thread. When several elements fail, the exception is the one of the element with the lowest index and
+     * all the elements before it have been put in "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalDate[] result = DateTimeUtil.getLocalDatesFromDates( dates, ZoneId.of( "Europe/Paris" ), new LocalDate[ dates.length ], ForkJoinPool.commonPool() );
+     * </code>
+     *
+     * @param datesIn The "Date" objects.
+     * @param zoneIdIn The "ZoneId" object.
+     * @param resultsIn The array where the "LocalDate" objects are put, at least as long as "datesIn".
+     * @param poolIn The "ForkJoinPool" object that runs the conversion.
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "datesIn", "zoneIdIn", "resultsIn" or "poolIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "datesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalDateFromDate(Date, ZoneId)
+     * @see java.time.ZoneId
+     * @see java.util.concurrent.ForkJoinPool
+     */
+    public static LocalDate[] getLocalDatesFromDates( Date[] datesIn, ZoneId zoneIdIn, LocalDate[] resultsIn, ForkJoinPool poolIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_GET_LOCAL_DATES_FROM_DATES, null, zoneIdIn,
+                                            BulkConversion.convert( datesIn, zoneIdIn, resultsIn, poolIn, date -> DateConversions.toLocalDate( date, zoneIdIn ) ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_LOCAL_DATES_FROM_DATES, null, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Converts the "Date" objects of an array in "LocalDateTime" objects.</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalDateTime[] result = DateTimeUtil.getLocalDateTimesFromDates( dates );
+     * </code>
+     *
+     * @param datesIn The "Date" objects.
+     *
+     * @return The "LocalDateTime" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalDateTimeFromDate(Date)
+     */
+    public static LocalDateTime[] getLocalDateTimesFromDates( Date[] datesIn ){
+        return DateTimeUtil.getLocalDateTimesFromDates( datesIn, DateTimeUtil.DEFAULT_ZONE_ID );
+    }
+
+    /**
+     * <p>Converts the "Date" objects of an array in "LocalDateTime" objects with "ZoneId".</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalDateTime[] result = DateTimeUtil.getLocalDateTimesFromDates( dates, ZoneId.of( "Europe/Paris" ) );
+     * </code>
+     *
+     * @param datesIn The "Date" objects.
+     * @param zoneIdIn The "ZoneId" object.
+     *
+     * @return The "LocalDateTime" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalDateTimeFromDate(Date, ZoneId)
+     */
+    public static LocalDateTime[] getLocalDateTimesFromDates( Date[] datesIn, ZoneId zoneIdIn ){
+        return DateTimeUtil.getLocalDateTimesFromDates( datesIn, zoneIdIn, new LocalDateTime[ datesIn.length ] );
+    }
+
+    /**
+     * <p>Converts the "Date" objects of an array in "LocalDateTime" objects with "ZoneId", putting them in an array given
+     * by the caller.</p>
+     * <p>"ZoneId" is resolved once for the whole array, and every element gets the same result as
+     * "getLocalDateTimeFromDate". The results are put in the same positions of "resultsIn", so the same array can be
+     * reused for many calls. When an element fails, the elements before it have already been put in "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalDateTime[] result = DateTimeUtil.getLocalDateTimesFromDates( dates, ZoneId.of( "Europe/Paris" ), new LocalDateTime[ dates.length ] );
+     * </code>
+     *
+     * @param datesIn The "Date" objects.
+     * @param zoneIdIn The "ZoneId" object.
+     * @param resultsIn The array where the "LocalDateTime" objects are put, at least as long as "datesIn".
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "datesIn", "zoneIdIn" or "resultsIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "datesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalDateTimeFromDate(Date, ZoneId)
+     * @see java.time.ZoneId
+     */
+    public static LocalDateTime[] getLocalDateTimesFromDates( Date[] datesIn, ZoneId zoneIdIn, LocalDateTime[] resultsIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_GET_LOCAL_DATE_TIMES_FROM_DATES, null, zoneIdIn,
+                                            BulkConversion.convert( datesIn, zoneIdIn, resultsIn, date -> DateConversions.toLocalDateTime( date, zoneIdIn ) ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_LOCAL_DATE_TIMES_FROM_DATES, null, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Converts the "Date" objects of an array in "LocalDateTime" objects with "ZoneId", putting them in an array given
+     * by the caller and converting them in parallel.</p>
+     * <p>The array is split into ranges converted by the workers of "poolIn", such as "ForkJoinPool.commonPool()", and
+     * every element gets the same result as the sequential method, put in the same position of "resultsIn". The size of
+     * the ranges adapts to the length of the array and the parallelism of the pool, and short arrays are converted in
+     * the calling thread. When several elements fail, the exception is the one of the element with the lowest index and
+     * all the elements before it have been put in "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalDateTime[] result = DateTimeUtil.getLocalDateTimesFromDates( dates, ZoneId.of( "Europe/Paris" ), new LocalDateTime[ dates.length ], ForkJoinPool.commonPool() );
+     * </code>
+     *
+     * @param datesIn The "Date" objects.
+     * @param zoneIdIn The "ZoneId" object.
+     * @param resultsIn The array where the "LocalDateTime" objects are put, at least as long as "datesIn".
+     * @param poolIn The "ForkJoinPool" object that runs the conversion.
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "datesIn", "zoneIdIn", "resultsIn" or "poolIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "datesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalDateTimeFromDate(Date, ZoneId)
+     * @see java.time.ZoneId
+     * @see java.util.concurrent.ForkJoinPool
+     */
+    public static LocalDateTime[] getLocalDateTimesFromDates( Date[] datesIn, ZoneId zoneIdIn, LocalDateTime[] resultsIn, ForkJoinPool poolIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_GET_LOCAL_DATE_TIMES_FROM_DATES, null, zoneIdIn,
+                                            BulkConversion.convert( datesIn, zoneIdIn, resultsIn, poolIn, date -> DateConversions.toLocalDateTime( date, zoneIdIn ) ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_LOCAL_DATE_TIMES_FROM_DATES, null, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Converts the "Date" objects of an array in "LocalTime" objects.</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalTime[] result = DateTimeUtil.getLocalTimesFromDates( dates );
+     * </code>
+     *
+     * @param dateTimesIn The "Date" objects.
+     *
+     * @return The "LocalTime" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalTimeFromDate(Date)
+     */
+    public static LocalTime[] getLocalTimesFromDates( Date[] dateTimesIn ){
+        return DateTimeUtil.getLocalTimesFromDates( dateTimesIn, DateTimeUtil.DEFAULT_ZONE_ID );
+    }
+
+    /**
+     * <p>Converts the "Date" objects of an array in "LocalTime" objects with "ZoneId".</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalTime[] result = DateTimeUtil.getLocalTimesFromDates( dates, ZoneId.of( "Europe/Paris" ) );
+     * </code>
+     *
+     * @param dateTimesIn The "Date" objects.
+     * @param zoneIdIn The "ZoneId" object.
+     *
+     * @return The "LocalTime" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalTimeFromDate(Date, ZoneId)
+     */
+    public static LocalTime[] getLocalTimesFromDates( Date[] dateTimesIn, ZoneId zoneIdIn ){
+        return DateTimeUtil.getLocalTimesFromDates( dateTimesIn, zoneIdIn, new LocalTime[ dateTimesIn.length ] );
+    }
+
+    /**
+     * <p>Converts the "Date" objects of an array in "LocalTime" objects with "ZoneId", putting them in an array given
+     * by the caller.</p>
+     * <p>"ZoneId" is resolved once for the whole array, and every element gets the same result as
+     * "getLocalTimeFromDate". The results are put in the same positions of "resultsIn", so the same array can be reused
+     * for many calls. When an element fails, the elements before it have already been put in "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalTime[] result = DateTimeUtil.getLocalTimesFromDates( dates, ZoneId.of( "Europe/Paris" ), new LocalTime[ dates.length ] );
+     * </code>
+     *
+     * @param dateTimesIn The "Date" objects.
+     * @param zoneIdIn The "ZoneId" object.
+     * @param resultsIn The array where the "LocalTime" objects are put, at least as long as "dateTimesIn".
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "dateTimesIn", "zoneIdIn" or "resultsIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "dateTimesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalTimeFromDate(Date, ZoneId)
+     * @see java.time.ZoneId
+     */
+    public static LocalTime[] getLocalTimesFromDates( Date[] dateTimesIn, ZoneId zoneIdIn, LocalTime[] resultsIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_GET_LOCAL_TIMES_FROM_DATES, null, zoneIdIn,
+                                            BulkConversion.convert( dateTimesIn, zoneIdIn, resultsIn, dateTime -> DateConversions.toLocalDateTime( dateTime, zoneIdIn ).toLocalTime() ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_LOCAL_TIMES_FROM_DATES, null, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Converts the "Date" objects of an array in "LocalTime" objects with "ZoneId", putting them in an array given
+     * by the caller and converting them in parallel.</p>
+     * <p>The array is split into ranges converted by the workers of "poolIn", such as "ForkJoinPool.commonPool()", and
+     * every element gets the same result as the sequential method, put in the same position of "resultsIn". The size of
+     * the ranges adapts to the length of the array and the parallelism of the pool, and short arrays are converted in
+     * the calling thread. When several elements fail, the exception is the one of the element with the lowest index and
+     * all the elements before it have been put in "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalTime[] result = DateTimeUtil.getLocalTimesFromDates( dates, ZoneId.of( "Europe/Paris" ), new LocalTime[ dates.length ], ForkJoinPool.commonPool() );
+     * </code>
+     *
+     * @param dateTimesIn The "Date" objects.
+     * @param zoneIdIn The "ZoneId" object.
+     * @param resultsIn The array where the "LocalTime" objects are put, at least as long as "dateTimesIn".
+     * @param poolIn The "ForkJoinPool" object that runs the conversion.
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "dateTimesIn", "zoneIdIn", "resultsIn" or "poolIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "dateTimesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalTimeFromDate(Date, ZoneId)
+     * @see java.time.ZoneId
+     * @see java.util.concurrent.ForkJoinPool
+     */
+    public static LocalTime[] getLocalTimesFromDates( Date[] dateTimesIn, ZoneId zoneIdIn, LocalTime[] resultsIn, ForkJoinPool poolIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_GET_LOCAL_TIMES_FROM_DATES, null, zoneIdIn,
+                                            BulkConversion.convert( dateTimesIn, zoneIdIn, resultsIn, poolIn, dateTime -> DateConversions.toLocalDateTime( dateTime, zoneIdIn ).toLocalTime() ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_LOCAL_TIMES_FROM_DATES, null, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Converts the "LocalDate" objects of an array in "LocalDateTime" objects.</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalDateTime[] result = DateTimeUtil.getLocalDateTimesFromLocalDates( dates );
+     * </code>
+     *
+     * @param datesIn The "LocalDate" objects.
+     *
+     * @return The "LocalDateTime" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalDateTimeFromLocalDate(LocalDate)
+     */
+    public static LocalDateTime[] getLocalDateTimesFromLocalDates( LocalDate[] datesIn ){
+        return DateTimeUtil.getLocalDateTimesFromLocalDates( datesIn, DateTimeUtil.DEFAULT_ZONE_ID );
+    }
+
+    /**
+     * <p>Converts the "LocalDate" objects of an array in "LocalDateTime" objects with "ZoneId".</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalDateTime[] result = DateTimeUtil.getLocalDateTimesFromLocalDates( dates, ZoneId.of( "Europe/Paris" ) );
+     * </code>
+     *
+     * @param datesIn The "LocalDate" objects.
+     * @param zoneIdIn The "ZoneId" object.
+     *
+     * @return The "LocalDateTime" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalDateTimeFromLocalDate(LocalDate, ZoneId)
+     */
+    public static LocalDateTime[] getLocalDateTimesFromLocalDates( LocalDate[] datesIn, ZoneId zoneIdIn ){
+        return DateTimeUtil.getLocalDateTimesFromLocalDates( datesIn, zoneIdIn, new LocalDateTime[ datesIn.length ] );
+    }
+
+    /**
+     * <p>Converts the "LocalDate" objects of an array in "LocalDateTime" objects with "ZoneId", putting them in an array given
+     * by the caller.</p>
+     * <p>"ZoneId" is resolved once for the whole array, and every element gets the same result as
+     * "getLocalDateTimeFromLocalDate". The results are put in the same positions of "resultsIn", so the same array can
+     * be reused for many calls. When an element fails, the elements before it have already been put in "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalDateTime[] result = DateTimeUtil.getLocalDateTimesFromLocalDates( dates, ZoneId.of( "Europe/Paris" ), new LocalDateTime[ dates.length ] );
+     * </code>
+     *
+     * @param datesIn The "LocalDate" objects.
+     * @param zoneIdIn The "ZoneId" object.
+     * @param resultsIn The array where the "LocalDateTime" objects are put, at least as long as "datesIn".
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "datesIn", "zoneIdIn" or "resultsIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "datesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalDateTimeFromLocalDate(LocalDate, ZoneId)
+     * @see java.time.ZoneId
+     */
+    public static LocalDateTime[] getLocalDateTimesFromLocalDates( LocalDate[] datesIn, ZoneId zoneIdIn, LocalDateTime[] resultsIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_GET_LOCAL_DATE_TIMES_FROM_LOCAL_DATES, null, zoneIdIn,
+                                            BulkConversion.convert( datesIn, zoneIdIn, resultsIn, date -> ZoneGaps.atStartOfDay( date, zoneIdIn ) ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_LOCAL_DATE_TIMES_FROM_LOCAL_DATES, null, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Converts the "LocalDate" objects of an array in "LocalDateTime" objects with "ZoneId", putting them in an array given
+     * by the caller and converting them in parallel.</p>
+     * <p>The array is split into ranges converted by the workers of "poolIn", such as "ForkJoinPool.commonPool()", and
+     * every element gets the same result as the sequential method, put in the same position of "resultsIn". The size of
+     * the ranges adapts to the length of the array and the parallelism of the pool, and short arrays are converted in
+     * the calling thread. When several elements fail, the exception is the one of the element with the lowest index and
+     * all the elements before it have been put in "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalDateTime[] result = DateTimeUtil.getLocalDateTimesFromLocalDates( dates, ZoneId.of( "Europe/Paris" ), new LocalDateTime[ dates.length ], ForkJoinPool.commonPool() );
+     * </code>
+     *
+     * @param datesIn The "LocalDate" objects.
+     * @param zoneIdIn The "ZoneId" object.
+     * @param resultsIn The array where the "LocalDateTime" objects are put, at least as long as "datesIn".
+     * @param poolIn The "ForkJoinPool" object that runs the conversion.
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "datesIn", "zoneIdIn", "resultsIn" or "poolIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "datesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalDateTimeFromLocalDate(LocalDate, ZoneId)
+     * @see java.time.ZoneId
+     * @see java.util.concurrent.ForkJoinPool
+     */
+    public static LocalDateTime[] getLocalDateTimesFromLocalDates( LocalDate[] datesIn, ZoneId zoneIdIn, LocalDateTime[] resultsIn, ForkJoinPool poolIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_GET_LOCAL_DATE_TIMES_FROM_LOCAL_DATES, null, zoneIdIn,
+                                            BulkConversion.convert( datesIn, zoneIdIn, resultsIn, poolIn, date -> ZoneGaps.atStartOfDay( date, zoneIdIn ) ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_LOCAL_DATE_TIMES_FROM_LOCAL_DATES, null, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Converts the "LocalDateTime" objects of an array in "LocalDate" objects.</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalDate[] result = DateTimeUtil.getLocalDatesFromLocalDateTimes( dateTimes );
+     * </code>
+     *
+     * @param dateTimesIn The "LocalDateTime" objects.
+     *
+     * @return The "LocalDate" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalDateFromLocalDateTime(LocalDateTime)
+     */
+    public static LocalDate[] getLocalDatesFromLocalDateTimes( LocalDateTime[] dateTimesIn ){
+        return DateTimeUtil.getLocalDatesFromLocalDateTimes( dateTimesIn, DateTimeUtil.DEFAULT_ZONE_ID );
+    }
+
+    /**
+     * <p>Converts the "LocalDateTime" objects of an array in "LocalDate" objects with "ZoneId".</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalDate[] result = DateTimeUtil.getLocalDatesFromLocalDateTimes( dateTimes, ZoneId.of( "Europe/Paris" ) );
+     * </code>
+     *
+     * @param dateTimesIn The "LocalDateTime" objects.
+     * @param zoneIdIn The "ZoneId" object.
+     *
+     * @return The "LocalDate" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalDateFromLocalDateTime(LocalDateTime, ZoneId)
+     */
+    public static LocalDate[] getLocalDatesFromLocalDateTimes( LocalDateTime[] dateTimesIn, ZoneId zoneIdIn ){
+        return DateTimeUtil.getLocalDatesFromLocalDateTimes( dateTimesIn, zoneIdIn, new LocalDate[ dateTimesIn.length ] );
+    }
+
+    /**
+     * <p>Converts the "LocalDateTime" objects of an array in "LocalDate" objects with "ZoneId", putting them in an array given
+     * by the caller.</p>
+     * <p>"ZoneId" is resolved once for the whole array, and every element gets the same result as
+     * "getLocalDateFromLocalDateTime". The results are put in the same positions of "resultsIn", so the same array can
+     * be reused for many calls. When an element fails, the elements before it have already been put in "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalDate[] result = DateTimeUtil.getLocalDatesFromLocalDateTimes( dateTimes, ZoneId.of( "Europe/Paris" ), new LocalDate[ dateTimes.length ] );
+     * </code>
+     *
+     * @param dateTimesIn The "LocalDateTime" objects.
+     * @param zoneIdIn The "ZoneId" object.
+     * @param resultsIn The array where the "LocalDate" objects are put, at least as long as "dateTimesIn".
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "dateTimesIn", "zoneIdIn" or "resultsIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "dateTimesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalDateFromLocalDateTime(LocalDateTime, ZoneId)
+     * @see java.time.ZoneId
+     */
+    public static LocalDate[] getLocalDatesFromLocalDateTimes( LocalDateTime[] dateTimesIn, ZoneId zoneIdIn, LocalDate[] resultsIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_GET_LOCAL_DATES_FROM_LOCAL_DATE_TIMES, null, zoneIdIn,
+                                            BulkConversion.convert( dateTimesIn, zoneIdIn, resultsIn, dateTime -> ZoneGaps.atZone( dateTime, zoneIdIn ).toLocalDate() ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_LOCAL_DATES_FROM_LOCAL_DATE_TIMES, null, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Converts the "LocalDateTime" objects of an array in "LocalDate" objects with "ZoneId", putting them in an array given
+     * by the caller and converting them in parallel.</p>
+     * <p>The array is split into ranges converted by the workers of "poolIn", such as "ForkJoinPool.commonPool()", and
+     * every element gets the same result as the sequential method, put in the same position of "resultsIn". The size of
+     * the ranges adapts to the length of the array and the parallelism of the pool, and short arrays are converted in
+     * the calling thread. When several elements fail, the exception is the one of the element with the lowest index and
+     * all the elements before it have been put in "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalDate[] result = DateTimeUtil.getLocalDatesFromLocalDateTimes( dateTimes, ZoneId.of( "Europe/Paris" ), new LocalDate[ dateTimes.length ], ForkJoinPool.commonPool() );
+     * </code>
+     *
+     * @param dateTimesIn The "LocalDateTime" objects.
+     * @param zoneIdIn The "ZoneId" object.
+     * @param resultsIn The array where the "LocalDate" objects are put, at least as long as "dateTimesIn".
+     * @param poolIn The "ForkJoinPool" object that runs the conversion.
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "dateTimesIn", "zoneIdIn", "resultsIn" or "poolIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "dateTimesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalDateFromLocalDateTime(LocalDateTime, ZoneId)
+     * @see java.time.ZoneId
+     * @see java.util.concurrent.ForkJoinPool
+     */
+    public static LocalDate[] getLocalDatesFromLocalDateTimes( LocalDateTime[] dateTimesIn, ZoneId zoneIdIn, LocalDate[] resultsIn, ForkJoinPool poolIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_GET_LOCAL_DATES_FROM_LOCAL_DATE_TIMES, null, zoneIdIn,
+                                            BulkConversion.convert( dateTimesIn, zoneIdIn, resultsIn, poolIn, dateTime -> ZoneGaps.atZone( dateTime, zoneIdIn ).toLocalDate() ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_LOCAL_DATES_FROM_LOCAL_DATE_TIMES, null, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Converts the "LocalDateTime" objects of an array in "LocalTime" objects.</p>
+     * <p>"ZoneId" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalTime[] result = DateTimeUtil.getLocalTimesFromLocalDateTimes( dateTimes );
+     * </code>
+     *
+     * @param dateTimesIn The "LocalDateTime" objects.
+     *
+     * @return The "LocalTime" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalTimeFromLocalDateTime(LocalDateTime)
+     */
+    public static LocalTime[] getLocalTimesFromLocalDateTimes( LocalDateTime[] dateTimesIn ){
+        return DateTimeUtil.getLocalTimesFromLocalDateTimes( dateTimesIn, DateTimeUtil.DEFAULT_ZONE_ID );
+    }
+
+    /**
+     * <p>Converts the "LocalDateTime" objects of an array in "LocalTime" objects with "ZoneId".</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalTime[] result = DateTimeUtil.getLocalTimesFromLocalDateTimes( dateTimes, ZoneId.of( "Europe/Paris" ) );
+     * </code>
+     *
+     * @param dateTimesIn The "LocalDateTime" objects.
+     * @param zoneIdIn The "ZoneId" object.
+     *
+     * @return The "LocalTime" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalTimeFromLocalDateTime(LocalDateTime, ZoneId)
+     */
+    public static LocalTime[] getLocalTimesFromLocalDateTimes( LocalDateTime[] dateTimesIn, ZoneId zoneIdIn ){
+        return DateTimeUtil.getLocalTimesFromLocalDateTimes( dateTimesIn, zoneIdIn, new LocalTime[ dateTimesIn.length ] );
+    }
+
+    /**
+     * <p>Converts the "LocalDateTime" objects of an array in "LocalTime" objects with "ZoneId", putting them in an array given
+     * by the caller.</p>
+     * <p>"ZoneId" is resolved once for the whole array, and every element gets the same result as
+     * "getLocalTimeFromLocalDateTime". The results are put in the same positions of "resultsIn", so the same array can
+     * be reused for many calls. When an element fails, the elements before it have already been put in "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalTime[] result = DateTimeUtil.getLocalTimesFromLocalDateTimes( dateTimes, ZoneId.of( "Europe/Paris" ), new LocalTime[ dateTimes.length ] );
+     * </code>
+     *
+     * @param dateTimesIn The "LocalDateTime" objects.
+     * @param zoneIdIn The "ZoneId" object.
+     * @param resultsIn The array where the "LocalTime" objects are put, at least as long as "dateTimesIn".
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "dateTimesIn", "zoneIdIn" or "resultsIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "dateTimesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalTimeFromLocalDateTime(LocalDateTime, ZoneId)
+     * @see java.time.ZoneId
+     */
+    public static LocalTime[] getLocalTimesFromLocalDateTimes( LocalDateTime[] dateTimesIn, ZoneId zoneIdIn, LocalTime[] resultsIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_GET_LOCAL_TIMES_FROM_LOCAL_DATE_TIMES, null, zoneIdIn,
+                                            BulkConversion.convert( dateTimesIn, zoneIdIn, resultsIn, dateTime -> ZoneGaps.atZone( dateTime, zoneIdIn ).toLocalTime() ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_LOCAL_TIMES_FROM_LOCAL_DATE_TIMES, null, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Converts the "LocalDateTime" objects of an array in "LocalTime" objects with "ZoneId", putting them in an array given
+     * by the caller and converting them in parallel.</p>
+     * <p>The array is split into ranges converted by the workers of "poolIn", such as "ForkJoinPool.commonPool()", and
+     * every element gets the same result as the sequential method, put in the same position of "resultsIn". The size of
+     * the ranges adapts to the length of the array and the parallelism of the pool, and short arrays are converted in
+     * the calling thread. When several elements fail, the exception is the one of the element with the lowest index and
+     * all the elements before it have been put in "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalTime[] result = DateTimeUtil.getLocalTimesFromLocalDateTimes( dateTimes, ZoneId.of( "Europe/Paris" ), new LocalTime[ dateTimes.length ], ForkJoinPool.commonPool() );
+     * </code>
+     *
+     * @param dateTimesIn The "LocalDateTime" objects.
+     * @param zoneIdIn The "ZoneId" object.
+     * @param resultsIn The array where the "LocalTime" objects are put, at least as long as "dateTimesIn".
+     * @param poolIn The "ForkJoinPool" object that runs the conversion.
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "dateTimesIn", "zoneIdIn", "resultsIn" or "poolIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "dateTimesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalTimeFromLocalDateTime(LocalDateTime, ZoneId)
+     * @see java.time.ZoneId
+     * @see java.util.concurrent.ForkJoinPool
+     */
+    public static LocalTime[] getLocalTimesFromLocalDateTimes( LocalDateTime[] dateTimesIn, ZoneId zoneIdIn, LocalTime[] resultsIn, ForkJoinPool poolIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_GET_LOCAL_TIMES_FROM_LOCAL_DATE_TIMES, null, zoneIdIn,
+                                            BulkConversion.convert( dateTimesIn, zoneIdIn, resultsIn, poolIn, dateTime -> ZoneGaps.atZone( dateTime, zoneIdIn ).toLocalTime() ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_LOCAL_TIMES_FROM_LOCAL_DATE_TIMES, null, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Converts the dates in "String" format of an array to "LocalDate" objects.</p>
+     * <p>"ZoneId" and "Locale" are set as the system default and "String" date pattern is set as default ("dd/MM/yyyy").</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalDate[] result = DateTimeUtil.getLocalDatesFromStrings( dates );
+     * </code>
+     *
+     * @param datesIn The dates as "String" objects with pattern "dd/MM/yyyy".
+     *
+     * @return The dates as "LocalDate" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalDateFromString(String)
+     */
+    public static LocalDate[] getLocalDatesFromStrings( String[] datesIn ){
+        return DateTimeUtil.getLocalDatesFromStrings( datesIn, DateTimeUtil.DEFAULT_DATE_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Converts the dates in "String" format of an array with a given pattern to "LocalDate" objects with "ZoneId"
+     * and "Locale".</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalDate[] result = DateTimeUtil.getLocalDatesFromStrings( dates, "dd/MM/yyyy", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ) );
+     * </code>
+     *
+     * @param datesIn The dates as "String" objects.
+     * @param patternIn The format pattern of "datesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     *
+     * @return The dates as "LocalDate" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalDateFromString(String, String, ZoneId, Locale)
+     */
+    public static LocalDate[] getLocalDatesFromStrings( String[] datesIn, String patternIn, ZoneId zoneIdIn, Locale localeIn ){
+        return DateTimeUtil.getLocalDatesFromStrings( datesIn, patternIn, zoneIdIn, localeIn, new LocalDate[ datesIn.length ] );
+    }
+
+    /**
+     * <p>Converts the dates in "String" format of an array with a given pattern to "LocalDate" objects with "ZoneId"
+     * and "Locale", putting them in an array given by the caller.</p>
+     * <p>The pattern is compiled and the "ZoneId" and "Locale" are resolved once for the whole array, and every element
+     * gets the same result as "getLocalDateFromString". The results are put in the same positions of "resultsIn", so
+     * the same array can be reused for many calls. When an element fails, the elements before it have already been put
+     * in "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalDate[] result = DateTimeUtil.getLocalDatesFromStrings( dates, "dd/MM/yyyy", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), new LocalDate[ dates.length ] );
+     * </code>
+     *
+     * @param datesIn The dates as "String" objects.
+     * @param patternIn The format pattern of "datesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param resultsIn The array where the "LocalDate" objects are put, at least as long as "datesIn".
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "datesIn", "zoneIdIn" or "resultsIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "datesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalDateFromString(String, String, ZoneId, Locale)
+     * @see java.time.format.DateTimeFormatter
+     */
+    public static LocalDate[] getLocalDatesFromStrings( String[] datesIn, String patternIn, ZoneId zoneIdIn, Locale localeIn, LocalDate[] resultsIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            final CompiledPattern pattern = PatternCache.get( patternIn, localeIn );
+            return DateTimeMetrics.success( start, METRIC_GET_LOCAL_DATES_FROM_STRINGS, patternIn, zoneIdIn,
+                                            BulkConversion.convert( datesIn, zoneIdIn, resultsIn, date -> pattern.getLocalDateFromString( date, zoneIdIn ) ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_LOCAL_DATES_FROM_STRINGS, patternIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Converts the dates in "String" format of an array with a given pattern to "LocalDate" objects with "ZoneId"
+     * and "Locale", putting them in an array given by the caller and converting them in parallel.</p>
+     * <p>The array is split into ranges converted by the workers of "poolIn", such as "ForkJoinPool.commonPool()", and
+     * every element gets the same result as the sequential method, put in the same position of "resultsIn". The size of
+     * the ranges adapts to the length of the array and the parallelism of the pool, and short arrays are converted in
+     * the calling thread. When several elements fail, the exception is the one of the element with the lowest index and
+     * all the elements before it have been put in "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalDate[] result = DateTimeUtil.getLocalDatesFromStrings( dates, "dd/MM/yyyy", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), new LocalDate[ dates.length ], ForkJoinPool.commonPool() );
+     * </code>
+     *
+     * @param datesIn The dates as "String" objects.
+     * @param patternIn The format pattern of "datesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param resultsIn The array where the "LocalDate" objects are put, at least as long as "datesIn".
+     * @param poolIn The "ForkJoinPool" object that runs the conversion.
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "datesIn", "zoneIdIn", "resultsIn" or "poolIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "datesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalDateFromString(String, String, ZoneId, Locale)
+     * @see java.time.format.DateTimeFormatter
+     * @see java.util.concurrent.ForkJoinPool
+     */
+    public static LocalDate[] getLocalDatesFromStrings( String[] datesIn, String patternIn, ZoneId zoneIdIn, Locale localeIn, LocalDate[] resultsIn, ForkJoinPool poolIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            final CompiledPattern pattern = PatternCache.get( patternIn, localeIn );
+            return DateTimeMetrics.success( start, METRIC_GET_LOCAL_DATES_FROM_STRINGS, patternIn, zoneIdIn,
+                                            BulkConversion.convert( datesIn, zoneIdIn, resultsIn, poolIn, date -> pattern.getLocalDateFromString( date, zoneIdIn ) ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_LOCAL_DATES_FROM_STRINGS, patternIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Converts the date-times in "String" format of an array to "LocalDateTime" objects.</p>
+     * <p>"ZoneId" and "Locale" are set as the system default and "String" date-time pattern is set as default ("dd/MM/yyyy HH:mm").</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalDateTime[] result = DateTimeUtil.getLocalDateTimesFromStrings( dateTimes );
+     * </code>
+     *
+     * @param dateTimesIn The date-times as "String" objects with pattern "dd/MM/yyyy HH:mm".
+     *
+     * @return The date-times as "LocalDateTime" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalDateTimeFromString(String)
+     */
+    public static LocalDateTime[] getLocalDateTimesFromStrings( String[] dateTimesIn ){
+        return DateTimeUtil.getLocalDateTimesFromStrings( dateTimesIn, DateTimeUtil.DEFAULT_DATE_TIME_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Converts the date-times in "String" format of an array with a given pattern to "LocalDateTime" objects with "ZoneId"
+     * and "Locale".</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalDateTime[] result = DateTimeUtil.getLocalDateTimesFromStrings( dateTimes, "dd/MM/yyyy HH:mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ) );
+     * </code>
+     *
+     * @param dateTimesIn The date-times as "String" objects.
+     * @param patternIn The format pattern of "dateTimesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     *
+     * @return The date-times as "LocalDateTime" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalDateTimeFromString(String, String, ZoneId, Locale)
+     */
+    public static LocalDateTime[] getLocalDateTimesFromStrings( String[] dateTimesIn, String patternIn, ZoneId zoneIdIn, Locale localeIn ){
+        return DateTimeUtil.getLocalDateTimesFromStrings( dateTimesIn, patternIn, zoneIdIn, localeIn, new LocalDateTime[ dateTimesIn.length ] );
+    }
+
+    /**
+     * <p>Converts the date-times in "String" format of an array with a given pattern to "LocalDateTime" objects with "ZoneId"
+     * and "Locale", putting them in an array given by the caller.</p>
+     * <p>The pattern is compiled and the "ZoneId" and "Locale" are resolved once for the whole array, and every element
+     * gets the same result as "getLocalDateTimeFromString". The results are put in the same positions of "resultsIn",
+     * so the same array can be reused for many calls. When an element fails, the elements before it have already been
+     * put in "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalDateTime[] result = DateTimeUtil.getLocalDateTimesFromStrings( dateTimes, "dd/MM/yyyy HH:mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), new LocalDateTime[ dateTimes.length ] );
+     * </code>
+     *
+     * @param dateTimesIn The date-times as "String" objects.
+     * @param patternIn The format pattern of "dateTimesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param resultsIn The array where the "LocalDateTime" objects are put, at least as long as "dateTimesIn".
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "dateTimesIn", "zoneIdIn" or "resultsIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "dateTimesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalDateTimeFromString(String, String, ZoneId, Locale)
+     * @see java.time.format.DateTimeFormatter
+     */
+    public static LocalDateTime[] getLocalDateTimesFromStrings( String[] dateTimesIn, String patternIn, ZoneId zoneIdIn, Locale localeIn, LocalDateTime[] resultsIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            final CompiledPattern pattern = PatternCache.get( patternIn, localeIn );
+            return DateTimeMetrics.success( start, METRIC_GET_LOCAL_DATE_TIMES_FROM_STRINGS, patternIn, zoneIdIn,
+                                            BulkConversion.convert( dateTimesIn, zoneIdIn, resultsIn, dateTime -> pattern.getLocalDateTimeFromString( dateTime, zoneIdIn ) ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_LOCAL_DATE_TIMES_FROM_STRINGS, patternIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Converts the date-times in "String" format of an array with a given pattern to "LocalDateTime" objects with "ZoneId"
+     * and "Locale", putting them in an array given by the caller and converting them in parallel.</p>
+     * <p>The array is split into ranges converted by the workers of "poolIn", such as "ForkJoinPool.commonPool()", and
+     * every element gets the same result as the sequential method, put in the same position of "resultsIn". The size of
+     * the ranges adapts to the length of the array and the parallelism of the pool, and short arrays are converted in
+     * the calling thread. When several elements fail, the exception is the one of the element with the lowest index and
+     * all the elements before it have been put in "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalDateTime[] result = DateTimeUtil.getLocalDateTimesFromStrings( dateTimes, "dd/MM/yyyy HH:mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), new LocalDateTime[ dateTimes.length ], ForkJoinPool.commonPool() );
+     * </code>
+     *
+     * @param dateTimesIn The date-times as "String" objects.
+     * @param patternIn The format pattern of "dateTimesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param resultsIn The array where the "LocalDateTime" objects are put, at least as long as "dateTimesIn".
+     * @param poolIn The "ForkJoinPool" object that runs the conversion.
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "dateTimesIn", "zoneIdIn", "resultsIn" or "poolIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "dateTimesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalDateTimeFromString(String, String, ZoneId, Locale)
+     * @see java.time.format.DateTimeFormatter
+     * @see java.util.concurrent.ForkJoinPool
+     */
+    public static LocalDateTime[] getLocalDateTimesFromStrings( String[] dateTimesIn, String patternIn, ZoneId zoneIdIn, Locale localeIn, LocalDateTime[] resultsIn, ForkJoinPool poolIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            final CompiledPattern pattern = PatternCache.get( patternIn, localeIn );
+            return DateTimeMetrics.success( start, METRIC_GET_LOCAL_DATE_TIMES_FROM_STRINGS, patternIn, zoneIdIn,
+                                            BulkConversion.convert( dateTimesIn, zoneIdIn, resultsIn, poolIn, dateTime -> pattern.getLocalDateTimeFromString( dateTime, zoneIdIn ) ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_LOCAL_DATE_TIMES_FROM_STRINGS, patternIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Converts the times in "String" format of an array to "LocalTime" objects.</p>
+     * <p>"ZoneId" and "Locale" are set as the system default and "String" time pattern is set as default ("HH:mm:ss").</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalTime[] result = DateTimeUtil.getLocalTimesFromStrings( times );
+     * </code>
+     *
+     * @param timesIn The times as "String" objects with pattern "HH:mm:ss".
+     *
+     * @return The times as "LocalTime" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalTimeFromString(String)
+     */
+    public static LocalTime[] getLocalTimesFromStrings( String[] timesIn ){
+        return DateTimeUtil.getLocalTimesFromStrings( timesIn, DateTimeUtil.DEFAULT_TIME_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Converts the times in "String" format of an array with a given pattern to "LocalTime" objects with "ZoneId"
+     * and "Locale".</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalTime[] result = DateTimeUtil.getLocalTimesFromStrings( times, "HH:mm:ss", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ) );
+     * </code>
+     *
+     * @param timesIn The times as "String" objects.
+     * @param patternIn The format pattern of "timesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     *
+     * @return The times as "LocalTime" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalTimeFromString(String, String, ZoneId, Locale)
+     */
+    public static LocalTime[] getLocalTimesFromStrings( String[] timesIn, String patternIn, ZoneId zoneIdIn, Locale localeIn ){
+        return DateTimeUtil.getLocalTimesFromStrings( timesIn, patternIn, zoneIdIn, localeIn, new LocalTime[ timesIn.length ] );
+    }
+
+    /**
+     * <p>Converts the times in "String" format of an array with a given pattern to "LocalTime" objects with "ZoneId"
+     * and "Locale", putting them in an array given by the caller.</p>
+     * <p>The pattern is compiled and the "ZoneId" and "Locale" are resolved once for the whole array, and every element
+     * gets the same result as "getLocalTimeFromString". The results are put in the same positions of "resultsIn", so
+     * the same array can be reused for many calls. When an element fails, the elements before it have already been put
+     * in "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalTime[] result = DateTimeUtil.getLocalTimesFromStrings( times, "HH:mm:ss", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), new LocalTime[ times.length ] );
+     * </code>
+     *
+     * @param timesIn The times as "String" objects.
+     * @param patternIn The format pattern of "timesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param resultsIn The array where the "LocalTime" objects are put, at least as long as "timesIn".
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "timesIn", "zoneIdIn" or "resultsIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "timesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalTimeFromString(String, String, ZoneId, Locale)
+     * @see java.time.format.DateTimeFormatter
+     */
+    public static LocalTime[] getLocalTimesFromStrings( String[] timesIn, String patternIn, ZoneId zoneIdIn, Locale localeIn, LocalTime[] resultsIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            final CompiledPattern pattern = PatternCache.get( patternIn, localeIn );
+            return DateTimeMetrics.success( start, METRIC_GET_LOCAL_TIMES_FROM_STRINGS, patternIn, zoneIdIn,
+                                            BulkConversion.convert( timesIn, zoneIdIn, resultsIn, time -> pattern.getLocalTimeFromString( time, zoneIdIn ) ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_LOCAL_TIMES_FROM_STRINGS, patternIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Converts the times in "String" format of an array with a given pattern to "LocalTime" objects with "ZoneId"
+     * and "Locale", putting them in an array given by the caller and converting them in parallel.</p>
+     * <p>The array is split into ranges converted by the workers of "poolIn", such as "ForkJoinPool.commonPool()", and
+     * every element gets the same result as the sequential method, put in the same position of "resultsIn". The size of
+     * the ranges adapts to the length of the array and the parallelism of the pool, and short arrays are converted in
+     * the calling thread. When several elements fail, the exception is the one of the element with the lowest index and
+     * all the elements before it have been put in "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * LocalTime[] result = DateTimeUtil.getLocalTimesFromStrings( times, "HH:mm:ss", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), new LocalTime[ times.length ], ForkJoinPool.commonPool() );
+     * </code>
+     *
+     * @param timesIn The times as "String" objects.
+     * @param patternIn The format pattern of "timesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param resultsIn The array where the "LocalTime" objects are put, at least as long as "timesIn".
+     * @param poolIn The "ForkJoinPool" object that runs the conversion.
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "timesIn", "zoneIdIn", "resultsIn" or "poolIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "timesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getLocalTimeFromString(String, String, ZoneId, Locale)
+     * @see java.time.format.DateTimeFormatter
+     * @see java.util.concurrent.ForkJoinPool
+     */
+    public static LocalTime[] getLocalTimesFromStrings( String[] timesIn, String patternIn, ZoneId zoneIdIn, Locale localeIn, LocalTime[] resultsIn, ForkJoinPool poolIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            final CompiledPattern pattern = PatternCache.get( patternIn, localeIn );
+            return DateTimeMetrics.success( start, METRIC_GET_LOCAL_TIMES_FROM_STRINGS, patternIn, zoneIdIn,
+                                            BulkConversion.convert( timesIn, zoneIdIn, resultsIn, poolIn, time -> pattern.getLocalTimeFromString( time, zoneIdIn ) ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_LOCAL_TIMES_FROM_STRINGS, patternIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Converts the dates in "String" format of an array to "Date" objects.</p>
+     * <p>"ZoneId" and "Locale" are set as the system default and "String" date pattern is set as default ("dd/MM/yyyy").</p>
+     * <p>Example:</p>
+     * <code>
+     * Date[] result = DateTimeUtil.getDatesFromStrings( dates );
+     * </code>
+     *
+     * @param datesIn The dates as "String" objects with pattern "dd/MM/yyyy".
+     *
+     * @return The dates as "Date" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getDateFromString(String)
+     */
+    public static Date[] getDatesFromStrings( String[] datesIn ){
+        return DateTimeUtil.getDatesFromStrings( datesIn, DateTimeUtil.DEFAULT_DATE_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Converts the dates in "String" format of an array with a given pattern to "Date" objects with "ZoneId"
+     * and "Locale".</p>
+     * <p>Example:</p>
+     * <code>
+     * Date[] result = DateTimeUtil.getDatesFromStrings( dates, "dd/MM/yyyy", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ) );
+     * </code>
+     *
+     * @param datesIn The dates as "String" objects.
+     * @param patternIn The format pattern of "datesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     *
+     * @return The dates as "Date" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getDateFromString(String, String, ZoneId, Locale)
+     */
+    public static Date[] getDatesFromStrings( String[] datesIn, String patternIn, ZoneId zoneIdIn, Locale localeIn ){
+        return DateTimeUtil.getDatesFromStrings( datesIn, patternIn, zoneIdIn, localeIn, new Date[ datesIn.length ] );
+    }
+
+    /**
+     * <p>Converts the dates in "String" format of an array with a given pattern to "Date" objects with "ZoneId"
+     * and "Locale", putting them in an array given by the caller.</p>
+     * <p>The pattern is compiled and the "ZoneId" and "Locale" are resolved once for the whole array, and every element
+     * gets the same result as "getDateFromString". The results are put in the same positions of "resultsIn", so the
+     * same array can be reused for many calls. When an element fails, the elements before it have already been put in
+     * "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * Date[] result = DateTimeUtil.getDatesFromStrings( dates, "dd/MM/yyyy", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), new Date[ dates.length ] );
+     * </code>
+     *
+     * @param datesIn The dates as "String" objects.
+     * @param patternIn The format pattern of "datesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param resultsIn The array where the "Date" objects are put, at least as long as "datesIn".
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "datesIn", "zoneIdIn" or "resultsIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "datesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getDateFromString(String, String, ZoneId, Locale)
+     * @see java.time.format.DateTimeFormatter
+     */
+    public static Date[] getDatesFromStrings( String[] datesIn, String patternIn, ZoneId zoneIdIn, Locale localeIn, Date[] resultsIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            final CompiledPattern pattern = PatternCache.get( patternIn, localeIn );
+            return DateTimeMetrics.success( start, METRIC_GET_DATES_FROM_STRINGS, patternIn, zoneIdIn,
+                                            BulkConversion.convert( datesIn, zoneIdIn, resultsIn, date -> pattern.getDateFromString( date, zoneIdIn ) ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_DATES_FROM_STRINGS, patternIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Converts the dates in "String" format of an array with a given pattern to "Date" objects with "ZoneId"
+     * and "Locale", putting them in an array given by the caller and converting them in parallel.</p>
+     * <p>The array is split into ranges converted by the workers of "poolIn", such as "ForkJoinPool.commonPool()", and
+     * every element gets the same result as the sequential method, put in the same position of "resultsIn". The size of
+     * the ranges adapts to the length of the array and the parallelism of the pool, and short arrays are converted in
+     * the calling thread. When several elements fail, the exception is the one of the element with the lowest index and
+     * all the elements before it have been put in "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * Date[] result = DateTimeUtil.getDatesFromStrings( dates, "dd/MM/yyyy", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), new Date[ dates.length ], ForkJoinPool.commonPool() );
+     * </code>
+     *
+     * @param datesIn The dates as "String" objects.
+     * @param patternIn The format pattern of "datesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param resultsIn The array where the "Date" objects are put, at least as long as "datesIn".
+     * @param poolIn The "ForkJoinPool" object that runs the conversion.
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "datesIn", "zoneIdIn", "resultsIn" or "poolIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "datesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getDateFromString(String, String, ZoneId, Locale)
+     * @see java.time.format.DateTimeFormatter
+     * @see java.util.concurrent.ForkJoinPool
+     */
+    public static Date[] getDatesFromStrings( String[] datesIn, String patternIn, ZoneId zoneIdIn, Locale localeIn, Date[] resultsIn, ForkJoinPool poolIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            final CompiledPattern pattern = PatternCache.get( patternIn, localeIn );
+            return DateTimeMetrics.success( start, METRIC_GET_DATES_FROM_STRINGS, patternIn, zoneIdIn,
+                                            BulkConversion.convert( datesIn, zoneIdIn, resultsIn, poolIn, date -> pattern.getDateFromString( date, zoneIdIn ) ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_DATES_FROM_STRINGS, patternIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Converts the date-times in "String" format of an array to "Date" objects.</p>
+     * <p>"ZoneId" and "Locale" are set as the system default and "String" date-time pattern is set as default ("dd/MM/yyyy HH:mm").</p>
+     * <p>Example:</p>
+     * <code>
+     * Date[] result = DateTimeUtil.getDateTimesFromStrings( dateTimes );
+     * </code>
+     *
+     * @param dateTimesIn The date-times as "String" objects with pattern "dd/MM/yyyy HH:mm".
+     *
+     * @return The date-times as "Date" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getDateTimeFromString(String)
+     */
+    public static Date[] getDateTimesFromStrings( String[] dateTimesIn ){
+        return DateTimeUtil.getDateTimesFromStrings( dateTimesIn, DateTimeUtil.DEFAULT_DATE_TIME_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Converts the date-times in "String" format of an array with a given pattern to "Date" objects with "ZoneId"
+     * and "Locale".</p>
+     * <p>Example:</p>
+     * <code>
+     * Date[] result = DateTimeUtil.getDateTimesFromStrings( dateTimes, "dd/MM/yyyy HH:mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ) );
+     * </code>
+     *
+     * @param dateTimesIn The date-times as "String" objects.
+     * @param patternIn The format pattern of "dateTimesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     *
+     * @return The date-times as "Date" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getDateTimeFromString(String, String, ZoneId, Locale)
+     */
+    public static Date[] getDateTimesFromStrings( String[] dateTimesIn, String patternIn, ZoneId zoneIdIn, Locale localeIn ){
+        return DateTimeUtil.getDateTimesFromStrings( dateTimesIn, patternIn, zoneIdIn, localeIn, new Date[ dateTimesIn.length ] );
+    }
+
+    /**
+     * <p>Converts the date-times in "String" format of an array with a given pattern to "Date" objects with "ZoneId"
+     * and "Locale", putting them in an array given by the caller.</p>
+     * <p>The pattern is compiled and the "ZoneId" and "Locale" are resolved once for the whole array, and every element
+     * gets the same result as "getDateTimeFromString". The results are put in the same positions of "resultsIn", so the
+     * same array can be reused for many calls. When an element fails, the elements before it have already been put in
+     * "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * Date[] result = DateTimeUtil.getDateTimesFromStrings( dateTimes, "dd/MM/yyyy HH:mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), new Date[ dateTimes.length ] );
+     * </code>
+     *
+     * @param dateTimesIn The date-times as "String" objects.
+     * @param patternIn The format pattern of "dateTimesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param resultsIn The array where the "Date" objects are put, at least as long as "dateTimesIn".
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "dateTimesIn", "zoneIdIn" or "resultsIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "dateTimesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getDateTimeFromString(String, String, ZoneId, Locale)
+     * @see java.time.format.DateTimeFormatter
+     */
+    public static Date[] getDateTimesFromStrings( String[] dateTimesIn, String patternIn, ZoneId zoneIdIn, Locale localeIn, Date[] resultsIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            final CompiledPattern pattern = PatternCache.get( patternIn, localeIn );
+            return DateTimeMetrics.success( start, METRIC_GET_DATE_TIMES_FROM_STRINGS, patternIn, zoneIdIn,
+                                            BulkConversion.convert( dateTimesIn, zoneIdIn, resultsIn, dateTime -> pattern.getDateTimeFromString( dateTime, zoneIdIn ) ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_DATE_TIMES_FROM_STRINGS, patternIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Converts the date-times in "String" format of an array with a given pattern to "Date" objects with "ZoneId"
+     * and "Locale", putting them in an array given by the caller and converting them in parallel.</p>
+     * <p>The array is split into ranges converted by the workers of "poolIn", such as "ForkJoinPool.commonPool()", and
+     * every element gets the same result as the sequential method, put in the same position of "resultsIn". The size of
+     * the ranges adapts to the length of the array and the parallelism of the pool, and short arrays are converted in
+     * the calling thread. When several elements fail, the exception is the one of the element with the lowest index and
+     * all the elements before it have been put in "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * Date[] result = DateTimeUtil.getDateTimesFromStrings( dateTimes, "dd/MM/yyyy HH:mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), new Date[ dateTimes.length ], ForkJoinPool.commonPool() );
+     * </code>
+     *
+     * @param dateTimesIn The date-times as "String" objects.
+     * @param patternIn The format pattern of "dateTimesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param resultsIn The array where the "Date" objects are put, at least as long as "dateTimesIn".
+     * @param poolIn The "ForkJoinPool" object that runs the conversion.
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "dateTimesIn", "zoneIdIn", "resultsIn" or "poolIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "dateTimesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getDateTimeFromString(String, String, ZoneId, Locale)
+     * @see java.time.format.DateTimeFormatter
+     * @see java.util.concurrent.ForkJoinPool
+     */
+    public static Date[] getDateTimesFromStrings( String[] dateTimesIn, String patternIn, ZoneId zoneIdIn, Locale localeIn, Date[] resultsIn, ForkJoinPool poolIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            final CompiledPattern pattern = PatternCache.get( patternIn, localeIn );
+            return DateTimeMetrics.success( start, METRIC_GET_DATE_TIMES_FROM_STRINGS, patternIn, zoneIdIn,
+                                            BulkConversion.convert( dateTimesIn, zoneIdIn, resultsIn, poolIn, dateTime -> pattern.getDateTimeFromString( dateTime, zoneIdIn ) ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_DATE_TIMES_FROM_STRINGS, patternIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Formats the "LocalDate" objects of an array to "String" objects.</p>
+     * <p>"ZoneId" and "Locale" are set as the system default and "String" date formatter is set as default ("dd/MM/yyyy").</p>
+     * <p>Example:</p>
+     * <code>
+     * String[] result = DateTimeUtil.formatDates( dates );
+     * </code>
+     *
+     * @param datesIn The dates as "LocalDate" objects.
+     *
+     * @return The dates formatted as "String" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #formatDate(LocalDate)
+     */
+    public static String[] formatDates( LocalDate[] datesIn ){
+        return DateTimeUtil.formatDates( datesIn, DateTimeUtil.DEFAULT_DATE_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Formats the "LocalDate" objects of an array to "String" objects with "ZoneId" and "Locale".</p>
+     * <p>Example:</p>
+     * <code>
+     * String[] result = DateTimeUtil.formatDates( dates, "dd/MM/yyyy", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ) );
+     * </code>
+     *
+     * @param datesIn The dates as "LocalDate" objects.
+     * @param formatterIn The format pattern to format "datesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     *
+     * @return The dates formatted as "String" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #formatDate(LocalDate, String, ZoneId, Locale)
+     */
+    public static String[] formatDates( LocalDate[] datesIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn ){
+        return DateTimeUtil.formatDates( datesIn, formatterIn, zoneIdIn, localeIn, new String[ datesIn.length ] );
+    }
+
+    /**
+     * <p>Formats the "LocalDate" objects of an array to "String" objects with "ZoneId" and "Locale", putting them in an
+     * array given by the caller.</p>
+     * <p>The pattern is compiled and the "ZoneId" and "Locale" are resolved once for the whole array, and every element
+     * gets the same result as "formatDate". The results are put in the same positions of "resultsIn", so the same array
+     * can be reused for many calls. When an element fails, the elements before it have already been put in
+     * "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * String[] result = DateTimeUtil.formatDates( dates, "dd/MM/yyyy", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), new String[ dates.length ] );
+     * </code>
+     *
+     * @param datesIn The dates as "LocalDate" objects.
+     * @param formatterIn The format pattern to format "datesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param resultsIn The array where the formatted dates are put, at least as long as "datesIn".
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "datesIn", "zoneIdIn" or "resultsIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "datesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #formatDate(LocalDate, String, ZoneId, Locale)
+     * @see java.time.format.DateTimeFormatter
+     */
+    public static String[] formatDates( LocalDate[] datesIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn, String[] resultsIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            final CompiledPattern formatter = PatternCache.get( formatterIn, localeIn );
+            return DateTimeMetrics.success( start, METRIC_FORMAT_DATES_LOCAL_DATE, formatterIn, zoneIdIn,
+                                            BulkConversion.convert( datesIn, zoneIdIn, resultsIn, date -> formatter.formatDate( date, zoneIdIn ) ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_DATES_LOCAL_DATE, formatterIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Formats the "LocalDate" objects of an array to "String" objects with "ZoneId" and "Locale", putting them in an
+     * array given by the caller and converting them in parallel.</p>
+     * <p>The array is split into ranges converted by the workers of "poolIn", such as "ForkJoinPool.commonPool()", and
+     * every element gets the same result as the sequential method, put in the same position of "resultsIn". The size of
+     * the ranges adapts to the length of the array and the parallelism of the pool, and short arrays are converted in
+     * the calling thread. When several elements fail, the exception is the one of the element with the lowest index and
+     * all the elements before it have been put in "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * String[] result = DateTimeUtil.formatDates( dates, "dd/MM/yyyy", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), new String[ dates.length ], ForkJoinPool.commonPool() );
+     * </code>
+     *
+     * @param datesIn The dates as "LocalDate" objects.
+     * @param formatterIn The format pattern to format "datesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param resultsIn The array where the formatted dates are put, at least as long as "datesIn".
+     * @param poolIn The "ForkJoinPool" object that runs the conversion.
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "datesIn", "zoneIdIn", "resultsIn" or "poolIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "datesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #formatDate(LocalDate, String, ZoneId, Locale)
+     * @see java.time.format.DateTimeFormatter
+     * @see java.util.concurrent.ForkJoinPool
+     */
+    public static String[] formatDates( LocalDate[] datesIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn, String[] resultsIn, ForkJoinPool poolIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            final CompiledPattern formatter = PatternCache.get( formatterIn, localeIn );
+            return DateTimeMetrics.success( start, METRIC_FORMAT_DATES_LOCAL_DATE, formatterIn, zoneIdIn,
+                                            BulkConversion.convert( datesIn, zoneIdIn, resultsIn, poolIn, date -> formatter.formatDate( date, zoneIdIn ) ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_DATES_LOCAL_DATE, formatterIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Formats the "LocalDateTime" objects of an array to "String" objects.</p>
+     * <p>"ZoneId" and "Locale" are set as the system default and "String" date-time formatter is set as default ("dd/MM/yyyy HH:mm").</p>
+     * <p>Example:</p>
+     * <code>
+     * String[] result = DateTimeUtil.formatDateTimes( dateTimes );
+     * </code>
+     *
+     * @param dateTimesIn The date-times as "LocalDateTime" objects.
+     *
+     * @return The date-times formatted as "String" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #formatDateTime(LocalDateTime)
+     */
+    public static String[] formatDateTimes( LocalDateTime[] dateTimesIn ){
+        return DateTimeUtil.formatDateTimes( dateTimesIn, DateTimeUtil.DEFAULT_DATE_TIME_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Formats the "LocalDateTime" objects of an array to "String" objects with "ZoneId" and "Locale".</p>
+     * <p>Example:</p>
+     * <code>
+     * String[] result = DateTimeUtil.formatDateTimes( dateTimes, "dd/MM/yyyy HH:mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ) );
+     * </code>
+     *
+     * @param dateTimesIn The date-times as "LocalDateTime" objects.
+     * @param formatterIn The format pattern to format "dateTimesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     *
+     * @return The date-times formatted as "String" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #formatDateTime(LocalDateTime, String, ZoneId, Locale)
+     */
+    public static String[] formatDateTimes( LocalDateTime[] dateTimesIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn ){
+        return DateTimeUtil.formatDateTimes( dateTimesIn, formatterIn, zoneIdIn, localeIn, new String[ dateTimesIn.length ] );
+    }
+
+    /**
+     * <p>Formats the "LocalDateTime" objects of an array to "String" objects with "ZoneId" and "Locale", putting them in an
+     * array given by the caller.</p>
+     * <p>The pattern is compiled and the "ZoneId" and "Locale" are resolved once for the whole array, and every element
+     * gets the same result as "formatDateTime". The results are put in the same positions of "resultsIn", so the same
+     * array can be reused for many calls. When an element fails, the elements before it have already been put in
+     * "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * String[] result = DateTimeUtil.formatDateTimes( dateTimes, "dd/MM/yyyy HH:mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), new String[ dateTimes.length ] );
+     * </code>
+     *
+     * @param dateTimesIn The date-times as "LocalDateTime" objects.
+     * @param formatterIn The format pattern to format "dateTimesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param resultsIn The array where the formatted date-times are put, at least as long as "dateTimesIn".
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "dateTimesIn", "zoneIdIn" or "resultsIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "dateTimesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #formatDateTime(LocalDateTime, String, ZoneId, Locale)
+     * @see java.time.format.DateTimeFormatter
+     */
+    public static String[] formatDateTimes( LocalDateTime[] dateTimesIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn, String[] resultsIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            final CompiledPattern formatter = PatternCache.get( formatterIn, localeIn );
+            return DateTimeMetrics.success( start, METRIC_FORMAT_DATE_TIMES_LOCAL_DATE_TIME, formatterIn, zoneIdIn,
+                                            BulkConversion.convert( dateTimesIn, zoneIdIn, resultsIn, dateTime -> formatter.formatDateTime( dateTime, zoneIdIn ) ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_DATE_TIMES_LOCAL_DATE_TIME, formatterIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Formats the "LocalDateTime" objects of an array to "String" objects with "ZoneId" and "Locale", putting them in an
+     * array given by the caller and converting them in parallel.</p>
+     * <p>The array is split into ranges converted by the workers of "poolIn", such as "ForkJoinPool.commonPool()", and
+     * every element gets the same result as the sequential method, put in the same position of "resultsIn". The size of
+     * the ranges adapts to the length of the array and the parallelism of the pool, and short arrays are converted in
+     * the calling thread. When several elements fail, the exception is the one of the element with the lowest index and
+     * all the elements before it have been put in "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * String[] result = DateTimeUtil.formatDateTimes( dateTimes, "dd/MM/yyyy HH:mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), new String[ dateTimes.length ], ForkJoinPool.commonPool() );
+     * </code>
+     *
+     * @param dateTimesIn The date-times as "LocalDateTime" objects.
+     * @param formatterIn The format pattern to format "dateTimesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param resultsIn The array where the formatted date-times are put, at least as long as "dateTimesIn".
+     * @param poolIn The "ForkJoinPool" object that runs the conversion.
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "dateTimesIn", "zoneIdIn", "resultsIn" or "poolIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "dateTimesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #formatDateTime(LocalDateTime, String, ZoneId, Locale)
+     * @see java.time.format.DateTimeFormatter
+     * @see java.util.concurrent.ForkJoinPool
+     */
+    public static String[] formatDateTimes( LocalDateTime[] dateTimesIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn, String[] resultsIn, ForkJoinPool poolIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            final CompiledPattern formatter = PatternCache.get( formatterIn, localeIn );
+            return DateTimeMetrics.success( start, METRIC_FORMAT_DATE_TIMES_LOCAL_DATE_TIME, formatterIn, zoneIdIn,
+                                            BulkConversion.convert( dateTimesIn, zoneIdIn, resultsIn, poolIn, dateTime -> formatter.formatDateTime( dateTime, zoneIdIn ) ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_DATE_TIMES_LOCAL_DATE_TIME, formatterIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Formats the "Date" objects of an array to "String" objects.</p>
+     * <p>"ZoneId" and "Locale" are set as the system default and "String" date-time formatter is set as default ("dd/MM/yyyy HH:mm").</p>
+     * <p>Example:</p>
+     * <code>
+     * String[] result = DateTimeUtil.formatDateTimes( dateTimes );
+     * </code>
+     *
+     * @param dateTimesIn The date-times as "Date" objects.
+     *
+     * @return The date-times formatted as "String" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #formatDateTime(Date)
+     */
+    public static String[] formatDateTimes( Date[] dateTimesIn ){
+        return DateTimeUtil.formatDateTimes( dateTimesIn, DateTimeUtil.DEFAULT_DATE_TIME_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Formats the "Date" objects of an array to "String" objects with "ZoneId" and "Locale".</p>
+     * <p>Example:</p>
+     * <code>
+     * String[] result = DateTimeUtil.formatDateTimes( dateTimes, "dd/MM/yyyy HH:mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ) );
+     * </code>
+     *
+     * @param dateTimesIn The date-times as "Date" objects.
+     * @param formatterIn The format pattern to format "dateTimesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     *
+     * @return The date-times formatted as "String" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #formatDateTime(Date, String, ZoneId, Locale)
+     */
+    public static String[] formatDateTimes( Date[] dateTimesIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn ){
+        return DateTimeUtil.formatDateTimes( dateTimesIn, formatterIn, zoneIdIn, localeIn, new String[ dateTimesIn.length ] );
+    }
+
+    /**
+     * <p>Formats the "Date" objects of an array to "String" objects with "ZoneId" and "Locale", putting them in an
+     * array given by the caller.</p>
+     * <p>The pattern is compiled and the "ZoneId" and "Locale" are resolved once for the whole array, and every element
+     * gets the same result as "formatDateTime". The results are put in the same positions of "resultsIn", so the same
+     * array can be reused for many calls. When an element fails, the elements before it have already been put in
+     * "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * String[] result = DateTimeUtil.formatDateTimes( dateTimes, "dd/MM/yyyy HH:mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), new String[ dateTimes.length ] );
+     * </code>
+     *
+     * @param dateTimesIn The date-times as "Date" objects.
+     * @param formatterIn The format pattern to format "dateTimesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param resultsIn The array where the formatted date-times are put, at least as long as "dateTimesIn".
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "dateTimesIn", "zoneIdIn" or "resultsIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "dateTimesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #formatDateTime(Date, String, ZoneId, Locale)
+     * @see java.time.format.DateTimeFormatter
+     */
+    public static String[] formatDateTimes( Date[] dateTimesIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn, String[] resultsIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            final CompiledPattern formatter = PatternCache.get( formatterIn, localeIn );
+            return DateTimeMetrics.success( start, METRIC_FORMAT_DATE_TIMES_DATE, formatterIn, zoneIdIn,
+                                            BulkConversion.convert( dateTimesIn, zoneIdIn, resultsIn, dateTime -> formatter.formatDateTime( dateTime, zoneIdIn ) ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_DATE_TIMES_DATE, formatterIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Formats the "Date" objects of an array to "String" objects with "ZoneId" and "Locale", putting them in an
+     * array given by the caller and converting them in parallel.</p>
+     * <p>The array is split into ranges converted by the workers of "poolIn", such as "ForkJoinPool.commonPool()", and
+     * every element gets the same result as the sequential method, put in the same position of "resultsIn". The size of
+     * the ranges adapts to the length of the array and the parallelism of the pool, and short arrays are converted in
+     * the calling thread. When several elements fail, the exception is the one of the element with the lowest index and
+     * all the elements before it have been put in "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * String[] result = DateTimeUtil.formatDateTimes( dateTimes, "dd/MM/yyyy HH:mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), new String[ dateTimes.length ], ForkJoinPool.commonPool() );
+     * </code>
+     *
+     * @param dateTimesIn The date-times as "Date" objects.
+     * @param formatterIn The format pattern to format "dateTimesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param resultsIn The array where the formatted date-times are put, at least as long as "dateTimesIn".
+     * @param poolIn The "ForkJoinPool" object that runs the conversion.
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "dateTimesIn", "zoneIdIn", "resultsIn" or "poolIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "dateTimesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #formatDateTime(Date, String, ZoneId, Locale)
+     * @see java.time.format.DateTimeFormatter
+     * @see java.util.concurrent.ForkJoinPool
+     */
+    public static String[] formatDateTimes( Date[] dateTimesIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn, String[] resultsIn, ForkJoinPool poolIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            final CompiledPattern formatter = PatternCache.get( formatterIn, localeIn );
+            return DateTimeMetrics.success( start, METRIC_FORMAT_DATE_TIMES_DATE, formatterIn, zoneIdIn,
+                                            BulkConversion.convert( dateTimesIn, zoneIdIn, resultsIn, poolIn, dateTime -> formatter.formatDateTime( dateTime, zoneIdIn ) ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_DATE_TIMES_DATE, formatterIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Formats the "Date" objects of an array to "String" objects.</p>
+     * <p>"ZoneId" and "Locale" are set as the system default and "String" date formatter is set as default ("dd/MM/yyyy").</p>
+     * <p>Example:</p>
+     * <code>
+     * String[] result = DateTimeUtil.formatDates( dates );
+     * </code>
+     *
+     * @param datesIn The dates as "Date" objects.
+     *
+     * @return The dates formatted as "String" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #formatDate(Date)
+     */
+    public static String[] formatDates( Date[] datesIn ){
+        return DateTimeUtil.formatDates( datesIn, DateTimeUtil.DEFAULT_DATE_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Formats the "Date" objects of an array to "String" objects with "ZoneId" and "Locale".</p>
+     * <p>Example:</p>
+     * <code>
+     * String[] result = DateTimeUtil.formatDates( dates, "dd/MM/yyyy", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ) );
+     * </code>
+     *
+     * @param datesIn The dates as "Date" objects.
+     * @param formatterIn The format pattern to format "datesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     *
+     * @return The dates formatted as "String" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #formatDate(Date, String, ZoneId, Locale)
+     */
+    public static String[] formatDates( Date[] datesIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn ){
+        return DateTimeUtil.formatDates( datesIn, formatterIn, zoneIdIn, localeIn, new String[ datesIn.length ] );
+    }
+
+    /**
+     * <p>Formats the "Date" objects of an array to "String" objects with "ZoneId" and "Locale", putting them in an
+     * array given by the caller.</p>
+     * <p>The pattern is compiled and the "ZoneId" and "Locale" are resolved once for the whole array, and every element
+     * gets the same result as "formatDate". The results are put in the same positions of "resultsIn", so the same array
+     * can be reused for many calls. When an element fails, the elements before it have already been put in
+     * "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * String[] result = DateTimeUtil.formatDates( dates, "dd/MM/yyyy", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), new String[ dates.length ] );
+     * </code>
+     *
+     * @param datesIn The dates as "Date" objects.
+     * @param formatterIn The format pattern to format "datesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param resultsIn The array where the formatted dates are put, at least as long as "datesIn".
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "datesIn", "zoneIdIn" or "resultsIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "datesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #formatDate(Date, String, ZoneId, Locale)
+     * @see java.time.format.DateTimeFormatter
+     */
+    public static String[] formatDates( Date[] datesIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn, String[] resultsIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            final CompiledPattern formatter = PatternCache.get( formatterIn, localeIn );
+            return DateTimeMetrics.success( start, METRIC_FORMAT_DATES_DATE, formatterIn, zoneIdIn,
+                                            BulkConversion.convert( datesIn, zoneIdIn, resultsIn, date -> formatter.formatDate( date, zoneIdIn ) ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_DATES_DATE, formatterIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Formats the "Date" objects of an array to "String" objects with "ZoneId" and "Locale", putting them in an
+     * array given by the caller and converting them in parallel.</p>
+     * <p>The array is split into ranges converted by the workers of "poolIn", such as "ForkJoinPool.commonPool()", and
+     * every element gets the same result as the sequential method, put in the same position of "resultsIn". The size of
+     * the ranges adapts to the length of the array and the parallelism of the pool, and short arrays are converted in
+     * the calling thread. When several elements fail, the exception is the one of the element with the lowest index and
+     * all the elements before it have been put in "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * String[] result = DateTimeUtil.formatDates( dates, "dd/MM/yyyy", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), new String[ dates.length ], ForkJoinPool.commonPool() );
+     * </code>
+     *
+     * @param datesIn The dates as "Date" objects.
+     * @param formatterIn The format pattern to format "datesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param resultsIn The array where the formatted dates are put, at least as long as "datesIn".
+     * @param poolIn The "ForkJoinPool" object that runs the conversion.
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "datesIn", "zoneIdIn", "resultsIn" or "poolIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "datesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #formatDate(Date, String, ZoneId, Locale)
+     * @see java.time.format.DateTimeFormatter
+     * @see java.util.concurrent.ForkJoinPool
+     */
+    public static String[] formatDates( Date[] datesIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn, String[] resultsIn, ForkJoinPool poolIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            final CompiledPattern formatter = PatternCache.get( formatterIn, localeIn );
+            return DateTimeMetrics.success( start, METRIC_FORMAT_DATES_DATE, formatterIn, zoneIdIn,
+                                            BulkConversion.convert( datesIn, zoneIdIn, resultsIn, poolIn, date -> formatter.formatDate( date, zoneIdIn ) ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_DATES_DATE, formatterIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Formats the "LocalTime" objects of an array to "String" objects.</p>
+     * <p>"ZoneId" and "Locale" are set as the system default and "String" time formatter is set as default ("HH:mm:ss").</p>
+     * <p>Example:</p>
+     * <code>
+     * String[] result = DateTimeUtil.formatTimes( times );
+     * </code>
+     *
+     * @param timesIn The times as "LocalTime" objects.
+     *
+     * @return The times formatted as "String" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #formatTime(LocalTime)
+     */
+    public static String[] formatTimes( LocalTime[] timesIn ){
+        return DateTimeUtil.formatTimes( timesIn, DateTimeUtil.DEFAULT_TIME_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Formats the "LocalTime" objects of an array to "String" objects with "ZoneId" and "Locale".</p>
+     * <p>Example:</p>
+     * <code>
+     * String[] result = DateTimeUtil.formatTimes( times, "HH:mm:ss", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ) );
+     * </code>
+     *
+     * @param timesIn The times as "LocalTime" objects.
+     * @param formatterIn The format pattern to format "timesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     *
+     * @return The times formatted as "String" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #formatTime(LocalTime, String, ZoneId, Locale)
+     */
+    public static String[] formatTimes( LocalTime[] timesIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn ){
+        return DateTimeUtil.formatTimes( timesIn, formatterIn, zoneIdIn, localeIn, new String[ timesIn.length ] );
+    }
+
+    /**
+     * <p>Formats the "LocalTime" objects of an array to "String" objects with "ZoneId" and "Locale", putting them in an
+     * array given by the caller.</p>
+     * <p>The pattern is compiled and the "ZoneId" and "Locale" are resolved once for the whole array, and every element
+     * gets the same result as "formatTime". The results are put in the same positions of "resultsIn", so the same array
+     * can be reused for many calls. When an element fails, the elements before it have already been put in
+     * "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * String[] result = DateTimeUtil.formatTimes( times, "HH:mm:ss", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), new String[ times.length ] );
+     * </code>
+     *
+     * @param timesIn The times as "LocalTime" objects.
+     * @param formatterIn The format pattern to format "timesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param resultsIn The array where the formatted times are put, at least as long as "timesIn".
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "timesIn", "zoneIdIn" or "resultsIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "timesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #formatTime(LocalTime, String, ZoneId, Locale)
+     * @see java.time.format.DateTimeFormatter
+     */
+    public static String[] formatTimes( LocalTime[] timesIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn, String[] resultsIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            final CompiledPattern formatter = PatternCache.get( formatterIn, localeIn );
+            return DateTimeMetrics.success( start, METRIC_FORMAT_TIMES_LOCAL_TIME, formatterIn, zoneIdIn,
+                                            BulkConversion.convert( timesIn, zoneIdIn, resultsIn, time -> formatter.formatTime( time, zoneIdIn ) ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_TIMES_LOCAL_TIME, formatterIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Formats the "LocalTime" objects of an array to "String" objects with "ZoneId" and "Locale", putting them in an
+     * array given by the caller and converting them in parallel.</p>
+     * <p>The array is split into ranges converted by the workers of "poolIn", such as "ForkJoinPool.commonPool()", and
+     * every element gets the same result as the sequential method, put in the same position of "resultsIn". The size of
+     * the ranges adapts to the length of the array and the parallelism of the pool, and short arrays are converted in
+     * the calling thread. When several elements fail, the exception is the one of the element with the lowest index and
+     * all the elements before it have been put in "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * String[] result = DateTimeUtil.formatTimes( times, "HH:mm:ss", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), new String[ times.length ], ForkJoinPool.commonPool() );
+     * </code>
+     *
+     * @param timesIn The times as "LocalTime" objects.
+     * @param formatterIn The format pattern to format "timesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param resultsIn The array where the formatted times are put, at least as long as "timesIn".
+     * @param poolIn The "ForkJoinPool" object that runs the conversion.
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "timesIn", "zoneIdIn", "resultsIn" or "poolIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "timesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #formatTime(LocalTime, String, ZoneId, Locale)
+     * @see java.time.format.DateTimeFormatter
+     * @see java.util.concurrent.ForkJoinPool
+     */
+    public static String[] formatTimes( LocalTime[] timesIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn, String[] resultsIn, ForkJoinPool poolIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            final CompiledPattern formatter = PatternCache.get( formatterIn, localeIn );
+            return DateTimeMetrics.success( start, METRIC_FORMAT_TIMES_LOCAL_TIME, formatterIn, zoneIdIn,
+                                            BulkConversion.convert( timesIn, zoneIdIn, resultsIn, poolIn, time -> formatter.formatTime( time, zoneIdIn ) ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_TIMES_LOCAL_TIME, formatterIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Formats the dates in "String" format of an array to "String" objects with another pattern.</p>
+     * <p>"ZoneId" and "Locale" are set as the system default and "String" date pattern is set as default ("dd/MM/yyyy").</p>
+     * <p>Example:</p>
+     * <code>
+     * String[] result = DateTimeUtil.formatDates( dates, "yyyy-MM-dd" );
+     * </code>
+     *
+     * @param datesIn The dates as "String" objects with pattern "dd/MM/yyyy".
+     * @param formatterIn The format pattern to format "datesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     *
+     * @return The dates formatted as "String" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #formatDate(String, String)
+     */
+    public static String[] formatDates( String[] datesIn, String formatterIn ){
+        return DateTimeUtil.formatDates( datesIn, DateTimeUtil.DEFAULT_DATE_PATTERN, formatterIn, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Formats the dates in "String" format of an array to "String" objects with another pattern, "ZoneId" and
+     * "Locale".</p>
+     * <p>Example:</p>
+     * <code>
+     * String[] result = DateTimeUtil.formatDates( dates, "dd/MM/yyyy", "yyyy-MM-dd", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ) );
+     * </code>
+     *
+     * @param datesIn The dates as "String" objects.
+     * @param patternIn The format pattern of "datesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param formatterIn The format pattern to format "datesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     *
+     * @return The dates formatted as "String" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #formatDate(String, String, String, ZoneId, Locale)
+     */
+    public static String[] formatDates( String[] datesIn, String patternIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn ){
+        return DateTimeUtil.formatDates( datesIn, patternIn, formatterIn, zoneIdIn, localeIn, new String[ datesIn.length ] );
+    }
+
+    /**
+     * <p>Formats the dates in "String" format of an array to "String" objects with another pattern, "ZoneId" and
+     * "Locale", putting them in an array given by the caller.</p>
+     * <p>Both patterns are compiled and the "ZoneId" and "Locale" are resolved once for the whole array, and every
+     * element gets the same result as "formatDate". The results are put in the same positions of "resultsIn", so the
+     * same array can be reused for many calls. When an element fails, the elements before it have already been put in
+     * "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * String[] result = DateTimeUtil.formatDates( dates, "dd/MM/yyyy", "yyyy-MM-dd", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), new String[ dates.length ] );
+     * </code>
+     *
+     * @param datesIn The dates as "String" objects.
+     * @param patternIn The format pattern of "datesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param formatterIn The format pattern to format "datesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param resultsIn The array where the formatted dates are put, at least as long as "datesIn". It can be "datesIn" itself.
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "datesIn", "zoneIdIn" or "resultsIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "datesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #formatDate(String, String, String, ZoneId, Locale)
+     * @see java.time.format.DateTimeFormatter
+     */
+    public static String[] formatDates( String[] datesIn, String patternIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn, String[] resultsIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            final CompiledPattern pattern = PatternCache.get( patternIn, localeIn );
+            final CompiledPattern formatter = PatternCache.get( formatterIn, localeIn );
+            return DateTimeMetrics.success( start, METRIC_FORMAT_DATES_STRING, patternIn, zoneIdIn,
+                                            BulkConversion.convert( datesIn, zoneIdIn, resultsIn, date -> formatter.formatDate( pattern.getLocalDateFromString( date, zoneIdIn ), zoneIdIn ) ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_DATES_STRING, patternIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Formats the dates in "String" format of an array to "String" objects with another pattern, "ZoneId" and
+     * "Locale", putting them in an array given by the caller and converting them in parallel.</p>
+     * <p>The array is split into ranges converted by the workers of "poolIn", such as "ForkJoinPool.commonPool()", and
+     * every element gets the same result as the sequential method, put in the same position of "resultsIn". The size of
+     * the ranges adapts to the length of the array and the parallelism of the pool, and short arrays are converted in
+     * the calling thread. When several elements fail, the exception is the one of the element with the lowest index and
+     * all the elements before it have been put in "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * String[] result = DateTimeUtil.formatDates( dates, "dd/MM/yyyy", "yyyy-MM-dd", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), new String[ dates.length ], ForkJoinPool.commonPool() );
+     * </code>
+     *
+     * @param datesIn The dates as "String" objects.
+     * @param patternIn The format pattern of "datesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param formatterIn The format pattern to format "datesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param resultsIn The array where the formatted dates are put, at least as long as "datesIn". It can be "datesIn" itself.
+     * @param poolIn The "ForkJoinPool" object that runs the conversion.
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "datesIn", "zoneIdIn", "resultsIn" or "poolIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "datesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #formatDate(String, String, String, ZoneId, Locale)
+     * @see java.time.format.DateTimeFormatter
+     * @see java.util.concurrent.ForkJoinPool
+     */
+    public static String[] formatDates( String[] datesIn, String patternIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn, String[] resultsIn, ForkJoinPool poolIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            final CompiledPattern pattern = PatternCache.get( patternIn, localeIn );
+            final CompiledPattern formatter = PatternCache.get( formatterIn, localeIn );
+            return DateTimeMetrics.success( start, METRIC_FORMAT_DATES_STRING, patternIn, zoneIdIn,
+                                            BulkConversion.convert( datesIn, zoneIdIn, resultsIn, poolIn, date -> formatter.formatDate( pattern.getLocalDateFromString( date, zoneIdIn ), zoneIdIn ) ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_DATES_STRING, patternIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Formats the date-times in "String" format of an array to "String" objects with another pattern.</p>
+     * <p>"ZoneId" and "Locale" are set as the system default and "String" date-time pattern is set as default ("dd/MM/yyyy HH:mm").</p>
+     * <p>Example:</p>
+     * <code>
+     * String[] result = DateTimeUtil.formatDateTimes( dateTimes, "yyyy-MM-dd//HH-mm" );
+     * </code>
+     *
+     * @param dateTimesIn The date-times as "String" objects with pattern "dd/MM/yyyy HH:mm".
+     * @param formatterIn The format pattern to format "dateTimesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     *
+     * @return The date-times formatted as "String" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #formatDateTime(String, String)
+     */
+    public static String[] formatDateTimes( String[] dateTimesIn, String formatterIn ){
+        return DateTimeUtil.formatDateTimes( dateTimesIn, DateTimeUtil.DEFAULT_DATE_TIME_PATTERN, formatterIn, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Formats the date-times in "String" format of an array to "String" objects with another pattern, "ZoneId" and
+     * "Locale".</p>
+     * <p>Example:</p>
+     * <code>
+     * String[] result = DateTimeUtil.formatDateTimes( dateTimes, "dd/MM/yyyy HH:mm", "yyyy-MM-dd//HH-mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ) );
+     * </code>
+     *
+     * @param dateTimesIn The date-times as "String" objects.
+     * @param patternIn The format pattern of "dateTimesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param formatterIn The format pattern to format "dateTimesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     *
+     * @return The date-times formatted as "String" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #formatDateTime(String, String, String, ZoneId, Locale)
+     */
+    public static String[] formatDateTimes( String[] dateTimesIn, String patternIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn ){
+        return DateTimeUtil.formatDateTimes( dateTimesIn, patternIn, formatterIn, zoneIdIn, localeIn, new String[ dateTimesIn.length ] );
+    }
+
+    /**
+     * <p>Formats the date-times in "String" format of an array to "String" objects with another pattern, "ZoneId" and
+     * "Locale", putting them in an array given by the caller.</p>
+     * <p>Both patterns are compiled and the "ZoneId" and "Locale" are resolved once for the whole array, and every
+     * element gets the same result as "formatDateTime". The results are put in the same positions of "resultsIn", so
+     * the same array can be reused for many calls. When an element fails, the elements before it have already been put
+     * in "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * String[] result = DateTimeUtil.formatDateTimes( dateTimes, "dd/MM/yyyy HH:mm", "yyyy-MM-dd//HH-mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), new String[ dateTimes.length ] );
+     * </code>
+     *
+     * @param dateTimesIn The date-times as "String" objects.
+     * @param patternIn The format pattern of "dateTimesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param formatterIn The format pattern to format "dateTimesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param resultsIn The array where the formatted date-times are put, at least as long as "dateTimesIn". It can be "dateTimesIn" itself.
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "dateTimesIn", "zoneIdIn" or "resultsIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "dateTimesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #formatDateTime(String, String, String, ZoneId, Locale)
+     * @see java.time.format.DateTimeFormatter
+     */
+    public static String[] formatDateTimes( String[] dateTimesIn, String patternIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn, String[] resultsIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            final CompiledPattern pattern = PatternCache.get( patternIn, localeIn );
+            final CompiledPattern formatter = PatternCache.get( formatterIn, localeIn );
+            return DateTimeMetrics.success( start, METRIC_FORMAT_DATE_TIMES_STRING, patternIn, zoneIdIn,
+                                            BulkConversion.convert( dateTimesIn, zoneIdIn, resultsIn, dateTime -> formatter.formatDateTime( pattern.getLocalDateTimeFromString( dateTime, zoneIdIn ), zoneIdIn ) ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_DATE_TIMES_STRING, patternIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Formats the date-times in "String" format of an array to "String" objects with another pattern, "ZoneId" and
+     * "Locale", putting them in an array given by the caller and converting them in parallel.</p>
+     * <p>The array is split into ranges converted by the workers of "poolIn", such as "ForkJoinPool.commonPool()", and
+     * every element gets the same result as the sequential method, put in the same position of "resultsIn". The size of
+     * the ranges adapts to the length of the array and the parallelism of the pool, and short arrays are converted in
+     * the calling thread. When several elements fail, the exception is the one of the element with the lowest index and
+     * all the elements before it have been put in "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * String[] result = DateTimeUtil.formatDateTimes( dateTimes, "dd/MM/yyyy HH:mm", "yyyy-MM-dd//HH-mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), new String[ dateTimes.length ], ForkJoinPool.commonPool() );
+     * </code>
+     *
+     * @param dateTimesIn The date-times as "String" objects.
+     * @param patternIn The format pattern of "dateTimesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param formatterIn The format pattern to format "dateTimesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param resultsIn The array where the formatted date-times are put, at least as long as "dateTimesIn". It can be "dateTimesIn" itself.
+     * @param poolIn The "ForkJoinPool" object that runs the conversion.
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "dateTimesIn", "zoneIdIn", "resultsIn" or "poolIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "dateTimesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #formatDateTime(String, String, String, ZoneId, Locale)
+     * @see java.time.format.DateTimeFormatter
+     * @see java.util.concurrent.ForkJoinPool
+     */
+    public static String[] formatDateTimes( String[] dateTimesIn, String patternIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn, String[] resultsIn, ForkJoinPool poolIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            final CompiledPattern pattern = PatternCache.get( patternIn, localeIn );
+            final CompiledPattern formatter = PatternCache.get( formatterIn, localeIn );
+            return DateTimeMetrics.success( start, METRIC_FORMAT_DATE_TIMES_STRING, patternIn, zoneIdIn,
+                                            BulkConversion.convert( dateTimesIn, zoneIdIn, resultsIn, poolIn, dateTime -> formatter.formatDateTime( pattern.getLocalDateTimeFromString( dateTime, zoneIdIn ), zoneIdIn ) ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_DATE_TIMES_STRING, patternIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Formats the times in "String" format of an array to "String" objects with another pattern.</p>
+     * <p>"ZoneId" and "Locale" are set as the system default and "String" time pattern is set as default ("HH:mm:ss").</p>
+     * <p>Example:</p>
+     * <code>
+     * String[] result = DateTimeUtil.formatTimes( times, "HH-mm-ss" );
+     * </code>
+     *
+     * @param timesIn The times as "String" objects with pattern "HH:mm:ss".
+     * @param formatterIn The format pattern to format "timesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     *
+     * @return The times formatted as "String" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #formatTime(String, String)
+     */
+    public static String[] formatTimes( String[] timesIn, String formatterIn ){
+        return DateTimeUtil.formatTimes( timesIn, DateTimeUtil.DEFAULT_TIME_PATTERN, formatterIn, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Formats the times in "String" format of an array to "String" objects with another pattern, "ZoneId" and
+     * "Locale".</p>
+     * <p>Example:</p>
+     * <code>
+     * String[] result = DateTimeUtil.formatTimes( times, "HH:mm:ss", "HH-mm-ss", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ) );
+     * </code>
+     *
+     * @param timesIn The times as "String" objects.
+     * @param patternIn The format pattern of "timesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param formatterIn The format pattern to format "timesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     *
+     * @return The times formatted as "String" objects, in the same order.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #formatTime(String, String, String, ZoneId, Locale)
+     */
+    public static String[] formatTimes( String[] timesIn, String patternIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn ){
+        return DateTimeUtil.formatTimes( timesIn, patternIn, formatterIn, zoneIdIn, localeIn, new String[ timesIn.length ] );
+    }
+
+    /**
+     * <p>Formats the times in "String" format of an array to "String" objects with another pattern, "ZoneId" and
+     * "Locale", putting them in an array given by the caller.</p>
+     * <p>Both patterns are compiled and the "ZoneId" and "Locale" are resolved once for the whole array, and every
+     * element gets the same result as "formatTime". The results are put in the same positions of "resultsIn", so the
+     * same array can be reused for many calls. When an element fails, the elements before it have already been put in
+     * "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * String[] result = DateTimeUtil.formatTimes( times, "HH:mm:ss", "HH-mm-ss", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), new String[ times.length ] );
+     * </code>
+     *
+     * @param timesIn The times as "String" objects.
+     * @param patternIn The format pattern of "timesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param formatterIn The format pattern to format "timesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param resultsIn The array where the formatted times are put, at least as long as "timesIn". It can be "timesIn" itself.
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "timesIn", "zoneIdIn" or "resultsIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "timesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #formatTime(String, String, String, ZoneId, Locale)
+     * @see java.time.format.DateTimeFormatter
+     */
+    public static String[] formatTimes( String[] timesIn, String patternIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn, String[] resultsIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            final CompiledPattern pattern = PatternCache.get( patternIn, localeIn );
+            final CompiledPattern formatter = PatternCache.get( formatterIn, localeIn );
+            return DateTimeMetrics.success( start, METRIC_FORMAT_TIMES_STRING, patternIn, zoneIdIn,
+                                            BulkConversion.convert( timesIn, zoneIdIn, resultsIn, time -> formatter.formatTime( pattern.getLocalTimeFromString( time, zoneIdIn ), zoneIdIn ) ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_TIMES_STRING, patternIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Formats the times in "String" format of an array to "String" objects with another pattern, "ZoneId" and
+     * "Locale", putting them in an array given by the caller and converting them in parallel.</p>
+     * <p>The array is split into ranges converted by the workers of "poolIn", such as "ForkJoinPool.commonPool()", and
+     * every element gets the same result as the sequential method, put in the same position of "resultsIn". The size of
+     * the ranges adapts to the length of the array and the parallelism of the pool, and short arrays are converted in
+     * the calling thread. When several elements fail, the exception is the one of the element with the lowest index and
+     * all the elements before it have been put in "resultsIn".</p>
+     * <p>Example:</p>
+     * <code>
+     * String[] result = DateTimeUtil.formatTimes( times, "HH:mm:ss", "HH-mm-ss", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), new String[ times.length ], ForkJoinPool.commonPool() );
+     * </code>
+     *
+     * @param timesIn The times as "String" objects.
+     * @param patternIn The format pattern of "timesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param formatterIn The format pattern to format "timesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param resultsIn The array where the formatted times are put, at least as long as "timesIn". It can be "timesIn" itself.
+     * @param poolIn The "ForkJoinPool" object that runs the conversion.
+     *
+     * @return The "resultsIn" array.
+     *
+     * @throws NullPointerException If "timesIn", "zoneIdIn", "resultsIn" or "poolIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "timesIn".
+     * @throws com.indenaiten.code.util.BulkConversionException If any element cannot be converted, with the index of the first
+     * one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #formatTime(String, String, String, ZoneId, Locale)
+     * @see java.time.format.DateTimeFormatter
+     * @see java.util.concurrent.ForkJoinPool
+     */
+    public static String[] formatTimes( String[] timesIn, String patternIn, String formatterIn, ZoneId zoneIdIn, Locale localeIn, String[] resultsIn, ForkJoinPool poolIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            final CompiledPattern pattern = PatternCache.get( patternIn, localeIn );
+            final CompiledPattern formatter = PatternCache.get( formatterIn, localeIn );
+            return DateTimeMetrics.success( start, METRIC_FORMAT_TIMES_STRING, patternIn, zoneIdIn,
+                                            BulkConversion.convert( timesIn, zoneIdIn, resultsIn, poolIn, time -> formatter.formatTime( pattern.getLocalTimeFromString( time, zoneIdIn ), zoneIdIn ) ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_FORMAT_TIMES_STRING, patternIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Converts the date-times in "String" format of an array to the number of milliseconds since
+     * 1970-01-01T00:00:00Z, putting them in a "long" array given by the caller.</p>
+     * <p>"ZoneId" and "Locale" are set as the system default and "String" date-time formatter is set as default ("dd/MM/yyyy HH:mm").</p>
+     * <p>Example:</p>
+     * <code>
+     * BitSet invalid = DateTimeUtil.getEpochMillisFromStrings( dateTimes, new long[ dateTimes.length ] );
+     * </code>
+     *
+     * @param dateTimesIn The date-times as "String" objects with pattern "dd/MM/yyyy HH:mm".
+     * @param resultsIn The array where the epoch milliseconds are put, at least as long as "dateTimesIn".
+     *
+     * @return The indexes of the date-times that cannot be parsed, empty if all of them are valid.
+     *
+     * @throws NullPointerException If "dateTimesIn" or "resultsIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "dateTimesIn".
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getEpochMillisFromString(String)
+     */
+    public static BitSet getEpochMillisFromStrings( String[] dateTimesIn, long[] resultsIn ){
+        return DateTimeUtil.getEpochMillisFromStrings( dateTimesIn, DateTimeUtil.DEFAULT_DATE_TIME_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID,
+                DateTimeUtil.DEFAULT_LOCALE, resultsIn );
+    }
+
+    /**
+     * <p>Converts the date-times in "String" format of an array with a given date-time pattern, "ZoneId" and "Locale" to
+     * the number of milliseconds since 1970-01-01T00:00:00Z, putting them in a "long" array given by the caller.</p>
+     * <p>The column of date-times is held as primitive values, without a "Date" object per element. The date-times that
+     * cannot be parsed, including the null ones, do not throw any exception: their index is set in the returned
+     * "BitSet" and their position of "resultsIn" is set to 0.</p>
+     * <p>Example:</p>
+     * <code>
+     * BitSet invalid = DateTimeUtil.getEpochMillisFromStrings( dateTimes, "dd/MM/yyyy HH:mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), new long[ dateTimes.length ] );
+     * </code>
+     *
+     * @param dateTimesIn The date-times as "String" objects.
+     * @param patternIn The format pattern of "dateTimesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param resultsIn The array where the epoch milliseconds are put, at least as long as "dateTimesIn".
+     *
+     * @return The indexes of the date-times that cannot be parsed, empty if all of them are valid.
+     *
+     * @throws NullPointerException If "dateTimesIn", "zoneIdIn" or "resultsIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "dateTimesIn".
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getEpochMillisFromString(String, String, ZoneId, Locale)
+     * @see java.time.format.DateTimeFormatter
+     * @see java.util.BitSet
+     */
+    public static BitSet getEpochMillisFromStrings( String[] dateTimesIn, String patternIn, ZoneId zoneIdIn, Locale localeIn, long[] resultsIn ){
+        return DateTimeUtil.getEpochMillisFromStrings( Arrays.asList( Objects.requireNonNull( dateTimesIn, "values" ) ), patternIn, zoneIdIn, localeIn,
+                                                       resultsIn );
+    }
+
+    /**
+     * <p>Converts the date-times in "String" format of a "List" with a given date-time pattern, "ZoneId" and "Locale" to
+     * the number of milliseconds since 1970-01-01T00:00:00Z, putting them in a "long" array given by the caller.</p>
+     * <p>The date-times can be any "CharSequence" object, such as the "CharBuffer" objects of a parsed file. The ones
+     * that cannot be parsed, including the null ones, do not throw any exception: their index is set in the returned
+     * "BitSet" and their position of "resultsIn" is set to 0.</p>
+     * <p>Example:</p>
+     * <code>
+     * BitSet invalid = DateTimeUtil.getEpochMillisFromStrings( dateTimes, "dd/MM/yyyy HH:mm", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), new long[ dateTimes.size() ] );
+     * </code>
+     *
+     * @param dateTimesIn The date-times as "CharSequence" objects.
+     * @param patternIn The format pattern of "dateTimesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param resultsIn The array where the epoch milliseconds are put, at least as long as "dateTimesIn".
+     *
+     * @return The indexes of the date-times that cannot be parsed, empty if all of them are valid.
+     *
+     * @throws NullPointerException If "dateTimesIn", "zoneIdIn" or "resultsIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "dateTimesIn".
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getEpochMillisFromString(String, String, ZoneId, Locale)
+     * @see java.time.format.DateTimeFormatter
+     * @see java.util.BitSet
+     */
+    public static BitSet getEpochMillisFromStrings( List<? extends CharSequence> dateTimesIn, String patternIn, ZoneId zoneIdIn, Locale localeIn, long[] resultsIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_GET_EPOCH_MILLIS_FROM_STRINGS, patternIn, zoneIdIn,
+                                            ColumnarConversion.getEpochMillis( dateTimesIn, PatternCache.get( patternIn, localeIn ), zoneIdIn, resultsIn ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_EPOCH_MILLIS_FROM_STRINGS, patternIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Converts the dates in "String" format of an array to the number of days since 1970-01-01, putting them in an
+     * "int" array given by the caller.</p>
+     * <p>"ZoneId" and "Locale" are set as the system default and "String" date formatter is set as default ("dd/MM/yyyy").</p>
+     * <p>Example:</p>
+     * <code>
+     * BitSet invalid = DateTimeUtil.getEpochDaysFromStrings( dates, new int[ dates.length ] );
+     * </code>
+     *
+     * @param datesIn The dates as "String" objects with pattern "dd/MM/yyyy".
+     * @param resultsIn The array where the epoch days are put, at least as long as "datesIn".
+     *
+     * @return The indexes of the dates that cannot be parsed, empty if all of them are valid.
+     *
+     * @throws NullPointerException If "datesIn" or "resultsIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "datesIn".
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getEpochDayFromString(String)
+     */
+    public static BitSet getEpochDaysFromStrings( String[] datesIn, int[] resultsIn ){
+        return DateTimeUtil.getEpochDaysFromStrings( datesIn, DateTimeUtil.DEFAULT_DATE_PATTERN, DateTimeUtil.DEFAULT_ZONE_ID, DateTimeUtil.DEFAULT_LOCALE,
+                resultsIn );
+    }
+
+    /**
+     * <p>Converts the dates in "String" format of an array with a given date pattern, "ZoneId" and "Locale" to the
+     * number of days since 1970-01-01, putting them in an "int" array given by the caller.</p>
+     * <p>The column of dates is held as primitive values, without a "LocalDate" object per element. The dates that
+     * cannot be parsed, including the null ones and the ones whose epoch day does not fit in an "int", do not throw any
+     * exception: their index is set in the returned "BitSet" and their position of "resultsIn" is set to 0.</p>
+     * <p>Example:</p>
+     * <code>
+     * BitSet invalid = DateTimeUtil.getEpochDaysFromStrings( dates, "dd/MM/yyyy", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), new int[ dates.length ] );
+     * </code>
+     *
+     * @param datesIn The dates as "String" objects.
+     * @param patternIn The format pattern of "datesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param resultsIn The array where the epoch days are put, at least as long as "datesIn".
+     *
+     * @return The indexes of the dates that cannot be parsed, empty if all of them are valid.
+     *
+     * @throws NullPointerException If "datesIn", "zoneIdIn" or "resultsIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "datesIn".
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getEpochDayFromString(String, String, ZoneId, Locale)
+     * @see java.time.format.DateTimeFormatter
+     * @see java.util.BitSet
+     */
+    public static BitSet getEpochDaysFromStrings( String[] datesIn, String patternIn, ZoneId zoneIdIn, Locale localeIn, int[] resultsIn ){
+        return DateTimeUtil.getEpochDaysFromStrings( Arrays.asList( Objects.requireNonNull( datesIn, "values" ) ), patternIn, zoneIdIn, localeIn, resultsIn );
+    }
+
+    /**
+     * <p>Converts the dates in "String" format of a "List" with a given date pattern, "ZoneId" and "Locale" to the
+     * number of days since 1970-01-01, putting them in an "int" array given by the caller.</p>
+     * <p>The dates can be any "CharSequence" object, such as the "CharBuffer" objects of a parsed file. The ones that
+     * cannot be parsed, including the null ones and the ones whose epoch day does not fit in an "int", do not throw any
+     * exception: their index is set in the returned "BitSet" and their position of "resultsIn" is set to 0.</p>
+     * <p>Example:</p>
+     * <code>
+     * BitSet invalid = DateTimeUtil.getEpochDaysFromStrings( dates, "dd/MM/yyyy", ZoneId.of( "Europe/Paris" ), new Locale( "es", "ES" ), new int[ dates.size() ] );
+     * </code>
+     *
+     * @param datesIn The dates as "CharSequence" objects.
+     * @param patternIn The format pattern of "datesIn".
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param zoneIdIn The "ZoneId" object.
+     * @param localeIn The "Locale" object.
+     * @param resultsIn The array where the epoch days are put, at least as long as "datesIn".
+     *
+     * @return The indexes of the dates that cannot be parsed, empty if all of them are valid.
+     *
+     * @throws NullPointerException If "datesIn", "zoneIdIn" or "resultsIn" is null.
+     * @throws IllegalArgumentException If "resultsIn" is shorter than "datesIn".
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see #getEpochDayFromString(String, String, ZoneId, Locale)
+     * @see java.time.format.DateTimeFormatter
+     * @see java.util.BitSet
+     */
+    public static BitSet getEpochDaysFromStrings( List<? extends CharSequence> datesIn, String patternIn, ZoneId zoneIdIn, Locale localeIn, int[] resultsIn ){
+        final long start = DateTimeMetrics.start();
+        try{
+            return DateTimeMetrics.success( start, METRIC_GET_EPOCH_DAYS_FROM_STRINGS, patternIn, zoneIdIn,
+                                            ColumnarConversion.getEpochDays( datesIn, PatternCache.get( patternIn, localeIn ), zoneIdIn, resultsIn ) );
+        }
+        catch( RuntimeException e ){
+            throw DateTimeMetrics.failure( start, METRIC_GET_EPOCH_DAYS_FROM_STRINGS, patternIn, zoneIdIn, e );
+        }
+    }
+
+    /**
+     * <p>Compiles a date and time pattern once to be used many times.</p>
+     * <p>"Locale" is set as the system default.</p>
+     * <p>Example:</p>
+     * <code>
+     * CompiledPattern result = DateTimeUtil.compile( "dd/MM/yyyy" );
+     * </code>
+     *
+     * @param patternIn The format pattern.
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     *
+     * @return The "CompiledPattern" object.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see com.indenaiten.code.util.CompiledPattern
+     * @see java.time.format.DateTimeFormatter
+     */
+    public static CompiledPattern compile( String patternIn ){
+        return DateTimeUtil.compile( patternIn, DateTimeUtil.DEFAULT_LOCALE );
+    }
+
+    /**
+     * <p>Compiles a date and time pattern with "Locale" once to be used many times.</p>
+     * <p>The result is immutable and thread-safe, so it can be kept in a static field and shared by all threads. It is
+     * taken from the same cache used by the rest of methods of this class.</p>
+     * <p>Example:</p>
+     * <code>
+     * CompiledPattern result = DateTimeUtil.compile( "dd/MM/yyyy", new Locale( "es", "ES" ) );
+     * </code>
+     *
+     * @param patternIn The format pattern.
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param localeIn The "Locale" object.
+     *
+     * @return The "CompiledPattern" object.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see com.indenaiten.code.util.CompiledPattern
+     * @see java.time.format.DateTimeFormatter
+     * @see java.util.Locale
+     */
+    public static CompiledPattern compile( String patternIn, Locale localeIn ){
+        return PatternCache.get( patternIn, localeIn );
+    }
+
+    /**
+     * <p>Gets the number of pattern lookups that have been served from the pattern cache.</p>
+     * <p>Every method that receives a pattern compiles it only once per pattern and "Locale" and keeps the result in a
+     * bounded cache shared by all threads.</p>
+     * <p>Example:</p>
+     * <code>
+     * long result = DateTimeUtil.getPatternCacheHitCount();
+     * </code>
+     *
+     * @return The number of hits of the pattern cache.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     */
+    public static long getPatternCacheHitCount(){
+        return PatternCache.getCache().getHitCount();
+    }
+
+    /**
+     * <p>Gets the number of pattern lookups that have had to compile the pattern.</p>
+     * <p>Example:</p>
+     * <code>
+     * long result = DateTimeUtil.getPatternCacheMissCount();
+     * </code>
+     *
+     * @return The number of misses of the pattern cache.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     */
+    public static long getPatternCacheMissCount(){
+        return PatternCache.getCache().getMissCount();
+    }
+
+    /**
+     * <p>Gets the number of compiled patterns that have been evicted to keep the pattern cache bounded.</p>
+     * <p>Example:</p>
+     * <code>
+     * long result = DateTimeUtil.getPatternCacheEvictionCount();
+     * </code>
+     *
+     * @return The number of evictions of the pattern cache.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     */
+    public static long getPatternCacheEvictionCount(){
+        return PatternCache.getCache().getEvictionCount();
+    }
+
+    /**
+     * <p>Gets the number of compiled patterns currently held by the pattern cache.</p>
+     * <p>Example:</p>
+     * <code>
+     * int result = DateTimeUtil.getPatternCacheSize();
+     * </code>
+     *
+     * @return The size of the pattern cache.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     */
+    public static int getPatternCacheSize(){
+        return PatternCache.getCache().size();
+    }
+
+    /**
+     * <p>Gets the maximum number of compiled patterns held by the pattern cache.</p>
+     * <p>It is set to the value of the "com.indenaiten.code.util.DateTimeUtil.patternCacheSize" system property or
+     * to the default value (256) when the property is missing, is not a number or is lower than one.</p>
+     * <p>Example:</p>
+     * <code>
+     * int result = DateTimeUtil.getPatternCacheMaximumSize();
+     * </code>
+     *
+     * @return The maximum size of the pattern cache.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     */
+    public static int getPatternCacheMaximumSize(){
+        return PatternCache.getCache().getMaximumSize();
+    }
+
+    /**
+     * <p>Sets the maximum number of compiled patterns held by the pattern cache.</p>
+     * <p>The patterns that have not been used recently are evicted first.</p>
+     * <p>Example:</p>
+     * <code>
+     * DateTimeUtil.setPatternCacheMaximumSize( 1024 );
+     * </code>
+     *
+     * @param maximumSizeIn The maximum size of the pattern cache.
+     *
+     * @throws IllegalArgumentException If "maximumSizeIn" is lower than one.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     */
+    public static void setPatternCacheMaximumSize( int maximumSizeIn ){
+        PatternCache.getCache().setMaximumSize( maximumSizeIn );
+    }
+
+    /**
+     * <p>Removes all the compiled patterns from the pattern cache and resets its counters.</p>
+     * <p>Example:</p>
+     * <code>
+     * DateTimeUtil.clearPatternCache();
+     * </code>
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     */
+    public static void clearPatternCache(){
+        PatternCache.getCache().clear();
+    }
+
+    /**
+     * <p>Checks whether the methods that parse a "String" throw their "DateTimeParseException" without stack
+     * trace.</p>
+     * <p>It is set to the value of the "com.indenaiten.code.util.DateTimeUtil.stacklessExceptions" system property or
+     * to false.</p>
+     * <p>Example:</p>
+     * <code>
+     * boolean result = DateTimeUtil.isStacklessExceptions();
+     * </code>
+     *
+     * @return True if the parse exceptions are thrown without stack trace.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     */
+    public static boolean isStacklessExceptions(){
+        return ParseFailures.isStackless();
+    }
+
+    /**
+     * <p>Sets whether the methods that parse a "String" throw their "DateTimeParseException" without stack trace.</p>
+     * <p>Filling the stack trace is most of the cost of rejecting an invalid text. When it is enabled, the texts that
+     * cannot be parsed are detected without letting "DateTimeFormatter" throw, and the exception is created with the
+     * same message, parsed text and error index, but with an empty stack trace.</p>
+     * <p>Example:</p>
+     * <code>
+     * DateTimeUtil.setStacklessExceptions( true );
+     * </code>
+     *
+     * @param stacklessIn True to throw the parse exceptions without stack trace.
+     *
+     * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+     * @see java.time.format.DateTimeParseException
+     */
+    public static void setStacklessExceptions( boolean stacklessIn ){
+        ParseFailures.setStackless( stacklessIn );
     }
 
 }
@@ -0,0 +1,31 @@
+package com.indenaiten.code.util;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+
+/**
+ * <p>Executor of the asynchronous conversions of "DateTimeAsync" when the caller does not give one.</p>
+ * <p>This is the implementation for Java 8, which returns "ForkJoinPool.commonPool()". The multi-release JAR has
+ * another one for Java 21 and later, with the same methods, that starts a virtual thread for every task.</p>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see com.indenaiten.code.util.DateTimeAsync
+ */
+final class DefaultExecutor{
+
+    /**
+     * Private constructor to avoid instantiating the class.
+     */
+    private DefaultExecutor(){
+        throw new IllegalStateException( "Utility class" );
+    }
+
+    /**
+     * @return The default "Executor" object of the asynchronous conversions.
+     */
+    static Executor get(){
+        return ForkJoinPool.commonPool();
+    }
+
+}
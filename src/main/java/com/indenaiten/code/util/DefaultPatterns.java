@@ -0,0 +1,86 @@
+package com.indenaiten.code.util;
+
+
+/**
+ * <p>Hand-written parsers for the default patterns of "DateTimeUtil".</p>
+ * <p>They keep the table-driven formatting of "FixedWidthPattern".</p>
+ * <ul>
+ *  <li>DEFAULT_DATE_PATTERN: "dd/MM/yyyy"</li>
+ *  <li>DEFAULT_TIME_PATTERN: "HH:mm:ss"</li>
+ *  <li>DEFAULT_DATE_TIME_PATTERN: "dd/MM/yyyy HH:mm"</li>
+ * </ul>
+ * <p>They read the digits at their fixed positions and only accept dates and times that "DateTimeFormatter" would
+ * accept without adjusting them. Years with more than 4 digits, days over the length of the month and "24:00" are left
+ * to "DateTimeFormatter".</p>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see com.indenaiten.code.util.FixedWidthPattern
+ * @see com.indenaiten.code.util.DateTimeUtil#DEFAULT_DATE_PATTERN
+ * @see com.indenaiten.code.util.DateTimeUtil#DEFAULT_TIME_PATTERN
+ * @see com.indenaiten.code.util.DateTimeUtil#DEFAULT_DATE_TIME_PATTERN
+ */
+final class DefaultPatterns{
+
+    static final FastPattern DATE = new FixedWidthPattern( PatternAnalyzer.analyze( DateTimeUtil.DEFAULT_DATE_PATTERN ) ){
+        @Override
+        long parse( CharSequence textIn ){
+            if( textIn.length() != 10 || textIn.charAt( 2 ) != '/' || textIn.charAt( 5 ) != '/' ){
+                return PackedDateTime.NO_MATCH;
+            }
+            return DefaultPatterns.parseDate( textIn, 0, 0, 0 );
+        }
+    };
+
+    static final FastPattern TIME = new FixedWidthPattern( PatternAnalyzer.analyze( DateTimeUtil.DEFAULT_TIME_PATTERN ) ){
+        @Override
+        long parse( CharSequence textIn ){
+            if( textIn.length() != 8 || textIn.charAt( 2 ) != ':' || textIn.charAt( 5 ) != ':' ){
+                return PackedDateTime.NO_MATCH;
+            }
+            final int hour = FastPattern.digits( textIn, 0, 2 );
+            final int minute = FastPattern.digits( textIn, 3, 2 );
+            final int second = FastPattern.digits( textIn, 6, 2 );
+            if( !PackedDateTime.isValidTime( hour, minute, second ) ){
+                return PackedDateTime.NO_MATCH;
+            }
+            return PackedDateTime.pack( 0, 0, 0, hour, minute, second, 0 );
+        }
+    };
+
+    static final FastPattern DATE_TIME = new FixedWidthPattern( PatternAnalyzer.analyze( DateTimeUtil.DEFAULT_DATE_TIME_PATTERN ) ){
+        @Override
+        long parse( CharSequence textIn ){
+            if( textIn.length() != 16 || textIn.charAt( 2 ) != '/' || textIn.charAt( 5 ) != '/' || textIn.charAt( 10 ) != ' '
+                || textIn.charAt( 13 ) != ':' ){
+                return PackedDateTime.NO_MATCH;
+            }
+            final int hour = FastPattern.digits( textIn, 11, 2 );
+            final int minute = FastPattern.digits( textIn, 14, 2 );
+            if( !PackedDateTime.isValidTime( hour, minute, 0 ) ){
+                return PackedDateTime.NO_MATCH;
+            }
+            return DefaultPatterns.parseDate( textIn, hour, minute, 0 );
+        }
+    };
+
+    /**
+     * Private constructor to avoid instantiating the class.
+     */
+    private DefaultPatterns(){
+        throw new IllegalStateException( "Utility class" );
+    }
+
+    /**
+     * <p>Reads the "dd/MM/yyyy" date at the beginning of "textIn", whose separators have already been checked.</p>
+     */
+    private static long parseDate( CharSequence textIn, int hourIn, int minuteIn, int secondIn ){
+        final int day = FastPattern.digits( textIn, 0, 2 );
+        final int month = FastPattern.digits( textIn, 3, 2 );
+        final int year = FastPattern.digits( textIn, 6, 4 );
+        if( year < 1 || !PackedDateTime.isValidDate( year, month, day ) ){
+            return PackedDateTime.NO_MATCH;
+        }
+        return PackedDateTime.pack( year, month, day, hourIn, minuteIn, secondIn, 0 );
+    }
+
+}
@@ -0,0 +1,180 @@
+package com.indenaiten.code.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+
+/**
+ * <p>Parser and formatter specialized for a single numeric pattern that works without the "DateTimeFormatter"
+ * machinery.</p>
+ * <p>A fast pattern only accepts the inputs it can handle with the exact same result as "DateTimeFormatter". For any
+ * other input it returns {@link PackedDateTime#NO_MATCH}, or false when formatting, and the caller must fall back to
+ * "DateTimeFormatter", which either resolves the input in its own way or rejects it with the usual exception.</p>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see com.indenaiten.code.util.PackedDateTime
+ * @see com.indenaiten.code.util.CompiledPattern
+ */
+abstract class FastPattern{
+
+    private final boolean date;
+    private final boolean time;
+
+    /**
+     * @param dateIn True if the pattern has all the fields of a date.
+     * @param timeIn True if the pattern has, at least, the hour.
+     */
+    FastPattern( boolean dateIn, boolean timeIn ){
+        this.date = dateIn;
+        this.time = timeIn;
+    }
+
+    /**
+     * <p>Returns the fast pattern for "patternIn", or null if it has to be handled by "DateTimeFormatter".</p>
+     *
+     * @param patternIn The format pattern.
+     *
+     * @return The "FastPattern" object or null.
+     */
+    static FastPattern of( String patternIn ){
+        switch( patternIn ){
+            case DateTimeUtil.DEFAULT_DATE_PATTERN:
+                return DefaultPatterns.DATE;
+            case DateTimeUtil.DEFAULT_TIME_PATTERN:
+                return DefaultPatterns.TIME;
+            case DateTimeUtil.DEFAULT_DATE_TIME_PATTERN:
+                return DefaultPatterns.DATE_TIME;
+            default:
+                return PatternAnalyzer.analyze( patternIn );
+        }
+    }
+
+    /**
+     * <p>Parses "textIn" without creating any object.</p>
+     *
+     * @param textIn The text to parse.
+     *
+     * @return The fields packed as described in "PackedDateTime", or {@link PackedDateTime#NO_MATCH}.
+     *
+     * @throws NullPointerException If "textIn" is null.
+     */
+    abstract long parse( CharSequence textIn );
+
+    /**
+     * @return The length of every text parsed or formatted by this pattern.
+     */
+    abstract int length();
+
+    /**
+     * <p>Checks, looking only at the length and at the characters of "textIn", whether "DateTimeFormatter" could parse
+     * it with this pattern.</p>
+     * <p>A false result means that "DateTimeFormatter" rejects the text, so the failure can be reported without
+     * running any parser. A true result does not mean that the text is valid.</p>
+     *
+     * @param textIn The text to check.
+     *
+     * @return False if "textIn" cannot be parsed with this pattern.
+     *
+     * @throws NullPointerException If "textIn" is null.
+     */
+    abstract boolean mayParse( CharSequence textIn );
+
+    /**
+     * <p>Formats the given fields as ASCII bytes.</p>
+     * <p>The fields of the date or the time that are not in the pattern are ignored.</p>
+     *
+     * @param yearIn The year.
+     * @param monthIn The month.
+     * @param dayIn The day of month.
+     * @param hourIn The hour.
+     * @param minuteIn The minute.
+     * @param secondIn The second.
+     * @param nanoIn The nanosecond.
+     * @param bytesIn The destination array, with room for {@link #length()} bytes from "offsetIn".
+     * @param offsetIn The position of the first byte.
+     *
+     * @return True if the fields have been formatted, false if they have to be formatted by "DateTimeFormatter".
+     */
+    abstract boolean format( int yearIn, int monthIn, int dayIn, int hourIn, int minuteIn, int secondIn, int nanoIn, byte[] bytesIn,
+                             int offsetIn );
+
+    /**
+     * <p>Formats the given fields as ASCII bytes written with absolute puts, so the position of "bufferIn" does not
+     * change.</p>
+     *
+     * @param bufferIn The destination buffer, heap or direct, with room for {@link #length()} bytes from "indexIn".
+     * @param indexIn The index of the first byte.
+     *
+     * @return True if the fields have been formatted, false if they have to be formatted by "DateTimeFormatter".
+     *
+     * @see #format(int, int, int, int, int, int, int, byte[], int)
+     */
+    abstract boolean format( int yearIn, int monthIn, int dayIn, int hourIn, int minuteIn, int secondIn, int nanoIn, ByteBuffer bufferIn,
+                             int indexIn );
+
+    /**
+     * <p>Formats the given fields appending the characters one by one to "appendableIn".</p>
+     * <p>Nothing is appended when the fields have to be formatted by "DateTimeFormatter".</p>
+     *
+     * @param appendableIn The destination of the characters.
+     *
+     * @return True if the fields have been formatted, false if they have to be formatted by "DateTimeFormatter".
+     *
+     * @throws IOException If "appendableIn" fails.
+     *
+     * @see #format(int, int, int, int, int, int, int, byte[], int)
+     */
+    abstract boolean format( int yearIn, int monthIn, int dayIn, int hourIn, int minuteIn, int secondIn, int nanoIn,
+                             Appendable appendableIn ) throws IOException;
+
+    /**
+     * <p>Formats the given fields to "String" object.</p>
+     *
+     * @return The fields formatted, or null if they have to be formatted by "DateTimeFormatter".
+     *
+     * @see #format(int, int, int, int, int, int, int, byte[], int)
+     */
+    final String format( int yearIn, int monthIn, int dayIn, int hourIn, int minuteIn, int secondIn, int nanoIn ){
+        final byte[] bytes = new byte[ this.length() ];
+        if( !this.format( yearIn, monthIn, dayIn, hourIn, minuteIn, secondIn, nanoIn, bytes, 0 ) ){
+            return null;
+        }
+        return AsciiDigits.newString( bytes );
+    }
+
+    /**
+     * @return True if the pattern has all the fields of a date.
+     */
+    final boolean hasDate(){
+        return this.date;
+    }
+
+    /**
+     * @return True if the pattern has, at least, the hour.
+     */
+    final boolean hasTime(){
+        return this.time;
+    }
+
+    /**
+     * <p>Reads a number of fixed width.</p>
+     *
+     * @param textIn The text.
+     * @param positionIn The position of the first digit.
+     * @param widthIn The number of digits.
+     *
+     * @return The number, or a negative value if any of the characters is not an ASCII digit.
+     */
+    static int digits( CharSequence textIn, int positionIn, int widthIn ){
+        int value = 0;
+        for( int i = positionIn, end = positionIn + widthIn; i < end; i++ ){
+            final int digit = textIn.charAt( i ) - '0';
+            if( digit < 0 || digit > 9 ){
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+}
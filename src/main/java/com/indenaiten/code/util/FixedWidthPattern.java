@@ -0,0 +1,325 @@
+package com.indenaiten.code.util;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+
+/**
+ * <p>Table-driven parser and formatter of a pattern made only of fixed-width numeric fields and ASCII literals.</p>
+ * <p>The layout of the pattern is kept in three arrays: the kind and the width of every segment and a template with
+ * the literals in their positions. Parsing checks the length and the literals of the text and reads the digits of
+ * every field, formatting copies the template and writes the digits over it.</p>
+ * <p>Like every "FastPattern", it only handles the values that give the exact same result as "DateTimeFormatter":
+ * years from 1 to 9999, dates that exist and times before "24:00".</p>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see com.indenaiten.code.util.PatternAnalyzer
+ */
+class FixedWidthPattern extends FastPattern{
+
+    static final int LITERAL = 0;
+    static final int YEAR = 1;
+    static final int YEAR_OF_CENTURY = 2;
+    static final int MONTH = 3;
+    static final int DAY = 4;
+    static final int HOUR = 5;
+    static final int MINUTE = 6;
+    static final int SECOND = 7;
+    static final int FRACTION = 8;
+
+    private static final int[] POWERS_OF_TEN = { 1, 10, 100, 1000, 10000, 100000, 1000000, 10000000, 100000000, 1000000000 };
+
+    private final byte[] template;
+    private final byte[] kinds;
+    private final byte[] widths;
+    private final int[] offsets;
+    private final boolean year;
+    private final int maximumLength;
+    private final long charsLow;
+    private final long charsHigh;
+
+    /**
+     * @param templateIn The text of the pattern with the literals in their positions.
+     * @param kindsIn The kind of every segment.
+     * @param widthsIn The width of every segment.
+     * @param dateIn True if the pattern has all the fields of a date.
+     * @param timeIn True if the pattern has, at least, the hour.
+     */
+    FixedWidthPattern( byte[] templateIn, byte[] kindsIn, byte[] widthsIn, boolean dateIn, boolean timeIn ){
+        super( dateIn, timeIn );
+        this.template = templateIn;
+        this.kinds = kindsIn;
+        this.widths = widthsIn;
+        this.offsets = new int[ kindsIn.length ];
+        int offset = 0;
+        boolean hasYear = false;
+        for( int i = 0; i < kindsIn.length; i++ ){
+            this.offsets[ i ] = offset;
+            offset += widthsIn[ i ];
+            hasYear |= kindsIn[ i ] == YEAR || kindsIn[ i ] == YEAR_OF_CENTURY;
+        }
+        this.year = hasYear;
+        boolean longYear = false;
+        for( final byte kind : kindsIn ){
+            longYear |= kind == YEAR;
+        }
+        this.maximumLength = longYear ? templateIn.length + 16 : templateIn.length;
+        long low = 0x03ff000000000000L;
+        long high = 0;
+        if( longYear ){
+            low |= ( 1L << '+' ) | ( 1L << '-' );
+        }
+        for( final byte literal : templateIn ){
+            if( literal < 64 ){
+                low |= 1L << literal;
+            }
+            else{
+                high |= 1L << ( literal - 64 );
+            }
+        }
+        this.charsLow = low;
+        this.charsHigh = high;
+    }
+
+    /**
+     * <p>Creates a new pattern with the same layout.</p>
+     *
+     * @param patternIn The pattern to copy.
+     */
+    FixedWidthPattern( FixedWidthPattern patternIn ){
+        this( patternIn.template, patternIn.kinds, patternIn.widths, patternIn.hasDate(), patternIn.hasTime() );
+    }
+
+    @Override
+    final int length(){
+        return this.template.length;
+    }
+
+    /**
+     * <p>The fields of the pattern are read by "DateTimeFormatter" with fixed width, except the year of 4 digits that
+     * may have up to 19 digits and a sign, and the literals are matched exactly, so the text can only have those
+     * characters and a length between the length of the pattern and the one with the longest year.</p>
+     */
+    @Override
+    final boolean mayParse( CharSequence textIn ){
+        final int length = textIn.length();
+        if( length < this.template.length || length > this.maximumLength ){
+            return false;
+        }
+        for( int i = 0; i < length; i++ ){
+            final char cur = textIn.charAt( i );
+            if( cur >= 128 || ( ( cur < 64 ? this.charsLow >>> cur : this.charsHigh >>> ( cur - 64 ) ) & 1L ) == 0 ){
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    long parse( CharSequence textIn ){
+        if( textIn.length() != this.template.length ){
+            return PackedDateTime.NO_MATCH;
+        }
+        int yearValue = 0;
+        int month = 0;
+        int day = 0;
+        int hour = 0;
+        int minute = 0;
+        int second = 0;
+        int micro = 0;
+        for( int i = 0; i < this.kinds.length; i++ ){
+            final int offset = this.offsets[ i ];
+            final int width = this.widths[ i ];
+            switch( this.kinds[ i ] ){
+                case LITERAL:
+                    if( textIn.charAt( offset ) != this.template[ offset ] ){
+                        return PackedDateTime.NO_MATCH;
+                    }
+                    break;
+                case YEAR:
+                    yearValue = FastPattern.digits( textIn, offset, width );
+                    break;
+                case YEAR_OF_CENTURY:
+                    final int yearOfCentury = FastPattern.digits( textIn, offset, width );
+                    yearValue = yearOfCentury < 0 ? -1 : 2000 + yearOfCentury;
+                    break;
+                case MONTH:
+                    month = FastPattern.digits( textIn, offset, width );
+                    break;
+                case DAY:
+                    day = FastPattern.digits( textIn, offset, width );
+                    break;
+                case HOUR:
+                    hour = FastPattern.digits( textIn, offset, width );
+                    break;
+                case MINUTE:
+                    minute = FastPattern.digits( textIn, offset, width );
+                    break;
+                case SECOND:
+                    second = FastPattern.digits( textIn, offset, width );
+                    break;
+                default:
+                    final int fraction = FastPattern.digits( textIn, offset, width );
+                    micro = fraction < 0 ? -1 : fraction * POWERS_OF_TEN[ 6 - width ];
+                    break;
+            }
+        }
+        if( this.hasDate() && ( yearValue < 1 || !PackedDateTime.isValidDate( yearValue, month, day ) ) ){
+            return PackedDateTime.NO_MATCH;
+        }
+        if( !PackedDateTime.isValidTime( hour, minute, second ) || micro < 0 ){
+            return PackedDateTime.NO_MATCH;
+        }
+        return PackedDateTime.pack( yearValue, month, day, hour, minute, second, micro );
+    }
+
+    @Override
+    final boolean format( int yearIn, int monthIn, int dayIn, int hourIn, int minuteIn, int secondIn, int nanoIn, byte[] bytesIn,
+                          int offsetIn ){
+        if( this.year && ( yearIn < 1 || yearIn > PackedDateTime.MAX_YEAR ) ){
+            return false;
+        }
+        System.arraycopy( this.template, 0, bytesIn, offsetIn, this.template.length );
+        for( int i = 0; i < this.kinds.length; i++ ){
+            final int offset = offsetIn + this.offsets[ i ];
+            switch( this.kinds[ i ] ){
+                case LITERAL:
+                    break;
+                case YEAR:
+                    AsciiDigits.writeDigits( bytesIn, offset, 4, yearIn );
+                    break;
+                case YEAR_OF_CENTURY:
+                    AsciiDigits.writeDigits( bytesIn, offset, 2, yearIn % 100 );
+                    break;
+                case MONTH:
+                    AsciiDigits.writeDigits( bytesIn, offset, 2, monthIn );
+                    break;
+                case DAY:
+                    AsciiDigits.writeDigits( bytesIn, offset, 2, dayIn );
+                    break;
+                case HOUR:
+                    AsciiDigits.writeDigits( bytesIn, offset, 2, hourIn );
+                    break;
+                case MINUTE:
+                    AsciiDigits.writeDigits( bytesIn, offset, 2, minuteIn );
+                    break;
+                case SECOND:
+                    AsciiDigits.writeDigits( bytesIn, offset, 2, secondIn );
+                    break;
+                default:
+                    final int width = this.widths[ i ];
+                    AsciiDigits.writeDigits( bytesIn, offset, width, nanoIn / POWERS_OF_TEN[ 9 - width ] );
+                    break;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    final boolean format( int yearIn, int monthIn, int dayIn, int hourIn, int minuteIn, int secondIn, int nanoIn, ByteBuffer bufferIn,
+                          int indexIn ){
+        if( bufferIn.hasArray() ){
+            return this.format( yearIn, monthIn, dayIn, hourIn, minuteIn, secondIn, nanoIn, bufferIn.array(),
+                                bufferIn.arrayOffset() + indexIn );
+        }
+        if( this.year && ( yearIn < 1 || yearIn > PackedDateTime.MAX_YEAR ) ){
+            return false;
+        }
+        for( int i = 0; i < this.kinds.length; i++ ){
+            final int index = indexIn + this.offsets[ i ];
+            switch( this.kinds[ i ] ){
+                case LITERAL:
+                    bufferIn.put( index, this.template[ this.offsets[ i ] ] );
+                    break;
+                case YEAR:
+                    FixedWidthPattern.putDigits( bufferIn, index, 4, yearIn );
+                    break;
+                case YEAR_OF_CENTURY:
+                    FixedWidthPattern.putDigits( bufferIn, index, 2, yearIn % 100 );
+                    break;
+                case MONTH:
+                    FixedWidthPattern.putDigits( bufferIn, index, 2, monthIn );
+                    break;
+                case DAY:
+                    FixedWidthPattern.putDigits( bufferIn, index, 2, dayIn );
+                    break;
+                case HOUR:
+                    FixedWidthPattern.putDigits( bufferIn, index, 2, hourIn );
+                    break;
+                case MINUTE:
+                    FixedWidthPattern.putDigits( bufferIn, index, 2, minuteIn );
+                    break;
+                case SECOND:
+                    FixedWidthPattern.putDigits( bufferIn, index, 2, secondIn );
+                    break;
+                default:
+                    final int width = this.widths[ i ];
+                    FixedWidthPattern.putDigits( bufferIn, index, width, nanoIn / POWERS_OF_TEN[ 9 - width ] );
+                    break;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    final boolean format( int yearIn, int monthIn, int dayIn, int hourIn, int minuteIn, int secondIn, int nanoIn,
+                          Appendable appendableIn ) throws IOException{
+        if( this.year && ( yearIn < 1 || yearIn > PackedDateTime.MAX_YEAR ) ){
+            return false;
+        }
+        for( int i = 0; i < this.kinds.length; i++ ){
+            switch( this.kinds[ i ] ){
+                case LITERAL:
+                    appendableIn.append( (char) this.template[ this.offsets[ i ] ] );
+                    break;
+                case YEAR:
+                    FixedWidthPattern.appendDigits( appendableIn, 4, yearIn );
+                    break;
+                case YEAR_OF_CENTURY:
+                    FixedWidthPattern.appendDigits( appendableIn, 2, yearIn % 100 );
+                    break;
+                case MONTH:
+                    FixedWidthPattern.appendDigits( appendableIn, 2, monthIn );
+                    break;
+                case DAY:
+                    FixedWidthPattern.appendDigits( appendableIn, 2, dayIn );
+                    break;
+                case HOUR:
+                    FixedWidthPattern.appendDigits( appendableIn, 2, hourIn );
+                    break;
+                case MINUTE:
+                    FixedWidthPattern.appendDigits( appendableIn, 2, minuteIn );
+                    break;
+                case SECOND:
+                    FixedWidthPattern.appendDigits( appendableIn, 2, secondIn );
+                    break;
+                default:
+                    final int width = this.widths[ i ];
+                    FixedWidthPattern.appendDigits( appendableIn, width, nanoIn / POWERS_OF_TEN[ 9 - width ] );
+                    break;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * <p>Appends "valueIn" as digits, padded with zeros to "widthIn" digits.</p>
+     */
+    private static void appendDigits( Appendable appendableIn, int widthIn, int valueIn ) throws IOException{
+        for( int i = widthIn - 1; i >= 0; i-- ){
+            appendableIn.append( (char) ( '0' + valueIn / POWERS_OF_TEN[ i ] % 10 ) );
+        }
+    }
+
+    /**
+     * <p>Puts "valueIn" as ASCII digits from "indexIn", padded with zeros to "widthIn" digits.</p>
+     */
+    private static void putDigits( ByteBuffer bufferIn, int indexIn, int widthIn, int valueIn ){
+        int value = valueIn;
+        for( int i = indexIn + widthIn - 1; i >= indexIn; i-- ){
+            bufferIn.put( i, (byte) ( '0' + value % 10 ) );
+            value /= 10;
+        }
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.indenaiten.code.util;
+
+
+/**
+ * <p>Memo of the last texts formatted by a "CompiledPattern", keyed by the local date-time truncated to the resolution
+ * of the pattern.</p>
+ * <p>A pattern such as "dd/MM/yyyy HH:mm" prints the same text for every date-time of the same minute, and
+ * "dd/MM/yyyy" for every date-time of the same day, so the text is kept under the number of the local minute or day
+ * since 1970-01-01 and reused by the next value in the same period. The entries are kept in a direct-mapped table
+ * where consecutive periods fall in consecutive slots, which suits the values of a log or a feed sorted by time: a new
+ * entry simply replaces the one in its slot.</p>
+ * <p>The table is read and written without locks. Its entries are immutable, so a thread sees either a whole entry or
+ * an older one, and the worst case of a race is a text formatted twice.</p>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see com.indenaiten.code.util.PatternAnalyzer#resolution(String)
+ * @see com.indenaiten.code.util.DateTimeUtil#FORMAT_MEMO_SIZE_PROPERTY
+ */
+final class FormatMemo{
+
+    private static final int SIZE = FormatMemo.initialSize();
+
+    private final int resolution;
+    private final Entry[] entries;
+    private final int mask;
+
+    private FormatMemo( int resolutionIn, int sizeIn ){
+        this.resolution = resolutionIn;
+        this.entries = new Entry[ sizeIn ];
+        this.mask = sizeIn - 1;
+    }
+
+    /**
+     * <p>Creates the memo of "patternIn" with the size given by the
+     * "com.indenaiten.code.util.DateTimeUtil.formatMemoSize" system property.</p>
+     *
+     * @param patternIn The format pattern, which must not have zone or offset fields.
+     *
+     * @return The "FormatMemo" object, or null if the pattern has no resolution or the memo is disabled.
+     */
+    static FormatMemo of( String patternIn ){
+        final int resolution = PatternAnalyzer.resolution( patternIn );
+        if( resolution == 0 || FormatMemo.SIZE == 0 ){
+            return null;
+        }
+        return new FormatMemo( resolution, FormatMemo.SIZE );
+    }
+
+    /**
+     * <p>Returns the key of a local date-time: the number of periods of the resolution of the pattern since
+     * 1970-01-01T00:00.</p>
+     *
+     * @param localSecondIn The local date-time as seconds since 1970-01-01T00:00.
+     *
+     * @return The key.
+     */
+    long key( long localSecondIn ){
+        return Math.floorDiv( localSecondIn, this.resolution );
+    }
+
+    /**
+     * @param keyIn The key of a local date-time.
+     *
+     * @return The text kept under "keyIn", or null if it is not in the memo.
+     */
+    String get( long keyIn ){
+        final Entry entry = this.entries[ (int) keyIn & this.mask ];
+        return entry != null && entry.key == keyIn ? entry.text : null;
+    }
+
+    /**
+     * <p>Keeps "textIn" under "keyIn", replacing the entry of its slot.</p>
+     *
+     * @param keyIn The key of a local date-time.
+     * @param textIn The text formatted from that local date-time.
+     */
+    void put( long keyIn, String textIn ){
+        this.entries[ (int) keyIn & this.mask ] = new Entry( keyIn, textIn );
+    }
+
+    /**
+     * <p>Reads the size of the memos from its system property, rounded up to a power of two.</p>
+     */
+    private static int initialSize(){
+        final int size = Integer.getInteger( DateTimeUtil.FORMAT_MEMO_SIZE_PROPERTY, DateTimeUtil.DEFAULT_FORMAT_MEMO_SIZE );
+        if( size <= 1 ){
+            return Math.max( size, 0 );
+        }
+        return Integer.highestOneBit( Math.min( size, 1 << 30 ) - 1 ) << 1;
+    }
+
+    /**
+     * <p>Entry of the memo.</p>
+     */
+    private static final class Entry{
+        private final long key;
+        private final String text;
+
+        private Entry( long keyIn, String textIn ){
+            this.key = keyIn;
+            this.text = textIn;
+        }
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.indenaiten.code.util;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+
+/**
+ * <p>Lock-free histogram of latencies in nanoseconds with power of two buckets.</p>
+ * <p>Bucket "0" counts the latencies of 0 ns and bucket "i" the ones from 2^(i-1) ns included to 2^i ns excluded, so a
+ * latency is recorded with a single atomic increment and the percentiles are exact to a factor of two.</p>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see java.util.concurrent.atomic.AtomicLongArray
+ */
+final class LatencyHistogram{
+
+    static final int BUCKETS = 64;
+
+    private final AtomicLongArray counts = new AtomicLongArray( BUCKETS );
+
+    /**
+     * <p>Records a latency.</p>
+     *
+     * @param nanosIn The latency in nanoseconds. Negative values are recorded as 0 ns.
+     */
+    void record( long nanosIn ){
+        this.counts.incrementAndGet( LatencyHistogram.bucket( nanosIn ) );
+    }
+
+    /**
+     * @return A copy of the counts of every bucket.
+     */
+    long[] getCounts(){
+        final long[] result = new long[ BUCKETS ];
+        for( int i = 0; i < BUCKETS; i++ ){
+            result[ i ] = this.counts.get( i );
+        }
+        return result;
+    }
+
+    /**
+     * <p>Returns the upper limit of the bucket where the percentile falls.</p>
+     *
+     * @param countsIn The counts of every bucket, as returned by {@link #getCounts()}.
+     * @param percentileIn The percentile, from 0 to 100.
+     *
+     * @return The latency in nanoseconds, or 0 if there are no latencies recorded.
+     */
+    static long percentile( long[] countsIn, double percentileIn ){
+        long total = 0;
+        for( final long count : countsIn ){
+            total += count;
+        }
+        if( total == 0 ){
+            return 0;
+        }
+        final long rank = Math.max( 1, (long) Math.ceil( total * percentileIn / 100 ) );
+        long accumulated = 0;
+        for( int i = 0; i < countsIn.length; i++ ){
+            accumulated += countsIn[ i ];
+            if( accumulated >= rank ){
+                return LatencyHistogram.upperLimit( i );
+            }
+        }
+        return LatencyHistogram.upperLimit( countsIn.length - 1 );
+    }
+
+    /**
+     * @return The bucket of a latency in nanoseconds.
+     */
+    private static int bucket( long nanosIn ){
+        return nanosIn <= 0 ? 0 : Math.min( BUCKETS - 1, Long.SIZE - Long.numberOfLeadingZeros( nanosIn ) );
+    }
+
+    /**
+     * @return The greatest latency in nanoseconds recorded in a bucket.
+     */
+    private static long upperLimit( int bucketIn ){
+        return bucketIn >= BUCKETS - 1 ? Long.MAX_VALUE : ( 1L << bucketIn ) - 1;
+    }
+
+}
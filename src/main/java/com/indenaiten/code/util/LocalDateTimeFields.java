@@ -0,0 +1,188 @@
+package com.indenaiten.code.util;
+
+import java.time.Year;
+import java.time.chrono.IsoChronology;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalField;
+import java.time.temporal.TemporalQueries;
+import java.time.temporal.TemporalQuery;
+import java.time.temporal.ValueRange;
+import java.time.temporal.UnsupportedTemporalTypeException;
+
+
+/**
+ * <p>Fields of a local date-time computed arithmetically from a number of local seconds since 1970-01-01T00:00:00.</p>
+ * <p>It answers the same fields and queries as the "LocalDateTime" object with the same value, so "DateTimeFormatter"
+ * prints exactly the same text from it, but it is built with a single object instead of the "Instant",
+ * "LocalDateTime", "LocalDate" and "LocalTime" objects of the usual conversion of a "Date".</p>
+ * <p>Like "LocalDateTime", it has no zone or offset, so it can only be formatted with the formatters that do not print
+ * them, the ones for which "PatternAnalyzer.hasZone" is false.</p>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see java.time.LocalDateTime
+ * @see com.indenaiten.code.util.PatternAnalyzer#hasZone(java.time.format.DateTimeFormatter)
+ */
+final class LocalDateTimeFields implements TemporalAccessor{
+
+    private static final int DAYS_0000_TO_1970 = 719528;
+    private static final int DAYS_PER_CYCLE = 146097;
+
+    private final long epochDay;
+    private final int year;
+    private final int month;
+    private final int day;
+    private final int dayOfYear;
+    private final int secondOfDay;
+    private final int nano;
+
+    /**
+     * <p>Decomposes a local date-time with the same algorithms as "LocalDate.ofEpochDay" and
+     * "LocalTime.ofSecondOfDay".</p>
+     *
+     * @param localSecondIn The local date-time as seconds since 1970-01-01T00:00:00 without offset.
+     * @param nanoIn The nanosecond of the second.
+     */
+    LocalDateTimeFields( long localSecondIn, int nanoIn ){
+        this.epochDay = Math.floorDiv( localSecondIn, PackedDateTime.SECONDS_PER_DAY );
+        this.secondOfDay = (int) Math.floorMod( localSecondIn, PackedDateTime.SECONDS_PER_DAY );
+        this.nano = nanoIn;
+        long zeroDay = this.epochDay + DAYS_0000_TO_1970 - 60;
+        long adjust = 0;
+        if( zeroDay < 0 ){
+            final long adjustCycles = ( zeroDay + 1 ) / DAYS_PER_CYCLE - 1;
+            adjust = adjustCycles * 400;
+            zeroDay += -adjustCycles * DAYS_PER_CYCLE;
+        }
+        long yearEstimate = ( 400 * zeroDay + 591 ) / DAYS_PER_CYCLE;
+        long dayOfYearEstimate = zeroDay - ( 365 * yearEstimate + yearEstimate / 4 - yearEstimate / 100 + yearEstimate / 400 );
+        if( dayOfYearEstimate < 0 ){
+            yearEstimate--;
+            dayOfYearEstimate = zeroDay - ( 365 * yearEstimate + yearEstimate / 4 - yearEstimate / 100 + yearEstimate / 400 );
+        }
+        final int marchDayOfYear = (int) dayOfYearEstimate;
+        final int marchMonth = ( marchDayOfYear * 5 + 2 ) / 153;
+        this.year = (int) ( yearEstimate + adjust + marchMonth / 10 );
+        this.month = ( marchMonth + 2 ) % 12 + 1;
+        this.day = marchDayOfYear - ( marchMonth * 306 + 5 ) / 10 + 1;
+        final long firstDayOfYear = PackedDateTime.toEpochDay( this.year, 1, 1 );
+        this.dayOfYear = (int) ( this.epochDay - firstDayOfYear ) + 1;
+    }
+
+    @Override
+    public boolean isSupported( TemporalField fieldIn ){
+        if( fieldIn instanceof ChronoField ){
+            return fieldIn.isDateBased() || fieldIn.isTimeBased();
+        }
+        return fieldIn != null && fieldIn.isSupportedBy( this );
+    }
+
+    @Override
+    public ValueRange range( TemporalField fieldIn ){
+        if( !( fieldIn instanceof ChronoField ) ){
+            return fieldIn.rangeRefinedBy( this );
+        }
+        if( !this.isSupported( fieldIn ) ){
+            throw new UnsupportedTemporalTypeException( "Unsupported field: " + fieldIn );
+        }
+        final boolean leap = Year.isLeap( this.year );
+        switch( (ChronoField) fieldIn ){
+            case DAY_OF_MONTH:
+                return ValueRange.of( 1, this.month == 2 ? ( leap ? 29 : 28 ) : ( this.month == 4 || this.month == 6 || this.month == 9 || this.month == 11 ? 30 : 31 ) );
+            case DAY_OF_YEAR:
+                return ValueRange.of( 1, leap ? 366 : 365 );
+            case ALIGNED_WEEK_OF_MONTH:
+                return ValueRange.of( 1, this.month == 2 && !leap ? 4 : 5 );
+            case YEAR_OF_ERA:
+                return this.year <= 0 ? ValueRange.of( 1, Year.MAX_VALUE + 1 ) : ValueRange.of( 1, Year.MAX_VALUE );
+            default:
+                return fieldIn.range();
+        }
+    }
+
+    @Override
+    public long getLong( TemporalField fieldIn ){
+        if( !( fieldIn instanceof ChronoField ) ){
+            return fieldIn.getFrom( this );
+        }
+        switch( (ChronoField) fieldIn ){
+            case NANO_OF_SECOND:
+                return this.nano;
+            case NANO_OF_DAY:
+                return this.secondOfDay * 1000000000L + this.nano;
+            case MICRO_OF_SECOND:
+                return this.nano / 1000;
+            case MICRO_OF_DAY:
+                return ( this.secondOfDay * 1000000000L + this.nano ) / 1000;
+            case MILLI_OF_SECOND:
+                return this.nano / 1000000;
+            case MILLI_OF_DAY:
+                return ( this.secondOfDay * 1000000000L + this.nano ) / 1000000;
+            case SECOND_OF_MINUTE:
+                return this.secondOfDay % 60;
+            case SECOND_OF_DAY:
+                return this.secondOfDay;
+            case MINUTE_OF_HOUR:
+                return this.secondOfDay / 60 % 60;
+            case MINUTE_OF_DAY:
+                return this.secondOfDay / 60;
+            case HOUR_OF_AMPM:
+                return this.secondOfDay / 3600 % 12;
+            case CLOCK_HOUR_OF_AMPM:
+                final int hourOfAmPm = this.secondOfDay / 3600 % 12;
+                return hourOfAmPm == 0 ? 12 : hourOfAmPm;
+            case HOUR_OF_DAY:
+                return this.secondOfDay / 3600;
+            case CLOCK_HOUR_OF_DAY:
+                final int hour = this.secondOfDay / 3600;
+                return hour == 0 ? 24 : hour;
+            case AMPM_OF_DAY:
+                return this.secondOfDay / 3600 / 12;
+            case DAY_OF_WEEK:
+                return Math.floorMod( this.epochDay + 3, 7 ) + 1;
+            case ALIGNED_DAY_OF_WEEK_IN_MONTH:
+                return ( this.day - 1 ) % 7 + 1;
+            case ALIGNED_DAY_OF_WEEK_IN_YEAR:
+                return ( this.dayOfYear - 1 ) % 7 + 1;
+            case DAY_OF_MONTH:
+                return this.day;
+            case DAY_OF_YEAR:
+                return this.dayOfYear;
+            case EPOCH_DAY:
+                return this.epochDay;
+            case ALIGNED_WEEK_OF_MONTH:
+                return ( this.day - 1 ) / 7 + 1;
+            case ALIGNED_WEEK_OF_YEAR:
+                return ( this.dayOfYear - 1 ) / 7 + 1;
+            case MONTH_OF_YEAR:
+                return this.month;
+            case PROLEPTIC_MONTH:
+                return this.year * 12L + this.month - 1;
+            case YEAR_OF_ERA:
+                return this.year >= 1 ? this.year : 1 - this.year;
+            case YEAR:
+                return this.year;
+            case ERA:
+                return this.year >= 1 ? 1 : 0;
+            default:
+                throw new UnsupportedTemporalTypeException( "Unsupported field: " + fieldIn );
+        }
+    }
+
+    @SuppressWarnings( "unchecked" )
+    @Override
+    public <R> R query( TemporalQuery<R> queryIn ){
+        if( queryIn == TemporalQueries.zoneId() || queryIn == TemporalQueries.zone() || queryIn == TemporalQueries.offset() ){
+            return null;
+        }
+        if( queryIn == TemporalQueries.chronology() ){
+            return (R) IsoChronology.INSTANCE;
+        }
+        if( queryIn == TemporalQueries.precision() ){
+            return (R) ChronoUnit.NANOS;
+        }
+        return queryIn.queryFrom( this );
+    }
+
+}
@@ -0,0 +1,221 @@
+package com.indenaiten.code.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+
+/**
+ * <p>Handles date-time fields packed in a single "long" value.</p>
+ * <p>The fast parsers return the parsed fields packed this way so that they do not need to create any object. From the
+ * lowest to the highest bits the fields are: microsecond (20 bits), second (6 bits), minute (6 bits), hour (5 bits),
+ * day (5 bits), month (4 bits) and year (14 bits). The fields of the date are zero when the value only holds a
+ * time.</p>
+ * <p>A packed value is never negative, so {@link #NO_MATCH} can be used as a sentinel.</p>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ */
+final class PackedDateTime{
+
+    static final long NO_MATCH = -1L;
+
+    static final int MAX_YEAR = 9999;
+
+    static final int SECONDS_PER_DAY = 86400;
+
+    private static final int SECOND_SHIFT = 20;
+    private static final int MINUTE_SHIFT = 26;
+    private static final int HOUR_SHIFT = 32;
+    private static final int DAY_SHIFT = 37;
+    private static final int MONTH_SHIFT = 42;
+    private static final int YEAR_SHIFT = 46;
+
+    private static final int DAYS_0000_TO_1970 = 719528;
+    private static final int DAYS_PER_CYCLE = 146097;
+    private static final long MIN_EPOCH_DAY = -719162L;
+    private static final long MAX_EPOCH_DAY = 2932896L;
+
+    /**
+     * Private constructor to avoid instantiating the class.
+     */
+    private PackedDateTime(){
+        throw new IllegalStateException( "Utility class" );
+    }
+
+    /**
+     * <p>Packs date-time fields that have already been validated.</p>
+     *
+     * @param yearIn The year, from 0 to 9999.
+     * @param monthIn The month, from 1 to 12, or zero without date.
+     * @param dayIn The day of month, from 1 to 31, or zero without date.
+     * @param hourIn The hour, from 0 to 23.
+     * @param minuteIn The minute, from 0 to 59.
+     * @param secondIn The second, from 0 to 59.
+     * @param microIn The microsecond, from 0 to 999999.
+     *
+     * @return The packed value.
+     */
+    static long pack( int yearIn, int monthIn, int dayIn, int hourIn, int minuteIn, int secondIn, int microIn ){
+        return ( (long) yearIn << YEAR_SHIFT ) | ( (long) monthIn << MONTH_SHIFT ) | ( (long) dayIn << DAY_SHIFT )
+               | ( (long) hourIn << HOUR_SHIFT ) | ( (long) minuteIn << MINUTE_SHIFT ) | ( (long) secondIn << SECOND_SHIFT ) | microIn;
+    }
+
+    static int year( long packedIn ){
+        return (int) ( packedIn >>> YEAR_SHIFT ) & 0x3FFF;
+    }
+
+    static int month( long packedIn ){
+        return (int) ( packedIn >>> MONTH_SHIFT ) & 0xF;
+    }
+
+    static int day( long packedIn ){
+        return (int) ( packedIn >>> DAY_SHIFT ) & 0x1F;
+    }
+
+    static int hour( long packedIn ){
+        return (int) ( packedIn >>> HOUR_SHIFT ) & 0x1F;
+    }
+
+    static int minute( long packedIn ){
+        return (int) ( packedIn >>> MINUTE_SHIFT ) & 0x3F;
+    }
+
+    static int second( long packedIn ){
+        return (int) ( packedIn >>> SECOND_SHIFT ) & 0x3F;
+    }
+
+    static int micro( long packedIn ){
+        return (int) packedIn & 0xFFFFF;
+    }
+
+    static LocalDate toLocalDate( long packedIn ){
+        return LocalDate.of( PackedDateTime.year( packedIn ), PackedDateTime.month( packedIn ), PackedDateTime.day( packedIn ) );
+    }
+
+    static LocalTime toLocalTime( long packedIn ){
+        return LocalTime.of( PackedDateTime.hour( packedIn ), PackedDateTime.minute( packedIn ), PackedDateTime.second( packedIn ),
+                             PackedDateTime.micro( packedIn ) * 1000 );
+    }
+
+    static LocalDateTime toLocalDateTime( long packedIn ){
+        return LocalDateTime.of( PackedDateTime.toLocalDate( packedIn ), PackedDateTime.toLocalTime( packedIn ) );
+    }
+
+    /**
+     * <p>Checks a date the same way the "SMART" resolver of "DateTimeFormatter" accepts it without adjusting it.</p>
+     *
+     * @param yearIn The year.
+     * @param monthIn The month.
+     * @param dayIn The day of month.
+     *
+     * @return True if the date exists, false otherwise.
+     */
+    static boolean isValidDate( int yearIn, int monthIn, int dayIn ){
+        return monthIn >= 1 && monthIn <= 12 && dayIn >= 1 && dayIn <= PackedDateTime.lengthOfMonth( yearIn, monthIn );
+    }
+
+    /**
+     * <p>Checks a time of day, without the special "24:00" value.</p>
+     *
+     * @param hourIn The hour.
+     * @param minuteIn The minute.
+     * @param secondIn The second.
+     *
+     * @return True if the time exists, false otherwise.
+     */
+    static boolean isValidTime( int hourIn, int minuteIn, int secondIn ){
+        return hourIn >= 0 && hourIn <= 23 && minuteIn >= 0 && minuteIn <= 59 && secondIn >= 0 && secondIn <= 59;
+    }
+
+    static boolean isLeapYear( int yearIn ){
+        return ( yearIn & 3 ) == 0 && ( yearIn % 100 != 0 || yearIn % 400 == 0 );
+    }
+
+    static int lengthOfMonth( int yearIn, int monthIn ){
+        switch( monthIn ){
+            case 2:
+                return PackedDateTime.isLeapYear( yearIn ) ? 29 : 28;
+            case 4:
+            case 6:
+            case 9:
+            case 11:
+                return 30;
+            default:
+                return 31;
+        }
+    }
+
+    /**
+     * <p>Computes the number of days since 1970-01-01 of a valid date, with the same algorithm as
+     * "LocalDate.toEpochDay".</p>
+     *
+     * @param yearIn The year.
+     * @param monthIn The month.
+     * @param dayIn The day of month.
+     *
+     * @return The epoch day.
+     */
+    static long toEpochDay( int yearIn, int monthIn, int dayIn ){
+        long y = yearIn;
+        long total = 365 * y;
+        if( y >= 0 ){
+            total += ( y + 3 ) / 4 - ( y + 99 ) / 100 + ( y + 399 ) / 400;
+        }
+        else{
+            total -= y / -4 - y / -100 + y / -400;
+        }
+        total += ( 367 * monthIn - 362 ) / 12;
+        total += dayIn - 1;
+        if( monthIn > 2 ){
+            total--;
+            if( !PackedDateTime.isLeapYear( yearIn ) ){
+                total--;
+            }
+        }
+        return total - DAYS_0000_TO_1970;
+    }
+
+    /**
+     * @param packedIn The packed value.
+     *
+     * @return The number of days since 1970-01-01 of the packed date.
+     */
+    static long toEpochDay( long packedIn ){
+        return PackedDateTime.toEpochDay( PackedDateTime.year( packedIn ), PackedDateTime.month( packedIn ), PackedDateTime.day( packedIn ) );
+    }
+
+    /**
+     * <p>Packs the date of an epoch day, with the same algorithm as "LocalDate.ofEpochDay".</p>
+     *
+     * @param epochDayIn The number of days since 1970-01-01.
+     *
+     * @return The packed date with a zero time, or {@link #NO_MATCH} if the year is not between 1 and 9999.
+     */
+    static long ofEpochDay( long epochDayIn ){
+        if( epochDayIn < MIN_EPOCH_DAY || epochDayIn > MAX_EPOCH_DAY ){
+            return NO_MATCH;
+        }
+        final long zeroDay = epochDayIn + DAYS_0000_TO_1970 - 60;
+        long year = ( 400 * zeroDay + 591 ) / DAYS_PER_CYCLE;
+        long dayOfYear = zeroDay - ( 365 * year + year / 4 - year / 100 + year / 400 );
+        if( dayOfYear < 0 ){
+            year--;
+            dayOfYear = zeroDay - ( 365 * year + year / 4 - year / 100 + year / 400 );
+        }
+        final int marchDayOfYear = (int) dayOfYear;
+        final int marchMonth = ( marchDayOfYear * 5 + 2 ) / 153;
+        final int month = ( marchMonth + 2 ) % 12 + 1;
+        final int day = marchDayOfYear - ( marchMonth * 306 + 5 ) / 10 + 1;
+        return PackedDateTime.pack( (int) year + marchMonth / 10, month, day, 0, 0, 0, 0 );
+    }
+
+    /**
+     * @param packedIn The packed value.
+     *
+     * @return The second of day of the packed time.
+     */
+    static int toSecondOfDay( long packedIn ){
+        return PackedDateTime.hour( packedIn ) * 3600 + PackedDateTime.minute( packedIn ) * 60 + PackedDateTime.second( packedIn );
+    }
+
+}
@@ -0,0 +1,181 @@
+package com.indenaiten.code.util;
+
+import java.text.ParsePosition;
+import java.time.DateTimeException;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalQuery;
+
+
+/**
+ * <p>Detects the texts that "DateTimeFormatter" cannot parse without letting it throw an exception.</p>
+ * <p>Creating a "DateTimeParseException" fills its stack trace, which is far more expensive than parsing the text.
+ * The text is parsed with "DateTimeFormatter.parseUnresolved", which reports the position of the error instead of
+ * throwing, and the fields it returns are resolved by "ResolvedFields", which reports the values out of range, such as
+ * the month 13, instead of throwing too. Each text is parsed only once. The patterns with fields that "ResolvedFields"
+ * does not handle, such as the week-based ones, are resolved by parsing the screened text again with
+ * "DateTimeFormatter".</p>
+ * <p>When stackless exceptions are enabled, the throwing methods report the failures with a "DateTimeParseException"
+ * with the same message, parsed text and error index, but without stack trace.</p>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see java.time.format.DateTimeFormatter#parseUnresolved(CharSequence, ParsePosition)
+ * @see com.indenaiten.code.util.ResolvedFields
+ * @see com.indenaiten.code.util.DateTimeUtil#STACKLESS_EXCEPTIONS_PROPERTY
+ */
+final class ParseFailures{
+
+    private static volatile boolean stackless = Boolean.getBoolean( DateTimeUtil.STACKLESS_EXCEPTIONS_PROPERTY );
+
+    /**
+     * Private constructor to avoid instantiating the class.
+     */
+    private ParseFailures(){
+        throw new IllegalStateException( "Utility class" );
+    }
+
+    /**
+     * @return True if the throwing methods raise exceptions without stack trace.
+     */
+    static boolean isStackless(){
+        return ParseFailures.stackless;
+    }
+
+    /**
+     * @param stacklessIn True to raise exceptions without stack trace from the throwing methods.
+     */
+    static void setStackless( boolean stacklessIn ){
+        ParseFailures.stackless = stacklessIn;
+    }
+
+    /**
+     * <p>Parses "textIn" with "formatterIn" and returns null instead of throwing when it cannot be parsed.</p>
+     *
+     * @param textIn The text to parse.
+     * @param formatterIn The "DateTimeFormatter" object.
+     * @param plainFieldsIn True if the pattern of "formatterIn" has only the fields that "ResolvedFields" resolves.
+     * @param queryIn The query that builds the result, such as "LocalDate::from".
+     *
+     * @return The result, or null if "textIn" cannot be parsed or resolved.
+     *
+     * @throws NullPointerException If "textIn" is null.
+     */
+    static <T> T tryParse( CharSequence textIn, DateTimeFormatter formatterIn, boolean plainFieldsIn, TemporalQuery<T> queryIn ){
+        final TemporalAccessor fields = ParseFailures.screen( textIn, formatterIn, new ParsePosition( 0 ) );
+        if( fields == null ){
+            return null;
+        }
+        final ResolvedFields resolved = plainFieldsIn ? ResolvedFields.resolve( fields ) : null;
+        if( resolved != null ){
+            if( resolved.getTemporal() == null ){
+                return null;
+            }
+            try{
+                return queryIn.queryFrom( resolved.getTemporal() );
+            }
+            catch( DateTimeException e ){
+                return null;
+            }
+        }
+        try{
+            return formatterIn.parse( textIn, queryIn );
+        }
+        catch( DateTimeParseException e ){
+            return null;
+        }
+    }
+
+    /**
+     * <p>Parses "textIn" with "formatterIn" like "DateTimeFormatter.parse", throwing an exception without stack trace
+     * when stackless exceptions are enabled.</p>
+     *
+     * @param textIn The text to parse.
+     * @param formatterIn The "DateTimeFormatter" object.
+     * @param plainFieldsIn True if the pattern of "formatterIn" has only the fields that "ResolvedFields" resolves.
+     * @param queryIn The query that builds the result, such as "LocalDate::from".
+     *
+     * @return The result.
+     *
+     * @throws NullPointerException If "textIn" is null.
+     * @throws DateTimeParseException If "textIn" cannot be parsed or resolved.
+     */
+    static <T> T parse( CharSequence textIn, DateTimeFormatter formatterIn, boolean plainFieldsIn, TemporalQuery<T> queryIn ){
+        if( !ParseFailures.stackless ){
+            return formatterIn.parse( textIn, queryIn );
+        }
+        final ParsePosition position = new ParsePosition( 0 );
+        final TemporalAccessor fields = ParseFailures.screen( textIn, formatterIn, position );
+        if( fields == null ){
+            throw ParseFailures.failure( textIn, position );
+        }
+        final ResolvedFields resolved = plainFieldsIn ? ResolvedFields.resolve( fields ) : null;
+        if( resolved != null ){
+            if( resolved.getTemporal() == null ){
+                throw new StacklessParseException( "Text '" + ParseFailures.abbreviate( textIn ) + "' could not be parsed: " + resolved.getError(),
+                                                   textIn, 0, null );
+            }
+            try{
+                return queryIn.queryFrom( resolved.getTemporal() );
+            }
+            catch( DateTimeException e ){
+                //The query does not fit the pattern: "DateTimeFormatter" gives the exact message below.
+            }
+        }
+        try{
+            return formatterIn.parse( textIn, queryIn );
+        }
+        catch( DateTimeParseException e ){
+            throw new StacklessParseException( e.getMessage(), e.getParsedString(), e.getErrorIndex(), e.getCause() );
+        }
+    }
+
+    /**
+     * <p>Screens "textIn" with "DateTimeFormatter.parseUnresolved", which does not throw.</p>
+     *
+     * @return The unresolved fields of "textIn", or null if "DateTimeFormatter.parse" would reject it at the error index
+     * or the index left in "positionIn".
+     */
+    private static TemporalAccessor screen( CharSequence textIn, DateTimeFormatter formatterIn, ParsePosition positionIn ){
+        final TemporalAccessor fields = formatterIn.parseUnresolved( textIn, positionIn );
+        return fields != null && positionIn.getErrorIndex() < 0 && positionIn.getIndex() >= textIn.length() ? fields : null;
+    }
+
+    /**
+     * @return "textIn" as it is shown in the messages of "DateTimeFormatter", cut to 64 characters.
+     */
+    private static String abbreviate( CharSequence textIn ){
+        return textIn.length() > 64 ? textIn.subSequence( 0, 64 ).toString() + "..." : textIn.toString();
+    }
+
+    /**
+     * @return The stackless exception with the same message and error index as the one "DateTimeFormatter.parse"
+     * throws for the text rejected by the screening.
+     */
+    private static DateTimeParseException failure( CharSequence textIn, ParsePosition positionIn ){
+        final String text = ParseFailures.abbreviate( textIn );
+        if( positionIn.getErrorIndex() >= 0 ){
+            return new StacklessParseException( "Text '" + text + "' could not be parsed at index " + positionIn.getErrorIndex(), textIn,
+                                                positionIn.getErrorIndex(), null );
+        }
+        return new StacklessParseException( "Text '" + text + "' could not be parsed, unparsed text found at index " + positionIn.getIndex(),
+                                            textIn, positionIn.getIndex(), null );
+    }
+
+    /**
+     * <p>"DateTimeParseException" that does not fill its stack trace.</p>
+     */
+    private static final class StacklessParseException extends DateTimeParseException{
+        private static final long serialVersionUID = 1L;
+
+        private StacklessParseException( String messageIn, CharSequence textIn, int errorIndexIn, Throwable causeIn ){
+            super( messageIn, textIn, errorIndexIn, causeIn );
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace(){
+            return this;
+        }
+    }
+
+}
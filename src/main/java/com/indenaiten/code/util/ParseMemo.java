@@ -0,0 +1,245 @@
+package com.indenaiten.code.util;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+
+/**
+ * <p>Thread-safe memo of the results parsed from the texts that a "CompiledPattern" has seen, with a maximum number
+ * of entries.</p>
+ * <p>Lookups are lock-free and only increase a small frequency counter of the entry. The entries are evicted with the
+ * "S3-FIFO" policy: new texts go to a small queue of a tenth of the memo, and only the ones read again before they
+ * reach its head are moved to the main queue, where the entries read since the last pass get another one. A scan of
+ * texts that are seen only once goes through the small queue without displacing the texts that repeat. The keys of the
+ * entries evicted from the small queue are remembered, without their values, so a text that comes back soon after
+ * goes straight to the main queue. Those keys are kept in their own queue, trimmed by its own size to the maximum size
+ * of the memo, and a key only counts as remembered while it is in that queue.</p>
+ * <p>Only immutable values can be stored, since the same object is returned to every caller.</p>
+ *
+ * @param <V> The type of the parsed values.
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see com.indenaiten.code.util.CompiledPattern#withParseMemo(int)
+ * @see com.indenaiten.code.util.BoundedCache
+ */
+final class ParseMemo<V>{
+
+    private static final int MAXIMUM_FREQUENCY = 3;
+
+    private final ConcurrentHashMap<String, Node<V>> map = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<Node<V>> small = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Node<V>> main = new ConcurrentLinkedQueue<>();
+    private final Set<String> ghosts = ConcurrentHashMap.newKeySet();
+    private final ConcurrentLinkedQueue<String> ghostQueue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger smallSize = new AtomicInteger();
+    private final AtomicInteger ghostQueueSize = new AtomicInteger();
+    private final LongAdder hitCount = new LongAdder();
+    private final LongAdder missCount = new LongAdder();
+    private final LongAdder evictionCount = new LongAdder();
+    private final int maximumSize;
+    private final int smallMaximumSize;
+
+    /**
+     * <p>Creates an empty memo.</p>
+     *
+     * @param maximumSizeIn The maximum number of entries. It must be greater than zero.
+     *
+     * @throws IllegalArgumentException If "maximumSizeIn" is lower than one.
+     */
+    ParseMemo( int maximumSizeIn ){
+        if( maximumSizeIn < 1 ){
+            throw new IllegalArgumentException( "The maximum size must be greater than zero: " + maximumSizeIn );
+        }
+        this.maximumSize = maximumSizeIn;
+        this.smallMaximumSize = Math.max( 1, maximumSizeIn / 10 );
+    }
+
+    /**
+     * <p>Returns the value parsed from "keyIn", if it is in the memo.</p>
+     *
+     * @param keyIn The parsed text.
+     *
+     * @return The value, or null if "keyIn" is not in the memo.
+     */
+    V get( String keyIn ){
+        final Node<V> node = this.map.get( keyIn );
+        if( node == null ){
+            this.missCount.increment();
+            return null;
+        }
+        final int frequency = node.frequency;
+        if( frequency < MAXIMUM_FREQUENCY ){
+            node.frequency = frequency + 1;
+        }
+        this.hitCount.increment();
+        return node.value;
+    }
+
+    /**
+     * <p>Stores the value parsed from "keyIn", evicting entries when the memo grows over its maximum size.</p>
+     *
+     * @param keyIn The parsed text.
+     * @param valueIn The immutable value parsed from "keyIn".
+     */
+    void put( String keyIn, V valueIn ){
+        final Node<V> node = new Node<>( keyIn, valueIn );
+        final boolean ghost = this.ghosts.remove( keyIn );
+        if( this.map.putIfAbsent( keyIn, node ) != null ){
+            return;
+        }
+        if( ghost ){
+            this.main.add( node );
+        }
+        else{
+            this.smallSize.incrementAndGet();
+            this.small.add( node );
+        }
+        this.evict();
+    }
+
+    /**
+     * <p>Removes entries until the memo fits its maximum size.</p>
+     */
+    private void evict(){
+        while( this.map.size() > this.maximumSize ){
+            final boolean evicted = this.smallSize.get() > this.smallMaximumSize || this.main.isEmpty()
+                                    ? this.evictSmall() || this.evictMain()
+                                    : this.evictMain() || this.evictSmall();
+            if( !evicted ){
+                return;
+            }
+        }
+    }
+
+    /**
+     * <p>Takes the head of the small queue, moving it to the main queue if it has been read since it was stored or
+     * removing it and remembering its key otherwise.</p>
+     *
+     * @return False if the small queue is empty.
+     */
+    private boolean evictSmall(){
+        final Node<V> node = this.small.poll();
+        if( node == null ){
+            return false;
+        }
+        this.smallSize.decrementAndGet();
+        if( node.frequency > 0 ){
+            node.frequency = 0;
+            this.main.add( node );
+        }
+        else if( this.map.remove( node.key, node ) ){
+            this.evictionCount.increment();
+            this.ghosts.add( node.key );
+            this.ghostQueue.add( node.key );
+            this.ghostQueueSize.incrementAndGet();
+            while( this.ghostQueueSize.get() > this.maximumSize ){
+                final String key = this.ghostQueue.poll();
+                if( key == null ){
+                    break;
+                }
+                this.ghostQueueSize.decrementAndGet();
+                this.ghosts.remove( key );
+            }
+        }
+        return true;
+    }
+
+    /**
+     * <p>Takes the head of the main queue, giving it another pass if it has been read since the last one or removing
+     * it otherwise.</p>
+     *
+     * @return False if the main queue is empty.
+     */
+    private boolean evictMain(){
+        final Node<V> node = this.main.poll();
+        if( node == null ){
+            return false;
+        }
+        if( node.frequency > 0 ){
+            node.frequency--;
+            this.main.add( node );
+        }
+        else if( this.map.remove( node.key, node ) ){
+            this.evictionCount.increment();
+        }
+        return true;
+    }
+
+    /**
+     * @return The number of lookups served from the memo.
+     */
+    long getHitCount(){
+        return this.hitCount.sum();
+    }
+
+    /**
+     * @return The number of lookups that had to parse the text.
+     */
+    long getMissCount(){
+        return this.missCount.sum();
+    }
+
+    /**
+     * @return The number of entries removed to keep the memo bounded.
+     */
+    long getEvictionCount(){
+        return this.evictionCount.sum();
+    }
+
+    /**
+     * @return The fraction of the lookups served from the memo, from 0 to 1, or 0 if there has not been any lookup.
+     */
+    double getHitRate(){
+        final long hits = this.hitCount.sum();
+        final long lookups = hits + this.missCount.sum();
+        return lookups == 0 ? 0 : (double) hits / lookups;
+    }
+
+    /**
+     * @return The current number of entries.
+     */
+    int size(){
+        return this.map.size();
+    }
+
+    /**
+     * @return The maximum number of entries.
+     */
+    int getMaximumSize(){
+        return this.maximumSize;
+    }
+
+    /**
+     * <p>Removes all the entries and resets the statistics.</p>
+     */
+    void clear(){
+        this.map.clear();
+        this.small.clear();
+        this.main.clear();
+        this.ghosts.clear();
+        this.ghostQueue.clear();
+        this.smallSize.set( 0 );
+        this.ghostQueueSize.set( 0 );
+        this.hitCount.reset();
+        this.missCount.reset();
+        this.evictionCount.reset();
+    }
+
+    /**
+     * <p>Entry of the memo.</p>
+     */
+    private static final class Node<V>{
+        private final String key;
+        private final V value;
+        private volatile int frequency;
+
+        private Node( String keyIn, V valueIn ){
+            this.key = keyIn;
+            this.value = valueIn;
+        }
+    }
+
+}
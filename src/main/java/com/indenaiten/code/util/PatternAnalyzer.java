@@ -0,0 +1,357 @@
+package com.indenaiten.code.util;
+
+import java.io.ByteArrayOutputStream;
+import java.time.DateTimeException;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+
+/**
+ * <p>Classifies a date and time pattern to choose the engine that handles it.</p>
+ * <p>The patterns made only of fixed-width numeric fields and ASCII literals are turned into a "FixedWidthPattern",
+ * which parses and formats them reading a table with the layout of the fields. The rest of patterns are left to
+ * "DateTimeFormatter".</p>
+ * <p>The fields accepted for a fixed-width pattern are the following:</p>
+ * <ul>
+ *  <li>"yyyy" or "uuuu": Year with 4 digits.</li>
+ *  <li>"yy" or "uu": Year with 2 digits, from 2000 to 2099.</li>
+ *  <li>"MM": Month with 2 digits.</li>
+ *  <li>"dd": Day of month with 2 digits.</li>
+ *  <li>"HH": Hour of day with 2 digits.</li>
+ *  <li>"mm": Minute with 2 digits.</li>
+ *  <li>"ss": Second with 2 digits.</li>
+ *  <li>"S" to "SSSSSS": Fraction of second with 1 to 6 digits.</li>
+ * </ul>
+ * <p>Besides, the date has to be complete or absent and the time fields have to be a prefix of "HH", "mm", "ss" and
+ * "S", which are the combinations "DateTimeFormatter" resolves without leaving fields apart. Literals with digits are
+ * not accepted because "DateTimeFormatter" would read them as part of the adjacent numbers.</p>
+ * <p>Some versions of "DateTimeFormatter", such as the one of Java 8, cannot parse a fraction of second that follows
+ * another number without a literal in between, as in "uuuuMMddHHmmssSSS". The patterns with such a fraction are only
+ * accepted if the "DateTimeFormatter" of the running Java version parses them.</p>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see com.indenaiten.code.util.FixedWidthPattern
+ * @see java.time.format.DateTimeFormatterBuilder#appendPattern(String)
+ */
+final class PatternAnalyzer{
+
+    private static final ZonedDateTime PROBE = ZonedDateTime.of( 2021, 6, 25, 17, 36, 59, 123456789, ZoneId.of( "Europe/Paris" ) );
+
+    /**
+     * Private constructor to avoid instantiating the class.
+     */
+    private PatternAnalyzer(){
+        throw new IllegalStateException( "Utility class" );
+    }
+
+    /**
+     * <p>Analyzes "patternIn", which must be a valid "DateTimeFormatter" pattern.</p>
+     *
+     * @param patternIn The format pattern.
+     *
+     * @return The "FixedWidthPattern" object, or null if the pattern has to be handled by "DateTimeFormatter".
+     */
+    static FixedWidthPattern analyze( String patternIn ){
+        final Layout layout = new Layout();
+        final int length = patternIn.length();
+        int pos = 0;
+        while( pos < length ){
+            final char cur = patternIn.charAt( pos );
+            if( ( cur >= 'A' && cur <= 'Z' ) || ( cur >= 'a' && cur <= 'z' ) ){
+                int start = pos++;
+                while( pos < length && patternIn.charAt( pos ) == cur ){
+                    pos++;
+                }
+                if( !layout.addField( cur, pos - start ) ){
+                    return null;
+                }
+            }
+            else if( cur == '\'' ){
+                final int start = pos++;
+                for( ; pos < length; pos++ ){
+                    if( patternIn.charAt( pos ) == '\'' ){
+                        if( pos + 1 < length && patternIn.charAt( pos + 1 ) == '\'' ){
+                            pos++;
+                        }
+                        else{
+                            break;
+                        }
+                    }
+                }
+                final String literal = patternIn.substring( start + 1, pos );
+                if( !layout.addLiteral( literal.isEmpty() ? "'" : literal.replace( "''", "'" ) ) ){
+                    return null;
+                }
+                pos++;
+            }
+            else if( cur == '[' || cur == ']' || cur == '{' || cur == '}' || cur == '#' ){
+                return null;
+            }
+            else{
+                if( !layout.addLiteral( String.valueOf( cur ) ) ){
+                    return null;
+                }
+                pos++;
+            }
+        }
+        final FixedWidthPattern result = layout.build();
+        if( result != null && layout.adjacentFraction && !PatternAnalyzer.parsesAdjacentFraction( patternIn ) ){
+            return null;
+        }
+        return result;
+    }
+
+    /**
+     * <p>Checks whether the "DateTimeFormatter" of "patternIn" parses the text it formats itself, which fails in Java 8
+     * when a fraction of second follows another number.</p>
+     *
+     * @param patternIn The format pattern.
+     *
+     * @return True if the pattern can be parsed by "DateTimeFormatter".
+     */
+    private static boolean parsesAdjacentFraction( String patternIn ){
+        final DateTimeFormatter formatter = DateTimeFormatter.ofPattern( patternIn );
+        try{
+            formatter.parse( formatter.format( PatternAnalyzer.PROBE.toLocalDateTime() ) );
+            return true;
+        }
+        catch( DateTimeException e ){
+            return false;
+        }
+    }
+
+    /**
+     * <p>Checks whether "formatterIn" prints the zone or the offset, which are the only fields that need a
+     * "ZonedDateTime" instead of the local date-time it holds.</p>
+     * <p>Instead of keeping a list of the pattern letters of the zone fields, a local date-time is formatted with and
+     * without a zone: a formatter that prints any zone or offset field, even inside an optional section, either fails
+     * without the zone or prints a different text.</p>
+     *
+     * @param formatterIn The "DateTimeFormatter" object built from the pattern.
+     *
+     * @return True if the formatter has a zone or offset field.
+     */
+    static boolean hasZone( DateTimeFormatter formatterIn ){
+        final String zoned = formatterIn.format( PatternAnalyzer.PROBE );
+        try{
+            return !zoned.equals( formatterIn.format( PatternAnalyzer.PROBE.toLocalDateTime() ) );
+        }
+        catch( DateTimeException e ){
+            return true;
+        }
+    }
+
+    /**
+     * <p>Checks whether every field of "patternIn" is one that "ResolvedFields" resolves: the era, the year, the month,
+     * the day of month, the day of week, the AM/PM, the hour, the minute, the second and the fraction of second. The
+     * week-based fields, the quarters and the zones are parsed into fields that cannot be listed from the parsed text,
+     * so the patterns with them are resolved by "DateTimeFormatter", as well as the hour of AM/PM ("K"), which is
+     * resolved differently in Java 8.</p>
+     *
+     * @param patternIn The format pattern.
+     *
+     * @return True if the fields parsed with the pattern can be resolved by "ResolvedFields".
+     */
+    static boolean hasPlainFields( String patternIn ){
+        boolean quoted = false;
+        for( int i = 0; i < patternIn.length(); i++ ){
+            final char cur = patternIn.charAt( i );
+            if( cur == '\'' ){
+                quoted = !quoted;
+                continue;
+            }
+            if( quoted || !( ( cur >= 'A' && cur <= 'Z' ) || ( cur >= 'a' && cur <= 'z' ) ) ){
+                continue;
+            }
+            switch( cur ){
+                case 'G':
+                case 'u':
+                case 'y':
+                case 'M':
+                case 'L':
+                case 'd':
+                case 'E':
+                case 'a':
+                case 'h':
+                case 'k':
+                case 'H':
+                case 'm':
+                case 's':
+                case 'S':
+                case 'n':
+                    break;
+                default:
+                    return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * <p>Finds the resolution of "patternIn": the number of seconds of its finest field, so two local date-times in the
+     * same period of that length are always formatted to the same text.</p>
+     * <p>The date fields give a resolution of a day, the hour fields and "a" of an hour, "B" and "m" of a minute and
+     * "s" of a second. The patterns with a fraction of second, a field that counts the nanoseconds or the milliseconds
+     * of the day, or a zone or offset field, whose text depends on the instant and not only on the local date-time,
+     * have no resolution.</p>
+     *
+     * @param patternIn The format pattern.
+     *
+     * @return The resolution in seconds (86400, 3600, 60 or 1), or 0 if the pattern has no resolution.
+     */
+    static int resolution( String patternIn ){
+        int resolution = PackedDateTime.SECONDS_PER_DAY;
+        boolean quoted = false;
+        for( int i = 0; i < patternIn.length(); i++ ){
+            final char cur = patternIn.charAt( i );
+            if( cur == '\'' ){
+                quoted = !quoted;
+                continue;
+            }
+            if( quoted || !( ( cur >= 'A' && cur <= 'Z' ) || ( cur >= 'a' && cur <= 'z' ) ) ){
+                continue;
+            }
+            switch( cur ){
+                case 'G':
+                case 'u':
+                case 'y':
+                case 'Y':
+                case 'D':
+                case 'M':
+                case 'L':
+                case 'd':
+                case 'g':
+                case 'Q':
+                case 'q':
+                case 'w':
+                case 'W':
+                case 'E':
+                case 'e':
+                case 'c':
+                case 'F':
+                case 'p':
+                    break;
+                case 'a':
+                case 'h':
+                case 'K':
+                case 'k':
+                case 'H':
+                    resolution = Math.min( resolution, 3600 );
+                    break;
+                case 'B':
+                case 'm':
+                    resolution = Math.min( resolution, 60 );
+                    break;
+                case 's':
+                    resolution = 1;
+                    break;
+                default:
+                    return 0;
+            }
+        }
+        return resolution;
+    }
+
+    /**
+     * <p>Layout of the fields of a pattern while it is being analyzed.</p>
+     */
+    private static final class Layout{
+        private final ByteArrayOutputStream template = new ByteArrayOutputStream();
+        private final ByteArrayOutputStream kinds = new ByteArrayOutputStream();
+        private final ByteArrayOutputStream widths = new ByteArrayOutputStream();
+        private int fieldMask;
+        private boolean adjacentFraction;
+        private int lastKind = FixedWidthPattern.LITERAL;
+
+        private boolean addField( char letterIn, int countIn ){
+            final int kind;
+            switch( letterIn ){
+                case 'y':
+                case 'u':
+                    if( countIn == 4 ){
+                        kind = FixedWidthPattern.YEAR;
+                    }
+                    else if( countIn == 2 ){
+                        kind = FixedWidthPattern.YEAR_OF_CENTURY;
+                    }
+                    else{
+                        return false;
+                    }
+                    break;
+                case 'M':
+                    kind = FixedWidthPattern.MONTH;
+                    break;
+                case 'd':
+                    kind = FixedWidthPattern.DAY;
+                    break;
+                case 'H':
+                    kind = FixedWidthPattern.HOUR;
+                    break;
+                case 'm':
+                    kind = FixedWidthPattern.MINUTE;
+                    break;
+                case 's':
+                    kind = FixedWidthPattern.SECOND;
+                    break;
+                case 'S':
+                    if( countIn > 6 ){
+                        return false;
+                    }
+                    kind = FixedWidthPattern.FRACTION;
+                    break;
+                default:
+                    return false;
+            }
+            if( kind != FixedWidthPattern.YEAR && kind != FixedWidthPattern.YEAR_OF_CENTURY && kind != FixedWidthPattern.FRACTION
+                && countIn != 2 ){
+                return false;
+            }
+            final int bit = 1 << ( kind == FixedWidthPattern.YEAR_OF_CENTURY ? FixedWidthPattern.YEAR : kind );
+            if( ( this.fieldMask & bit ) != 0 ){
+                return false;
+            }
+            this.fieldMask |= bit;
+            this.adjacentFraction |= kind == FixedWidthPattern.FRACTION && this.lastKind != FixedWidthPattern.LITERAL;
+            this.lastKind = kind;
+            this.kinds.write( kind );
+            this.widths.write( countIn );
+            for( int i = 0; i < countIn; i++ ){
+                this.template.write( '0' );
+            }
+            return true;
+        }
+
+        private boolean addLiteral( String literalIn ){
+            for( int i = 0; i < literalIn.length(); i++ ){
+                final char literal = literalIn.charAt( i );
+                if( literal >= 0x80 || ( literal >= '0' && literal <= '9' ) ){
+                    return false;
+                }
+                this.template.write( literal );
+                this.kinds.write( FixedWidthPattern.LITERAL );
+                this.lastKind = FixedWidthPattern.LITERAL;
+                this.widths.write( 1 );
+            }
+            return true;
+        }
+
+        private FixedWidthPattern build(){
+            final int dateMask = ( 1 << FixedWidthPattern.YEAR ) | ( 1 << FixedWidthPattern.MONTH ) | ( 1 << FixedWidthPattern.DAY );
+            final int dateFields = this.fieldMask & dateMask;
+            if( dateFields != 0 && dateFields != dateMask ){
+                return null;
+            }
+            final int timeFields = this.fieldMask >>> FixedWidthPattern.HOUR;
+            if( ( timeFields & ( timeFields + 1 ) ) != 0 ){
+                return null;
+            }
+            if( this.fieldMask == 0 ){
+                return null;
+            }
+            return new FixedWidthPattern( this.template.toByteArray(), this.kinds.toByteArray(), this.widths.toByteArray(),
+                                          dateFields != 0, timeFields != 0 );
+        }
+    }
+
+}
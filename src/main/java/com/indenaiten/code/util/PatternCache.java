@@ -0,0 +1,96 @@
+package com.indenaiten.code.util;
+
+import java.util.Locale;
+import java.util.Objects;
+
+
+/**
+ * <p>Shared cache of the "CompiledPattern" objects built from a text pattern and a "Locale".</p>
+ * <p>Compiling a pattern is much more expensive than using the result, and "CompiledPattern" objects are immutable and
+ * thread-safe, so every method of "DateTimeUtil" that receives a pattern gets its compiled pattern from here.</p>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see com.indenaiten.code.util.DateTimeUtil
+ * @see com.indenaiten.code.util.CompiledPattern
+ */
+final class PatternCache{
+
+    private static final BoundedCache<Key, CompiledPattern> CACHE = new BoundedCache<>( PatternCache.initialMaximumSize() );
+    private static final int PARSE_MEMO_SIZE = Integer.getInteger( DateTimeUtil.PARSE_MEMO_SIZE_PROPERTY, DateTimeUtil.DEFAULT_PARSE_MEMO_SIZE );
+
+    /**
+     * Private constructor to avoid instantiating the class.
+     */
+    private PatternCache(){
+        throw new IllegalStateException( "Utility class" );
+    }
+
+    /**
+     * <p>Returns "patternIn" compiled with "localeIn", compiling it only when it is not cached.</p>
+     *
+     * @param patternIn The format pattern.
+     * <p>Rules of format pattern from "DateTimeFormatter" object.</p>
+     * @param localeIn The "Locale" object.
+     *
+     * @return The "CompiledPattern" object.
+     *
+     * @throws NullPointerException If "patternIn" or "localeIn" is null.
+     * @throws IllegalArgumentException If "patternIn" is not a valid pattern.
+     */
+    static CompiledPattern get( String patternIn, Locale localeIn ){
+        return PatternCache.CACHE.get( new Key( patternIn, localeIn ), PatternCache::compile );
+    }
+
+    /**
+     * @return The cache of compiled patterns.
+     */
+    static BoundedCache<?, ?> getCache(){
+        return PatternCache.CACHE;
+    }
+
+    private static CompiledPattern compile( Key keyIn ){
+        return new CompiledPattern( keyIn.pattern, keyIn.locale, PatternCache.PARSE_MEMO_SIZE );
+    }
+
+    /**
+     * <p>Reads the maximum size of the cache from its system property, falling back to the default size when it is
+     * lower than one, since a failure here would leave "DateTimeUtil" unusable with an "ExceptionInInitializerError".</p>
+     */
+    private static int initialMaximumSize(){
+        final int size = Integer.getInteger( DateTimeUtil.PATTERN_CACHE_SIZE_PROPERTY, DateTimeUtil.DEFAULT_PATTERN_CACHE_SIZE );
+        return size < 1 ? DateTimeUtil.DEFAULT_PATTERN_CACHE_SIZE : size;
+    }
+
+    /**
+     * <p>Key of the cache: a pattern and a "Locale".</p>
+     */
+    private static final class Key{
+        private final String pattern;
+        private final Locale locale;
+        private final int hash;
+
+        private Key( String patternIn, Locale localeIn ){
+            this.pattern = Objects.requireNonNull( patternIn, "pattern" );
+            this.locale = Objects.requireNonNull( localeIn, "locale" );
+            this.hash = 31 * patternIn.hashCode() + localeIn.hashCode();
+        }
+
+        @Override
+        public boolean equals( Object objectIn ){
+            if( this == objectIn ){
+                return true;
+            }
+            if( !( objectIn instanceof Key ) ){
+                return false;
+            }
+            final Key other = (Key) objectIn;
+            return this.hash == other.hash && this.pattern.equals( other.pattern ) && this.locale.equals( other.locale );
+        }
+
+        @Override
+        public int hashCode(){
+            return this.hash;
+        }
+    }
+
+}
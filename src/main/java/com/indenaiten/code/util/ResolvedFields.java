@@ -0,0 +1,201 @@
+package com.indenaiten.code.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+
+import static java.time.temporal.ChronoField.AMPM_OF_DAY;
+import static java.time.temporal.ChronoField.CLOCK_HOUR_OF_AMPM;
+import static java.time.temporal.ChronoField.CLOCK_HOUR_OF_DAY;
+import static java.time.temporal.ChronoField.DAY_OF_MONTH;
+import static java.time.temporal.ChronoField.DAY_OF_WEEK;
+import static java.time.temporal.ChronoField.ERA;
+import static java.time.temporal.ChronoField.HOUR_OF_AMPM;
+import static java.time.temporal.ChronoField.HOUR_OF_DAY;
+import static java.time.temporal.ChronoField.MINUTE_OF_HOUR;
+import static java.time.temporal.ChronoField.MONTH_OF_YEAR;
+import static java.time.temporal.ChronoField.NANO_OF_SECOND;
+import static java.time.temporal.ChronoField.SECOND_OF_MINUTE;
+import static java.time.temporal.ChronoField.YEAR;
+import static java.time.temporal.ChronoField.YEAR_OF_ERA;
+
+
+/**
+ * <p>Resolves the fields returned by "DateTimeFormatter.parseUnresolved" into a date, a time or a date-time with the
+ * same rules as the "SMART" resolver style of "DateTimeFormatter", reporting the values it rejects with the same message
+ * instead of throwing an exception.</p>
+ * <p>Only the usual combinations of the fields of the patterns accepted by
+ * "PatternAnalyzer.hasPlainFields" are resolved: a complete date with a year, a year of era or an era and a year of
+ * era, and a time with an hour of day, a clock hour of day or an AM/PM field with a clock hour of AM/PM, followed by
+ * the minute, the second and the fraction, in that order. The day of week is checked against the date. Any other
+ * combination is left to "DateTimeFormatter", as well as the hour of AM/PM, which Java 8 does not check before adding
+ * it to the AM/PM.</p>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see com.indenaiten.code.util.ParseFailures
+ * @see java.time.format.ResolverStyle#SMART
+ */
+final class ResolvedFields{
+
+    private final TemporalAccessor temporal;
+    private final String error;
+
+    private ResolvedFields( TemporalAccessor temporalIn, String errorIn ){
+        this.temporal = temporalIn;
+        this.error = errorIn;
+    }
+
+    /**
+     * <p>Resolves the fields of "fieldsIn".</p>
+     *
+     * @param fieldsIn The fields returned by "DateTimeFormatter.parseUnresolved" for a pattern with plain fields.
+     *
+     * @return The "ResolvedFields" object, or null if the combination of fields has to be resolved by
+     * "DateTimeFormatter".
+     */
+    static ResolvedFields resolve( TemporalAccessor fieldsIn ){
+        LocalDate date = null;
+        if( fieldsIn.isSupported( YEAR_OF_ERA ) || fieldsIn.isSupported( YEAR ) || fieldsIn.isSupported( ERA )
+            || fieldsIn.isSupported( MONTH_OF_YEAR ) || fieldsIn.isSupported( DAY_OF_MONTH ) || fieldsIn.isSupported( DAY_OF_WEEK ) ){
+            if( fieldsIn.isSupported( YEAR_OF_ERA ) == fieldsIn.isSupported( YEAR ) || !fieldsIn.isSupported( MONTH_OF_YEAR )
+                || !fieldsIn.isSupported( DAY_OF_MONTH ) || ( fieldsIn.isSupported( ERA ) && !fieldsIn.isSupported( YEAR_OF_ERA ) ) ){
+                return null;
+            }
+            long year;
+            if( fieldsIn.isSupported( YEAR_OF_ERA ) ){
+                year = fieldsIn.getLong( YEAR_OF_ERA );
+                if( !YEAR_OF_ERA.range().isValidValue( year ) ){
+                    return ResolvedFields.invalid( YEAR_OF_ERA, year );
+                }
+                if( fieldsIn.isSupported( ERA ) ){
+                    final long era = fieldsIn.getLong( ERA );
+                    if( era == 0 ){
+                        year = 1 - year;
+                    }
+                    else if( era != 1 ){
+                        return null;
+                    }
+                }
+            }
+            else{
+                year = fieldsIn.getLong( YEAR );
+            }
+            if( !YEAR.range().isValidIntValue( year ) ){
+                return ResolvedFields.invalid( YEAR, year );
+            }
+            final long month = fieldsIn.getLong( MONTH_OF_YEAR );
+            if( !MONTH_OF_YEAR.range().isValidIntValue( month ) ){
+                return ResolvedFields.invalid( MONTH_OF_YEAR, month );
+            }
+            final long day = fieldsIn.getLong( DAY_OF_MONTH );
+            if( !DAY_OF_MONTH.range().isValidIntValue( day ) ){
+                return ResolvedFields.invalid( DAY_OF_MONTH, day );
+            }
+            final LocalDate first = LocalDate.of( (int) year, (int) month, 1 );
+            date = first.withDayOfMonth( (int) Math.min( day, first.lengthOfMonth() ) );
+            if( fieldsIn.isSupported( DAY_OF_WEEK ) ){
+                final long dayOfWeek = fieldsIn.getLong( DAY_OF_WEEK );
+                if( date.getDayOfWeek().getValue() != dayOfWeek ){
+                    return new ResolvedFields( null, "Conflict found: Field " + DAY_OF_WEEK + " " + date.getDayOfWeek().getValue()
+                                                     + " differs from " + DAY_OF_WEEK + " " + dayOfWeek + " derived from " + date );
+                }
+            }
+        }
+
+        LocalTime time = null;
+        boolean nextDay = false;
+        final int hours = ( fieldsIn.isSupported( HOUR_OF_DAY ) ? 1 : 0 ) + ( fieldsIn.isSupported( CLOCK_HOUR_OF_DAY ) ? 1 : 0 )
+                          + ( fieldsIn.isSupported( CLOCK_HOUR_OF_AMPM ) ? 1 : 0 );
+        final boolean ampm = fieldsIn.isSupported( AMPM_OF_DAY );
+        final boolean minute = fieldsIn.isSupported( MINUTE_OF_HOUR );
+        final boolean second = fieldsIn.isSupported( SECOND_OF_MINUTE );
+        final boolean nano = fieldsIn.isSupported( NANO_OF_SECOND );
+        if( hours > 0 || ampm || minute || second || nano || fieldsIn.isSupported( HOUR_OF_AMPM ) ){
+            if( hours != 1 || ampm != fieldsIn.isSupported( CLOCK_HOUR_OF_AMPM ) || fieldsIn.isSupported( HOUR_OF_AMPM )
+                || ( second && !minute ) || ( nano && !second ) ){
+                return null;
+            }
+            long hour;
+            if( fieldsIn.isSupported( HOUR_OF_DAY ) ){
+                hour = fieldsIn.getLong( HOUR_OF_DAY );
+            }
+            else if( fieldsIn.isSupported( CLOCK_HOUR_OF_DAY ) ){
+                final long clockHour = fieldsIn.getLong( CLOCK_HOUR_OF_DAY );
+                if( clockHour != 0 && !CLOCK_HOUR_OF_DAY.range().isValidValue( clockHour ) ){
+                    return ResolvedFields.invalid( CLOCK_HOUR_OF_DAY, clockHour );
+                }
+                hour = clockHour == 24 ? 0 : clockHour;
+            }
+            else{
+                final long clockHour = fieldsIn.getLong( CLOCK_HOUR_OF_AMPM );
+                if( clockHour != 0 && !CLOCK_HOUR_OF_AMPM.range().isValidValue( clockHour ) ){
+                    return ResolvedFields.invalid( CLOCK_HOUR_OF_AMPM, clockHour );
+                }
+                final long amPm = fieldsIn.getLong( AMPM_OF_DAY );
+                if( !AMPM_OF_DAY.range().isValidValue( amPm ) ){
+                    return ResolvedFields.invalid( AMPM_OF_DAY, amPm );
+                }
+                hour = amPm * 12 + ( clockHour == 12 ? 0 : clockHour );
+            }
+            final long minuteOfHour = minute ? fieldsIn.getLong( MINUTE_OF_HOUR ) : 0;
+            final long secondOfMinute = second ? fieldsIn.getLong( SECOND_OF_MINUTE ) : 0;
+            final long nanoOfSecond = nano ? fieldsIn.getLong( NANO_OF_SECOND ) : 0;
+            if( !MINUTE_OF_HOUR.range().isValidIntValue( minuteOfHour ) ){
+                return ResolvedFields.invalid( MINUTE_OF_HOUR, minuteOfHour );
+            }
+            if( !NANO_OF_SECOND.range().isValidIntValue( nanoOfSecond ) ){
+                return ResolvedFields.invalid( NANO_OF_SECOND, nanoOfSecond );
+            }
+            if( hour == 24 && minuteOfHour == 0 && secondOfMinute == 0 && nanoOfSecond == 0 ){
+                time = LocalTime.MIDNIGHT;
+                nextDay = true;
+            }
+            else{
+                if( !HOUR_OF_DAY.range().isValidIntValue( hour ) ){
+                    return ResolvedFields.invalid( HOUR_OF_DAY, hour );
+                }
+                if( !SECOND_OF_MINUTE.range().isValidIntValue( secondOfMinute ) ){
+                    return ResolvedFields.invalid( SECOND_OF_MINUTE, secondOfMinute );
+                }
+                time = LocalTime.of( (int) hour, (int) minuteOfHour, (int) secondOfMinute, (int) nanoOfSecond );
+            }
+        }
+
+        if( date == null ){
+            return time == null ? null : new ResolvedFields( time, null );
+        }
+        if( nextDay ){
+            if( date.equals( LocalDate.MAX ) ){
+                return null;
+            }
+            date = date.plusDays( 1 );
+        }
+        return new ResolvedFields( time == null ? date : LocalDateTime.of( date, time ), null );
+    }
+
+    /**
+     * @return The "ResolvedFields" object of a value out of the range of its field, with the message of
+     * "ValueRange.checkValidValue".
+     */
+    private static ResolvedFields invalid( ChronoField fieldIn, long valueIn ){
+        return new ResolvedFields( null, "Invalid value for " + fieldIn + " (valid values " + fieldIn.range() + "): " + valueIn );
+    }
+
+    /**
+     * @return The "LocalDate", "LocalTime" or "LocalDateTime" object, or null if the fields are not valid.
+     */
+    TemporalAccessor getTemporal(){
+        return this.temporal;
+    }
+
+    /**
+     * @return The reason why the fields are not valid, with the message of the exception that "DateTimeFormatter" would
+     * throw, or null if they are valid.
+     */
+    String getError(){
+        return this.error;
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.indenaiten.code.util;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+
+/**
+ * <p>Cached current date of every "ZoneId".</p>
+ * <p>The current date only changes at midnight, so instead of resolving the current instant with the rules of the zone
+ * on every call, like "LocalDate.now( ZoneId )" does, the date is kept together with the range of epoch milliseconds
+ * where it is valid. While that range has not passed only "System.currentTimeMillis()" is read.</p>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see java.time.LocalDate#now(ZoneId)
+ */
+final class TodayCache{
+
+    private static final ConcurrentMap<ZoneId, Day> DAYS = new ConcurrentHashMap<>();
+
+    /**
+     * Private constructor to avoid instantiating the class.
+     */
+    private TodayCache(){
+        throw new IllegalStateException( "Utility class" );
+    }
+
+    /**
+     * <p>Returns the same date as "LocalDate.now( zoneIdIn )".</p>
+     *
+     * @param zoneIdIn The "ZoneId" object.
+     *
+     * @return The current date in "zoneIdIn".
+     *
+     * @throws NullPointerException If "zoneIdIn" is null.
+     */
+    static LocalDate today( ZoneId zoneIdIn ){
+        final long now = System.currentTimeMillis();
+        final Day day = TodayCache.DAYS.get( zoneIdIn );
+        if( day != null && now >= day.start && now < day.end ){
+            return day.date;
+        }
+        final Day current = new Day( now, zoneIdIn );
+        TodayCache.DAYS.put( zoneIdIn, current );
+        return current.date;
+    }
+
+    /**
+     * <p>A date with the range of epoch milliseconds, from the start of the day included to the start of the next day
+     * excluded, where it is the current date.</p>
+     */
+    private static final class Day{
+        private final LocalDate date;
+        private final long start;
+        private final long end;
+
+        private Day( long epochMilliIn, ZoneId zoneIdIn ){
+            this.date = Instant.ofEpochMilli( epochMilliIn ).atZone( zoneIdIn ).toLocalDate();
+            this.start = this.date.atStartOfDay( zoneIdIn ).toInstant().toEpochMilli();
+            this.end = this.date.plusDays( 1 ).atStartOfDay( zoneIdIn ).toInstant().toEpochMilli();
+        }
+    }
+
+}
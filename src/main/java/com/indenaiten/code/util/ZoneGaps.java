@@ -0,0 +1,77 @@
+package com.indenaiten.code.util;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.util.Objects;
+
+
+/**
+ * <p>Gives the local date-time that a "ZonedDateTime" would hold without creating it.</p>
+ * <p>Converting a local date-time to "ZonedDateTime" and back only changes it when it falls in a gap of the zone,
+ * usually when the clocks go forward: the local date-time is then moved forward by the length of the gap. These
+ * methods apply the same rules as "LocalDateTime.atZone" and "LocalDate.atStartOfDay" and return the local value
+ * directly, asking the "ZoneOffsetTable" of the zone first whether it is in a gap at all.</p>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see java.time.LocalDateTime#atZone(ZoneId)
+ * @see java.time.LocalDate#atStartOfDay(ZoneId)
+ */
+final class ZoneGaps{
+
+    /**
+     * Private constructor to avoid instantiating the class.
+     */
+    private ZoneGaps(){
+        throw new IllegalStateException( "Utility class" );
+    }
+
+    /**
+     * <p>Returns the same value as "dateTimeIn.atZone( zoneIdIn ).toLocalDateTime()".</p>
+     *
+     * @param dateTimeIn The "LocalDateTime" object.
+     * @param zoneIdIn The "ZoneId" object.
+     *
+     * @return The local date-time, moved forward when it falls in a gap of "zoneIdIn".
+     *
+     * @throws NullPointerException If "dateTimeIn" or "zoneIdIn" is null.
+     */
+    static LocalDateTime atZone( LocalDateTime dateTimeIn, ZoneId zoneIdIn ){
+        Objects.requireNonNull( dateTimeIn, "dateTime" );
+        if( zoneIdIn instanceof ZoneOffset
+            || ZoneOffsetTable.of( zoneIdIn ).getLocalOffsetSeconds( dateTimeIn.toEpochSecond( ZoneOffset.UTC ) ) != ZoneOffsetTable.UNRESOLVED ){
+            return dateTimeIn;
+        }
+        final ZoneOffsetTransition transition = zoneIdIn.getRules().getTransition( dateTimeIn );
+        if( transition == null || !transition.isGap() ){
+            return dateTimeIn;
+        }
+        return dateTimeIn.plusSeconds( transition.getDuration().getSeconds() );
+    }
+
+    /**
+     * <p>Returns the same value as "dateIn.atStartOfDay( zoneIdIn ).toLocalDateTime()".</p>
+     *
+     * @param dateIn The "LocalDate" object.
+     * @param zoneIdIn The "ZoneId" object.
+     *
+     * @return The first valid local date-time of "dateIn" in "zoneIdIn".
+     *
+     * @throws NullPointerException If "dateIn" or "zoneIdIn" is null.
+     */
+    static LocalDateTime atStartOfDay( LocalDate dateIn, ZoneId zoneIdIn ){
+        final LocalDateTime dateTime = dateIn.atStartOfDay();
+        if( zoneIdIn instanceof ZoneOffset
+            || ZoneOffsetTable.of( zoneIdIn ).getLocalOffsetSeconds( dateIn.toEpochDay() * PackedDateTime.SECONDS_PER_DAY ) != ZoneOffsetTable.UNRESOLVED ){
+            return dateTime;
+        }
+        final ZoneOffsetTransition transition = zoneIdIn.getRules().getTransition( dateTime );
+        if( transition == null || !transition.isGap() ){
+            return dateTime;
+        }
+        return transition.getDateTimeAfter();
+    }
+
+}
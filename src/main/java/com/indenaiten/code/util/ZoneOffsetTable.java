@@ -0,0 +1,192 @@
+package com.indenaiten.code.util;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Arrays;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+
+/**
+ * <p>Offsets of a zone precompiled into primitive arrays for a window of years.</p>
+ * <p>"ZoneRules" computes the offset of every instant and every local date-time from its transitions on each call. This
+ * table keeps the transitions of the window sorted in a "long[]", so the offset is found with a binary search over
+ * primitives. Zones with a fixed offset have no transitions at all and are answered with a single field read.</p>
+ * <p>Outside the window the table asks "ZoneRules" for instants, and for local date-times in a gap or an overlap it
+ * returns {@link #UNRESOLVED} so the caller applies the usual rules of "ZonedDateTime". The window goes from the start
+ * of the year {@link DateTimeUtil#ZONE_TABLE_FIRST_YEAR_PROPERTY} to the end of the year
+ * {@link DateTimeUtil#ZONE_TABLE_LAST_YEAR_PROPERTY}, both in UTC.</p>
+ * <p>Tables are immutable and thread-safe, and they are built once per "ZoneId".</p>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see java.time.zone.ZoneRules
+ */
+final class ZoneOffsetTable{
+
+    static final int UNRESOLVED = Integer.MIN_VALUE;
+
+    private static final ConcurrentMap<ZoneId, ZoneOffsetTable> TABLES = new ConcurrentHashMap<>();
+    private static final int FIRST_YEAR = Integer.getInteger( DateTimeUtil.ZONE_TABLE_FIRST_YEAR_PROPERTY,
+                                                              DateTimeUtil.DEFAULT_ZONE_TABLE_FIRST_YEAR );
+    private static final int LAST_YEAR = Integer.getInteger( DateTimeUtil.ZONE_TABLE_LAST_YEAR_PROPERTY,
+                                                             DateTimeUtil.DEFAULT_ZONE_TABLE_LAST_YEAR );
+    //Limit of the local date-times resolved by fixed offsets, so their epoch milliseconds always fit in a "long".
+    private static final long MAX_LOCAL_SECOND = Long.MAX_VALUE / 1000 - PackedDateTime.SECONDS_PER_DAY;
+
+    private final ZoneRules rules;
+    private final long start;
+    private final long end;
+    private final long localStart;
+    private final long localEnd;
+    private final long[] instants;
+    private final long[] localLows;
+    private final long[] localHighs;
+    private final ZoneOffset[] offsets;
+    private final int[] offsetSeconds;
+
+    /**
+     * <p>Compiles the transitions of "rulesIn" from the start of "firstYearIn" to the end of "lastYearIn".</p>
+     *
+     * @param rulesIn The rules of the zone.
+     * @param firstYearIn The first year of the window.
+     * @param lastYearIn The last year of the window.
+     */
+    ZoneOffsetTable( ZoneRules rulesIn, int firstYearIn, int lastYearIn ){
+        this.rules = rulesIn;
+        if( rulesIn.isFixedOffset() ){
+            this.start = Long.MIN_VALUE;
+            this.end = Long.MAX_VALUE;
+            this.localStart = -MAX_LOCAL_SECOND;
+            this.localEnd = MAX_LOCAL_SECOND;
+            this.instants = new long[ 0 ];
+            this.localLows = new long[ 0 ];
+            this.localHighs = new long[ 0 ];
+            this.offsets = new ZoneOffset[]{ rulesIn.getOffset( Instant.EPOCH ) };
+            this.offsetSeconds = new int[]{ this.offsets[ 0 ].getTotalSeconds() };
+            return;
+        }
+        this.start = LocalDate.of( firstYearIn, 1, 1 ).toEpochDay() * PackedDateTime.SECONDS_PER_DAY;
+        this.end = LocalDate.of( lastYearIn + 1, 1, 1 ).toEpochDay() * PackedDateTime.SECONDS_PER_DAY;
+        this.localStart = this.start + PackedDateTime.SECONDS_PER_DAY;
+        this.localEnd = this.end - PackedDateTime.SECONDS_PER_DAY;
+        int count = 0;
+        long[] transitionInstants = new long[ 16 ];
+        long[] lows = new long[ 16 ];
+        long[] highs = new long[ 16 ];
+        ZoneOffset[] transitionOffsets = new ZoneOffset[ 17 ];
+        transitionOffsets[ 0 ] = rulesIn.getOffset( Instant.ofEpochSecond( this.start ) );
+        ZoneOffsetTransition transition = rulesIn.nextTransition( Instant.ofEpochSecond( this.start - 1 ) );
+        while( transition != null && transition.getInstant().getEpochSecond() < this.end ){
+            if( count == transitionInstants.length ){
+                transitionInstants = Arrays.copyOf( transitionInstants, count * 2 );
+                lows = Arrays.copyOf( lows, count * 2 );
+                highs = Arrays.copyOf( highs, count * 2 );
+                transitionOffsets = Arrays.copyOf( transitionOffsets, count * 2 + 1 );
+            }
+            final long instant = transition.getInstant().getEpochSecond();
+            final long localBefore = instant + transition.getOffsetBefore().getTotalSeconds();
+            final long localAfter = instant + transition.getOffsetAfter().getTotalSeconds();
+            transitionInstants[ count ] = instant;
+            lows[ count ] = Math.min( localBefore, localAfter );
+            highs[ count ] = Math.max( localBefore, localAfter );
+            transitionOffsets[ count + 1 ] = transition.getOffsetAfter();
+            count++;
+            transition = rulesIn.nextTransition( transition.getInstant() );
+        }
+        this.instants = Arrays.copyOf( transitionInstants, count );
+        this.localLows = Arrays.copyOf( lows, count );
+        this.localHighs = Arrays.copyOf( highs, count );
+        this.offsets = Arrays.copyOf( transitionOffsets, count + 1 );
+        this.offsetSeconds = new int[ count + 1 ];
+        for( int i = 0; i <= count; i++ ){
+            this.offsetSeconds[ i ] = this.offsets[ i ].getTotalSeconds();
+        }
+    }
+
+    /**
+     * <p>Returns the table of "zoneIdIn", compiling it the first time.</p>
+     *
+     * @param zoneIdIn The "ZoneId" object.
+     *
+     * @return The "ZoneOffsetTable" object.
+     *
+     * @throws NullPointerException If "zoneIdIn" is null.
+     */
+    static ZoneOffsetTable of( ZoneId zoneIdIn ){
+        final ZoneOffsetTable table = ZoneOffsetTable.TABLES.get( zoneIdIn );
+        if( table != null ){
+            return table;
+        }
+        return ZoneOffsetTable.TABLES.computeIfAbsent( zoneIdIn, zoneId -> new ZoneOffsetTable( zoneId.getRules(), FIRST_YEAR, LAST_YEAR ) );
+    }
+
+    /**
+     * <p>Returns the offset of the zone at the given instant.</p>
+     *
+     * @param epochSecondIn The instant as seconds since 1970-01-01T00:00:00Z.
+     *
+     * @return The offset in seconds.
+     */
+    int getOffsetSeconds( long epochSecondIn ){
+        if( epochSecondIn < this.start || epochSecondIn >= this.end ){
+            return this.rules.getOffset( Instant.ofEpochSecond( epochSecondIn ) ).getTotalSeconds();
+        }
+        return this.offsetSeconds[ ZoneOffsetTable.countUpTo( this.instants, epochSecondIn ) ];
+    }
+
+    /**
+     * <p>Returns the offset of the zone at the given instant.</p>
+     *
+     * @param epochSecondIn The instant as seconds since 1970-01-01T00:00:00Z.
+     *
+     * @return The "ZoneOffset" object.
+     */
+    ZoneOffset getOffset( long epochSecondIn ){
+        if( epochSecondIn < this.start || epochSecondIn >= this.end ){
+            return this.rules.getOffset( Instant.ofEpochSecond( epochSecondIn ) );
+        }
+        return this.offsets[ ZoneOffsetTable.countUpTo( this.instants, epochSecondIn ) ];
+    }
+
+    /**
+     * <p>Returns the only valid offset of a local date-time.</p>
+     *
+     * @param localSecondIn The local date-time as seconds since 1970-01-01T00:00:00 without offset.
+     *
+     * @return The offset in seconds, or {@link #UNRESOLVED} if the local date-time is in a gap or an overlap of the
+     * zone or out of the window of the table.
+     */
+    int getLocalOffsetSeconds( long localSecondIn ){
+        if( localSecondIn < this.localStart || localSecondIn >= this.localEnd ){
+            return UNRESOLVED;
+        }
+        final int index = ZoneOffsetTable.countUpTo( this.localLows, localSecondIn );
+        if( index > 0 && localSecondIn < this.localHighs[ index - 1 ] ){
+            return UNRESOLVED;
+        }
+        return this.offsetSeconds[ index ];
+    }
+
+    /**
+     * @return The number of values of the sorted "valuesIn" array that are lower than or equal to "keyIn".
+     */
+    private static int countUpTo( long[] valuesIn, long keyIn ){
+        int low = 0;
+        int high = valuesIn.length;
+        while( low < high ){
+            final int middle = ( low + high ) >>> 1;
+            if( valuesIn[ middle ] <= keyIn ){
+                low = middle + 1;
+            }
+            else{
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.indenaiten.code.util;
+
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+
+/**
+ * <p>Gives the offset of a zone, in seconds, for the primitive epoch conversions.</p>
+ * <p>Offsets are looked up in the "ZoneOffsetTable" of the zone, which answers without creating any object. Only the
+ * date-times the table leaves unresolved are looked up in the "ZoneRules".</p>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see com.indenaiten.code.util.ZoneOffsetTable
+ * @see java.time.zone.ZoneRules
+ */
+final class ZoneOffsets{
+
+    /**
+     * Private constructor to avoid instantiating the class.
+     */
+    private ZoneOffsets(){
+        throw new IllegalStateException( "Utility class" );
+    }
+
+    /**
+     * <p>Returns the offset that "LocalDateTime.atZone" uses for the packed local date-time.</p>
+     * <p>In a gap or an overlap it is the offset before the transition: in an overlap that is the earlier offset, and
+     * a date-time in a gap is moved forward by the length of the gap, which gives the same instant as the offset before
+     * the transition.</p>
+     *
+     * @param packedIn The local date-time packed as described in "PackedDateTime".
+     * @param zoneIdIn The "ZoneId" object.
+     *
+     * @return The offset in seconds.
+     *
+     * @throws NullPointerException If "zoneIdIn" is null.
+     */
+    static int secondsAtLocal( long packedIn, ZoneId zoneIdIn ){
+        if( zoneIdIn instanceof ZoneOffset ){
+            return ( (ZoneOffset) zoneIdIn ).getTotalSeconds();
+        }
+        final long localSecond = PackedDateTime.toEpochDay( packedIn ) * PackedDateTime.SECONDS_PER_DAY + PackedDateTime.toSecondOfDay( packedIn );
+        final int offset = ZoneOffsetTable.of( zoneIdIn ).getLocalOffsetSeconds( localSecond );
+        if( offset != ZoneOffsetTable.UNRESOLVED ){
+            return offset;
+        }
+        return zoneIdIn.getRules().getOffset( PackedDateTime.toLocalDateTime( packedIn ) ).getTotalSeconds();
+    }
+
+    /**
+     * <p>Returns the offset of the zone at the given instant.</p>
+     *
+     * @param epochSecondIn The instant as seconds since 1970-01-01T00:00:00Z.
+     * @param zoneIdIn The "ZoneId" object.
+     *
+     * @return The offset in seconds.
+     *
+     * @throws NullPointerException If "zoneIdIn" is null.
+     */
+    static int secondsAtInstant( long epochSecondIn, ZoneId zoneIdIn ){
+        if( zoneIdIn instanceof ZoneOffset ){
+            return ( (ZoneOffset) zoneIdIn ).getTotalSeconds();
+        }
+        return ZoneOffsetTable.of( zoneIdIn ).getOffsetSeconds( epochSecondIn );
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.indenaiten.code.util;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+
+/**
+ * <p>Writes numbers as ASCII digits and turns ASCII bytes into "String" objects.</p>
+ * <p>This is the implementation for Java 17 and later of the multi-release JAR. Every pair of digits is written with a
+ * single 2-byte store through a "VarHandle" view of the array, instead of the two stores of the Java 8
+ * implementation.</p>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see com.indenaiten.code.util.FixedWidthPattern
+ */
+final class AsciiDigits{
+
+    private static final VarHandle SHORTS = MethodHandles.byteArrayViewVarHandle( short[].class, ByteOrder.LITTLE_ENDIAN );
+    private static final short[] PAIRS = new short[ 100 ];
+
+    static{
+        for( int i = 0; i < 100; i++ ){
+            AsciiDigits.PAIRS[ i ] = (short) ( '0' + i / 10 | '0' + i % 10 << 8 );
+        }
+    }
+
+    /**
+     * Private constructor to avoid instantiating the class.
+     */
+    private AsciiDigits(){
+        throw new IllegalStateException( "Utility class" );
+    }
+
+    /**
+     * <p>Writes "valueIn" as ASCII digits, padded with zeros to "widthIn" digits.</p>
+     *
+     * @param bytesIn The destination array.
+     * @param offsetIn The position of the first digit.
+     * @param widthIn The number of digits.
+     * @param valueIn The number, from 0 to the highest number of "widthIn" digits.
+     */
+    static void writeDigits( byte[] bytesIn, int offsetIn, int widthIn, int valueIn ){
+        int value = valueIn;
+        int position = offsetIn + widthIn;
+        while( position - offsetIn >= 2 ){
+            position -= 2;
+            AsciiDigits.SHORTS.set( bytesIn, position, AsciiDigits.PAIRS[ value % 100 ] );
+            value /= 100;
+        }
+        if( position > offsetIn ){
+            bytesIn[ offsetIn ] = (byte) ( '0' + value % 10 );
+        }
+    }
+
+    /**
+     * <p>Returns the "String" object with a character for every byte of "bytesIn".</p>
+     *
+     * @param bytesIn The ASCII bytes.
+     *
+     * @return The "String" object.
+     */
+    @SuppressWarnings( "deprecation" )
+    static String newString( byte[] bytesIn ){
+        return new String( bytesIn, 0, 0, bytesIn.length );
+    }
+
+}
@@ -0,0 +1,35 @@
+package com.indenaiten.code.util;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+
+/**
+ * <p>Executor of the asynchronous conversions of "DateTimeAsync" when the caller does not give one.</p>
+ * <p>This is the implementation for Java 21 and later of the multi-release JAR, which starts a virtual thread for every
+ * task. The conversions neither block nor hold a monitor, so their virtual threads never pin the carrier threads, and
+ * the executor keeps no thread alive while it has no tasks.</p>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see com.indenaiten.code.util.DateTimeAsync
+ */
+final class DefaultExecutor{
+
+    private static final ExecutorService VIRTUAL_THREADS = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Private constructor to avoid instantiating the class.
+     */
+    private DefaultExecutor(){
+        throw new IllegalStateException( "Utility class" );
+    }
+
+    /**
+     * @return The default "Executor" object of the asynchronous conversions.
+     */
+    static Executor get(){
+        return DefaultExecutor.VIRTUAL_THREADS;
+    }
+
+}
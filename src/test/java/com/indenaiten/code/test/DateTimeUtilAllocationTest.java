@@ -0,0 +1,416 @@
+package com.indenaiten.code.test;
+
+import com.indenaiten.code.util.CompiledPattern;
+import com.indenaiten.code.util.DateTimeMetrics;
+import com.indenaiten.code.util.DateTimeUtil;
+import com.sun.management.HotSpotDiagnosticMXBean;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+
+/**
+ * <p>Allocation tests for com.indenaiten.code.util.DateTimeUtil class.</p>
+ * <p>Every test warms a method up and then measures the bytes allocated by the current thread per call with
+ * "com.sun.management.ThreadMXBean", failing when they go over the budget declared for the method. The budgets are the
+ * objects the method has to return plus the ones it needs without escape analysis, so they hold in the interpreter and
+ * in every JIT compiler. The sizes of the objects assume compressed pointers, the default for heaps under 32 GB, so
+ * tests are skipped without them and in virtual machines that do not measure the allocated bytes. The budgets of the
+ * "String" results assume the compact strings of Java 9 and later, and grow by the size of the wider characters of
+ * Java 8.</p>
+ *
+ * @author <a href="mailto:indenaiten@gmail.com">Ángel Herce Soto</a>
+ * @see com.sun.management.ThreadMXBean#getThreadAllocatedBytes(long)
+ */
+class DateTimeUtilAllocationTest{
+
+    //MEASURE PARAMETERS
+    private static final int WARM_UP_OPERATIONS = 50000;
+    private static final int MEASURED_OPERATIONS = 20000;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final boolean COMPACT_STRINGS = !System.getProperty( "java.specification.version" ).startsWith( "1." );
+
+    //DEFAULT PARAMETERS
+    private static final String DATE_PATTERN = "yyyy-MM-dd";
+    private static final String TIME_PATTERN = "HH:mm:ss";
+    private static final String DATE_TIME_PATTERN = "yyyy-MM-dd'T'HH:mm:ss.SSS";
+    private static final String TEXT_DATE_PATTERN = "EEEE, d MMMM yyyy";
+    private static final String DATE_STR = "2021-06-25";
+    private static final String TIME_STR = "17:36:27";
+    private static final String DATE_TIME_STR = "2021-06-25T17:36:27.123";
+    private static final ZoneId ZONE_ID = ZoneId.of( "Europe/Paris" );
+    private static final Locale LOCALE = Locale.US;
+    private static final LocalDate LOCAL_DATE = LocalDate.of( 2021, 6, 25 );
+    private static final LocalTime LOCAL_TIME = LocalTime.of( 17, 36, 27 );
+    private static final LocalDateTime LOCAL_DATE_TIME = LocalDateTime.of( 2021, 6, 25, 17, 36, 27, 123000000 );
+    private static final Date DATE = DateTimeUtil.getDateFromLocalDateTime( LOCAL_DATE_TIME, ZONE_ID );
+    private static final CompiledPattern DATE_TIME_COMPILED = DateTimeUtil.compile( DATE_TIME_PATTERN, LOCALE );
+
+    //MESSAGES
+    private static final String MSG_TEMPLATE_OVER_BUDGET = "ALLOCATED: %d B/op - BUDGET: %d B/op";
+
+    private static com.sun.management.ThreadMXBean threadMXBean;
+    private static Object sink;
+
+
+    // ---------------------------------------------------------------------------------------------------- \\
+    // ---| Measure of the allocated bytes.
+    // ---------------------------------------------------------------------------------------------------- \\
+
+    @BeforeAll
+    static void setUpThreadMXBean(){
+        final java.lang.management.ThreadMXBean BEAN = ManagementFactory.getThreadMXBean();
+        assumeTrue( BEAN instanceof com.sun.management.ThreadMXBean, "ThreadMXBean does not measure the allocated bytes" );
+        threadMXBean = (com.sun.management.ThreadMXBean) BEAN;
+        assumeTrue( threadMXBean.isThreadAllocatedMemorySupported(), "ThreadMXBean does not measure the allocated bytes" );
+        threadMXBean.setThreadAllocatedMemoryEnabled( true );
+        final HotSpotDiagnosticMXBean DIAGNOSTIC_BEAN = ManagementFactory.getPlatformMXBean( HotSpotDiagnosticMXBean.class );
+        assumeTrue( DIAGNOSTIC_BEAN != null && Boolean.parseBoolean( DIAGNOSTIC_BEAN.getVMOption( "UseCompressedOops" ).getValue() ),
+                    "The budgets assume compressed pointers" );
+    }
+
+    /**
+     * <p>Warms "OPERATION_IN" up, measures the bytes it allocates per call and checks them against "BUDGET_IN".</p>
+     * <p>The measure is repeated, up to {@value #MEASURED_ROUNDS} times, while it is over the budget, so a compilation
+     * that has not finished when the warm-up ends, which is common in Java 8, does not fail the test. The lowest measure
+     * is the one checked.</p>
+     *
+     * @param BUDGET_IN The maximum number of bytes per call.
+     * @param OPERATION_IN The call to measure. Its result is kept so it cannot be removed as dead code.
+     */
+    private static void assertAllocationBudget( final long BUDGET_IN, final Supplier<Object> OPERATION_IN ){
+        final long THREAD_ID = Thread.currentThread().getId();
+        for( int i = 0; i < WARM_UP_OPERATIONS; i++ ){
+            sink = OPERATION_IN.get();
+        }
+        long result = Long.MAX_VALUE;
+        for( int round = 0; round < MEASURED_ROUNDS && result > BUDGET_IN; round++ ){
+            final long START = threadMXBean.getThreadAllocatedBytes( THREAD_ID );
+            for( int i = 0; i < MEASURED_OPERATIONS; i++ ){
+                sink = OPERATION_IN.get();
+            }
+            final long END = threadMXBean.getThreadAllocatedBytes( THREAD_ID );
+            result = Math.min( result, ( END - START ) / MEASURED_OPERATIONS );
+        }
+
+        assertNotNull( sink );
+        assertTrue( result <= BUDGET_IN, String.format( MSG_TEMPLATE_OVER_BUDGET, result, BUDGET_IN ) );
+    }
+
+    /**
+     * <p>Returns "BUDGET_IN", which assumes a compact "String" result of "LENGTH_IN" Latin-1 characters, plus the
+     * bytes that the characters of that "String" take beyond one byte each when the strings are not compact.</p>
+     *
+     * @param BUDGET_IN The budget with compact strings.
+     * @param LENGTH_IN The length of the "String" result.
+     *
+     * @return The budget for the running Java version.
+     */
+    private static long stringBudget( final long BUDGET_IN, final int LENGTH_IN ){
+        if( COMPACT_STRINGS ){
+            return BUDGET_IN;
+        }
+        return BUDGET_IN + ( ( 16 + 2L * LENGTH_IN + 7 ) & ~7L ) - ( ( 16 + LENGTH_IN + 7 ) & ~7L );
+    }
+
+
+    // ---------------------------------------------------------------------------------------------------- \\
+    // ---| Allocation tests for the "formatXxx" methods of "CompiledPattern" into caller-provided buffers.
+    // ---------------------------------------------------------------------------------------------------- \\
+
+    @Test
+    @DisplayName( "CompiledPattern.formatDateTime( LocalDateTime:✓, ZoneId:✓, StringBuilder:✓ ):0 B/op" )
+    void givenStringBuilder_whenFormatDateTimeIsCalled_thenAllocatesNothing(){
+        final StringBuilder BUILDER = new StringBuilder( 64 );
+
+        assertAllocationBudget( 0, () -> {
+            BUILDER.setLength( 0 );
+            DATE_TIME_COMPILED.formatDateTime( LOCAL_DATE_TIME, ZONE_ID, BUILDER );
+            return BUILDER;
+        } );
+    }
+
+    @Test
+    @DisplayName( "CompiledPattern.formatDateTime( LocalDateTime:✓, ZoneId:✓, byte[]:✓, int:✓ ):0 B/op" )
+    void givenByteArray_whenFormatDateTimeIsCalled_thenAllocatesNothing(){
+        final byte[] BYTES = new byte[ 64 ];
+
+        assertAllocationBudget( 0, () -> {
+            DATE_TIME_COMPILED.formatDateTime( LOCAL_DATE_TIME, ZONE_ID, BYTES, 0 );
+            return BYTES;
+        } );
+    }
+
+    @Test
+    @DisplayName( "CompiledPattern.formatDateTime( LocalDateTime:✓, ZoneId:✓, ByteBuffer:[Direct] ):0 B/op" )
+    void givenDirectByteBuffer_whenFormatDateTimeIsCalled_thenAllocatesNothing(){
+        final ByteBuffer BUFFER = ByteBuffer.allocateDirect( 64 );
+
+        assertAllocationBudget( 0, () -> {
+            BUFFER.clear();
+            DATE_TIME_COMPILED.formatDateTime( LOCAL_DATE_TIME, ZONE_ID, BUFFER );
+            return BUFFER;
+        } );
+    }
+
+    @Test
+    @DisplayName( "CompiledPattern.formatTime( LocalTime:✓, ZoneId:✓, byte[]:✓, int:✓ ):0 B/op" )
+    void givenByteArray_whenFormatTimeIsCalled_thenAllocatesNothing(){
+        final CompiledPattern COMPILED = DateTimeUtil.compile( TIME_PATTERN, LOCALE );
+        final byte[] BYTES = new byte[ 64 ];
+
+        assertAllocationBudget( 0, () -> {
+            COMPILED.formatTime( LOCAL_TIME, ZONE_ID, BYTES, 0 );
+            return BYTES;
+        } );
+    }
+
+    @Test
+    @DisplayName( "CompiledPattern.formatDate( LocalDate:✓, ZoneId:✓, byte[]:✓, int:✓ ):0 B/op" )
+    void givenByteArray_whenFormatDateIsCalled_thenAllocatesNothing(){
+        final CompiledPattern COMPILED = DateTimeUtil.compile( DATE_PATTERN, LOCALE );
+        final byte[] BYTES = new byte[ 64 ];
+
+        assertAllocationBudget( 0, () -> {
+            COMPILED.formatDate( LOCAL_DATE, ZONE_ID, BYTES, 0 );
+            return BYTES;
+        } );
+    }
+
+    @Test
+    @DisplayName( "CompiledPattern.formatDate( LocalDate:✓, ZoneId:✓, ByteBuffer:[Direct] ):0 B/op" )
+    void givenDirectByteBuffer_whenFormatDateIsCalled_thenAllocatesNothing(){
+        final CompiledPattern COMPILED = DateTimeUtil.compile( DATE_PATTERN, LOCALE );
+        final ByteBuffer BUFFER = ByteBuffer.allocateDirect( 64 );
+
+        assertAllocationBudget( 0, () -> {
+            BUFFER.clear();
+            COMPILED.formatDate( LOCAL_DATE, ZONE_ID, BUFFER );
+            return BUFFER;
+        } );
+    }
+
+    @Test
+    @DisplayName( "CompiledPattern.formatDateTime( Date:✓, ZoneId:✓, StringBuilder:✓ ):0 B/op" )
+    void givenDateAndStringBuilder_whenFormatDateTimeIsCalled_thenAllocatesNothing(){
+        final StringBuilder BUILDER = new StringBuilder( 64 );
+
+        assertAllocationBudget( 0, () -> {
+            BUILDER.setLength( 0 );
+            DATE_TIME_COMPILED.formatDateTime( DATE, ZONE_ID, BUILDER );
+            return BUILDER;
+        } );
+    }
+
+    @Test
+    @DisplayName( "CompiledPattern.formatDateTime( Date:✓, ZoneId:✓, byte[]:✓, int:✓ ):0 B/op" )
+    void givenDateAndByteArray_whenFormatDateTimeIsCalled_thenAllocatesNothing(){
+        final byte[] BYTES = new byte[ 64 ];
+
+        assertAllocationBudget( 0, () -> {
+            DATE_TIME_COMPILED.formatDateTime( DATE, ZONE_ID, BYTES, 0 );
+            return BYTES;
+        } );
+    }
+
+    @Test
+    @DisplayName( "CompiledPattern.formatDateTime( Date:✓, ZoneId:✓, ByteBuffer:[Direct] ):0 B/op" )
+    void givenDateAndDirectByteBuffer_whenFormatDateTimeIsCalled_thenAllocatesNothing(){
+        final ByteBuffer BUFFER = ByteBuffer.allocateDirect( 64 );
+
+        assertAllocationBudget( 0, () -> {
+            BUFFER.clear();
+            DATE_TIME_COMPILED.formatDateTime( DATE, ZONE_ID, BUFFER );
+            return BUFFER;
+        } );
+    }
+
+
+    // ---------------------------------------------------------------------------------------------------- \\
+    // ---| Allocation tests for the primitive epoch methods.
+    // ---------------------------------------------------------------------------------------------------- \\
+
+    @Test
+    @DisplayName( "CompiledPattern.getEpochMillisFromString( String:✓, ZoneId:✓ ):0 B/op" )
+    void givenCompiledPattern_whenGetEpochMillisFromStringIsCalled_thenAllocatesNothing(){
+        final long[] RESULT = new long[ 1 ];
+
+        assertAllocationBudget( 0, () -> {
+            RESULT[ 0 ] = DATE_TIME_COMPILED.getEpochMillisFromString( DATE_TIME_STR, ZONE_ID );
+            return RESULT;
+        } );
+    }
+
+    @Test
+    @DisplayName( "DateTimeUtil.getEpochMillisFromString( String:✓, String:✓, ZoneId:✓, Locale:✓ ):24 B/op" )
+    void givenPattern_whenGetEpochMillisFromStringIsCalled_thenAllocatesCacheKeyAtMost(){
+        final long[] RESULT = new long[ 1 ];
+
+        assertAllocationBudget( 24, () -> {
+            RESULT[ 0 ] = DateTimeUtil.getEpochMillisFromString( DATE_TIME_STR, DATE_TIME_PATTERN, ZONE_ID, LOCALE );
+            return RESULT;
+        } );
+    }
+
+    @Test
+    @DisplayName( "DateTimeUtil.getEpochDayFromString( String:✓, String:✓, ZoneId:✓, Locale:✓ ):24 B/op" )
+    void givenPattern_whenGetEpochDayFromStringIsCalled_thenAllocatesCacheKeyAtMost(){
+        final int[] RESULT = new int[ 1 ];
+
+        assertAllocationBudget( 24, () -> {
+            RESULT[ 0 ] = DateTimeUtil.getEpochDayFromString( DATE_STR, DATE_PATTERN, ZONE_ID, LOCALE );
+            return RESULT;
+        } );
+    }
+
+
+    // ---------------------------------------------------------------------------------------------------- \\
+    // ---| Allocation tests for the columnar methods, whose allocations do not grow with the number of rows.
+    // ---------------------------------------------------------------------------------------------------- \\
+
+    @Test
+    @DisplayName( "DateTimeUtil.getEpochMillisFromStrings( String[64]:✓, String:✓, ZoneId:✓, Locale:✓, long[]:✓ ):256 B/op" )
+    void givenNumericPattern_whenGetEpochMillisFromStringsIsCalled_thenAllocatesNothingPerRow(){
+        final String[] DATE_TIMES_IN = new String[ 64 ];
+        Arrays.fill( DATE_TIMES_IN, DATE_TIME_STR );
+        final long[] RESULTS_IN = new long[ DATE_TIMES_IN.length ];
+
+        assertAllocationBudget( 256, () -> DateTimeUtil.getEpochMillisFromStrings( DATE_TIMES_IN, DATE_TIME_PATTERN, ZONE_ID, LOCALE, RESULTS_IN ) );
+    }
+
+    @Test
+    @DisplayName( "DateTimeUtil.getEpochDaysFromStrings( String[64]:✓, String:✓, ZoneId:✓, Locale:✓, int[]:✓ ):256 B/op" )
+    void givenNumericPattern_whenGetEpochDaysFromStringsIsCalled_thenAllocatesNothingPerRow(){
+        final String[] DATES_IN = new String[ 64 ];
+        Arrays.fill( DATES_IN, DATE_STR );
+        final int[] RESULTS_IN = new int[ DATES_IN.length ];
+
+        assertAllocationBudget( 256, () -> DateTimeUtil.getEpochDaysFromStrings( DATES_IN, DATE_PATTERN, ZONE_ID, LOCALE, RESULTS_IN ) );
+    }
+
+
+    // ---------------------------------------------------------------------------------------------------- \\
+    // ---| Allocation tests for the "getXxxFromString" methods.
+    // ---------------------------------------------------------------------------------------------------- \\
+
+    @Test
+    @DisplayName( "DateTimeUtil.getLocalDateFromString( String:✓, String:✓, ZoneId:✓, Locale:✓ ):48 B/op" )
+    void givenNumericPattern_whenGetLocalDateFromStringIsCalled_thenAllocatesResultAtMost(){
+        assertAllocationBudget( 48, () -> DateTimeUtil.getLocalDateFromString( DATE_STR, DATE_PATTERN, ZONE_ID, LOCALE ) );
+    }
+
+    @Test
+    @DisplayName( "DateTimeUtil.getLocalDateFromString( String:✓, String:✓, ZoneId:✓, Locale:✓ ):[Metrics enabled]:48 B/op" )
+    void givenMetricsEnabled_whenGetLocalDateFromStringIsCalled_thenRecordingAllocatesNothing(){
+        DateTimeMetrics.reset();
+        DateTimeMetrics.setEnabled( true );
+        try{
+            assertAllocationBudget( 48, () -> DateTimeUtil.getLocalDateFromString( DATE_STR, DATE_PATTERN, ZONE_ID, LOCALE ) );
+        }
+        finally{
+            DateTimeMetrics.setEnabled( false );
+            DateTimeMetrics.reset();
+        }
+    }
+
+    @Test
+    @DisplayName( "DateTimeUtil.getLocalTimeFromString( String:✓, String:✓, ZoneId:✓, Locale:✓ ):48 B/op" )
+    void givenNumericPattern_whenGetLocalTimeFromStringIsCalled_thenAllocatesResultAtMost(){
+        assertAllocationBudget( 48, () -> DateTimeUtil.getLocalTimeFromString( TIME_STR, TIME_PATTERN, ZONE_ID, LOCALE ) );
+    }
+
+    @Test
+    @DisplayName( "DateTimeUtil.getLocalDateTimeFromString( String:✓, String:✓, ZoneId:✓, Locale:✓ ):96 B/op" )
+    void givenNumericPattern_whenGetLocalDateTimeFromStringIsCalled_thenAllocatesResultAtMost(){
+        assertAllocationBudget( 96, () -> DateTimeUtil.getLocalDateTimeFromString( DATE_TIME_STR, DATE_TIME_PATTERN, ZONE_ID, LOCALE ) );
+    }
+
+    @Test
+    @DisplayName( "DateTimeUtil.getDateTimeFromString( String:✓, String:✓, ZoneId:✓, Locale:✓ ):120 B/op" )
+    void givenNumericPattern_whenGetDateTimeFromStringIsCalled_thenAllocatesResultAtMost(){
+        assertAllocationBudget( 120, () -> DateTimeUtil.getDateTimeFromString( DATE_TIME_STR, DATE_TIME_PATTERN, ZONE_ID, LOCALE ) );
+    }
+
+
+    // ---------------------------------------------------------------------------------------------------- \\
+    // ---| Allocation tests for the conversions between "Date" and local date-times.
+    // ---------------------------------------------------------------------------------------------------- \\
+
+    @Test
+    @DisplayName( "DateTimeUtil.getDateFromLocalDateTime( LocalDateTime:✓, ZoneId:✓ ):24 B/op" )
+    void givenLocalDateTime_whenGetDateFromLocalDateTimeIsCalled_thenAllocatesResultAtMost(){
+        assertAllocationBudget( 24, () -> DateTimeUtil.getDateFromLocalDateTime( LOCAL_DATE_TIME, ZONE_ID ) );
+    }
+
+    @Test
+    @DisplayName( "DateTimeUtil.getDateFromLocalDate( LocalDate:✓, ZoneId:✓ ):24 B/op" )
+    void givenLocalDate_whenGetDateFromLocalDateIsCalled_thenAllocatesResultAtMost(){
+        assertAllocationBudget( 24, () -> DateTimeUtil.getDateFromLocalDate( LOCAL_DATE, ZONE_ID ) );
+    }
+
+    @Test
+    @DisplayName( "DateTimeUtil.getLocalDateFromDate( Date:✓, ZoneId:✓ ):24 B/op" )
+    void givenDate_whenGetLocalDateFromDateIsCalled_thenAllocatesResultAtMost(){
+        assertAllocationBudget( 24, () -> DateTimeUtil.getLocalDateFromDate( DATE, ZONE_ID ) );
+    }
+
+    @Test
+    @DisplayName( "DateTimeUtil.getLocalDateTimeFromDate( Date:✓, ZoneId:✓ ):72 B/op" )
+    void givenDate_whenGetLocalDateTimeFromDateIsCalled_thenAllocatesResultAtMost(){
+        assertAllocationBudget( 72, () -> DateTimeUtil.getLocalDateTimeFromDate( DATE, ZONE_ID ) );
+    }
+
+    @Test
+    @DisplayName( "DateTimeUtil.getLocalDateFromLocalDateTime( LocalDateTime:✓, ZoneId:✓ ):0 B/op" )
+    void givenLocalDateTime_whenGetLocalDateFromLocalDateTimeIsCalled_thenAllocatesNothing(){
+        assertAllocationBudget( 0, () -> DateTimeUtil.getLocalDateFromLocalDateTime( LOCAL_DATE_TIME, ZONE_ID ) );
+    }
+
+
+    // ---------------------------------------------------------------------------------------------------- \\
+    // ---| Allocation tests for the "formatXxx" methods returning "String" objects.
+    // ---------------------------------------------------------------------------------------------------- \\
+
+    @Test
+    @DisplayName( "DateTimeUtil.formatDateTime( LocalDateTime:✓, String:✓, ZoneId:✓, Locale:✓ ):128 B/op" )
+    void givenNumericPattern_whenFormatDateTimeIsCalled_thenAllocatesResultAtMost(){
+        assertAllocationBudget( stringBudget( 128, DATE_TIME_STR.length() ),
+                                () -> DateTimeUtil.formatDateTime( LOCAL_DATE_TIME, DATE_TIME_PATTERN, ZONE_ID, LOCALE ) );
+    }
+
+    @Test
+    @DisplayName( "DateTimeUtil.formatDateTime( Date:✓, String:✓, ZoneId:✓, Locale:✓ ):128 B/op" )
+    void givenDateAndNumericPattern_whenFormatDateTimeIsCalled_thenAllocatesResultAtMost(){
+        assertAllocationBudget( stringBudget( 128, DATE_TIME_STR.length() ), () -> DateTimeUtil.formatDateTime( DATE, DATE_TIME_PATTERN, ZONE_ID, LOCALE ) );
+    }
+
+    @Test
+    @DisplayName( "DateTimeUtil.formatEpochMillis( long:✓, String:✓, ZoneId:✓, Locale:✓ ):128 B/op" )
+    void givenNumericPattern_whenFormatEpochMillisIsCalled_thenAllocatesResultAtMost(){
+        final long EPOCH_MILLI_IN = DATE.getTime();
+
+        assertAllocationBudget( stringBudget( 128, DATE_TIME_STR.length() ),
+                                () -> DateTimeUtil.formatEpochMillis( EPOCH_MILLI_IN, DATE_TIME_PATTERN, ZONE_ID, LOCALE ) );
+    }
+
+    @Test
+    @DisplayName( "DateTimeUtil.formatDate( LocalDate:✓, String:[Text], ZoneId:✓, Locale:✓ ):512 B/op" )
+    void givenTextPattern_whenFormatDateIsCalled_thenAllocatesDateTimeFormatterBuffersAtMost(){
+        assertAllocationBudget( 512, () -> DateTimeUtil.formatDate( LOCAL_DATE, TEXT_DATE_PATTERN, ZONE_ID, LOCALE ) );
+    }
+
+}
@@ -1,24 +1,84 @@
 package com.indenaiten.code.test;
 
+import com.indenaiten.code.util.BulkConversionException;
+import com.indenaiten.code.util.CompiledPattern;
+import com.indenaiten.code.util.DateColumnTransformException;
+import com.indenaiten.code.util.DateColumnTransformer;
+import com.indenaiten.code.util.DateTimeAsync;
+import com.indenaiten.code.util.DateTimeMetrics;
+import com.indenaiten.code.util.DateTimeMetricsListener;
+import com.indenaiten.code.util.DateTimeMetricsSnapshot;
+import com.indenaiten.code.util.DateTimeStreams;
 import com.indenaiten.code.util.DateTimeUtil;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.EmptySource;
 import org.junit.jupiter.params.provider.NullSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import javax.management.Attribute;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.CompositeData;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.UnsupportedTemporalTypeException;
+import java.time.zone.ZoneOffsetTransition;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Locale;
+import java.util.Optional;
+import java.util.Random;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 
 /**
@@ -3472,4 +3532,2071 @@ class DateTimeUtilTest{
         assertThrows( NullPointerException.class, () -> DateTimeUtil.formatTime( TIME_IN, PATTERN_IN, FORMATTER_IN, ZONE_ID_IN, LOCALE_IN ) );
     }
 
+
+    // ---------------------------------------------------------------------------------------------------- \\
+    // ---| Tests for the pattern cache.
+    // ---------------------------------------------------------------------------------------------------- \\
+
+    @Test
+    @DisplayName( "DateTimeUtil.getLocalDateFromString( String:[date:✓], String:[datePattern:✓] ):Pattern cache hit" )
+    void givenSamePatternTwice_whenGetLocalDateFromStringIsCalled_thenPatternCacheCountsOneMissAndOneHit(){
+        final String DATE_IN = DEFAULT_DATE_STR;
+        final String PATTERN_IN = DEFAULT_DATE_FORMATTER_STR;
+        DateTimeUtil.clearPatternCache();
+
+        LocalDate first = DateTimeUtil.getLocalDateFromString( DATE_IN, PATTERN_IN );
+        LocalDate second = DateTimeUtil.getLocalDateFromString( DATE_IN, PATTERN_IN );
+
+        assertEquals( first, second, String.format( MSG_TEMPLATE_RESULT_EXPECTED, second, first ) );
+        assertEquals( 1L, DateTimeUtil.getPatternCacheMissCount() );
+        assertEquals( 1L, DateTimeUtil.getPatternCacheHitCount() );
+        assertEquals( 1, DateTimeUtil.getPatternCacheSize() );
+    }
+
+    @Test
+    @DisplayName( "DateTimeUtil.formatDate( LocalDate:✓, String:✓, Locale:✓ ):Pattern cache keyed by Locale" )
+    void givenSamePatternWithDifferentLocales_whenFormatDateIsCalled_thenPatternCacheKeepsOneEntryPerLocale(){
+        final LocalDate DATE_IN = LocalDate.parse( DEFAULT_DATE_STR, DEFAULT_DATE_FORMATTER );
+        final String FORMATTER_IN = "dd MMMM yyyy";
+        DateTimeUtil.clearPatternCache();
+
+        String spanish = DateTimeUtil.formatDate( DATE_IN, FORMATTER_IN, new Locale( "es", "ES" ) );
+        String english = DateTimeUtil.formatDate( DATE_IN, FORMATTER_IN, Locale.ENGLISH );
+
+        assertEquals( "25 junio 2021", spanish, String.format( MSG_TEMPLATE_RESULT_EXPECTED, spanish, "25 junio 2021" ) );
+        assertEquals( "25 June 2021", english, String.format( MSG_TEMPLATE_RESULT_EXPECTED, english, "25 June 2021" ) );
+        assertEquals( 2L, DateTimeUtil.getPatternCacheMissCount() );
+        assertEquals( 2, DateTimeUtil.getPatternCacheSize() );
+    }
+
+    @Test
+    @DisplayName( "DateTimeUtil.setPatternCacheMaximumSize( int:✓ ):Pattern cache bounded" )
+    void givenMorePatternsThanMaximumSize_whenFormatDateIsCalled_thenPatternCacheStaysBounded(){
+        final int MAXIMUM_SIZE_IN = 4;
+        final int PREVIOUS_MAXIMUM_SIZE = DateTimeUtil.getPatternCacheMaximumSize();
+        final LocalDate DATE_IN = LocalDate.parse( DEFAULT_DATE_STR, DEFAULT_DATE_FORMATTER );
+        DateTimeUtil.clearPatternCache();
+
+        try{
+            DateTimeUtil.setPatternCacheMaximumSize( MAXIMUM_SIZE_IN );
+            for( int i = 0; i < 20; i++ ){
+                DateTimeUtil.formatDate( DATE_IN, "'" + i + "' dd/MM/yyyy" );
+            }
+
+            assertEquals( MAXIMUM_SIZE_IN, DateTimeUtil.getPatternCacheMaximumSize() );
+            assertTrue( DateTimeUtil.getPatternCacheSize() <= MAXIMUM_SIZE_IN );
+            assertEquals( 20L - DateTimeUtil.getPatternCacheSize(), DateTimeUtil.getPatternCacheEvictionCount() );
+        }
+        finally{
+            DateTimeUtil.setPatternCacheMaximumSize( PREVIOUS_MAXIMUM_SIZE );
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource( ints = { 0, -1 } )
+    @DisplayName( "DateTimeUtil.setPatternCacheMaximumSize( int:✗ ):IllegalArgumentException" )
+    void givenIncorrectMaximumSize_whenSetPatternCacheMaximumSizeIsCalled_thenThrowsIllegalArgumentException( final int MAXIMUM_SIZE_IN ){
+        assertThrows( IllegalArgumentException.class, () -> DateTimeUtil.setPatternCacheMaximumSize( MAXIMUM_SIZE_IN ) );
+    }
+
+
+    // ---------------------------------------------------------------------------------------------------- \\
+    // ---| Tests for "compile" method.
+    // ---------------------------------------------------------------------------------------------------- \\
+
+    @Test
+    @DisplayName( "DateTimeUtil.compile( String:✓, Locale:✓ ):CompiledPattern:✓" )
+    void givenCorrectStringPatternAndCorrectLocaleParameters_whenCompileIsCalled_thenReturnSameCompiledPattern(){
+        final String PATTERN_IN = DEFAULT_DATE_FORMATTER_STR;
+        final Locale LOCALE_IN = DEFAULT_LOCALE;
+
+        CompiledPattern result = DateTimeUtil.compile( PATTERN_IN, LOCALE_IN );
+
+        assertNotEquals( null, result, MSG_IS_NULL );
+        assertEquals( PATTERN_IN, result.getPattern() );
+        assertEquals( LOCALE_IN, result.getLocale() );
+        assertSame( result, DateTimeUtil.compile( PATTERN_IN, LOCALE_IN ) );
+    }
+
+    @Test
+    @DisplayName( "CompiledPattern.getXxxFromString( String:✓, ZoneId:✓ ):✓" )
+    void givenCompiledPattern_whenGetXxxFromStringIsCalled_thenReturnSameResultsAsDateTimeUtil(){
+        final ZoneId ZONE_ID_IN = ZoneId.of( "Europe/Paris" );
+        final CompiledPattern DATE_PATTERN = DateTimeUtil.compile( DEFAULT_DATE_FORMATTER_STR );
+        final CompiledPattern DATE_TIME_PATTERN = DateTimeUtil.compile( DEFAULT_DATE_TIME_FORMATTER_STR );
+        final CompiledPattern TIME_PATTERN = DateTimeUtil.compile( DEFAULT_TIME_FORMATTER_STR );
+
+        assertEquals( DateTimeUtil.getLocalDateFromString( DEFAULT_DATE_STR, ZONE_ID_IN ), DATE_PATTERN.getLocalDateFromString( DEFAULT_DATE_STR, ZONE_ID_IN ) );
+        assertEquals( DateTimeUtil.getDateFromString( DEFAULT_DATE_STR, ZONE_ID_IN ), DATE_PATTERN.getDateFromString( DEFAULT_DATE_STR, ZONE_ID_IN ) );
+        assertEquals( DateTimeUtil.getLocalDateTimeFromString( DEFAULT_DATE_TIME_STR, ZONE_ID_IN ),
+                      DATE_TIME_PATTERN.getLocalDateTimeFromString( DEFAULT_DATE_TIME_STR, ZONE_ID_IN ) );
+        assertEquals( DateTimeUtil.getDateTimeFromString( DEFAULT_DATE_TIME_STR, ZONE_ID_IN ),
+                      DATE_TIME_PATTERN.getDateTimeFromString( DEFAULT_DATE_TIME_STR, ZONE_ID_IN ) );
+        assertEquals( DateTimeUtil.getLocalTimeFromString( DEFAULT_TIME_STR, ZONE_ID_IN ), TIME_PATTERN.getLocalTimeFromString( DEFAULT_TIME_STR, ZONE_ID_IN ) );
+    }
+
+    @Test
+    @DisplayName( "CompiledPattern.formatXxx( Xxx:✓, ZoneId:✓ ):String:✓" )
+    void givenCompiledPattern_whenFormatXxxIsCalled_thenReturnSameResultsAsDateTimeUtil(){
+        final ZoneId ZONE_ID_IN = ZoneId.of( "Europe/Paris" );
+        final CompiledPattern DATE_PATTERN = DateTimeUtil.compile( DEFAULT_DATE_FORMATTER_STR );
+        final CompiledPattern DATE_TIME_PATTERN = DateTimeUtil.compile( DEFAULT_DATE_TIME_FORMATTER_STR );
+        final CompiledPattern TIME_PATTERN = DateTimeUtil.compile( DEFAULT_TIME_FORMATTER_STR );
+
+        assertEquals( DateTimeUtil.formatDate( DEFAULT_LOCAL_DATE, ZONE_ID_IN ), DATE_PATTERN.formatDate( DEFAULT_LOCAL_DATE, ZONE_ID_IN ) );
+        assertEquals( DateTimeUtil.formatDate( DEFAULT_DATE, ZONE_ID_IN ), DATE_PATTERN.formatDate( DEFAULT_DATE, ZONE_ID_IN ) );
+        assertEquals( DateTimeUtil.formatDateTime( DEFAULT_LOCAL_DATE_TIME, ZONE_ID_IN ), DATE_TIME_PATTERN.formatDateTime( DEFAULT_LOCAL_DATE_TIME, ZONE_ID_IN ) );
+        assertEquals( DateTimeUtil.formatDateTime( DEFAULT_DATE, ZONE_ID_IN ), DATE_TIME_PATTERN.formatDateTime( DEFAULT_DATE, ZONE_ID_IN ) );
+        assertEquals( DateTimeUtil.formatTime( DEFAULT_LOCAL_TIME, ZONE_ID_IN ), TIME_PATTERN.formatTime( DEFAULT_LOCAL_TIME, ZONE_ID_IN ) );
+    }
+
+    @ParameterizedTest
+    @ValueSource( strings = { "tt/MM/yyyy", "dd/tt/yyyy", "dd/MM/tttt" } )
+    @DisplayName( "DateTimeUtil.compile( String:✗ ):IllegalArgumentException" )
+    void givenIncorrectStringPatternParameter_whenCompileIsCalled_thenThrowsIllegalArgumentException( final String PATTERN_IN ){
+        assertThrows( IllegalArgumentException.class, () -> DateTimeUtil.compile( PATTERN_IN ) );
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @DisplayName( "DateTimeUtil.compile( String:✗, Locale:✓ ):NullPointerException" )
+    void givenStringPatternAsNullParameter_whenCompileIsCalled_thenThrowsNullPointerException( final String PATTERN_IN ){
+        assertThrows( NullPointerException.class, () -> DateTimeUtil.compile( PATTERN_IN, DEFAULT_LOCALE ) );
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @DisplayName( "DateTimeUtil.compile( String:✓, Locale:✗ ):NullPointerException" )
+    void givenLocaleAsNullParameter_whenCompileIsCalled_thenThrowsNullPointerException( final Locale LOCALE_IN ){
+        assertThrows( NullPointerException.class, () -> DateTimeUtil.compile( DEFAULT_DATE_FORMATTER_STR, LOCALE_IN ) );
+    }
+
+
+    // ---------------------------------------------------------------------------------------------------- \\
+    // ---| Tests for the parsers of the default patterns.
+    // ---------------------------------------------------------------------------------------------------- \\
+
+    @ParameterizedTest
+    @ValueSource( strings = { "25/06/2021", "01/01/0001", "31/12/9999", "29/02/2024", "29/02/2023", "31/04/2021", "32/01/2021",
+                              "00/06/2021", "25/13/2021", "25/06/0000", "25/06/12345", "25/06/+12345", "25-06-2021", "2a/06/2021",
+                              "25/06/2021 ", "5/06/2021", "" } )
+    @DisplayName( "DateTimeUtil.getLocalDateFromString( String ):Same result as DateTimeFormatter" )
+    void givenStringDate_whenGetLocalDateFromStringIsCalled_thenReturnSameResultAsDateTimeFormatter( final String DATE_IN ){
+        assertSameOutcome( () -> LocalDate.parse( DATE_IN, DEFAULT_DATE_FORMATTER ), () -> DateTimeUtil.getLocalDateFromString( DATE_IN ) );
+    }
+
+    @ParameterizedTest
+    @ValueSource( strings = { "17:36:27", "00:00:00", "23:59:59", "24:00:00", "24:00:01", "23:60:00", "23:59:60", "17-36-27", "7:36:27",
+                              "17:36:27 ", "" } )
+    @DisplayName( "DateTimeUtil.getLocalTimeFromString( String ):Same result as DateTimeFormatter" )
+    void givenStringTime_whenGetLocalTimeFromStringIsCalled_thenReturnSameResultAsDateTimeFormatter( final String TIME_IN ){
+        assertSameOutcome( () -> LocalTime.parse( TIME_IN, DEFAULT_TIME_FORMATTER ), () -> DateTimeUtil.getLocalTimeFromString( TIME_IN ) );
+    }
+
+    @ParameterizedTest
+    @ValueSource( strings = { "25/06/2021 17:36", "31/12/2021 23:59", "31/12/2021 24:00", "30/02/2021 10:00", "25/06/2021 17:60",
+                              "25/06/2021T17:36", "25/06/2021 17:3x", "25/06/20211 17:36", "" } )
+    @DisplayName( "DateTimeUtil.getLocalDateTimeFromString( String ):Same result as DateTimeFormatter" )
+    void givenStringDateTime_whenGetLocalDateTimeFromStringIsCalled_thenReturnSameResultAsDateTimeFormatter( final String DATE_TIME_IN ){
+        final ZoneId ZONE_ID_IN = ZoneId.of( "UTC" );
+        assertSameOutcome( () -> LocalDateTime.parse( DATE_TIME_IN, DEFAULT_DATE_TIME_FORMATTER ),
+                           () -> DateTimeUtil.getLocalDateTimeFromString( DATE_TIME_IN, ZONE_ID_IN ) );
+        assertSameOutcome( () -> LocalDate.parse( DATE_TIME_IN, DEFAULT_DATE_TIME_FORMATTER ),
+                           () -> DateTimeUtil.getLocalDateFromString( DATE_TIME_IN, DEFAULT_DATE_TIME_FORMATTER_STR ) );
+        assertSameOutcome( () -> LocalTime.parse( DATE_TIME_IN, DEFAULT_DATE_TIME_FORMATTER ),
+                           () -> DateTimeUtil.getLocalTimeFromString( DATE_TIME_IN, DEFAULT_DATE_TIME_FORMATTER_STR ) );
+    }
+
+    /**
+     * <p>Checks that both suppliers return the same value or throw the same type of exception.</p>
+     */
+    private static void assertSameOutcome( final Supplier<Object> EXPECTED_SUPPLIER, final Supplier<Object> RESULT_SUPPLIER ){
+        Object expected;
+        try{
+            expected = EXPECTED_SUPPLIER.get();
+        }
+        catch( RuntimeException e ){
+            expected = e.getClass();
+        }
+        Object result;
+        try{
+            result = RESULT_SUPPLIER.get();
+        }
+        catch( RuntimeException e ){
+            result = e.getClass();
+        }
+        assertEquals( expected, result, String.format( MSG_TEMPLATE_RESULT_EXPECTED, result, expected ) );
+    }
+
+
+    // ---------------------------------------------------------------------------------------------------- \\
+    // ---| Tests for the fixed-width numeric patterns.
+    // ---------------------------------------------------------------------------------------------------- \\
+
+    @ParameterizedTest
+    @ValueSource( strings = { "yyyyMMdd", "yyyy-MM-dd'T'HH:mm:ss", "dd.MM.yy HH:mm", "uuuuMMddHHmmssSSS", "yyyyMMddHH", "HHmmss.SSSSSS",
+                              "yy/MM/dd HH:mm:ss.S", "'D'dd'M'MM'Y'yyyy", "ddMMyyyy", "MMyyyy dd", "yyyyMM'1'dd", "yyyy-MM-dd HH:ss",
+                              "HH:mm", "yyyy-MM-dd'T'HH:mm:ss.SSSSSSSSS", "dd MMM yyyy", "[yyyy-MM-dd]" } )
+    @DisplayName( "DateTimeUtil.getXxxFromString( String, String ):Same result as DateTimeFormatter" )
+    void givenNumericPattern_whenGetXxxFromStringIsCalled_thenReturnSameResultAsDateTimeFormatter( final String PATTERN_IN ){
+        final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern( PATTERN_IN );
+        final ZoneId ZONE_ID_IN = ZoneId.of( "UTC" );
+        final Random RANDOM = new Random( PATTERN_IN.hashCode() );
+
+        for( int i = 0; i < 500; i++ ){
+            final LocalDateTime VALUE = LocalDateTime.of( 1 + RANDOM.nextInt( 9999 ), 1 + RANDOM.nextInt( 12 ), 1 + RANDOM.nextInt( 28 ),
+                                                          RANDOM.nextInt( 24 ), RANDOM.nextInt( 60 ), RANDOM.nextInt( 60 ),
+                                                          RANDOM.nextInt( 1000000000 ) );
+            final String TEXT = mutate( VALUE.format( FORMATTER ), RANDOM );
+
+            assertSameOutcome( () -> LocalDateTime.parse( TEXT, FORMATTER ), () -> DateTimeUtil.getLocalDateTimeFromString( TEXT, PATTERN_IN, ZONE_ID_IN ) );
+            assertSameOutcome( () -> LocalDate.parse( TEXT, FORMATTER ), () -> DateTimeUtil.getLocalDateFromString( TEXT, PATTERN_IN, ZONE_ID_IN ) );
+            assertSameOutcome( () -> LocalTime.parse( TEXT, FORMATTER ), () -> DateTimeUtil.getLocalTimeFromString( TEXT, PATTERN_IN, ZONE_ID_IN ) );
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource( strings = { "yyyyMMdd", "yyyy-MM-dd'T'HH:mm:ss", "dd.MM.yy HH:mm", "uuuuMMddHHmmssSSS", "yyyyMMddHH", "HHmmss.SSSSSS",
+                              "yy/MM/dd HH:mm:ss.S", "'D'dd'M'MM'Y'yyyy", "HH:mm", "''yyyy''", "dd MMM yyyy" } )
+    @DisplayName( "DateTimeUtil.formatXxx( Xxx, String ):Same result as DateTimeFormatter" )
+    void givenNumericPattern_whenFormatXxxIsCalled_thenReturnSameResultAsDateTimeFormatter( final String PATTERN_IN ){
+        final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern( PATTERN_IN );
+        final ZoneId ZONE_ID_IN = ZoneId.of( "UTC" );
+        final Random RANDOM = new Random( PATTERN_IN.hashCode() );
+
+        for( int i = 0; i < 500; i++ ){
+            final LocalDateTime VALUE = LocalDateTime.of( -20000 + RANDOM.nextInt( 40000 ), 1 + RANDOM.nextInt( 12 ), 1 + RANDOM.nextInt( 28 ),
+                                                          RANDOM.nextInt( 24 ), RANDOM.nextInt( 60 ), RANDOM.nextInt( 60 ),
+                                                          RANDOM.nextInt( 1000000000 ) );
+
+            assertSameOutcome( () -> VALUE.format( FORMATTER ), () -> DateTimeUtil.formatDateTime( VALUE, PATTERN_IN, ZONE_ID_IN ) );
+            assertSameOutcome( () -> VALUE.toLocalDate().atStartOfDay().format( FORMATTER ),
+                               () -> DateTimeUtil.formatDate( VALUE.toLocalDate(), PATTERN_IN, ZONE_ID_IN ) );
+            assertSameOutcome( () -> VALUE.toLocalTime().format( FORMATTER ), () -> DateTimeUtil.formatTime( VALUE.toLocalTime(), PATTERN_IN, ZONE_ID_IN ) );
+        }
+    }
+
+    /**
+     * <p>Changes, at random, one character of "textIn" or its length, or leaves it as it is.</p>
+     */
+    private static String mutate( final String TEXT_IN, final Random RANDOM_IN ){
+        final String CHARACTERS = "0123456789/:-. T+";
+        switch( RANDOM_IN.nextInt( 4 ) ){
+            case 0:
+                final int POSITION = RANDOM_IN.nextInt( TEXT_IN.length() );
+                return TEXT_IN.substring( 0, POSITION ) + CHARACTERS.charAt( RANDOM_IN.nextInt( CHARACTERS.length() ) )
+                       + TEXT_IN.substring( POSITION + 1 );
+            case 1:
+                return TEXT_IN + CHARACTERS.charAt( RANDOM_IN.nextInt( 10 ) );
+            default:
+                return TEXT_IN;
+        }
+    }
+
+
+    // ---------------------------------------------------------------------------------------------------- \\
+    // ---| Tests for the "formatXxx" methods with "Appendable".
+    // ---------------------------------------------------------------------------------------------------- \\
+
+    @ParameterizedTest
+    @ValueSource( strings = { "dd/MM/yyyy HH:mm", "yyyy-MM-dd'T'HH:mm:ss.SSS", "dd MMMM yyyy HH:mm" } )
+    @DisplayName( "DateTimeUtil.formatXxx( Xxx:✓, String:✓, ZoneId:✓, Locale:✓, Appendable:✓ ):Same text as formatXxx" )
+    void givenStringBuilder_whenFormatXxxIsCalled_thenAppendSameTextAsFormatXxx( final String FORMATTER_IN ){
+        final ZoneId ZONE_ID_IN = ZoneId.of( "Europe/Paris" );
+        final Locale LOCALE_IN = new Locale( "es", "ES" );
+        final StringBuilder BUILDER = new StringBuilder( "> " );
+        final String EXPECTED = "> " + DateTimeUtil.formatDateTime( DEFAULT_LOCAL_DATE_TIME, FORMATTER_IN, ZONE_ID_IN, LOCALE_IN )
+                                + DateTimeUtil.formatDateTime( DEFAULT_DATE, FORMATTER_IN, ZONE_ID_IN, LOCALE_IN )
+                                + DateTimeUtil.formatDate( DEFAULT_LOCAL_DATE, FORMATTER_IN, ZONE_ID_IN, LOCALE_IN )
+                                + DateTimeUtil.formatDate( DEFAULT_DATE, FORMATTER_IN, ZONE_ID_IN, LOCALE_IN );
+
+        DateTimeUtil.formatDateTime( DEFAULT_LOCAL_DATE_TIME, FORMATTER_IN, ZONE_ID_IN, LOCALE_IN, BUILDER );
+        DateTimeUtil.formatDateTime( DEFAULT_DATE, FORMATTER_IN, ZONE_ID_IN, LOCALE_IN, BUILDER );
+        DateTimeUtil.formatDate( DEFAULT_LOCAL_DATE, FORMATTER_IN, ZONE_ID_IN, LOCALE_IN, BUILDER );
+        DateTimeUtil.formatDate( DEFAULT_DATE, FORMATTER_IN, ZONE_ID_IN, LOCALE_IN, BUILDER );
+
+        assertEquals( EXPECTED, BUILDER.toString(), String.format( MSG_TEMPLATE_RESULT_EXPECTED, BUILDER, EXPECTED ) );
+    }
+
+    @Test
+    @DisplayName( "DateTimeUtil.formatTime( LocalTime:✓, Appendable:✓ ):Same text as formatTime" )
+    void givenStringWriter_whenFormatTimeIsCalled_thenAppendSameTextAsFormatTime(){
+        final StringWriter WRITER = new StringWriter();
+        final String EXPECTED = DateTimeUtil.formatTime( DEFAULT_LOCAL_TIME );
+
+        DateTimeUtil.formatTime( DEFAULT_LOCAL_TIME, WRITER );
+
+        assertEquals( EXPECTED, WRITER.toString(), String.format( MSG_TEMPLATE_RESULT_EXPECTED, WRITER, EXPECTED ) );
+    }
+
+    @Test
+    @DisplayName( "DateTimeUtil.formatDateTime( LocalDateTime:✓, Appendable:[IOException] ):DateTimeException" )
+    void givenFailingAppendable_whenFormatDateTimeIsCalled_thenThrowsDateTimeException(){
+        final Appendable APPENDABLE_IN = new Writer(){
+            @Override
+            public void write( char[] cbuf, int off, int len ) throws IOException{
+                throw new IOException( "Closed" );
+            }
+
+            @Override
+            public void flush(){
+            }
+
+            @Override
+            public void close(){
+            }
+        };
+
+        assertThrows( DateTimeException.class, () -> DateTimeUtil.formatDateTime( DEFAULT_LOCAL_DATE_TIME, APPENDABLE_IN ) );
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @DisplayName( "DateTimeUtil.formatDate( LocalDate:✓, Appendable:✗ ):NullPointerException" )
+    void givenAppendableAsNull_whenFormatDateIsCalled_thenThrowsNullPointerException( final Appendable APPENDABLE_IN ){
+        assertThrows( NullPointerException.class, () -> DateTimeUtil.formatDate( DEFAULT_LOCAL_DATE, APPENDABLE_IN ) );
+    }
+
+
+    // ---------------------------------------------------------------------------------------------------- \\
+    // ---| Tests for the "formatXxx" methods with "byte[]" and "ByteBuffer".
+    // ---------------------------------------------------------------------------------------------------- \\
+
+    @ParameterizedTest
+    @ValueSource( strings = { "dd/MM/yyyy HH:mm", "yyyy-MM-dd'T'HH:mm:ss.SSS", "dd MMMM yyyy HH:mm" } )
+    @DisplayName( "DateTimeUtil.formatXxx( Xxx:✓, String:✓, ZoneId:✓, Locale:✓, byte[]:✓, int:✓ ):Same bytes as formatXxx" )
+    void givenByteArray_whenFormatXxxIsCalled_thenWriteSameBytesAsFormatXxx( final String FORMATTER_IN ){
+        final ZoneId ZONE_ID_IN = ZoneId.of( "Europe/Paris" );
+        final Locale LOCALE_IN = new Locale( "es", "ES" );
+        final String EXPECTED = ">" + DateTimeUtil.formatDateTime( DEFAULT_LOCAL_DATE_TIME, FORMATTER_IN, ZONE_ID_IN, LOCALE_IN )
+                                + DateTimeUtil.formatDate( DEFAULT_DATE, FORMATTER_IN, ZONE_ID_IN, LOCALE_IN )
+                                + DateTimeUtil.formatDate( DEFAULT_LOCAL_DATE, FORMATTER_IN, ZONE_ID_IN, LOCALE_IN );
+        final byte[] BYTES = new byte[ EXPECTED.length() ];
+        BYTES[ 0 ] = '>';
+
+        int offset = 1;
+        offset += DateTimeUtil.formatDateTime( DEFAULT_LOCAL_DATE_TIME, FORMATTER_IN, ZONE_ID_IN, LOCALE_IN, BYTES, offset );
+        offset += DateTimeUtil.formatDate( DEFAULT_DATE, FORMATTER_IN, ZONE_ID_IN, LOCALE_IN, BYTES, offset );
+        offset += DateTimeUtil.formatDate( DEFAULT_LOCAL_DATE, FORMATTER_IN, ZONE_ID_IN, LOCALE_IN, BYTES, offset );
+        final String RESULT = new String( BYTES, StandardCharsets.US_ASCII );
+
+        assertEquals( BYTES.length, offset, String.format( MSG_TEMPLATE_RESULT_EXPECTED, offset, BYTES.length ) );
+        assertEquals( EXPECTED, RESULT, String.format( MSG_TEMPLATE_RESULT_EXPECTED, RESULT, EXPECTED ) );
+    }
+
+    @ParameterizedTest
+    @ValueSource( booleans = { false, true } )
+    @DisplayName( "DateTimeUtil.formatXxx( Xxx:✓, String:✓, ZoneId:✓, Locale:✓, ByteBuffer:✓ ):Same bytes as formatXxx" )
+    void givenByteBuffer_whenFormatXxxIsCalled_thenPutSameBytesAsFormatXxx( final boolean DIRECT_IN ){
+        final String EXPECTED = DateTimeUtil.formatDateTime( DEFAULT_DATE ) + DateTimeUtil.formatTime( DEFAULT_LOCAL_TIME )
+                                + DateTimeUtil.formatDate( DEFAULT_LOCAL_DATE, "dd MMM yyyy", DEFAULT_ZONE_ID, Locale.ENGLISH );
+        final ByteBuffer BUFFER = DIRECT_IN ? ByteBuffer.allocateDirect( 64 ) : ByteBuffer.allocate( 64 );
+
+        int length = DateTimeUtil.formatDateTime( DEFAULT_DATE, DEFAULT_DATE_TIME_FORMATTER_STR, DEFAULT_ZONE_ID, DEFAULT_LOCALE, BUFFER );
+        length += DateTimeUtil.formatTime( DEFAULT_LOCAL_TIME, DEFAULT_TIME_FORMATTER_STR, DEFAULT_ZONE_ID, DEFAULT_LOCALE, BUFFER );
+        length += DateTimeUtil.formatDate( DEFAULT_LOCAL_DATE, "dd MMM yyyy", DEFAULT_ZONE_ID, Locale.ENGLISH, BUFFER );
+        BUFFER.flip();
+        final byte[] BYTES = new byte[ BUFFER.remaining() ];
+        BUFFER.get( BYTES );
+        final String RESULT = new String( BYTES, StandardCharsets.US_ASCII );
+
+        assertEquals( EXPECTED.length(), length, String.format( MSG_TEMPLATE_RESULT_EXPECTED, length, EXPECTED.length() ) );
+        assertEquals( EXPECTED, RESULT, String.format( MSG_TEMPLATE_RESULT_EXPECTED, RESULT, EXPECTED ) );
+    }
+
+    @ParameterizedTest
+    @ValueSource( strings = { "dd/MM/yyyy", "dd MMM yyyy" } )
+    @DisplayName( "DateTimeUtil.formatDate( LocalDate:✓, String:✓, ZoneId:✓, Locale:✓, byte[]:[Small], int:✓ ):IndexOutOfBoundsException" )
+    void givenSmallByteArray_whenFormatDateIsCalled_thenThrowsIndexOutOfBoundsExceptionWithoutWriting( final String FORMATTER_IN ){
+        final byte[] BYTES = new byte[ 10 ];
+
+        assertThrows( IndexOutOfBoundsException.class,
+                      () -> DateTimeUtil.formatDate( DEFAULT_LOCAL_DATE, FORMATTER_IN, DEFAULT_ZONE_ID, Locale.ENGLISH, BYTES, 1 ) );
+        assertArrayEquals( new byte[ 10 ], BYTES );
+    }
+
+    @ParameterizedTest
+    @ValueSource( booleans = { false, true } )
+    @DisplayName( "DateTimeUtil.formatDate( LocalDate:✓, String:✓, ZoneId:✓, Locale:✓, ByteBuffer:[Small] ):BufferOverflowException" )
+    void givenSmallByteBuffer_whenFormatDateIsCalled_thenThrowsBufferOverflowExceptionWithoutWriting( final boolean DIRECT_IN ){
+        final ByteBuffer BUFFER = DIRECT_IN ? ByteBuffer.allocateDirect( 9 ) : ByteBuffer.allocate( 9 );
+
+        assertThrows( BufferOverflowException.class,
+                      () -> DateTimeUtil.formatDate( DEFAULT_LOCAL_DATE, DEFAULT_DATE_FORMATTER_STR, DEFAULT_ZONE_ID, DEFAULT_LOCALE, BUFFER ) );
+        assertEquals( 0, BUFFER.position(), String.format( MSG_TEMPLATE_RESULT_EXPECTED, BUFFER.position(), 0 ) );
+    }
+
+    @Test
+    @DisplayName( "DateTimeUtil.formatDate( LocalDate:✓, String:✓, ZoneId:✓, Locale:[Not ASCII], byte[]:✓, int:✓ ):DateTimeException" )
+    void givenNotAsciiResult_whenFormatDateIsCalled_thenThrowsDateTimeException(){
+        final LocalDate DATE_IN = LocalDate.of( 2021, 2, 1 );
+        final byte[] BYTES = new byte[ 32 ];
+
+        assertThrows( DateTimeException.class,
+                      () -> DateTimeUtil.formatDate( DATE_IN, "dd MMMM yyyy", DEFAULT_ZONE_ID, Locale.FRANCE, BYTES, 0 ) );
+    }
+
+
+    // ---------------------------------------------------------------------------------------------------- \\
+    // ---| Tests for "getLocalDateTimeFromTimeString" method.
+    // ---------------------------------------------------------------------------------------------------- \\
+
+    @Test
+    @DisplayName( "DateTimeUtil.getLocalDateTimeFromTimeString( String:✓ ):Time today" )
+    void givenTimeString_whenGetLocalDateTimeFromTimeStringIsCalled_thenReturnsTimeToday(){
+        final LocalDateTime EXPECTED = LocalTime.parse( DEFAULT_TIME_STR, DEFAULT_TIME_FORMATTER ).atDate( LocalDate.now( DEFAULT_ZONE_ID ) );
+
+        final LocalDateTime RESULT = DateTimeUtil.getLocalDateTimeFromTimeString( DEFAULT_TIME_STR );
+
+        assertEquals( EXPECTED, RESULT, String.format( MSG_TEMPLATE_RESULT_EXPECTED, RESULT, EXPECTED ) );
+    }
+
+    @ParameterizedTest
+    @ValueSource( strings = { "2021-06-25T23:59:59.999Z", "2021-12-31T23:00:00Z", "2024-02-29T12:00:00Z" } )
+    @DisplayName( "DateTimeUtil.getLocalDateTimeFromTimeString( String:✓, String:✓, Clock:✓, Locale:✓ ):Time on the date of the clock" )
+    void givenClock_whenGetLocalDateTimeFromTimeStringIsCalled_thenReturnsTimeOnDateOfClock( final String INSTANT_IN ){
+        final Clock CLOCK_IN = Clock.fixed( Instant.parse( INSTANT_IN ), ZoneId.of( "Europe/Madrid" ) );
+        final LocalDateTime EXPECTED = LocalDate.now( CLOCK_IN ).atTime( 17, 36, 27 );
+
+        final LocalDateTime RESULT = DateTimeUtil.getLocalDateTimeFromTimeString( DEFAULT_TIME_STR, DEFAULT_TIME_FORMATTER_STR, CLOCK_IN, DEFAULT_LOCALE );
+
+        assertEquals( EXPECTED, RESULT, String.format( MSG_TEMPLATE_RESULT_EXPECTED, RESULT, EXPECTED ) );
+    }
+
+    @Test
+    @DisplayName( "DateTimeUtil.getLocalDateTimeFromTimeString( String:[In DST gap], String:✓, Clock:✓, Locale:✓ ):Time shifted" )
+    void givenTimeInDstGap_whenGetLocalDateTimeFromTimeStringIsCalled_thenReturnsTimeShifted(){
+        final Clock CLOCK_IN = Clock.fixed( Instant.parse( "2021-03-28T10:00:00Z" ), ZoneId.of( "Europe/Paris" ) );
+        final LocalDateTime EXPECTED = LocalDateTime.of( 2021, 3, 28, 3, 30 );
+
+        final LocalDateTime RESULT = DateTimeUtil.getLocalDateTimeFromTimeString( "02:30:00", DEFAULT_TIME_FORMATTER_STR, CLOCK_IN, DEFAULT_LOCALE );
+
+        assertEquals( EXPECTED, RESULT, String.format( MSG_TEMPLATE_RESULT_EXPECTED, RESULT, EXPECTED ) );
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @DisplayName( "DateTimeUtil.getLocalDateTimeFromTimeString( String:✓, String:✓, ZoneId:✗, Locale:✓ ):NullPointerException" )
+    void givenZoneIdAsNull_whenGetLocalDateTimeFromTimeStringIsCalled_thenThrowsNullPointerException( final ZoneId ZONE_ID_IN ){
+        assertThrows( NullPointerException.class,
+                      () -> DateTimeUtil.getLocalDateTimeFromTimeString( DEFAULT_TIME_STR, DEFAULT_TIME_FORMATTER_STR, ZONE_ID_IN, DEFAULT_LOCALE ) );
+    }
+
+
+    // ---------------------------------------------------------------------------------------------------- \\
+    // ---| Tests for the local date-times around the transitions of the zones.
+    // ---------------------------------------------------------------------------------------------------- \\
+
+    @ParameterizedTest
+    @ValueSource( strings = { "Europe/Paris", "America/Sao_Paulo", "America/Havana", "Asia/Gaza", "Australia/Lord_Howe", "UTC", "+05:30" } )
+    @DisplayName( "DateTimeUtil.xxx( LocalDateTime:[Around transitions], ZoneId:✓ ):Same result as ZonedDateTime" )
+    void givenDateTimesAroundTransitions_whenConversionsAreCalled_thenReturnSameResultAsZonedDateTime( final String ZONE_ID_STR_IN ){
+        final ZoneId ZONE_ID_IN = ZoneId.of( ZONE_ID_STR_IN );
+        final String LOCAL_PATTERN = "yyyy-MM-dd HH:mm:ss";
+        final String ZONED_PATTERN = "dd/MM/yyyy HH:mm VV xxx";
+        final DateTimeFormatter LOCAL_FORMATTER = DateTimeFormatter.ofPattern( LOCAL_PATTERN );
+        final DateTimeFormatter ZONED_FORMATTER = DateTimeFormatter.ofPattern( ZONED_PATTERN );
+        final long[] SHIFTS = { -3600, -1, 0, 1, 1799, 1800, 3599, 3600, 7200 };
+
+        Instant instant = Instant.parse( "2000-01-01T00:00:00Z" );
+        ZoneOffsetTransition transition = ZONE_ID_IN.getRules().nextTransition( instant );
+        final LocalDateTime[] DATE_TIMES = new LocalDateTime[ 2 ];
+        while( transition != null && transition.getInstant().isBefore( Instant.parse( "2030-01-01T00:00:00Z" ) ) ){
+            DATE_TIMES[ 0 ] = transition.getDateTimeBefore();
+            DATE_TIMES[ 1 ] = transition.getDateTimeBefore().toLocalDate().atStartOfDay();
+            for( final LocalDateTime BASE : DATE_TIMES ){
+                for( final long SHIFT : SHIFTS ){
+                    final LocalDateTime DATE_TIME_IN = BASE.plusSeconds( SHIFT );
+                    final LocalDate DATE_IN = DATE_TIME_IN.toLocalDate();
+                    final String TEXT_IN = DATE_TIME_IN.format( LOCAL_FORMATTER );
+
+                    assertEquals( DATE_TIME_IN.atZone( ZONE_ID_IN ).toLocalDateTime(),
+                                  DateTimeUtil.getLocalDateTimeFromString( TEXT_IN, LOCAL_PATTERN, ZONE_ID_IN, DEFAULT_LOCALE ), TEXT_IN );
+                    assertEquals( DATE_TIME_IN.atZone( ZONE_ID_IN ).format( LOCAL_FORMATTER ),
+                                  DateTimeUtil.formatDateTime( DATE_TIME_IN, LOCAL_PATTERN, ZONE_ID_IN, DEFAULT_LOCALE ), TEXT_IN );
+                    assertEquals( DATE_TIME_IN.atZone( ZONE_ID_IN ).format( ZONED_FORMATTER ),
+                                  DateTimeUtil.formatDateTime( DATE_TIME_IN, ZONED_PATTERN, ZONE_ID_IN, DEFAULT_LOCALE ), TEXT_IN );
+                    assertEquals( DATE_IN.atStartOfDay( ZONE_ID_IN ).format( LOCAL_FORMATTER ),
+                                  DateTimeUtil.formatDate( DATE_IN, LOCAL_PATTERN, ZONE_ID_IN, DEFAULT_LOCALE ), TEXT_IN );
+                    assertEquals( DATE_IN.atStartOfDay( ZONE_ID_IN ).format( ZONED_FORMATTER ),
+                                  DateTimeUtil.formatDate( DATE_IN, ZONED_PATTERN, ZONE_ID_IN, DEFAULT_LOCALE ), TEXT_IN );
+                    assertEquals( DATE_IN.atStartOfDay( ZONE_ID_IN ).toLocalDateTime(),
+                                  DateTimeUtil.getLocalDateTimeFromLocalDate( DATE_IN, ZONE_ID_IN ), TEXT_IN );
+                    assertEquals( DATE_TIME_IN.atZone( ZONE_ID_IN ).toLocalDate(),
+                                  DateTimeUtil.getLocalDateFromLocalDateTime( DATE_TIME_IN, ZONE_ID_IN ), TEXT_IN );
+                    assertEquals( DATE_TIME_IN.atZone( ZONE_ID_IN ).toLocalTime(),
+                                  DateTimeUtil.getLocalTimeFromLocalDateTime( DATE_TIME_IN, ZONE_ID_IN ), TEXT_IN );
+                }
+            }
+            instant = transition.getInstant();
+            transition = ZONE_ID_IN.getRules().nextTransition( instant );
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource( strings = { "dd/MM/yyyy HH:mm v", "dd/MM/yyyy HH:mm vvvv", "dd/MM/yyyy HH:mm[ zzzz]", "dd/MM/yyyy HH:mm[ XXX]", "dd/MM/yyyy HH:mm" } )
+    @DisplayName( "DateTimeUtil.formatXxx( LocalDateTime|LocalDate:✓, String:[Zone fields], ZoneId:✓, Locale:✓ ):Same result as ZonedDateTime" )
+    void givenPatternsWithZoneFields_whenFormatMethodsAreCalled_thenReturnSameResultAsZonedDateTime( final String FORMATTER_IN ){
+        assumeTrue( isSupportedPattern( FORMATTER_IN ), "Pattern not supported by this Java version" );
+        final ZoneId ZONE_ID_IN = ZoneId.of( "Europe/Paris" );
+        final LocalDateTime DATE_TIME_IN = LocalDateTime.of( 2021, 6, 25, 17, 36 );
+        final LocalDate DATE_IN = DATE_TIME_IN.toLocalDate();
+        final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern( FORMATTER_IN, Locale.ENGLISH );
+
+        final String EXPECTED_DATE_TIME = DATE_TIME_IN.atZone( ZONE_ID_IN ).format( FORMATTER );
+        final String EXPECTED_DATE = DATE_IN.atStartOfDay( ZONE_ID_IN ).format( FORMATTER );
+
+        assertEquals( EXPECTED_DATE_TIME, DateTimeUtil.formatDateTime( DATE_TIME_IN, FORMATTER_IN, ZONE_ID_IN, Locale.ENGLISH ) );
+        assertEquals( EXPECTED_DATE, DateTimeUtil.formatDate( DATE_IN, FORMATTER_IN, ZONE_ID_IN, Locale.ENGLISH ) );
+    }
+
+    /**
+     * <p>Checks whether the "DateTimeFormatter" of the running Java version accepts "patternIn". Some pattern letters,
+     * such as "v", were added after Java 8.</p>
+     */
+    private static boolean isSupportedPattern( final String PATTERN_IN ){
+        try{
+            DateTimeFormatter.ofPattern( PATTERN_IN );
+            return true;
+        }
+        catch( IllegalArgumentException e ){
+            return false;
+        }
+    }
+
+
+    // ---------------------------------------------------------------------------------------------------- \\
+    // ---| Tests for the epoch methods.
+    // ---------------------------------------------------------------------------------------------------- \\
+
+    @ParameterizedTest
+    @ValueSource( strings = { "Europe/Paris", "America/Sao_Paulo", "Asia/Kolkata", "UTC", "-03:30" } )
+    @DisplayName( "DateTimeUtil.getEpochMillisFromString( String:✓, String:✓, ZoneId:✓, Locale:✓ ):Same result as getDateTimeFromString" )
+    void givenRandomDateTimes_whenGetEpochMillisFromStringIsCalled_thenReturnsSameResultAsGetDateTimeFromString( final String ZONE_ID_STR_IN ){
+        final ZoneId ZONE_ID_IN = ZoneId.of( ZONE_ID_STR_IN );
+        final String[] PATTERNS = { DEFAULT_DATE_TIME_FORMATTER_STR, "yyyy-MM-dd'T'HH:mm:ss.SSS", "dd MMM yyyy HH:mm:ss" };
+        final Random RANDOM = new Random( 9 );
+
+        for( int i = 0; i < 2000; i++ ){
+            final String PATTERN_IN = PATTERNS[ i % PATTERNS.length ];
+            final long SECONDS = RANDOM.nextInt( 4 ) == 0 ? -62135596800L + RANDOM.nextInt( 1000000 ) : ( RANDOM.nextLong() % 4000000000L );
+            final String TEXT_IN = DateTimeUtil.formatDateTime( new Date( SECONDS * 1000 + RANDOM.nextInt( 1000 ) ), PATTERN_IN, ZONE_ID_IN,
+                                                                Locale.ENGLISH );
+
+            assertSameOutcome( () -> DateTimeUtil.getDateTimeFromString( TEXT_IN, PATTERN_IN, ZONE_ID_IN, Locale.ENGLISH ).getTime(),
+                               () -> DateTimeUtil.getEpochMillisFromString( TEXT_IN, PATTERN_IN, ZONE_ID_IN, Locale.ENGLISH ) );
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource( strings = { "2021-03-28 02:30", "2021-10-31 02:30", "2021-10-31 03:00", "2021-06-25 17:36", "0001-01-01 00:00", "9999-12-31 23:59" } )
+    @DisplayName( "DateTimeUtil.getEpochMillisFromString( String:[Around transitions], String:✓, ZoneId:✓, Locale:✓ ):Same result as getDateTimeFromString" )
+    void givenDateTimesAroundTransitions_whenGetEpochMillisFromStringIsCalled_thenReturnsSameResultAsGetDateTimeFromString( final String DATE_TIME_IN ){
+        final ZoneId ZONE_ID_IN = ZoneId.of( "Europe/Paris" );
+        final String PATTERN_IN = "yyyy-MM-dd HH:mm";
+        final long EXPECTED = DateTimeUtil.getDateTimeFromString( DATE_TIME_IN, PATTERN_IN, ZONE_ID_IN, DEFAULT_LOCALE ).getTime();
+
+        final long RESULT = DateTimeUtil.getEpochMillisFromString( DATE_TIME_IN, PATTERN_IN, ZONE_ID_IN, DEFAULT_LOCALE );
+
+        assertEquals( EXPECTED, RESULT, String.format( MSG_TEMPLATE_RESULT_EXPECTED, RESULT, EXPECTED ) );
+    }
+
+    @ParameterizedTest
+    @ValueSource( strings = { "Europe/Paris", "America/Sao_Paulo", "Asia/Kolkata", "UTC", "-03:30" } )
+    @DisplayName( "DateTimeUtil.formatEpochMillis( long:✓, String:✓, ZoneId:✓, Locale:✓ ):Same result as formatDateTime" )
+    void givenRandomEpochMillis_whenFormatEpochMillisIsCalled_thenReturnsSameResultAsFormatDateTime( final String ZONE_ID_STR_IN ){
+        final ZoneId ZONE_ID_IN = ZoneId.of( ZONE_ID_STR_IN );
+        final String[] PATTERNS = { DEFAULT_DATE_TIME_FORMATTER_STR, "yyyy-MM-dd'T'HH:mm:ss.SSS", "dd MMM yyyy HH:mm:ss xxx", "yyyyMMdd" };
+        final long[] EDGES = { 0, -1, -62135596800000L, -62135596800001L, 253402300799999L, 253402300800000L, Long.MIN_VALUE / 2 };
+        final Random RANDOM = new Random( 9 );
+
+        for( int i = 0; i < 2000; i++ ){
+            final String PATTERN_IN = PATTERNS[ i % PATTERNS.length ];
+            final long EPOCH_MILLI_IN = i < EDGES.length ? EDGES[ i ] : RANDOM.nextLong() % 400000000000000L;
+
+            assertSameOutcome( () -> DateTimeUtil.formatDateTime( new Date( EPOCH_MILLI_IN ), PATTERN_IN, ZONE_ID_IN, Locale.ENGLISH ),
+                               () -> DateTimeUtil.formatEpochMillis( EPOCH_MILLI_IN, PATTERN_IN, ZONE_ID_IN, Locale.ENGLISH ) );
+        }
+    }
+
+    @Test
+    @DisplayName( "DateTimeUtil.getEpochDayFromString( String:✓ ) and formatEpochDay( int:✓ ):Same result as LocalDate" )
+    void givenRandomEpochDays_whenEpochDayMethodsAreCalled_thenReturnSameResultAsLocalDate(){
+        final String[] PATTERNS = { DEFAULT_DATE_FORMATTER_STR, "yyyyMMdd", "dd MMM yyyy", "yyyy-MM-dd HH:mm" };
+        final int[] EDGES = { 0, -1, -719162, -719163, 2932896, 2932897, Integer.MIN_VALUE, Integer.MAX_VALUE };
+        final Random RANDOM = new Random( 9 );
+
+        for( int i = 0; i < 4000; i++ ){
+            final String PATTERN_IN = PATTERNS[ i % PATTERNS.length ];
+            final int EPOCH_DAY_IN = i < EDGES.length ? EDGES[ i ] : RANDOM.nextInt( 3800000 ) - 800000;
+
+            assertSameOutcome( () -> DateTimeUtil.formatDate( LocalDate.ofEpochDay( EPOCH_DAY_IN ), PATTERN_IN, DEFAULT_ZONE_ID, Locale.ENGLISH ),
+                               () -> DateTimeUtil.formatEpochDay( EPOCH_DAY_IN, PATTERN_IN, DEFAULT_ZONE_ID, Locale.ENGLISH ) );
+            if( EPOCH_DAY_IN >= -719162 && EPOCH_DAY_IN <= 2932896 ){
+                final String TEXT_IN = DateTimeUtil.formatDate( LocalDate.ofEpochDay( EPOCH_DAY_IN ), PATTERN_IN, DEFAULT_ZONE_ID, Locale.ENGLISH );
+                assertSameOutcome( () -> DateTimeUtil.getLocalDateFromString( TEXT_IN, PATTERN_IN, DEFAULT_ZONE_ID, Locale.ENGLISH ).toEpochDay(),
+                                   () -> (long) DateTimeUtil.getEpochDayFromString( TEXT_IN, PATTERN_IN, DEFAULT_ZONE_ID, Locale.ENGLISH ) );
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @DisplayName( "DateTimeUtil.getEpochDayFromString( String:✓, String:✓, ZoneId:✗, Locale:✓ ):NullPointerException" )
+    void givenZoneIdAsNull_whenGetEpochDayFromStringIsCalled_thenThrowsNullPointerException( final ZoneId ZONE_ID_IN ){
+        assertThrows( NullPointerException.class,
+                      () -> DateTimeUtil.getEpochDayFromString( DEFAULT_DATE_STR, DEFAULT_DATE_FORMATTER_STR, ZONE_ID_IN, DEFAULT_LOCALE ) );
+        assertThrows( NullPointerException.class,
+                      () -> DateTimeUtil.formatEpochDay( 0, DEFAULT_DATE_FORMATTER_STR, ZONE_ID_IN, DEFAULT_LOCALE ) );
+        assertThrows( NullPointerException.class,
+                      () -> DateTimeUtil.formatEpochMillis( 0, DEFAULT_DATE_TIME_FORMATTER_STR, ZONE_ID_IN, DEFAULT_LOCALE ) );
+    }
+
+
+    // ---------------------------------------------------------------------------------------------------- \\
+    // ---| Tests for the conversions between "Date" and local date-times.
+    // ---------------------------------------------------------------------------------------------------- \\
+
+    @ParameterizedTest
+    @ValueSource( strings = { "Europe/Paris", "America/Sao_Paulo", "America/Havana", "Australia/Lord_Howe", "Asia/Kolkata", "UTC", "-03:30" } )
+    @DisplayName( "DateTimeUtil.getXxxFromDate( Date:✓, ZoneId:✓ ) and getDateFromXxx( Xxx:✓, ZoneId:✓ ):Same result as ZonedDateTime" )
+    void givenRandomValues_whenDateConversionsAreCalled_thenReturnSameResultAsZonedDateTime( final String ZONE_ID_STR_IN ){
+        final ZoneId ZONE_ID_IN = ZoneId.of( ZONE_ID_STR_IN );
+        final Random RANDOM = new Random( 10 );
+
+        for( int i = 0; i < 20000; i++ ){
+            final long EPOCH_MILLI_IN = i % 4 == 0 ? RANDOM.nextLong() % 400000000000000L : RANDOM.nextLong() % 8000000000000L;
+            final Date DATE_IN = new Date( EPOCH_MILLI_IN );
+            final LocalDateTime DATE_TIME_IN = LocalDateTime.ofEpochSecond( Math.floorDiv( EPOCH_MILLI_IN, 1000L ), RANDOM.nextInt( 1000000000 ),
+                                                                            ZoneOffset.UTC ).withSecond( i % 7 == 0 ? 0 : RANDOM.nextInt( 60 ) );
+            final LocalDate LOCAL_DATE_IN = DATE_TIME_IN.toLocalDate();
+
+            assertEquals( LocalDateTime.ofInstant( DATE_IN.toInstant(), ZONE_ID_IN ), DateTimeUtil.getLocalDateTimeFromDate( DATE_IN, ZONE_ID_IN ) );
+            assertEquals( DATE_IN.toInstant().atZone( ZONE_ID_IN ).toLocalDate(), DateTimeUtil.getLocalDateFromDate( DATE_IN, ZONE_ID_IN ) );
+            assertEquals( Date.from( DATE_TIME_IN.atZone( ZONE_ID_IN ).toInstant() ), DateTimeUtil.getDateFromLocalDateTime( DATE_TIME_IN, ZONE_ID_IN ),
+                          DATE_TIME_IN.toString() );
+            assertEquals( Date.from( LOCAL_DATE_IN.atStartOfDay( ZONE_ID_IN ).toInstant() ), DateTimeUtil.getDateFromLocalDate( LOCAL_DATE_IN, ZONE_ID_IN ),
+                          LOCAL_DATE_IN.toString() );
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource( strings = { "Europe/Paris", "America/Havana", "Australia/Lord_Howe" } )
+    @DisplayName( "DateTimeUtil.getDateFromXxx( Xxx:[Around transitions], ZoneId:✓ ):Same result as ZonedDateTime" )
+    void givenValuesAroundTransitions_whenDateConversionsAreCalled_thenReturnSameResultAsZonedDateTime( final String ZONE_ID_STR_IN ){
+        final ZoneId ZONE_ID_IN = ZoneId.of( ZONE_ID_STR_IN );
+        final long[] SHIFTS = { -3600, -1, 0, 1, 1799, 1800, 3599, 3600 };
+
+        ZoneOffsetTransition transition = ZONE_ID_IN.getRules().nextTransition( Instant.parse( "1890-01-01T00:00:00Z" ) );
+        while( transition != null && transition.getInstant().isBefore( Instant.parse( "2110-01-01T00:00:00Z" ) ) ){
+            for( final long SHIFT : SHIFTS ){
+                final LocalDateTime DATE_TIME_IN = transition.getDateTimeBefore().plusSeconds( SHIFT );
+                final LocalDate LOCAL_DATE_IN = DATE_TIME_IN.toLocalDate();
+                final Date DATE_IN = Date.from( transition.getInstant().plusSeconds( SHIFT ) );
+
+                assertEquals( Date.from( DATE_TIME_IN.atZone( ZONE_ID_IN ).toInstant() ), DateTimeUtil.getDateFromLocalDateTime( DATE_TIME_IN, ZONE_ID_IN ),
+                              DATE_TIME_IN.toString() );
+                assertEquals( Date.from( LOCAL_DATE_IN.atStartOfDay( ZONE_ID_IN ).toInstant() ), DateTimeUtil.getDateFromLocalDate( LOCAL_DATE_IN, ZONE_ID_IN ),
+                              LOCAL_DATE_IN.toString() );
+                assertEquals( LocalDateTime.ofInstant( DATE_IN.toInstant(), ZONE_ID_IN ), DateTimeUtil.getLocalDateTimeFromDate( DATE_IN, ZONE_ID_IN ),
+                              DATE_IN.toString() );
+            }
+            transition = ZONE_ID_IN.getRules().nextTransition( transition.getInstant() );
+        }
+    }
+
+    @Test
+    @DisplayName( "DateTimeUtil.getLocalDateTimeFromDate( Timestamp:✓, ZoneId:✓ ):Nanoseconds kept" )
+    void givenTimestamp_whenGetLocalDateTimeFromDateIsCalled_thenKeepsNanoseconds(){
+        final Timestamp DATE_IN = Timestamp.valueOf( "2021-06-25 17:36:27.123456789" );
+        final LocalDateTime EXPECTED = LocalDateTime.ofInstant( DATE_IN.toInstant(), DEFAULT_ZONE_ID );
+
+        final LocalDateTime RESULT = DateTimeUtil.getLocalDateTimeFromDate( DATE_IN, DEFAULT_ZONE_ID );
+
+        assertEquals( EXPECTED, RESULT, String.format( MSG_TEMPLATE_RESULT_EXPECTED, RESULT, EXPECTED ) );
+    }
+
+
+    // ---------------------------------------------------------------------------------------------------- \\
+    // ---| Tests for the "formatXxx" methods with "Date" taken from the epoch milliseconds.
+    // ---------------------------------------------------------------------------------------------------- \\
+
+    @ParameterizedTest
+    @ValueSource( strings = { "dd/MM/yyyy HH:mm:ss.SSS", "EEEE, d 'de' MMMM 'de' uuuu G", "YYYY-'W'ww-e c Q qqqq D", "hh:mm a K k n N A",
+                              "yy-M-d W F E MMM", "uuuu-MM-dd'T'HH:mm:ss.SSSSSSSSS", "dd/MM/yyyy HH:mm VV", "yyyy-MM-dd HH:mm:ss xxx z",
+                              "dd/MM/yyyy HH:mm v", "dd/MM/yyyy HH:mm vvvv", "dd/MM/yyyy HH:mm[ zzzz]" } )
+    @DisplayName( "DateTimeUtil.formatDateTime( Date:✓, String:✓, ZoneId:✓, Locale:✓ ):Same result as ZonedDateTime" )
+    void givenRandomDates_whenFormatDateTimeIsCalled_thenReturnSameResultAsZonedDateTime( final String FORMATTER_IN ){
+        assumeTrue( isSupportedPattern( FORMATTER_IN ), "Pattern not supported by this Java version" );
+        final ZoneId[] ZONE_IDS = { ZoneId.of( "Europe/Paris" ), ZoneId.of( "America/Sao_Paulo" ), ZoneId.of( "Australia/Lord_Howe" ), ZoneOffset.UTC };
+        final Locale[] LOCALES = { Locale.US, new Locale( "es", "ES" ), Locale.FRANCE };
+        final Random RANDOM = new Random( 11 );
+
+        for( int i = 0; i < 6000; i++ ){
+            final long EPOCH_MILLI_IN = i % 3 == 0 ? RANDOM.nextLong() % 400000000000000L : RANDOM.nextLong() % 8000000000000L;
+            final Date DATE_IN = new Date( EPOCH_MILLI_IN );
+            final ZoneId ZONE_ID_IN = ZONE_IDS[ i % ZONE_IDS.length ];
+            final Locale LOCALE_IN = LOCALES[ i % LOCALES.length ];
+            final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern( FORMATTER_IN, LOCALE_IN );
+
+            assertSameOutcome( () -> LocalDateTime.ofInstant( DATE_IN.toInstant(), ZONE_ID_IN ).atZone( ZONE_ID_IN ).format( FORMATTER ),
+                               () -> DateTimeUtil.formatDateTime( DATE_IN, FORMATTER_IN, ZONE_ID_IN, LOCALE_IN ) );
+            assertSameOutcome( () -> LocalDateTime.ofInstant( DATE_IN.toInstant(), ZONE_ID_IN ).atZone( ZONE_ID_IN ).format( FORMATTER ),
+                               () -> DateTimeUtil.formatDate( DATE_IN, FORMATTER_IN, ZONE_ID_IN, LOCALE_IN ) );
+            assertSameOutcome( () -> LocalDateTime.ofInstant( DATE_IN.toInstant(), ZONE_ID_IN ).atZone( ZONE_ID_IN ).format( FORMATTER ),
+                               () -> DateTimeUtil.formatEpochMillis( EPOCH_MILLI_IN, FORMATTER_IN, ZONE_ID_IN, LOCALE_IN ) );
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource( strings = { "dd/MM/yyyy HH:mm:ss.SSS", "uuuu-MM-dd'T'HH:mm:ss.SSSSSSSSS", "yyyyMMddHHmmss", "EEE, d MMM yyyy hh:mm a",
+                              "dd/MM/yyyy HH:mm VV" } )
+    @DisplayName( "CompiledPattern.formatDateTime( Date:✓, ZoneId:✓, Appendable|byte[]|ByteBuffer:✓ ):Same result as ZonedDateTime" )
+    void givenRandomDates_whenFormatDateTimeIsCalledWithDestination_thenWriteSameResultAsZonedDateTime( final String FORMATTER_IN ){
+        final ZoneId[] ZONE_IDS = { ZoneId.of( "Europe/Paris" ), ZoneId.of( "America/Sao_Paulo" ), ZoneId.of( "Australia/Lord_Howe" ), ZoneOffset.UTC };
+        final CompiledPattern COMPILED = DateTimeUtil.compile( FORMATTER_IN, Locale.US );
+        final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern( FORMATTER_IN, Locale.US );
+        final Random RANDOM = new Random( 14 );
+        final byte[] BYTES = new byte[ 64 ];
+        final ByteBuffer HEAP = ByteBuffer.allocate( 64 );
+        final ByteBuffer DIRECT = ByteBuffer.allocateDirect( 64 );
+
+        for( int i = 0; i < 6000; i++ ){
+            final long EPOCH_MILLI_IN = i % 3 == 0 ? RANDOM.nextLong() % 400000000000000L : RANDOM.nextLong() % 8000000000000L;
+            final Date DATE_IN = new Date( EPOCH_MILLI_IN );
+            final ZoneId ZONE_ID_IN = ZONE_IDS[ i % ZONE_IDS.length ];
+            final ByteBuffer BUFFER = i % 2 == 0 ? HEAP : DIRECT;
+            final Supplier<Object> EXPECTED = () -> LocalDateTime.ofInstant( DATE_IN.toInstant(), ZONE_ID_IN ).atZone( ZONE_ID_IN ).format( FORMATTER );
+
+            assertSameOutcome( EXPECTED, () -> {
+                final StringBuilder BUILDER = new StringBuilder( ">" );
+                COMPILED.formatDateTime( DATE_IN, ZONE_ID_IN, BUILDER );
+                return BUILDER.substring( 1 );
+            } );
+            assertSameOutcome( EXPECTED, () -> new String( BYTES, 1, COMPILED.formatDateTime( DATE_IN, ZONE_ID_IN, BYTES, 1 ), StandardCharsets.US_ASCII ) );
+            assertSameOutcome( EXPECTED, () -> new String( BYTES, 2, COMPILED.formatDate( DATE_IN, ZONE_ID_IN, BYTES, 2 ), StandardCharsets.US_ASCII ) );
+            assertSameOutcome( EXPECTED, () -> {
+                BUFFER.clear();
+                final int LENGTH = COMPILED.formatDateTime( DATE_IN, ZONE_ID_IN, BUFFER );
+                final byte[] RESULT = new byte[ LENGTH ];
+                BUFFER.flip();
+                BUFFER.get( RESULT );
+                return new String( RESULT, StandardCharsets.US_ASCII );
+            } );
+        }
+    }
+
+    @Test
+    @DisplayName( "DateTimeUtil.formatDateTime( Date:[Extreme years], String:✓, ZoneId:✓, Locale:✓ ):Same result as ZonedDateTime" )
+    void givenExtremeDates_whenFormatDateTimeIsCalled_thenReturnSameResultAsZonedDateTime(){
+        final long[] EPOCH_MILLIS = { Long.MIN_VALUE, Long.MAX_VALUE, -62135596800001L, -62135596800000L, -62167219200001L, 253402300799999L,
+                                      253402300800000L, -1L, 0L };
+        final String FORMATTER_IN = "G yyyy uuuu-MM-dd HH:mm:ss.SSS EEE D";
+
+        for( final long EPOCH_MILLI_IN : EPOCH_MILLIS ){
+            final Date DATE_IN = new Date( EPOCH_MILLI_IN );
+            final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern( FORMATTER_IN, DEFAULT_LOCALE );
+
+            assertSameOutcome( () -> LocalDateTime.ofInstant( DATE_IN.toInstant(), DEFAULT_ZONE_ID ).atZone( DEFAULT_ZONE_ID ).format( FORMATTER ),
+                               () -> DateTimeUtil.formatDateTime( DATE_IN, FORMATTER_IN, DEFAULT_ZONE_ID, DEFAULT_LOCALE ) );
+            assertSameOutcome( () -> LocalDateTime.ofInstant( DATE_IN.toInstant(), DEFAULT_ZONE_ID ).atZone( DEFAULT_ZONE_ID ).format( FORMATTER ),
+                               () -> DateTimeUtil.formatEpochMillis( EPOCH_MILLI_IN, FORMATTER_IN, DEFAULT_ZONE_ID, DEFAULT_LOCALE ) );
+        }
+    }
+
+
+    // ---------------------------------------------------------------------------------------------------- \\
+    // ---| Tests for "DateTimeMetrics" class.
+    // ---------------------------------------------------------------------------------------------------- \\
+
+    @Test
+    @DisplayName( "DateTimeMetrics.getMetrics():Calls and failures grouped by family, pattern and zone" )
+    void givenMetricsEnabled_whenDateTimeUtilIsCalled_thenMetricsCountCallsAndFailures(){
+        final ZoneId ZONE_ID_IN = ZoneId.of( "Europe/Paris" );
+        DateTimeMetrics.reset();
+        DateTimeMetrics.setEnabled( true );
+        try{
+            for( int i = 0; i < 10; i++ ){
+                DateTimeUtil.getLocalDateFromString( DEFAULT_DATE_STR, DEFAULT_DATE_FORMATTER_STR, ZONE_ID_IN, DEFAULT_LOCALE );
+            }
+            assertThrows( DateTimeParseException.class,
+                          () -> DateTimeUtil.getLocalDateFromString( "error", DEFAULT_DATE_FORMATTER_STR, ZONE_ID_IN, DEFAULT_LOCALE ) );
+            DateTimeUtil.formatDate( DEFAULT_LOCAL_DATE, DEFAULT_DATE_FORMATTER_STR, ZONE_ID_IN, DEFAULT_LOCALE );
+        }
+        finally{
+            DateTimeMetrics.setEnabled( false );
+        }
+
+        final DateTimeMetricsSnapshot RESULT = DateTimeMetrics.getMetrics().stream()
+                                                              .filter( snapshot -> snapshot.getFamily().equals( "getLocalDateFromString" ) )
+                                                              .findFirst().orElse( null );
+
+        assertNotNull( RESULT, MSG_IS_NULL );
+        assertEquals( DEFAULT_DATE_FORMATTER_STR, RESULT.getPattern() );
+        assertEquals( ZONE_ID_IN.getId(), RESULT.getZoneId() );
+        assertEquals( 11, RESULT.getCalls(), String.format( MSG_TEMPLATE_RESULT_EXPECTED, RESULT.getCalls(), 11 ) );
+        assertEquals( 1, RESULT.getFailures(), String.format( MSG_TEMPLATE_RESULT_EXPECTED, RESULT.getFailures(), 1 ) );
+        assertEquals( 11, Arrays.stream( RESULT.getHistogram() ).sum() );
+        assertTrue( RESULT.getP50Nanos() <= RESULT.getP99Nanos() );
+        assertTrue( RESULT.getMaxNanos() <= RESULT.getTotalNanos() );
+        assertEquals( 2, DateTimeMetrics.getMetrics().size() );
+        DateTimeMetrics.reset();
+    }
+
+    @Test
+    @DisplayName( "DateTimeMetrics.getMetrics():Keys over the limit added to the other snapshot of their family" )
+    void givenMoreKeysThanTheLimit_whenDateTimeUtilIsCalled_thenTheRestAreAddedToTheOtherSnapshot(){
+        final int CALLS = DateTimeUtil.DEFAULT_METRICS_MAX_KEYS + 100;
+        DateTimeMetrics.reset();
+        DateTimeMetrics.setEnabled( true );
+        try{
+            for( int i = 0; i < CALLS; i++ ){
+                DateTimeUtil.formatDate( DEFAULT_LOCAL_DATE, "'" + i + "' " + DEFAULT_DATE_FORMATTER_STR, DEFAULT_ZONE_ID, DEFAULT_LOCALE );
+            }
+            DateTimeUtil.formatDate( DEFAULT_LOCAL_DATE, "'0' " + DEFAULT_DATE_FORMATTER_STR, DEFAULT_ZONE_ID, DEFAULT_LOCALE );
+        }
+        finally{
+            DateTimeMetrics.setEnabled( false );
+        }
+
+        final List<DateTimeMetricsSnapshot> RESULT = DateTimeMetrics.getMetrics();
+        final List<DateTimeMetricsSnapshot> OTHERS = RESULT.stream().filter( DateTimeMetricsSnapshot::isOther ).collect( Collectors.toList() );
+        final DateTimeMetricsSnapshot FIRST = RESULT.stream().filter( snapshot -> ( "'0' " + DEFAULT_DATE_FORMATTER_STR ).equals( snapshot.getPattern() ) )
+                                                    .findFirst().orElse( null );
+        DateTimeMetrics.reset();
+
+        assertEquals( DateTimeUtil.DEFAULT_METRICS_MAX_KEYS + 1, RESULT.size(),
+                      String.format( MSG_TEMPLATE_RESULT_EXPECTED, RESULT.size(), DateTimeUtil.DEFAULT_METRICS_MAX_KEYS + 1 ) );
+        assertEquals( 1, OTHERS.size(), String.format( MSG_TEMPLATE_RESULT_EXPECTED, OTHERS.size(), 1 ) );
+        assertNull( OTHERS.get( 0 ).getPattern() );
+        assertNull( OTHERS.get( 0 ).getZoneId() );
+        assertEquals( 100, OTHERS.get( 0 ).getCalls(), String.format( MSG_TEMPLATE_RESULT_EXPECTED, OTHERS.get( 0 ).getCalls(), 100 ) );
+        assertNotNull( FIRST, MSG_IS_NULL );
+        assertEquals( 2, FIRST.getCalls(), String.format( MSG_TEMPLATE_RESULT_EXPECTED, FIRST.getCalls(), 2 ) );
+    }
+
+    @Test
+    @DisplayName( "DateTimeMetrics.getMetrics():Nothing measured while disabled" )
+    void givenMetricsDisabled_whenDateTimeUtilIsCalled_thenNothingIsMeasured(){
+        DateTimeMetrics.reset();
+        DateTimeMetrics.setEnabled( false );
+
+        DateTimeUtil.getLocalDateFromString( DEFAULT_DATE_STR );
+        DateTimeUtil.formatDateTime( DEFAULT_DATE );
+
+        assertTrue( DateTimeMetrics.getMetrics().isEmpty() );
+    }
+
+    @Test
+    @DisplayName( "DateTimeMetrics.addListener( DateTimeMetricsListener:✓ ):Receives every measured call" )
+    void givenListener_whenDateTimeUtilIsCalled_thenListenerReceivesTheCall(){
+        final List<String> RESULT = new ArrayList<>();
+        final DateTimeMetricsListener LISTENER = ( family, pattern, zoneId, nanos, failure ) -> {
+            RESULT.add( family + "|" + pattern + "|" + zoneId + "|" + ( failure == null ? null : failure.getClass().getSimpleName() ) );
+        };
+        final DateTimeMetricsListener FAILING_LISTENER = ( family, pattern, zoneId, nanos, failure ) -> {
+            throw new IllegalStateException( "Listener" );
+        };
+        DateTimeMetrics.addListener( FAILING_LISTENER );
+        DateTimeMetrics.addListener( LISTENER );
+        DateTimeMetrics.setEnabled( true );
+        try{
+            DateTimeUtil.getEpochDayFromString( "2021-06-25", "yyyy-MM-dd", ZoneOffset.UTC, DEFAULT_LOCALE );
+            DateTimeUtil.getDateFromLocalDate( DEFAULT_LOCAL_DATE, ZoneOffset.UTC );
+            assertThrows( NullPointerException.class, () -> DateTimeUtil.formatTime( DEFAULT_LOCAL_TIME, DEFAULT_TIME_FORMATTER_STR, null, DEFAULT_LOCALE ) );
+        }
+        finally{
+            DateTimeMetrics.setEnabled( false );
+            DateTimeMetrics.removeListener( LISTENER );
+            DateTimeMetrics.removeListener( FAILING_LISTENER );
+            DateTimeMetrics.reset();
+        }
+
+        final List<String> EXPECTED = Arrays.asList( "getEpochDayFromString|yyyy-MM-dd|Z|null", "getDateFromLocalDate|null|Z|null",
+                                                     "formatTime(LocalTime)|" + DEFAULT_TIME_FORMATTER_STR + "|null|NullPointerException" );
+        assertEquals( EXPECTED, RESULT, String.format( MSG_TEMPLATE_RESULT_EXPECTED, RESULT, EXPECTED ) );
+    }
+
+    @Test
+    @DisplayName( "DateTimeMetrics.setEnabled( boolean:✓ ):MXBean registered in the platform MBeanServer" )
+    void givenMetricsEnabled_whenMXBeanIsRead_thenReturnsTheMetrics() throws Exception{
+        final MBeanServer SERVER = ManagementFactory.getPlatformMBeanServer();
+        final ObjectName NAME = new ObjectName( DateTimeMetrics.OBJECT_NAME );
+        DateTimeMetrics.reset();
+        DateTimeMetrics.setEnabled( true );
+        try{
+            DateTimeUtil.getLocalDateTimeFromDate( DEFAULT_DATE, ZoneOffset.UTC );
+
+            assertEquals( Boolean.TRUE, SERVER.getAttribute( NAME, "Enabled" ) );
+            final CompositeData[] RESULT = (CompositeData[]) SERVER.getAttribute( NAME, "Metrics" );
+            assertEquals( 1, RESULT.length );
+            assertEquals( "getLocalDateTimeFromDate", RESULT[ 0 ].get( "family" ) );
+            assertEquals( 1L, RESULT[ 0 ].get( "calls" ) );
+
+            SERVER.setAttribute( NAME, new Attribute( "Enabled", false ) );
+            assertFalse( DateTimeMetrics.isEnabled() );
+        }
+        finally{
+            DateTimeMetrics.setEnabled( false );
+            DateTimeMetrics.reset();
+        }
+    }
+
+
+    // ---------------------------------------------------------------------------------------------------- \\
+    // ---| Tests for the "tryGetXxxFromString" methods and the stackless exceptions.
+    // ---------------------------------------------------------------------------------------------------- \\
+
+    @ParameterizedTest
+    @ValueSource( strings = { "dd/MM/yyyy", "HH:mm:ss", "dd/MM/yyyy HH:mm", "yyyyMMdd", "uuuu-MM-dd'T'HH:mm:ss.SSS", "dd.MM.yy HH:mm",
+                              "HHmmss.SSSSSS", "EEEE, d 'de' MMMM 'de' uuuu HH:mm", "YYYY-'W'ww-e", "hh:mm a" } )
+    @DisplayName( "DateTimeUtil.tryGetXxxFromString( String:[Dirty], String:✓, ZoneId:✓, Locale:✓ ):Same result as getXxxFromString" )
+    void givenDirtyStrings_whenTryGetXxxFromStringIsCalled_thenReturnSameResultAsGetXxxFromString( final String PATTERN_IN ){
+        final ZoneId ZONE_ID_IN = ZoneId.of( "Europe/Paris" );
+        final Locale LOCALE_IN = new Locale( "es", "ES" );
+        final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern( PATTERN_IN, LOCALE_IN );
+        final String NOISE = "0123456789+-/:. T'xé";
+        final Random RANDOM = new Random( 15 );
+
+        for( int i = 0; i < 4000; i++ ){
+            final LocalDateTime DATE_TIME = LocalDateTime.of( 1 + RANDOM.nextInt( 9999 ), 1 + RANDOM.nextInt( 12 ), 1 + RANDOM.nextInt( 28 ),
+                                                              RANDOM.nextInt( 24 ), RANDOM.nextInt( 60 ), RANDOM.nextInt( 60 ), RANDOM.nextInt( 1000000 ) * 1000 );
+            final StringBuilder TEXT = new StringBuilder( FORMATTER.format( DATE_TIME ) );
+            for( int j = RANDOM.nextInt( 3 ); j > 0 && TEXT.length() > 0; j-- ){
+                final int POSITION = RANDOM.nextInt( TEXT.length() );
+                final char CHARACTER = NOISE.charAt( RANDOM.nextInt( NOISE.length() ) );
+                switch( RANDOM.nextInt( 3 ) ){
+                    case 0:
+                        TEXT.setCharAt( POSITION, CHARACTER );
+                        break;
+                    case 1:
+                        TEXT.deleteCharAt( POSITION );
+                        break;
+                    default:
+                        TEXT.insert( POSITION, CHARACTER );
+                }
+            }
+            final String TEXT_IN = TEXT.toString();
+
+            assertEquals( optionalOf( () -> DateTimeUtil.getLocalDateFromString( TEXT_IN, PATTERN_IN, ZONE_ID_IN, LOCALE_IN ) ),
+                          DateTimeUtil.tryGetLocalDateFromString( TEXT_IN, PATTERN_IN, ZONE_ID_IN, LOCALE_IN ), TEXT_IN );
+            assertEquals( optionalOf( () -> DateTimeUtil.getLocalDateTimeFromString( TEXT_IN, PATTERN_IN, ZONE_ID_IN, LOCALE_IN ) ),
+                          DateTimeUtil.tryGetLocalDateTimeFromString( TEXT_IN, PATTERN_IN, ZONE_ID_IN, LOCALE_IN ), TEXT_IN );
+            assertEquals( optionalOf( () -> DateTimeUtil.getLocalTimeFromString( TEXT_IN, PATTERN_IN, ZONE_ID_IN, LOCALE_IN ) ),
+                          DateTimeUtil.tryGetLocalTimeFromString( TEXT_IN, PATTERN_IN, ZONE_ID_IN, LOCALE_IN ), TEXT_IN );
+        }
+    }
+
+    @Test
+    @DisplayName( "DateTimeUtil.tryGetXxxFromString( String:✓ ):Optional:✓" )
+    void givenCorrectStrings_whenTryGetXxxFromStringIsCalled_thenReturnPresentOptional(){
+        final LocalDate EXPECTED_DATE = LocalDate.parse( DEFAULT_DATE_STR, DEFAULT_DATE_FORMATTER );
+        final LocalDateTime EXPECTED_DATE_TIME = LocalDateTime.parse( DEFAULT_DATE_TIME_STR, DEFAULT_DATE_TIME_FORMATTER );
+        final LocalTime EXPECTED_TIME = LocalTime.parse( DEFAULT_TIME_STR, DEFAULT_TIME_FORMATTER );
+
+        assertEquals( Optional.of( EXPECTED_DATE ), DateTimeUtil.tryGetLocalDateFromString( DEFAULT_DATE_STR ) );
+        assertEquals( Optional.of( EXPECTED_DATE_TIME ), DateTimeUtil.tryGetLocalDateTimeFromString( DEFAULT_DATE_TIME_STR ) );
+        assertEquals( Optional.of( EXPECTED_TIME ), DateTimeUtil.tryGetLocalTimeFromString( DEFAULT_TIME_STR ) );
+        assertEquals( Optional.of( EXPECTED_DATE ), DateTimeUtil.compile( DEFAULT_DATE_FORMATTER_STR ).tryGetLocalDateFromString( DEFAULT_DATE_STR ) );
+    }
+
+    @ParameterizedTest
+    @ValueSource( strings = { "", "25/06/2021x", "2x/06/2021", "25-06-2021", "31/02/2021", "32/01/2021", "25/06/+12345", "25/06/12345678901234567890" } )
+    @DisplayName( "DateTimeUtil.tryGetLocalDateFromString( String:✗ ):Optional:Empty" )
+    void givenIncorrectStrings_whenTryGetLocalDateFromStringIsCalled_thenReturnSameResultAsGetLocalDateFromString( final String DATE_IN ){
+        assertEquals( optionalOf( () -> DateTimeUtil.getLocalDateFromString( DATE_IN ) ), DateTimeUtil.tryGetLocalDateFromString( DATE_IN ) );
+    }
+
+    @ParameterizedTest
+    @NullSource
+    @DisplayName( "DateTimeUtil.tryGetXxxFromString( String:✗ ):NullPointerException" )
+    void givenStringAsNullParameter_whenTryGetXxxFromStringIsCalled_thenThrowsNullPointerException( final String TEXT_IN ){
+        assertThrows( NullPointerException.class, () -> DateTimeUtil.tryGetLocalDateFromString( TEXT_IN ) );
+        assertThrows( NullPointerException.class, () -> DateTimeUtil.tryGetLocalDateTimeFromString( TEXT_IN ) );
+        assertThrows( NullPointerException.class, () -> DateTimeUtil.tryGetLocalTimeFromString( TEXT_IN ) );
+        assertThrows( NullPointerException.class, () -> DateTimeUtil.tryGetLocalDateFromString( DEFAULT_DATE_STR, DEFAULT_DATE_FORMATTER_STR, null,
+                                                                                               DEFAULT_LOCALE ) );
+    }
+
+    @ParameterizedTest
+    @ValueSource( strings = { "", "25/06/2021x", "2x/06/2021", "25/13/2021", "32/01/2021", "25 de junio de 2021", "25/06/+1234",
+                              "25/06/2021 17:36:27 and a very long tail that is longer than sixty-four characters" } )
+    @DisplayName( "DateTimeUtil.getLocalDateFromString( String:✗ ):DateTimeParseException without stack trace" )
+    void givenStacklessExceptions_whenGetLocalDateFromStringIsCalled_thenThrowsSameExceptionWithoutStackTrace( final String DATE_IN ){
+        final String PATTERN_IN = "dd/MM/yyyy";
+        final DateTimeParseException EXPECTED = assertThrows( DateTimeParseException.class, () -> DateTimeUtil.getLocalDateFromString( DATE_IN, PATTERN_IN ) );
+        DateTimeUtil.setStacklessExceptions( true );
+        try{
+            assertTrue( DateTimeUtil.isStacklessExceptions() );
+            final DateTimeParseException RESULT = assertThrows( DateTimeParseException.class, () -> DateTimeUtil.getLocalDateFromString( DATE_IN, PATTERN_IN ) );
+            final DateTimeParseException RESULT_TEXT = assertThrows( DateTimeParseException.class,
+                                                                     () -> DateTimeUtil.getLocalDateFromString( DATE_IN, "d 'de' MMMM 'de' yyyy" ) );
+
+            assertEquals( EXPECTED.getMessage(), RESULT.getMessage() );
+            assertEquals( EXPECTED.getParsedString(), RESULT.getParsedString() );
+            assertEquals( EXPECTED.getErrorIndex(), RESULT.getErrorIndex() );
+            assertEquals( 0, RESULT.getStackTrace().length );
+            assertEquals( 0, RESULT_TEXT.getStackTrace().length );
+            assertEquals( LocalDate.of( 2021, 6, 25 ), DateTimeUtil.getLocalDateFromString( DEFAULT_DATE_STR, PATTERN_IN ) );
+        }
+        finally{
+            DateTimeUtil.setStacklessExceptions( false );
+        }
+        assertFalse( DateTimeUtil.isStacklessExceptions() );
+    }
+
+    @ParameterizedTest
+    @ValueSource( strings = { "25/06/2021 17:60", "25/06/2021T17:36", "30/13/2021 10:00", "" } )
+    @DisplayName( "DateTimeUtil.getLocalDateTimeFromString( String:✗ ):Same DateTimeParseException without stack trace" )
+    void givenStacklessExceptions_whenGetLocalDateTimeFromStringIsCalled_thenThrowsSameException( final String DATE_TIME_IN ){
+        final DateTimeParseException EXPECTED = assertThrows( DateTimeParseException.class, () -> DateTimeUtil.getLocalDateTimeFromString( DATE_TIME_IN ) );
+        final DateTimeParseException EXPECTED_TIME = assertThrows( DateTimeParseException.class,
+                                                                   () -> DateTimeUtil.getLocalTimeFromString( DATE_TIME_IN, "HH:mm" ) );
+        DateTimeUtil.setStacklessExceptions( true );
+        try{
+            final DateTimeParseException RESULT = assertThrows( DateTimeParseException.class, () -> DateTimeUtil.getLocalDateTimeFromString( DATE_TIME_IN ) );
+            final DateTimeParseException RESULT_TIME = assertThrows( DateTimeParseException.class,
+                                                                     () -> DateTimeUtil.getLocalTimeFromString( DATE_TIME_IN, "HH:mm" ) );
+
+            assertEquals( EXPECTED.getMessage(), RESULT.getMessage() );
+            assertEquals( EXPECTED.getErrorIndex(), RESULT.getErrorIndex() );
+            assertEquals( EXPECTED_TIME.getMessage(), RESULT_TIME.getMessage() );
+            assertEquals( 0, RESULT.getStackTrace().length );
+            assertEquals( 0, RESULT_TIME.getStackTrace().length );
+        }
+        finally{
+            DateTimeUtil.setStacklessExceptions( false );
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource( strings = { "dd/MM/yyyy", "yyyy-MM-dd HH:mm:ss.SSS", "EEE dd/MM/uuuu", "dd MMM yyyy G", "hh:mm a", "KK:mm:ss a",
+                              "kk:mm", "HH", "HH:mm:ss.n", "yyyy-MM-dd[ HH:mm]", "dd/MM/yyyy HH:ss", "MM-dd HH:mm", "yy/MM/dd hh:mm" } )
+    @DisplayName( "CompiledPattern.getXxxFromString( String:[Out of range] ):Same result and message as DateTimeFormatter" )
+    void givenOutOfRangeFields_whenGetXxxFromStringIsCalled_thenReturnSameResultAndMessageAsDateTimeFormatter( final String PATTERN_IN ){
+        final CompiledPattern PATTERN = DateTimeUtil.compile( PATTERN_IN, Locale.ENGLISH );
+        final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern( PATTERN_IN, Locale.ENGLISH );
+        final Random RANDOM = new Random( 32 );
+
+        for( int i = 0; i < 3000; i++ ){
+            final LocalDateTime DATE_TIME = LocalDateTime.of( 1 + RANDOM.nextInt( 9999 ), 1 + RANDOM.nextInt( 12 ), 1 + RANDOM.nextInt( 28 ),
+                                                              RANDOM.nextInt( 24 ), RANDOM.nextInt( 60 ), RANDOM.nextInt( 60 ), RANDOM.nextInt( 1000 ) * 1000000 );
+            final char[] TEXT = FORMATTER.format( DATE_TIME ).toCharArray();
+            for( int j = 0; j < TEXT.length; j++ ){
+                if( Character.isDigit( TEXT[ j ] ) && RANDOM.nextInt( 3 ) == 0 ){
+                    TEXT[ j ] = (char) ( '0' + RANDOM.nextInt( 10 ) );
+                }
+            }
+            final String TEXT_IN = new String( TEXT );
+
+            assertEquals( outcomeOf( () -> FORMATTER.parse( TEXT_IN, LocalDate::from ) ), outcomeOf( () -> PATTERN.getLocalDateFromString( TEXT_IN ) ),
+                          TEXT_IN );
+            assertEquals( outcomeOf( () -> FORMATTER.parse( TEXT_IN, LocalTime::from ) ), outcomeOf( () -> PATTERN.getLocalTimeFromString( TEXT_IN ) ),
+                          TEXT_IN );
+            assertEquals( optionalOf( () -> FORMATTER.parse( TEXT_IN, LocalDateTime::from ) ), PATTERN.tryGetLocalDateTimeFromString( TEXT_IN ),
+                          TEXT_IN );
+            DateTimeUtil.setStacklessExceptions( true );
+            try{
+                assertEquals( outcomeOf( () -> FORMATTER.parse( TEXT_IN, LocalDateTime::from ) ),
+                              outcomeOf( () -> PATTERN.getLocalDateTimeFromString( TEXT_IN ) ), TEXT_IN );
+            }
+            finally{
+                DateTimeUtil.setStacklessExceptions( false );
+            }
+        }
+    }
+
+    @Test
+    @DisplayName( "CompiledPattern.getLocalDateFromString( String:[Out of range] ):DateTimeParseException without a JDK exception as cause" )
+    void givenOutOfRangeDate_whenGetLocalDateFromStringIsCalledWithStacklessExceptions_thenTheExceptionHasNoCause(){
+        final String DATE_IN = "32/13/2021";
+        final CompiledPattern PATTERN = DateTimeUtil.compile( DEFAULT_DATE_FORMATTER_STR );
+        final DateTimeParseException EXPECTED = assertThrows( DateTimeParseException.class, () -> PATTERN.getLocalDateFromString( DATE_IN ) );
+        DateTimeUtil.setStacklessExceptions( true );
+        try{
+            final DateTimeParseException RESULT = assertThrows( DateTimeParseException.class, () -> PATTERN.getLocalDateFromString( DATE_IN ) );
+
+            assertEquals( EXPECTED.getMessage(), RESULT.getMessage() );
+            assertEquals( EXPECTED.getErrorIndex(), RESULT.getErrorIndex() );
+            assertNull( RESULT.getCause() );
+            assertEquals( 0, RESULT.getStackTrace().length );
+        }
+        finally{
+            DateTimeUtil.setStacklessExceptions( false );
+        }
+        assertFalse( PATTERN.tryGetLocalDateFromString( DATE_IN ).isPresent() );
+    }
+
+    /**
+     * <p>Returns the result of the supplier, or the message of the "DateTimeParseException" it throws.</p>
+     */
+    private static Object outcomeOf( final Supplier<?> SUPPLIER ){
+        try{
+            return SUPPLIER.get();
+        }
+        catch( DateTimeParseException e ){
+            return e.getMessage();
+        }
+    }
+
+    /**
+     * <p>Returns the result of the supplier as "Optional", empty when it throws a "DateTimeParseException".</p>
+     */
+    private static <T> Optional<T> optionalOf( final Supplier<T> SUPPLIER ){
+        try{
+            return Optional.of( SUPPLIER.get() );
+        }
+        catch( DateTimeParseException e ){
+            return Optional.empty();
+        }
+    }
+
+
+    // ---------------------------------------------------------------------------------------------------- \\
+    // ---| Tests for the bulk methods.
+    // ---------------------------------------------------------------------------------------------------- \\
+
+    @Test
+    @DisplayName( "DateTimeUtil.getXxxsFromStrings( String[]:✓, String:✓, ZoneId:✓, Locale:✓ ):Same results as getXxxFromString" )
+    void givenStringArrays_whenGetXxxsFromStringsIsCalled_thenReturnSameResultsAsGetXxxFromString(){
+        final ZoneId ZONE_ID_IN = ZoneId.of( "Europe/Paris" );
+        final Locale LOCALE_IN = new Locale( "es", "ES" );
+        final String DATE_PATTERN_IN = "d 'de' MMMM 'de' yyyy";
+        final String DATE_TIME_PATTERN_IN = "yyyy-MM-dd'T'HH:mm:ss";
+        final String TIME_PATTERN_IN = "HH:mm:ss.SSS";
+        final LocalDateTime[] VALUES = randomLocalDateTimes( 2000 );
+        final String[] DATES_IN = new String[ VALUES.length ];
+        final String[] DATE_TIMES_IN = new String[ VALUES.length ];
+        final String[] TIMES_IN = new String[ VALUES.length ];
+        for( int i = 0; i < VALUES.length; i++ ){
+            DATES_IN[ i ] = VALUES[ i ].format( DateTimeFormatter.ofPattern( DATE_PATTERN_IN, LOCALE_IN ) );
+            DATE_TIMES_IN[ i ] = VALUES[ i ].format( DateTimeFormatter.ofPattern( DATE_TIME_PATTERN_IN ) );
+            TIMES_IN[ i ] = VALUES[ i ].format( DateTimeFormatter.ofPattern( TIME_PATTERN_IN ) );
+        }
+
+        final LocalDate[] LOCAL_DATES = DateTimeUtil.getLocalDatesFromStrings( DATES_IN, DATE_PATTERN_IN, ZONE_ID_IN, LOCALE_IN );
+        final LocalDateTime[] LOCAL_DATE_TIMES = DateTimeUtil.getLocalDateTimesFromStrings( DATE_TIMES_IN, DATE_TIME_PATTERN_IN, ZONE_ID_IN, LOCALE_IN );
+        final LocalTime[] LOCAL_TIMES = DateTimeUtil.getLocalTimesFromStrings( TIMES_IN, TIME_PATTERN_IN, ZONE_ID_IN, LOCALE_IN );
+        final Date[] DATES = DateTimeUtil.getDatesFromStrings( DATES_IN, DATE_PATTERN_IN, ZONE_ID_IN, LOCALE_IN );
+        final Date[] DATE_TIMES = DateTimeUtil.getDateTimesFromStrings( DATE_TIMES_IN, DATE_TIME_PATTERN_IN, ZONE_ID_IN, LOCALE_IN );
+
+        for( int i = 0; i < VALUES.length; i++ ){
+            assertEquals( DateTimeUtil.getLocalDateFromString( DATES_IN[ i ], DATE_PATTERN_IN, ZONE_ID_IN, LOCALE_IN ), LOCAL_DATES[ i ] );
+            assertEquals( DateTimeUtil.getLocalDateTimeFromString( DATE_TIMES_IN[ i ], DATE_TIME_PATTERN_IN, ZONE_ID_IN, LOCALE_IN ), LOCAL_DATE_TIMES[ i ] );
+            assertEquals( DateTimeUtil.getLocalTimeFromString( TIMES_IN[ i ], TIME_PATTERN_IN, ZONE_ID_IN, LOCALE_IN ), LOCAL_TIMES[ i ] );
+            assertEquals( DateTimeUtil.getDateFromString( DATES_IN[ i ], DATE_PATTERN_IN, ZONE_ID_IN, LOCALE_IN ), DATES[ i ] );
+            assertEquals( DateTimeUtil.getDateTimeFromString( DATE_TIMES_IN[ i ], DATE_TIME_PATTERN_IN, ZONE_ID_IN, LOCALE_IN ), DATE_TIMES[ i ] );
+        }
+        assertArrayEquals( new LocalDate[]{ LocalDate.parse( DEFAULT_DATE_STR, DEFAULT_DATE_FORMATTER ) },
+                           DateTimeUtil.getLocalDatesFromStrings( new String[]{ DEFAULT_DATE_STR } ) );
+    }
+
+    @Test
+    @DisplayName( "DateTimeUtil.formatXxxs( Xxx[]:✓, String:✓, ZoneId:✓, Locale:✓ ):Same results as formatXxx" )
+    void givenArrays_whenFormatXxxsIsCalled_thenReturnSameResultsAsFormatXxx(){
+        final ZoneId ZONE_ID_IN = ZoneId.of( "America/Sao_Paulo" );
+        final Locale LOCALE_IN = Locale.FRANCE;
+        final String FORMATTER_IN = "EEEE d MMMM uuuu HH:mm:ss";
+        final LocalDateTime[] LOCAL_DATE_TIMES_IN = randomLocalDateTimes( 2000 );
+        final LocalDate[] LOCAL_DATES_IN = new LocalDate[ LOCAL_DATE_TIMES_IN.length ];
+        final LocalTime[] LOCAL_TIMES_IN = new LocalTime[ LOCAL_DATE_TIMES_IN.length ];
+        final Date[] DATES_IN = new Date[ LOCAL_DATE_TIMES_IN.length ];
+        for( int i = 0; i < LOCAL_DATE_TIMES_IN.length; i++ ){
+            LOCAL_DATES_IN[ i ] = LOCAL_DATE_TIMES_IN[ i ].toLocalDate();
+            LOCAL_TIMES_IN[ i ] = LOCAL_DATE_TIMES_IN[ i ].toLocalTime();
+            DATES_IN[ i ] = Date.from( LOCAL_DATE_TIMES_IN[ i ].atZone( ZONE_ID_IN ).toInstant() );
+        }
+
+        final String[] FORMATTED_LOCAL_DATES = DateTimeUtil.formatDates( LOCAL_DATES_IN, "EEEE d MMMM uuuu", ZONE_ID_IN, LOCALE_IN );
+        final String[] FORMATTED_LOCAL_DATE_TIMES = DateTimeUtil.formatDateTimes( LOCAL_DATE_TIMES_IN, FORMATTER_IN, ZONE_ID_IN, LOCALE_IN );
+        final String[] FORMATTED_DATE_TIMES = DateTimeUtil.formatDateTimes( DATES_IN, FORMATTER_IN, ZONE_ID_IN, LOCALE_IN );
+        final String[] FORMATTED_DATES = DateTimeUtil.formatDates( DATES_IN, "dd/MM/yyyy", ZONE_ID_IN, LOCALE_IN );
+        final String[] FORMATTED_TIMES = DateTimeUtil.formatTimes( LOCAL_TIMES_IN, "HH:mm:ss.SSS", ZONE_ID_IN, LOCALE_IN );
+
+        for( int i = 0; i < LOCAL_DATE_TIMES_IN.length; i++ ){
+            assertEquals( DateTimeUtil.formatDate( LOCAL_DATES_IN[ i ], "EEEE d MMMM uuuu", ZONE_ID_IN, LOCALE_IN ), FORMATTED_LOCAL_DATES[ i ] );
+            assertEquals( DateTimeUtil.formatDateTime( LOCAL_DATE_TIMES_IN[ i ], FORMATTER_IN, ZONE_ID_IN, LOCALE_IN ), FORMATTED_LOCAL_DATE_TIMES[ i ] );
+            assertEquals( DateTimeUtil.formatDateTime( DATES_IN[ i ], FORMATTER_IN, ZONE_ID_IN, LOCALE_IN ), FORMATTED_DATE_TIMES[ i ] );
+            assertEquals( DateTimeUtil.formatDate( DATES_IN[ i ], "dd/MM/yyyy", ZONE_ID_IN, LOCALE_IN ), FORMATTED_DATES[ i ] );
+            assertEquals( DateTimeUtil.formatTime( LOCAL_TIMES_IN[ i ], "HH:mm:ss.SSS", ZONE_ID_IN, LOCALE_IN ), FORMATTED_TIMES[ i ] );
+        }
+        assertArrayEquals( new String[]{ DateTimeUtil.formatDate( DEFAULT_LOCAL_DATE ) }, DateTimeUtil.formatDates( new LocalDate[]{ DEFAULT_LOCAL_DATE } ) );
+    }
+
+    @Test
+    @DisplayName( "DateTimeUtil.formatXxxs( String[]:✓, String:✓, String:✓, ZoneId:✓, Locale:✓ ):Same results as formatXxx" )
+    void givenStringArrays_whenFormatXxxsIsCalled_thenReturnSameResultsAsFormatXxx(){
+        final ZoneId ZONE_ID_IN = ZoneId.of( "Europe/Paris" );
+        final LocalDateTime[] VALUES = randomLocalDateTimes( 2000 );
+        final String[] DATES_IN = new String[ VALUES.length ];
+        final String[] DATE_TIMES_IN = new String[ VALUES.length ];
+        final String[] TIMES_IN = new String[ VALUES.length ];
+        for( int i = 0; i < VALUES.length; i++ ){
+            DATES_IN[ i ] = VALUES[ i ].format( DEFAULT_DATE_FORMATTER );
+            DATE_TIMES_IN[ i ] = VALUES[ i ].format( DEFAULT_DATE_TIME_FORMATTER );
+            TIMES_IN[ i ] = VALUES[ i ].format( DEFAULT_TIME_FORMATTER );
+        }
+
+        final String[] DATES = DateTimeUtil.formatDates( DATES_IN, DEFAULT_DATE_FORMATTER_STR, "yyyy-MM-dd", ZONE_ID_IN, DEFAULT_LOCALE );
+        final String[] DATE_TIMES = DateTimeUtil.formatDateTimes( DATE_TIMES_IN, DEFAULT_DATE_TIME_FORMATTER_STR, "yyyy-MM-dd'T'HH:mm",
+                                                                  ZONE_ID_IN, DEFAULT_LOCALE );
+        final String[] TIMES = DateTimeUtil.formatTimes( TIMES_IN, "HH-mm-ss" );
+
+        for( int i = 0; i < VALUES.length; i++ ){
+            assertEquals( DateTimeUtil.formatDate( DATES_IN[ i ], DEFAULT_DATE_FORMATTER_STR, "yyyy-MM-dd", ZONE_ID_IN, DEFAULT_LOCALE ), DATES[ i ] );
+            assertEquals( DateTimeUtil.formatDateTime( DATE_TIMES_IN[ i ], DEFAULT_DATE_TIME_FORMATTER_STR, "yyyy-MM-dd'T'HH:mm", ZONE_ID_IN, DEFAULT_LOCALE ),
+                          DATE_TIMES[ i ] );
+            assertEquals( DateTimeUtil.formatTime( TIMES_IN[ i ], "HH-mm-ss" ), TIMES[ i ] );
+        }
+
+        final String[] EXPECTED = DateTimeUtil.formatDates( DATES_IN, "yyyyMMdd" );
+        final String[] RESULT = DateTimeUtil.formatDates( DATES_IN, DEFAULT_DATE_FORMATTER_STR, "yyyyMMdd", DEFAULT_ZONE_ID, DEFAULT_LOCALE, DATES_IN );
+        assertSame( DATES_IN, RESULT );
+        assertArrayEquals( EXPECTED, RESULT );
+    }
+
+    @Test
+    @DisplayName( "DateTimeUtil.getXxxsFromYyys( Yyy[]:✓, ZoneId:✓ ):Same results as getXxxFromYyy" )
+    void givenArrays_whenGetXxxsFromYyysIsCalled_thenReturnSameResultsAsGetXxxFromYyy(){
+        final ZoneId ZONE_ID_IN = ZoneId.of( "Australia/Lord_Howe" );
+        final LocalDateTime[] LOCAL_DATE_TIMES_IN = randomLocalDateTimes( 2000 );
+        final LocalDate[] LOCAL_DATES_IN = new LocalDate[ LOCAL_DATE_TIMES_IN.length ];
+        final Date[] DATES_IN = new Date[ LOCAL_DATE_TIMES_IN.length ];
+        for( int i = 0; i < LOCAL_DATE_TIMES_IN.length; i++ ){
+            LOCAL_DATES_IN[ i ] = LOCAL_DATE_TIMES_IN[ i ].toLocalDate();
+            DATES_IN[ i ] = new Date( LOCAL_DATE_TIMES_IN[ i ].toEpochSecond( ZoneOffset.UTC ) * 1000 );
+        }
+
+        final Date[] DATES_FROM_LOCAL_DATES = DateTimeUtil.getDatesFromLocalDates( LOCAL_DATES_IN, ZONE_ID_IN );
+        final Date[] DATES_FROM_LOCAL_DATE_TIMES = DateTimeUtil.getDatesFromLocalDateTimes( LOCAL_DATE_TIMES_IN, ZONE_ID_IN );
+        final LocalDate[] LOCAL_DATES_FROM_DATES = DateTimeUtil.getLocalDatesFromDates( DATES_IN, ZONE_ID_IN );
+        final LocalDateTime[] LOCAL_DATE_TIMES_FROM_DATES = DateTimeUtil.getLocalDateTimesFromDates( DATES_IN, ZONE_ID_IN );
+        final LocalTime[] LOCAL_TIMES_FROM_DATES = DateTimeUtil.getLocalTimesFromDates( DATES_IN, ZONE_ID_IN );
+        final LocalDateTime[] LOCAL_DATE_TIMES_FROM_LOCAL_DATES = DateTimeUtil.getLocalDateTimesFromLocalDates( LOCAL_DATES_IN, ZONE_ID_IN );
+        final LocalDate[] LOCAL_DATES_FROM_LOCAL_DATE_TIMES = DateTimeUtil.getLocalDatesFromLocalDateTimes( LOCAL_DATE_TIMES_IN, ZONE_ID_IN );
+        final LocalTime[] LOCAL_TIMES_FROM_LOCAL_DATE_TIMES = DateTimeUtil.getLocalTimesFromLocalDateTimes( LOCAL_DATE_TIMES_IN, ZONE_ID_IN );
+
+        for( int i = 0; i < LOCAL_DATE_TIMES_IN.length; i++ ){
+            assertEquals( DateTimeUtil.getDateFromLocalDate( LOCAL_DATES_IN[ i ], ZONE_ID_IN ), DATES_FROM_LOCAL_DATES[ i ] );
+            assertEquals( DateTimeUtil.getDateFromLocalDateTime( LOCAL_DATE_TIMES_IN[ i ], ZONE_ID_IN ), DATES_FROM_LOCAL_DATE_TIMES[ i ] );
+            assertEquals( DateTimeUtil.getLocalDateFromDate( DATES_IN[ i ], ZONE_ID_IN ), LOCAL_DATES_FROM_DATES[ i ] );
+            assertEquals( DateTimeUtil.getLocalDateTimeFromDate( DATES_IN[ i ], ZONE_ID_IN ), LOCAL_DATE_TIMES_FROM_DATES[ i ] );
+            assertEquals( DateTimeUtil.getLocalTimeFromDate( DATES_IN[ i ], ZONE_ID_IN ), LOCAL_TIMES_FROM_DATES[ i ] );
+            assertEquals( DateTimeUtil.getLocalDateTimeFromLocalDate( LOCAL_DATES_IN[ i ], ZONE_ID_IN ), LOCAL_DATE_TIMES_FROM_LOCAL_DATES[ i ] );
+            assertEquals( DateTimeUtil.getLocalDateFromLocalDateTime( LOCAL_DATE_TIMES_IN[ i ], ZONE_ID_IN ), LOCAL_DATES_FROM_LOCAL_DATE_TIMES[ i ] );
+            assertEquals( DateTimeUtil.getLocalTimeFromLocalDateTime( LOCAL_DATE_TIMES_IN[ i ], ZONE_ID_IN ), LOCAL_TIMES_FROM_LOCAL_DATE_TIMES[ i ] );
+        }
+    }
+
+    @Test
+    @DisplayName( "DateTimeUtil.getLocalDatesFromStrings( String[]:✓, String:✓, ZoneId:✓, Locale:✓, LocalDate[]:✓ ):LocalDate[]:Same array" )
+    void givenResultsArray_whenGetLocalDatesFromStringsIsCalled_thenReturnSameArray(){
+        final String[] DATES_IN = { "25/06/2021", "01/01/2000", "29/02/2024" };
+        final LocalDate[] RESULTS_IN = new LocalDate[ 4 ];
+
+        final LocalDate[] RESULT = DateTimeUtil.getLocalDatesFromStrings( DATES_IN, DEFAULT_DATE_FORMATTER_STR, DEFAULT_ZONE_ID, DEFAULT_LOCALE, RESULTS_IN );
+
+        assertSame( RESULTS_IN, RESULT );
+        assertArrayEquals( new LocalDate[]{ LocalDate.of( 2021, 6, 25 ), LocalDate.of( 2000, 1, 1 ), LocalDate.of( 2024, 2, 29 ), null }, RESULT );
+    }
+
+    @Test
+    @DisplayName( "DateTimeUtil.getLocalDatesFromStrings( String[]:[Invalid element] ):BulkConversionException" )
+    void givenInvalidElement_whenGetLocalDatesFromStringsIsCalled_thenThrowsBulkConversionException(){
+        final String[] DATES_IN = { "25/06/2021", "01/01/2000", "31/13/2021", "x", "29/02/2024" };
+        final LocalDate[] RESULTS_IN = new LocalDate[ DATES_IN.length ];
+
+        final BulkConversionException RESULT = assertThrows( BulkConversionException.class,
+                                                             () -> DateTimeUtil.getLocalDatesFromStrings( DATES_IN, DEFAULT_DATE_FORMATTER_STR, DEFAULT_ZONE_ID,
+                                                                                                          DEFAULT_LOCALE, RESULTS_IN ) );
+
+        assertEquals( 2, RESULT.getIndex() );
+        assertTrue( RESULT.getCause() instanceof DateTimeParseException );
+        assertEquals( LocalDate.of( 2000, 1, 1 ), RESULTS_IN[ 1 ] );
+        assertNull( RESULTS_IN[ 2 ] );
+        assertEquals( 1, assertThrows( BulkConversionException.class, () -> DateTimeUtil.formatDates( new LocalDate[]{ DEFAULT_LOCAL_DATE, null } ) ).getIndex() );
+    }
+
+    @Test
+    @DisplayName( "DateTimeUtil.getXxxsFromYyys( Yyy[]:✗ ):NullPointerException or IllegalArgumentException" )
+    void givenIncorrectArrays_whenBulkMethodsAreCalled_thenThrowsException(){
+        final String[] DATES_IN = { DEFAULT_DATE_STR, DEFAULT_DATE_STR };
+
+        assertThrows( NullPointerException.class, () -> DateTimeUtil.getLocalDatesFromStrings( null ) );
+        assertThrows( NullPointerException.class, () -> DateTimeUtil.getLocalDatesFromStrings( DATES_IN, DEFAULT_DATE_FORMATTER_STR, DEFAULT_ZONE_ID, DEFAULT_LOCALE,
+                                                                                               null ) );
+        assertThrows( NullPointerException.class, () -> DateTimeUtil.getDatesFromLocalDates( new LocalDate[ 0 ], null ) );
+        assertThrows( IllegalArgumentException.class, () -> DateTimeUtil.getLocalDatesFromStrings( DATES_IN, DEFAULT_DATE_FORMATTER_STR, DEFAULT_ZONE_ID,
+                                                                                                   DEFAULT_LOCALE, new LocalDate[ 1 ] ) );
+        assertThrows( IllegalArgumentException.class, () -> DateTimeUtil.formatDates( DATES_IN, "tt/MM/yyyy" ) );
+        assertEquals( 0, DateTimeUtil.formatDateTimes( new Date[ 0 ] ).length );
+    }
+
+    // ---| Tests for the parallel bulk methods.
+
+    @Test
+    @DisplayName( "DateTimeUtil.getXxxsFromYyys( Yyy[]:✓, ForkJoinPool:✓ ):Xxx[]:Same as sequential" )
+    void givenLargeArrays_whenParallelBulkMethodsAreCalled_thenReturnSameAsSequential(){
+        final ZoneId ZONE_ID_IN = ZoneId.of( "Europe/Madrid" );
+        final LocalDateTime[] LOCAL_DATE_TIMES_IN = randomLocalDateTimes( 100000 );
+        final String[] DATE_TIMES_IN = DateTimeUtil.formatDateTimes( LOCAL_DATE_TIMES_IN, DEFAULT_DATE_TIME_FORMATTER_STR, ZONE_ID_IN, DEFAULT_LOCALE );
+        final ForkJoinPool POOL_IN = new ForkJoinPool( 4 );
+
+        try{
+            for( final ForkJoinPool POOL : new ForkJoinPool[]{ ForkJoinPool.commonPool(), POOL_IN } ){
+                final int LENGTH = LOCAL_DATE_TIMES_IN.length;
+                assertArrayEquals( DateTimeUtil.getLocalDateTimesFromStrings( DATE_TIMES_IN, DEFAULT_DATE_TIME_FORMATTER_STR, ZONE_ID_IN, DEFAULT_LOCALE ),
+                                   DateTimeUtil.getLocalDateTimesFromStrings( DATE_TIMES_IN, DEFAULT_DATE_TIME_FORMATTER_STR, ZONE_ID_IN, DEFAULT_LOCALE,
+                                                                              new LocalDateTime[ LENGTH ], POOL ) );
+                assertArrayEquals( DATE_TIMES_IN, DateTimeUtil.formatDateTimes( LOCAL_DATE_TIMES_IN, DEFAULT_DATE_TIME_FORMATTER_STR, ZONE_ID_IN, DEFAULT_LOCALE,
+                                                                                 new String[ LENGTH ], POOL ) );
+                assertArrayEquals( DateTimeUtil.getDatesFromLocalDateTimes( LOCAL_DATE_TIMES_IN, ZONE_ID_IN ),
+                                   DateTimeUtil.getDatesFromLocalDateTimes( LOCAL_DATE_TIMES_IN, ZONE_ID_IN, new Date[ LENGTH ], POOL ) );
+                assertArrayEquals( DateTimeUtil.formatDates( DATE_TIMES_IN, DEFAULT_DATE_TIME_FORMATTER_STR, "yyyy-MM-dd", ZONE_ID_IN, DEFAULT_LOCALE ),
+                                   DateTimeUtil.formatDates( DATE_TIMES_IN.clone(), DEFAULT_DATE_TIME_FORMATTER_STR, "yyyy-MM-dd", ZONE_ID_IN, DEFAULT_LOCALE,
+                                                             new String[ LENGTH ], POOL ) );
+            }
+        }
+        finally{
+            POOL_IN.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName( "DateTimeUtil.getLocalDatesFromStrings( String[]:[Invalid elements], ForkJoinPool:✓ ):BulkConversionException:Lowest index" )
+    void givenInvalidElements_whenParallelGetLocalDatesFromStringsIsCalled_thenThrowsExceptionOfLowestIndex(){
+        final String[] DATES_IN = new String[ 100000 ];
+        Arrays.fill( DATES_IN, DEFAULT_DATE_STR );
+        DATES_IN[ 99000 ] = "x";
+        DATES_IN[ 61234 ] = "31/13/2021";
+        DATES_IN[ 70000 ] = "x";
+        final LocalDate[] RESULTS_IN = new LocalDate[ DATES_IN.length ];
+
+        final BulkConversionException RESULT = assertThrows( BulkConversionException.class,
+                                                             () -> DateTimeUtil.getLocalDatesFromStrings( DATES_IN, DEFAULT_DATE_FORMATTER_STR, DEFAULT_ZONE_ID,
+                                                                                                          DEFAULT_LOCALE, RESULTS_IN, ForkJoinPool.commonPool() ) );
+
+        assertEquals( 61234, RESULT.getIndex() );
+        assertTrue( RESULT.getCause() instanceof DateTimeParseException );
+        for( int i = 0; i < 61234; i++ ){
+            assertEquals( LocalDate.of( 2021, 6, 25 ), RESULTS_IN[ i ] );
+        }
+        assertNull( RESULTS_IN[ 61234 ] );
+    }
+
+    @Test
+    @DisplayName( "DateTimeUtil.getLocalDatesFromStrings( String[]:✓, ForkJoinPool:✗ ):NullPointerException" )
+    void givenNullPool_whenParallelGetLocalDatesFromStringsIsCalled_thenThrowsNullPointerException(){
+        final String[] DATES_IN = { DEFAULT_DATE_STR };
+
+        assertThrows( NullPointerException.class, () -> DateTimeUtil.getLocalDatesFromStrings( DATES_IN, DEFAULT_DATE_FORMATTER_STR, DEFAULT_ZONE_ID, DEFAULT_LOCALE,
+                                                                                               new LocalDate[ 1 ], null ) );
+        assertArrayEquals( new LocalDate[]{ LocalDate.of( 2021, 6, 25 ) },
+                           DateTimeUtil.getLocalDatesFromStrings( DATES_IN, DEFAULT_DATE_FORMATTER_STR, DEFAULT_ZONE_ID, DEFAULT_LOCALE, new LocalDate[ 1 ],
+                                                                  ForkJoinPool.commonPool() ) );
+    }
+
+    // ---| Tests for the columnar methods.
+
+    @Test
+    @DisplayName( "DateTimeUtil.getEpochMillisFromStrings( String[]:✓, String:✓, ZoneId:✓, Locale:✓, long[]:✓ ):BitSet:Empty" )
+    void givenValidDateTimes_whenGetEpochMillisFromStringsIsCalled_thenReturnEpochMillis(){
+        final ZoneId ZONE_ID_IN = ZoneId.of( "Europe/Madrid" );
+        final LocalDateTime[] LOCAL_DATE_TIMES_IN = randomLocalDateTimes( 1000 );
+        for( final String PATTERN_IN : new String[]{ DEFAULT_DATE_TIME_FORMATTER_STR, "yyyyMMddHHmmss.SSS", "EEEE, d 'de' MMMM 'de' yyyy HH:mm:ss.SSS" } ){
+            final String[] DATE_TIMES_IN = DateTimeUtil.formatDateTimes( LOCAL_DATE_TIMES_IN, PATTERN_IN, ZONE_ID_IN, DEFAULT_LOCALE );
+            final long[] RESULTS_IN = new long[ DATE_TIMES_IN.length ];
+
+            final BitSet RESULT = DateTimeUtil.getEpochMillisFromStrings( DATE_TIMES_IN, PATTERN_IN, ZONE_ID_IN, DEFAULT_LOCALE, RESULTS_IN );
+
+            assertTrue( RESULT.isEmpty() );
+            for( int i = 0; i < DATE_TIMES_IN.length; i++ ){
+                assertEquals( DateTimeUtil.getEpochMillisFromString( DATE_TIMES_IN[ i ], PATTERN_IN, ZONE_ID_IN, DEFAULT_LOCALE ), RESULTS_IN[ i ] );
+            }
+        }
+    }
+
+    @Test
+    @DisplayName( "DateTimeUtil.getEpochMillisFromStrings( List:[Invalid elements], long[]:✓ ):BitSet:Invalid rows" )
+    void givenInvalidDateTimes_whenGetEpochMillisFromStringsIsCalled_thenReturnInvalidRows(){
+        final List<CharSequence> DATE_TIMES_IN = Arrays.asList( "25/06/2021 17:36", new StringBuilder( "01/01/2000 00:00" ), "31/13/2021 10:00", null, "x",
+                                                                "29/02/2024 23:59", "25/06/2021 17:36 " );
+        final long[] RESULTS_IN = new long[ DATE_TIMES_IN.size() ];
+        Arrays.fill( RESULTS_IN, -1L );
+
+        final BitSet RESULT = DateTimeUtil.getEpochMillisFromStrings( DATE_TIMES_IN, DEFAULT_DATE_TIME_FORMATTER_STR, ZoneOffset.UTC, DEFAULT_LOCALE, RESULTS_IN );
+
+        assertEquals( BitSet.valueOf( new long[]{ 0b1011100L } ), RESULT );
+        assertArrayEquals( new long[]{ 1624642560000L, 946684800000L, 0L, 0L, 0L, 1709251140000L, 0L }, RESULTS_IN );
+        assertEquals( 0, DateTimeUtil.getEpochMillisFromStrings( new String[ 0 ], new long[ 0 ] ).cardinality() );
+    }
+
+    @Test
+    @DisplayName( "DateTimeUtil.getEpochDaysFromStrings( String[]:✓, int[]:✓ ):BitSet:Invalid rows" )
+    void givenDates_whenGetEpochDaysFromStringsIsCalled_thenReturnEpochDaysAndInvalidRows(){
+        final String[] DATES_IN = { "25/06/2021", "01/01/1970", "31/12/1969", "30/02/2021", "", null, "01/01/0001" };
+        final int[] RESULTS_IN = new int[ DATES_IN.length + 1 ];
+        RESULTS_IN[ DATES_IN.length ] = 7;
+
+        final BitSet RESULT = DateTimeUtil.getEpochDaysFromStrings( DATES_IN, RESULTS_IN );
+
+        assertEquals( BitSet.valueOf( new long[]{ 0b0110000L } ), RESULT );
+        assertArrayEquals( new int[]{ 18803, 0, -1, 18686, 0, 0, -719162, 7 }, RESULTS_IN );
+        assertTrue( DateTimeUtil.getEpochDaysFromStrings( Arrays.asList( "+999999999-12-31", "2021-06-25" ), "uuuu-MM-dd", DEFAULT_ZONE_ID, DEFAULT_LOCALE,
+                                                          RESULTS_IN ).get( 0 ) );
+        assertEquals( 18803, RESULTS_IN[ 1 ] );
+    }
+
+    @Test
+    @DisplayName( "DateTimeUtil.getEpochXxxFromStrings( Yyy[]:✗ ):NullPointerException or IllegalArgumentException" )
+    void givenIncorrectArrays_whenColumnarMethodsAreCalled_thenThrowsException(){
+        final String[] DATES_IN = { DEFAULT_DATE_STR, DEFAULT_DATE_STR };
+
+        assertThrows( NullPointerException.class, () -> DateTimeUtil.getEpochDaysFromStrings( null, new int[ 2 ] ) );
+        assertThrows( NullPointerException.class, () -> DateTimeUtil.getEpochDaysFromStrings( DATES_IN, null ) );
+        assertThrows( NullPointerException.class, () -> DateTimeUtil.getEpochMillisFromStrings( Arrays.asList( DATES_IN ), DEFAULT_DATE_FORMATTER_STR, null,
+                                                                                                DEFAULT_LOCALE, new long[ 2 ] ) );
+        assertThrows( IllegalArgumentException.class, () -> DateTimeUtil.getEpochDaysFromStrings( DATES_IN, new int[ 1 ] ) );
+        assertThrows( IllegalArgumentException.class, () -> DateTimeUtil.getEpochMillisFromStrings( DATES_IN, "tt/MM/yyyy", DEFAULT_ZONE_ID, DEFAULT_LOCALE,
+                                                                                                    new long[ 2 ] ) );
+    }
+
+    // ---| Tests for "DateColumnTransformer" class.
+
+    @Test
+    @DisplayName( "DateColumnTransformer.transform( Reader:✓, Writer:✓ ):long:Date columns rewritten" )
+    void givenDelimitedText_whenTransformIsCalled_thenRewriteDateColumns() throws IOException{
+        final DateColumnTransformer TRANSFORMER_IN = new DateColumnTransformer( ';', ZoneOffset.UTC, Locale.US )
+                .withHeaderLines( 1 )
+                .withDateColumn( 0, "dd/MM/yyyy", "yyyy-MM-dd" )
+                .withDateTimeColumn( 2, "dd/MM/yyyy HH:mm", "yyyy-MM-dd'T'HH:mm" )
+                .withTimeColumn( 3, "HH:mm:ss", "h:mm a" );
+        final String TEXT_IN = "date;name;dateTime;time\n"
+                               + "25/06/2021;first;25/06/2021 17:36;17:36:27\r\n"
+                               + "\"01/01/2000\";\"second; with \"\"quotes\"\"\";;00:00:00;extra\n"
+                               + ";;29/02/2024 23:59";
+        final StringWriter WRITER_IN = new StringWriter();
+
+        final long RESULT = TRANSFORMER_IN.transform( new StringReader( TEXT_IN ), WRITER_IN );
+
+        assertEquals( 4, RESULT );
+        assertEquals( "date;name;dateTime;time\n"
+                      + "2021-06-25;first;2021-06-25T17:36;5:36 PM\r\n"
+                      + "\"2000-01-01\";\"second; with \"\"quotes\"\"\";;12:00 AM;extra\n"
+                      + ";;2024-02-29T23:59", WRITER_IN.toString() );
+    }
+
+    @Test
+    @DisplayName( "DateColumnTransformer.transform( ReadableByteChannel:[Large text], WritableByteChannel:✓, Charset:✓ ):long:Same as formatDate" )
+    void givenLargeText_whenTransformIsCalledWithChannels_thenRewriteEveryLine() throws IOException{
+        final LocalDateTime[] LOCAL_DATE_TIMES_IN = randomLocalDateTimes( 20000 );
+        final StringBuilder TEXT_IN = new StringBuilder();
+        final StringBuilder EXPECTED = new StringBuilder();
+        for( int i = 0; i < LOCAL_DATE_TIMES_IN.length; i++ ){
+            final String DATE_TIME = DateTimeUtil.formatDateTime( LOCAL_DATE_TIMES_IN[ i ] );
+            TEXT_IN.append( i ).append( ",ñandú," ).append( DATE_TIME ).append( '\n' );
+            EXPECTED.append( i ).append( ",ñandú," ).append( DateTimeUtil.formatDateTime( DATE_TIME, DEFAULT_DATE_TIME_FORMATTER_STR, "EEEE d MMMM uuuu, HH:mm" ) )
+                    .append( '\n' );
+        }
+        final ByteArrayOutputStream OUTPUT_IN = new ByteArrayOutputStream();
+
+        final long RESULT = new DateColumnTransformer( ',' ).withDateTimeColumn( 2, DEFAULT_DATE_TIME_FORMATTER_STR, "EEEE d MMMM uuuu, HH:mm" )
+                .transform( Channels.newChannel( new ByteArrayInputStream( TEXT_IN.toString().getBytes( StandardCharsets.UTF_8 ) ) ),
+                            Channels.newChannel( OUTPUT_IN ), StandardCharsets.UTF_8 );
+
+        assertEquals( LOCAL_DATE_TIMES_IN.length, RESULT );
+        assertEquals( EXPECTED.toString(), new String( OUTPUT_IN.toByteArray(), StandardCharsets.UTF_8 ) );
+    }
+
+    @Test
+    @DisplayName( "DateColumnTransformer.transform( Reader:[Invalid value], Writer:✓ ):DateColumnTransformException" )
+    void givenInvalidValue_whenTransformIsCalled_thenThrowsDateColumnTransformException(){
+        final DateColumnTransformer TRANSFORMER_IN = new DateColumnTransformer( '\t' ).withDateColumn( 1, DEFAULT_DATE_FORMATTER_STR, "yyyyMMdd" );
+        final char[] LONG_VALUE = new char[ 1000 ];
+        Arrays.fill( LONG_VALUE, '1' );
+
+        final DateColumnTransformException RESULT = assertThrows( DateColumnTransformException.class,
+                                                                  () -> TRANSFORMER_IN.transform( new StringReader( "a\t25/06/2021\nb\t31/13/2021\n" ), new StringWriter() ) );
+        final DateColumnTransformException RESULT_LONG = assertThrows( DateColumnTransformException.class,
+                                                                       () -> TRANSFORMER_IN.transform( new StringReader( "a\t" + new String( LONG_VALUE ) ),
+                                                                                                       new StringWriter() ) );
+
+        assertEquals( 2, RESULT.getLineNumber() );
+        assertEquals( 1, RESULT.getColumn() );
+        assertTrue( RESULT.getCause() instanceof DateTimeParseException );
+        assertEquals( 1, RESULT_LONG.getLineNumber() );
+        assertTrue( RESULT_LONG.getCause() instanceof DateTimeParseException );
+    }
+
+    @Test
+    @DisplayName( "DateColumnTransformer.transform( Path:[Large file], Path:✓, Charset:✓, ForkJoinPool:✓ ):long:Same as sequential" )
+    void givenLargeFile_whenTransformIsCalledWithPaths_thenWriteSameAsSequential( @TempDir final Path DIRECTORY_IN ) throws IOException{
+        final LocalDateTime[] LOCAL_DATE_TIMES_IN = randomLocalDateTimes( 100000 );
+        final StringBuilder TEXT_IN = new StringBuilder( "id;name;dateTime\r\n" );
+        for( int i = 0; i < LOCAL_DATE_TIMES_IN.length; i++ ){
+            TEXT_IN.append( i ).append( ";\"ñandú; " ).append( i % 7 ).append( "\";" ).append( DateTimeUtil.formatDateTime( LOCAL_DATE_TIMES_IN[ i ] ) ).append( "\r\n" );
+        }
+        final Path INPUT_IN = DIRECTORY_IN.resolve( "input.csv" );
+        final Path OUTPUT_IN = DIRECTORY_IN.resolve( "output.csv" );
+        Files.write( INPUT_IN, TEXT_IN.toString().getBytes( StandardCharsets.UTF_8 ) );
+        final DateColumnTransformer TRANSFORMER_IN = new DateColumnTransformer( ';' ).withHeaderLines( 1 )
+                .withDateTimeColumn( 2, DEFAULT_DATE_TIME_FORMATTER_STR, "yyyy-MM-dd'T'HH:mm" );
+        final StringWriter EXPECTED = new StringWriter();
+        TRANSFORMER_IN.transform( new StringReader( TEXT_IN.toString() ), EXPECTED );
+        final ForkJoinPool POOL_IN = new ForkJoinPool( 4 );
+
+        try{
+            for( final ForkJoinPool POOL : new ForkJoinPool[]{ ForkJoinPool.commonPool(), POOL_IN } ){
+                final long RESULT = TRANSFORMER_IN.transform( INPUT_IN, OUTPUT_IN, StandardCharsets.UTF_8, POOL );
+
+                assertEquals( LOCAL_DATE_TIMES_IN.length + 1, RESULT );
+                assertEquals( EXPECTED.toString(), new String( Files.readAllBytes( OUTPUT_IN ), StandardCharsets.UTF_8 ) );
+            }
+        }
+        finally{
+            POOL_IN.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName( "DateColumnTransformer.transform( Path:[Quoted line ends], Path:✓, Charset:✓, ForkJoinPool:✓ ):long:Same as sequential" )
+    void givenLargeFileWithQuotedLineEnds_whenTransformIsCalledWithPaths_thenWriteSameAsSequential( @TempDir final Path DIRECTORY_IN ) throws IOException{
+        final LocalDateTime[] LOCAL_DATE_TIMES_IN = randomLocalDateTimes( 60000 );
+        final StringBuilder TEXT_IN = new StringBuilder( "id;\"name\n(with a line end)\";dateTime\n" );
+        for( int i = 0; i < LOCAL_DATE_TIMES_IN.length; i++ ){
+            TEXT_IN.append( i ).append( ";\"first line of the note " ).append( i % 7 ).append( "\nsecond line; \"\"quoted\"\"\r\nthird line\";" )
+                   .append( DateTimeUtil.formatDateTime( LOCAL_DATE_TIMES_IN[ i ] ) ).append( '\n' );
+        }
+        final Path INPUT_IN = DIRECTORY_IN.resolve( "input.csv" );
+        final Path OUTPUT_IN = DIRECTORY_IN.resolve( "output.csv" );
+        Files.write( INPUT_IN, TEXT_IN.toString().getBytes( StandardCharsets.UTF_8 ) );
+        final DateColumnTransformer TRANSFORMER_IN = new DateColumnTransformer( ';' ).withHeaderLines( 1 )
+                .withDateTimeColumn( 2, DEFAULT_DATE_TIME_FORMATTER_STR, "yyyy-MM-dd'T'HH:mm" );
+        final StringWriter EXPECTED = new StringWriter();
+        final long EXPECTED_LINES = TRANSFORMER_IN.transform( new StringReader( TEXT_IN.toString() ), EXPECTED );
+        final ForkJoinPool POOL_IN = new ForkJoinPool( 4 );
+
+        try{
+            final long RESULT = TRANSFORMER_IN.transform( INPUT_IN, OUTPUT_IN, StandardCharsets.UTF_8, POOL_IN );
+
+            assertEquals( LOCAL_DATE_TIMES_IN.length + 1, EXPECTED_LINES );
+            assertEquals( EXPECTED_LINES, RESULT );
+            assertEquals( EXPECTED.toString(), new String( Files.readAllBytes( OUTPUT_IN ), StandardCharsets.UTF_8 ) );
+        }
+        finally{
+            POOL_IN.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName( "DateColumnTransformer.transform( Path:[Invalid value], Path:✓, Charset:✓ ):DateColumnTransformException:Absolute line" )
+    void givenInvalidValueInLargeFile_whenTransformIsCalledWithPaths_thenThrowsExceptionWithAbsoluteLine( @TempDir final Path DIRECTORY_IN ) throws IOException{
+        final StringBuilder TEXT_IN = new StringBuilder();
+        for( int i = 1; i <= 300000; i++ ){
+            TEXT_IN.append( i ).append( ',' ).append( i == 250000 ? "31/13/2021" : DEFAULT_DATE_STR ).append( '\n' );
+        }
+        final Path INPUT_IN = DIRECTORY_IN.resolve( "input.csv" );
+        Files.write( INPUT_IN, TEXT_IN.toString().getBytes( StandardCharsets.ISO_8859_1 ) );
+        final DateColumnTransformer TRANSFORMER_IN = new DateColumnTransformer( ',' ).withDateColumn( 1, DEFAULT_DATE_FORMATTER_STR, "yyyyMMdd" );
+
+        final DateColumnTransformException RESULT = assertThrows( DateColumnTransformException.class,
+                                                                  () -> TRANSFORMER_IN.transform( INPUT_IN, DIRECTORY_IN.resolve( "output.csv" ),
+                                                                                                  StandardCharsets.ISO_8859_1 ) );
+
+        assertEquals( 250000, RESULT.getLineNumber() );
+        assertEquals( 1, RESULT.getColumn() );
+        assertThrows( IllegalArgumentException.class, () -> TRANSFORMER_IN.transform( INPUT_IN, INPUT_IN, StandardCharsets.ISO_8859_1 ) );
+        assertThrows( IllegalArgumentException.class, () -> TRANSFORMER_IN.transform( INPUT_IN, DIRECTORY_IN.resolve( "utf16.csv" ), StandardCharsets.UTF_16 ) );
+        assertEquals( 0, TRANSFORMER_IN.transform( Files.createFile( DIRECTORY_IN.resolve( "empty.csv" ) ), DIRECTORY_IN.resolve( "output.csv" ),
+                                                   StandardCharsets.UTF_8 ) );
+    }
+
+    @Test
+    @DisplayName( "DateColumnTransformer( char:✗ ) and withXxx( int:✗ ):IllegalArgumentException" )
+    void givenIncorrectArguments_whenDateColumnTransformerIsConfigured_thenThrowsException(){
+        final DateColumnTransformer TRANSFORMER_IN = new DateColumnTransformer( ',' );
+
+        assertThrows( IllegalArgumentException.class, () -> new DateColumnTransformer( '\n' ) );
+        assertThrows( IllegalArgumentException.class, () -> new DateColumnTransformer( '"' ) );
+        assertThrows( NullPointerException.class, () -> new DateColumnTransformer( ',', null, DEFAULT_LOCALE ) );
+        assertThrows( IllegalArgumentException.class, () -> TRANSFORMER_IN.withDateColumn( -1, DEFAULT_DATE_FORMATTER_STR, DEFAULT_DATE_FORMATTER_STR ) );
+        assertThrows( IllegalArgumentException.class, () -> TRANSFORMER_IN.withDateColumn( 0, "tt/MM/yyyy", DEFAULT_DATE_FORMATTER_STR ) );
+        assertThrows( IllegalArgumentException.class, () -> TRANSFORMER_IN.withHeaderLines( -1 ) );
+        assertThrows( NullPointerException.class, () -> TRANSFORMER_IN.transform( null, new StringWriter() ) );
+    }
+
+    // ---| Tests for "DateTimeStreams" class.
+
+    @Test
+    @DisplayName( "DateTimeStreams.getEpochMillisFromStrings( Stream:✓, String:✓, ZoneId:✓, Locale:✓ ):LongStream:Epoch millis" )
+    void givenStreamOfDateTimes_whenGetEpochMillisFromStringsIsCalled_thenReturnEpochMillis(){
+        final ZoneId ZONE_ID_IN = ZoneId.of( "Europe/Madrid" );
+        final String PATTERN_IN = "yyyyMMddHHmmss.SSS";
+        final String[] DATE_TIMES_IN = DateTimeUtil.formatDateTimes( randomLocalDateTimes( 10000 ), PATTERN_IN, ZONE_ID_IN, DEFAULT_LOCALE );
+        final long[] EXPECTED = new long[ DATE_TIMES_IN.length ];
+        for( int i = 0; i < DATE_TIMES_IN.length; i++ ){
+            EXPECTED[ i ] = DateTimeUtil.getEpochMillisFromString( DATE_TIMES_IN[ i ], PATTERN_IN, ZONE_ID_IN, DEFAULT_LOCALE );
+        }
+
+        final long[] RESULT = DateTimeStreams.getEpochMillisFromStrings( Arrays.stream( DATE_TIMES_IN ), PATTERN_IN, ZONE_ID_IN, DEFAULT_LOCALE ).toArray();
+        final long[] PARALLEL_RESULT = DateTimeStreams.getEpochMillisFromStrings( Arrays.asList( DATE_TIMES_IN ).iterator(), PATTERN_IN, ZONE_ID_IN, DEFAULT_LOCALE )
+                                                      .parallel().toArray();
+        final long[] LINES_RESULT = DateTimeStreams.getEpochMillisFromStrings( new BufferedReader( new StringReader( String.join( "\n", DATE_TIMES_IN ) ) ).lines()
+                                                                                       .parallel(), PATTERN_IN, ZONE_ID_IN, DEFAULT_LOCALE ).toArray();
+
+        assertArrayEquals( EXPECTED, RESULT );
+        assertArrayEquals( EXPECTED, PARALLEL_RESULT );
+        assertArrayEquals( EXPECTED, LINES_RESULT );
+    }
+
+    @Test
+    @DisplayName( "DateTimeStreams.getLocalDatesFromStrings( Iterator:✓ ):Stream:Parsed lazily" )
+    void givenIteratorOfDates_whenGetLocalDatesFromStringsIsCalled_thenParseLazily(){
+        final Iterator<String> DATES_IN = Arrays.asList( DEFAULT_DATE_STR, "01/01/2000", "not a date" ).iterator();
+
+        final Stream<LocalDate> RESULT = DateTimeStreams.getLocalDatesFromStrings( DATES_IN );
+
+        assertTrue( DATES_IN.hasNext() );
+        assertEquals( Arrays.asList( LocalDate.of( 2021, 6, 25 ), LocalDate.of( 2000, 1, 1 ) ), RESULT.limit( 2 ).collect( Collectors.toList() ) );
+        assertTrue( DATES_IN.hasNext() );
+        assertThrows( DateTimeParseException.class, () -> DateTimeStreams.getLocalDatesFromStrings( Stream.of( "not a date" ) ).toArray() );
+    }
+
+    @Test
+    @DisplayName( "DateTimeStreams.formatXxx( Yyy:✓, String:✓, ZoneId:✓, Locale:✓ ):Stream:Formatted" )
+    void givenStreams_whenFormatMethodsAreCalled_thenReturnFormattedStrings(){
+        final ZoneId ZONE_ID_IN = ZoneId.of( "Europe/Madrid" );
+        final long[] EPOCH_MILLIS_IN = { 0L, 1624642560000L, -1L };
+        final List<LocalDate> DATES_IN = Arrays.asList( LocalDate.of( 2021, 6, 25 ), LocalDate.of( 1, 1, 1 ) );
+
+        final List<String> RESULT = DateTimeStreams.formatEpochMillis( LongStream.of( EPOCH_MILLIS_IN ).parallel(), "yyyy-MM-dd'T'HH:mm:ss.SSS", ZONE_ID_IN,
+                                                                       DEFAULT_LOCALE ).collect( Collectors.toList() );
+        final List<String> DATES_RESULT = DateTimeStreams.formatDates( DATES_IN.stream() ).collect( Collectors.toList() );
+
+        assertEquals( Arrays.asList( "1970-01-01T01:00:00.000", "2021-06-25T19:36:00.000", "1970-01-01T00:59:59.999" ), RESULT );
+        assertEquals( Arrays.asList( DEFAULT_DATE_STR, "01/01/0001" ), DATES_RESULT );
+        assertEquals( DateTimeUtil.formatEpochMillis( 1624642560000L ), DateTimeStreams.formatEpochMillis( LongStream.of( 1624642560000L ) ).findFirst().get() );
+    }
+
+    @Test
+    @DisplayName( "DateTimeStreams.minLocalDate|maxLocalDate|countByLocalDate( String:✓, ZoneId:✓, Locale:✓ ):Collector:Days" )
+    void givenDateTimes_whenDayCollectorsAreUsed_thenReturnMinMaxAndCounts(){
+        final LocalDateTime[] LOCAL_DATE_TIMES_IN = randomLocalDateTimes( 5000 );
+        final String[] DATE_TIMES_IN = DateTimeUtil.formatDateTimes( LOCAL_DATE_TIMES_IN, DEFAULT_DATE_TIME_FORMATTER_STR, ZoneOffset.UTC, DEFAULT_LOCALE );
+        final SortedMap<LocalDate, Long> EXPECTED = new TreeMap<>();
+        for( final LocalDateTime LOCAL_DATE_TIME : LOCAL_DATE_TIMES_IN ){
+            EXPECTED.merge( LOCAL_DATE_TIME.toLocalDate(), 1L, Long::sum );
+        }
+
+        final Optional<LocalDate> MIN = Arrays.stream( DATE_TIMES_IN ).parallel()
+                                              .collect( DateTimeStreams.minLocalDate( DEFAULT_DATE_TIME_FORMATTER_STR, ZoneOffset.UTC, DEFAULT_LOCALE ) );
+        final Optional<LocalDate> MAX = Arrays.stream( DATE_TIMES_IN )
+                                              .collect( DateTimeStreams.maxLocalDate( DEFAULT_DATE_TIME_FORMATTER_STR, ZoneOffset.UTC, DEFAULT_LOCALE ) );
+        final SortedMap<LocalDate, Long> COUNTS = Stream.concat( Arrays.stream( DATE_TIMES_IN ), Arrays.stream( DATE_TIMES_IN ) ).parallel()
+                                                        .collect( DateTimeStreams.countByLocalDate( DEFAULT_DATE_TIME_FORMATTER_STR, ZoneOffset.UTC,
+                                                                                                    DEFAULT_LOCALE ) );
+
+        assertEquals( Optional.of( EXPECTED.firstKey() ), MIN );
+        assertEquals( Optional.of( EXPECTED.lastKey() ), MAX );
+        EXPECTED.replaceAll( ( date, count ) -> count * 2 );
+        assertEquals( EXPECTED, COUNTS );
+        assertEquals( Optional.empty(), Stream.<String>empty().collect( DateTimeStreams.minLocalDate() ) );
+        assertEquals( Collections.singletonMap( LocalDate.of( 2021, 6, 25 ), 2L ),
+                      Stream.of( DEFAULT_DATE_STR, DEFAULT_DATE_STR ).collect( DateTimeStreams.countByLocalDate() ) );
+    }
+
+    @Test
+    @DisplayName( "DateTimeStreams.countByLocalDate( String:✓, ZoneId:✓, Locale:✓ ):Collector:More days than 2^16" )
+    void givenMoreDaysThanSixteenBits_whenCountByLocalDateIsUsed_thenCountEveryDay(){
+        final LocalDate FIRST_IN = LocalDate.of( 1800, 1, 1 );
+        final int DAYS_IN = 150000;
+        final String[] DATES_IN = new String[ DAYS_IN * 2 ];
+        for( int i = 0; i < DATES_IN.length; i++ ){
+            DATES_IN[ i ] = DateTimeUtil.formatDate( FIRST_IN.plusDays( i % DAYS_IN ) );
+        }
+
+        final SortedMap<LocalDate, Long> RESULT = Arrays.stream( DATES_IN ).collect( DateTimeStreams.countByLocalDate() );
+
+        assertEquals( DAYS_IN, RESULT.size() );
+        assertEquals( FIRST_IN, RESULT.firstKey() );
+        assertEquals( FIRST_IN.plusDays( DAYS_IN - 1 ), RESULT.lastKey() );
+        assertTrue( RESULT.values().stream().allMatch( count -> count == 2L ) );
+    }
+
+    @Test
+    @DisplayName( "DateTimeStreams.getXxx|formatXxx( Yyy:✗ ):NullPointerException or IllegalArgumentException" )
+    void givenIncorrectArguments_whenStreamMethodsAreCalled_thenThrowsException(){
+        assertThrows( NullPointerException.class, () -> DateTimeStreams.getEpochMillisFromStrings( (Stream<String>) null ) );
+        assertThrows( NullPointerException.class, () -> DateTimeStreams.getLocalDatesFromStrings( (Iterator<String>) null ) );
+        assertThrows( NullPointerException.class, () -> DateTimeStreams.formatEpochMillis( null ) );
+        assertThrows( NullPointerException.class, () -> DateTimeStreams.formatDates( Stream.empty(), DEFAULT_DATE_FORMATTER_STR, null, DEFAULT_LOCALE ) );
+        assertThrows( IllegalArgumentException.class, () -> DateTimeStreams.countByLocalDate( "tt/MM/yyyy", DEFAULT_ZONE_ID, DEFAULT_LOCALE ) );
+    }
+
+    // ---| Tests for "DateTimeAsync" class.
+
+    @Test
+    @DisplayName( "DateTimeAsync.getLocalDateTimesFromStrings( String[]:✓, String:✓, ZoneId:✓, Locale:✓ ):CompletableFuture:Same as bulk" )
+    void givenDateTimes_whenAsyncGetLocalDateTimesFromStringsIsCalled_thenCompleteWithSameResultAsBulk() throws Exception{
+        final ZoneId ZONE_ID_IN = ZoneId.of( "Europe/Madrid" );
+        final String[] DATE_TIMES_IN = DateTimeUtil.formatDateTimes( randomLocalDateTimes( 3 * DateTimeAsync.CHUNK_SIZE + 17 ), "yyyyMMddHHmmss.SSS", ZONE_ID_IN,
+                                                                     DEFAULT_LOCALE );
+
+        final CompletableFuture<LocalDateTime[]> RESULT = DateTimeAsync.getLocalDateTimesFromStrings( DATE_TIMES_IN, "yyyyMMddHHmmss.SSS", ZONE_ID_IN, DEFAULT_LOCALE );
+
+        assertArrayEquals( DateTimeUtil.getLocalDateTimesFromStrings( DATE_TIMES_IN, "yyyyMMddHHmmss.SSS", ZONE_ID_IN, DEFAULT_LOCALE ),
+                           RESULT.get( 30, TimeUnit.SECONDS ) );
+        assertEquals( 0, DateTimeAsync.getLocalDatesFromStrings( new String[ 0 ] ).get( 30, TimeUnit.SECONDS ).length );
+    }
+
+    @Test
+    @DisplayName( "DateTimeAsync.formatXxx( Yyy[]:✓, String:✓, ZoneId:✓, Locale:✓, Executor:✓ ):CompletableFuture:Same as bulk" )
+    void givenValuesAndExecutor_whenAsyncFormatMethodsAreCalled_thenCompleteWithSameResultAsBulk() throws Exception{
+        final ExecutorService EXECUTOR_IN = Executors.newFixedThreadPool( 4 );
+        try{
+            final LocalDateTime[] LOCAL_DATE_TIMES_IN = randomLocalDateTimes( 2 * DateTimeAsync.CHUNK_SIZE + 1 );
+            final LocalDate[] LOCAL_DATES_IN = new LocalDate[ LOCAL_DATE_TIMES_IN.length ];
+            final LocalTime[] LOCAL_TIMES_IN = new LocalTime[ LOCAL_DATE_TIMES_IN.length ];
+            for( int i = 0; i < LOCAL_DATE_TIMES_IN.length; i++ ){
+                LOCAL_DATES_IN[ i ] = LOCAL_DATE_TIMES_IN[ i ].toLocalDate();
+                LOCAL_TIMES_IN[ i ] = LOCAL_DATE_TIMES_IN[ i ].toLocalTime();
+            }
+
+            final String[] DATES = DateTimeAsync.formatDates( LOCAL_DATES_IN, "EEEE, d 'de' MMMM 'de' yyyy", DEFAULT_ZONE_ID, DEFAULT_LOCALE, EXECUTOR_IN )
+                                                .get( 30, TimeUnit.SECONDS );
+            final String[] DATE_TIMES = DateTimeAsync.formatDateTimes( LOCAL_DATE_TIMES_IN, DEFAULT_DATE_TIME_FORMATTER_STR, DEFAULT_ZONE_ID, DEFAULT_LOCALE,
+                                                                       EXECUTOR_IN ).get( 30, TimeUnit.SECONDS );
+            final String[] TIMES = DateTimeAsync.formatTimes( LOCAL_TIMES_IN, "HH:mm:ss.SSS", DEFAULT_ZONE_ID, DEFAULT_LOCALE, EXECUTOR_IN )
+                                                .get( 30, TimeUnit.SECONDS );
+
+            assertArrayEquals( DateTimeUtil.formatDates( LOCAL_DATES_IN, "EEEE, d 'de' MMMM 'de' yyyy", DEFAULT_ZONE_ID, DEFAULT_LOCALE ), DATES );
+            assertArrayEquals( DateTimeUtil.formatDateTimes( LOCAL_DATE_TIMES_IN, DEFAULT_DATE_TIME_FORMATTER_STR, DEFAULT_ZONE_ID, DEFAULT_LOCALE ), DATE_TIMES );
+            assertArrayEquals( DateTimeUtil.formatTimes( LOCAL_TIMES_IN, "HH:mm:ss.SSS", DEFAULT_ZONE_ID, DEFAULT_LOCALE ), TIMES );
+            assertArrayEquals( LOCAL_TIMES_IN, DateTimeAsync.getLocalTimesFromStrings( TIMES, "HH:mm:ss.SSS", DEFAULT_ZONE_ID, DEFAULT_LOCALE, EXECUTOR_IN )
+                                                            .get( 30, TimeUnit.SECONDS ) );
+        }
+        finally{
+            EXECUTOR_IN.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName( "DateTimeAsync.getLocalDatesFromStrings( String[]:✓, String:✓, ZoneId:✓, Locale:✓, Executor:✓ ):CompletableFuture:Chunks in executor bounded" )
+    void givenLargeArray_whenAsyncConversionRuns_thenChunksInExecutorAreBounded() throws Exception{
+        final ExecutorService POOL = Executors.newFixedThreadPool( 8 );
+        final AtomicInteger QUEUED = new AtomicInteger();
+        final AtomicInteger MAX_QUEUED = new AtomicInteger();
+        final AtomicInteger TASKS = new AtomicInteger();
+        final Executor EXECUTOR_IN = task -> {
+            MAX_QUEUED.accumulateAndGet( QUEUED.incrementAndGet(), Math::max );
+            TASKS.incrementAndGet();
+            POOL.execute( () -> {
+                QUEUED.decrementAndGet();
+                task.run();
+            } );
+        };
+        try{
+            final String[] DATES_IN = new String[ 40 * DateTimeAsync.CHUNK_SIZE ];
+            Arrays.fill( DATES_IN, DEFAULT_DATE_STR );
+
+            final LocalDate[] RESULT = DateTimeAsync.getLocalDatesFromStrings( DATES_IN, DEFAULT_DATE_FORMATTER_STR, DEFAULT_ZONE_ID, DEFAULT_LOCALE, EXECUTOR_IN )
+                                                    .get( 30, TimeUnit.SECONDS );
+
+            assertTrue( Arrays.stream( RESULT ).allMatch( LocalDate.of( 2021, 6, 25 )::equals ) );
+            assertTrue( MAX_QUEUED.get() <= Math.max( 1, Runtime.getRuntime().availableProcessors() / 2 ), "MAX QUEUED: " + MAX_QUEUED.get() );
+            assertTrue( TASKS.get() >= 40, "TASKS: " + TASKS.get() );
+        }
+        finally{
+            POOL.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName( "DateTimeAsync.getLocalDatesFromStrings( String[]:✓, String:✓, ZoneId:✓, Locale:✓, Executor:[Single thread] ):CompletableFuture:Other tasks run in between" )
+    void givenSingleThreadExecutor_whenAsyncConversionRuns_thenOtherTasksRunBeforeItEnds() throws Exception{
+        final ExecutorService EXECUTOR_IN = Executors.newSingleThreadExecutor();
+        try{
+            final String[] DATES_IN = new String[ 20 * DateTimeAsync.CHUNK_SIZE ];
+            Arrays.fill( DATES_IN, DEFAULT_DATE_STR );
+            final CountDownLatch LATCH = new CountDownLatch( 1 );
+            EXECUTOR_IN.execute( () -> awaitQuietly( LATCH ) );
+
+            final CompletableFuture<LocalDate[]> RESULT = DateTimeAsync.getLocalDatesFromStrings( DATES_IN, DEFAULT_DATE_FORMATTER_STR, DEFAULT_ZONE_ID,
+                                                                                                  DEFAULT_LOCALE, EXECUTOR_IN );
+            final CompletableFuture<Boolean> OTHER = CompletableFuture.supplyAsync( RESULT::isDone, EXECUTOR_IN );
+            LATCH.countDown();
+
+            assertFalse( OTHER.get( 30, TimeUnit.SECONDS ) );
+            assertEquals( DATES_IN.length, RESULT.get( 30, TimeUnit.SECONDS ).length );
+        }
+        finally{
+            EXECUTOR_IN.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName( "DateTimeAsync.getLocalDatesFromStrings( String[]:✓, String:✓, ZoneId:✓, Locale:✓, Executor:[Direct] ):CompletableFuture:No nested calls" )
+    void givenDirectExecutor_whenAsyncConversionRuns_thenChunksDoNotNest(){
+        final AtomicInteger MIN_DEPTH = new AtomicInteger( Integer.MAX_VALUE );
+        final AtomicInteger MAX_DEPTH = new AtomicInteger();
+        final Executor EXECUTOR_IN = task -> {
+            final int DEPTH = new Throwable().getStackTrace().length;
+            MIN_DEPTH.accumulateAndGet( DEPTH, Math::min );
+            MAX_DEPTH.accumulateAndGet( DEPTH, Math::max );
+            task.run();
+        };
+        final String[] DATES_IN = new String[ 100 * DateTimeAsync.CHUNK_SIZE ];
+        Arrays.fill( DATES_IN, DEFAULT_DATE_STR );
+
+        final CompletableFuture<LocalDate[]> RESULT = DateTimeAsync.getLocalDatesFromStrings( DATES_IN, DEFAULT_DATE_FORMATTER_STR, DEFAULT_ZONE_ID, DEFAULT_LOCALE,
+                                                                                              EXECUTOR_IN );
+
+        assertTrue( RESULT.isDone() );
+        assertEquals( LocalDate.of( 2021, 6, 25 ), RESULT.join()[ DATES_IN.length - 1 ] );
+        assertEquals( MIN_DEPTH.get(), MAX_DEPTH.get() );
+    }
+
+    @Test
+    @DisplayName( "DateTimeAsync.getLocalDatesFromStrings( String[]:[Invalid elements], String:✓, ZoneId:✓, Locale:✓, Executor:✓ ):CompletableFuture:BulkConversionException" )
+    void givenInvalidElements_whenAsyncConversionRuns_thenCompleteWithFirstFailure(){
+        final ExecutorService EXECUTOR_IN = Executors.newFixedThreadPool( 4 );
+        try{
+            final String[] DATES_IN = new String[ 10 * DateTimeAsync.CHUNK_SIZE ];
+            Arrays.fill( DATES_IN, DEFAULT_DATE_STR );
+            DATES_IN[ 9 * DateTimeAsync.CHUNK_SIZE ] = "x";
+            DATES_IN[ 2 * DateTimeAsync.CHUNK_SIZE + 5 ] = "25/13/2021";
+
+            final CompletableFuture<LocalDate[]> RESULT = DateTimeAsync.getLocalDatesFromStrings( DATES_IN, DEFAULT_DATE_FORMATTER_STR, DEFAULT_ZONE_ID,
+                                                                                                  DEFAULT_LOCALE, EXECUTOR_IN );
+
+            final ExecutionException EXCEPTION = assertThrows( ExecutionException.class, () -> RESULT.get( 30, TimeUnit.SECONDS ) );
+            final BulkConversionException CAUSE = assertInstanceOf( BulkConversionException.class, EXCEPTION.getCause() );
+            assertEquals( 2 * DateTimeAsync.CHUNK_SIZE + 5, CAUSE.getIndex() );
+            assertInstanceOf( DateTimeParseException.class, CAUSE.getCause() );
+        }
+        finally{
+            EXECUTOR_IN.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName( "DateTimeAsync.getXxx|formatXxx( Yyy:✗ ):NullPointerException, IllegalArgumentException or RejectedExecutionException" )
+    void givenIncorrectArguments_whenAsyncMethodsAreCalled_thenThrowsException(){
+        final ExecutorService SHUT_DOWN = Executors.newSingleThreadExecutor();
+        SHUT_DOWN.shutdown();
+
+        assertThrows( NullPointerException.class, () -> DateTimeAsync.getLocalDatesFromStrings( null ) );
+        assertThrows( NullPointerException.class, () -> DateTimeAsync.formatTimes( new LocalTime[ 0 ], DEFAULT_TIME_FORMATTER_STR, null, DEFAULT_LOCALE ) );
+        assertThrows( NullPointerException.class, () -> DateTimeAsync.formatDates( new LocalDate[ 0 ], DEFAULT_DATE_FORMATTER_STR, DEFAULT_ZONE_ID, DEFAULT_LOCALE,
+                                                                                   null ) );
+        assertThrows( IllegalArgumentException.class, () -> DateTimeAsync.getLocalTimesFromStrings( new String[ 0 ], "tt:mm", DEFAULT_ZONE_ID, DEFAULT_LOCALE ) );
+        final ExecutionException EXCEPTION = assertThrows( ExecutionException.class, () -> DateTimeAsync.getLocalDatesFromStrings(
+                new String[]{ DEFAULT_DATE_STR }, DEFAULT_DATE_FORMATTER_STR, DEFAULT_ZONE_ID, DEFAULT_LOCALE, SHUT_DOWN ).get( 30, TimeUnit.SECONDS ) );
+        assertInstanceOf( RejectedExecutionException.class, EXCEPTION.getCause() );
+    }
+
+    /**
+     * <p>Waits for "latchIn" to reach zero, ignoring the interruptions.</p>
+     */
+    private static void awaitQuietly( CountDownLatch latchIn ){
+        try{
+            latchIn.await();
+        }
+        catch( InterruptedException e ){
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ---| Tests for the parse memo.
+
+    @Test
+    @DisplayName( "CompiledPattern.withParseMemo( int:✓ ).getLocalDateFromString( String:✓ ):Parsed once per text" )
+    void givenRepeatedDates_whenMemoizedGetLocalDateFromStringIsCalled_thenEveryTextIsParsedOnce(){
+        final CompiledPattern PATTERN_IN = DateTimeUtil.compile( DEFAULT_DATE_FORMATTER_STR ).withParseMemo( 16 );
+        final String[] DATES_IN = { DEFAULT_DATE_STR, "26/06/2021", DEFAULT_DATE_STR, DEFAULT_DATE_STR, "26/06/2021" };
+
+        for( String date : DATES_IN ){
+            final LocalDate EXPECTED = LocalDate.parse( date, DEFAULT_DATE_FORMATTER );
+            final LocalDate RESULT = PATTERN_IN.getLocalDateFromString( new StringBuilder( date ) );
+            assertEquals( EXPECTED, RESULT, String.format( MSG_TEMPLATE_RESULT_EXPECTED, RESULT, EXPECTED ) );
+        }
+
+        assertEquals( 2L, PATTERN_IN.getParseMemoMissCount() );
+        assertEquals( 3L, PATTERN_IN.getParseMemoHitCount() );
+        assertEquals( 0.6, PATTERN_IN.getParseMemoHitRate(), 1e-9 );
+        assertEquals( 2, PATTERN_IN.getParseMemoSize() );
+        assertEquals( 16, PATTERN_IN.getParseMemoMaximumSize() );
+        assertEquals( PATTERN_IN, DateTimeUtil.compile( DEFAULT_DATE_FORMATTER_STR ) );
+        assertEquals( 0, DateTimeUtil.compile( DEFAULT_DATE_FORMATTER_STR ).getParseMemoMaximumSize() );
+
+        PATTERN_IN.clearParseMemo();
+
+        assertEquals( 0L, PATTERN_IN.getParseMemoHitCount() );
+        assertEquals( 0, PATTERN_IN.getParseMemoSize() );
+        assertEquals( 0, PATTERN_IN.getParseMemoHitRate() );
+    }
+
+    @Test
+    @DisplayName( "CompiledPattern.withParseMemo( int:✓ ).getDateFromString( String:✓ ):Fresh Date on every call" )
+    void givenMemoizedPattern_whenGetDateFromStringIsCalledTwice_thenReturnDifferentDateObjects(){
+        final CompiledPattern PATTERN_IN = DateTimeUtil.compile( DEFAULT_DATE_FORMATTER_STR ).withParseMemo( 16 );
+        final Date EXPECTED = DateTimeUtil.getDateFromString( DEFAULT_DATE_STR );
+
+        final Date FIRST = PATTERN_IN.getDateFromString( DEFAULT_DATE_STR );
+        FIRST.setTime( 0 );
+        final Date SECOND = PATTERN_IN.getDateFromString( DEFAULT_DATE_STR );
+
+        assertNotSame( FIRST, SECOND );
+        assertEquals( EXPECTED, SECOND, String.format( MSG_TEMPLATE_RESULT_EXPECTED, SECOND, EXPECTED ) );
+        assertEquals( 1L, PATTERN_IN.getParseMemoHitCount() );
+    }
+
+    @Test
+    @DisplayName( "CompiledPattern.withParseMemo( int:✓ ).getLocalDateFromString( String:✗ ):Invalid texts are not kept" )
+    void givenInvalidDate_whenMemoizedGetLocalDateFromStringIsCalled_thenThrowEveryTimeAndKeepNothing(){
+        final CompiledPattern PATTERN_IN = DateTimeUtil.compile( DEFAULT_DATE_FORMATTER_STR ).withParseMemo( 16 );
+        final String DATE_IN = "25/13/2021";
+
+        assertThrows( DateTimeParseException.class, () -> PATTERN_IN.getLocalDateFromString( DATE_IN ) );
+        assertThrows( DateTimeParseException.class, () -> PATTERN_IN.getLocalDateFromString( DATE_IN ) );
+        assertFalse( PATTERN_IN.tryGetLocalDateFromString( DATE_IN ).isPresent() );
+        assertThrows( NullPointerException.class, () -> PATTERN_IN.getLocalDateFromString( null ) );
+        assertEquals( 0, PATTERN_IN.getParseMemoSize() );
+        assertEquals( 0L, PATTERN_IN.getParseMemoHitCount() );
+        assertThrows( IllegalArgumentException.class, () -> PATTERN_IN.withParseMemo( 0 ) );
+    }
+
+    @Test
+    @DisplayName( "CompiledPattern.withParseMemo( int:✓ ).getLocalDateFromString( String:✓ ):Scan resistant" )
+    void givenHotDatesAndLongScan_whenMemoizedGetLocalDateFromStringIsCalled_thenHotDatesStayInTheMemo(){
+        final int MAXIMUM_SIZE_IN = 100;
+        final CompiledPattern PATTERN_IN = DateTimeUtil.compile( DEFAULT_DATE_FORMATTER_STR ).withParseMemo( MAXIMUM_SIZE_IN );
+        final LocalDate FIRST_DATE = LocalDate.of( 2021, 6, 25 );
+        final String[] HOT_DATES_IN = new String[ 50 ];
+        for( int i = 0; i < HOT_DATES_IN.length; i++ ){
+            HOT_DATES_IN[ i ] = FIRST_DATE.plusDays( i ).format( DEFAULT_DATE_FORMATTER );
+        }
+        for( int pass = 0; pass < 2; pass++ ){
+            for( String date : HOT_DATES_IN ){
+                PATTERN_IN.getLocalDateFromString( date );
+            }
+        }
+
+        for( int i = 0; i < 20 * MAXIMUM_SIZE_IN; i++ ){
+            PATTERN_IN.getLocalDateFromString( FIRST_DATE.minusDays( i + 1 ).format( DEFAULT_DATE_FORMATTER ) );
+        }
+        final long HITS_BEFORE = PATTERN_IN.getParseMemoHitCount();
+        for( String date : HOT_DATES_IN ){
+            PATTERN_IN.getLocalDateFromString( date );
+        }
+
+        assertEquals( HOT_DATES_IN.length, PATTERN_IN.getParseMemoHitCount() - HITS_BEFORE );
+        assertTrue( PATTERN_IN.getParseMemoSize() <= MAXIMUM_SIZE_IN );
+        assertTrue( PATTERN_IN.getParseMemoEvictionCount() >= 20 * MAXIMUM_SIZE_IN - MAXIMUM_SIZE_IN );
+    }
+
+    @Test
+    @DisplayName( "CompiledPattern.withParseMemo( int:✓ ).getLocalDateFromString( String:✓ ):Thread-safe" )
+    void givenSeveralThreads_whenMemoizedGetLocalDateFromStringIsCalled_thenReturnTheParsedDates() throws Exception{
+        final CompiledPattern PATTERN_IN = DateTimeUtil.compile( DEFAULT_DATE_FORMATTER_STR ).withParseMemo( 64 );
+        final LocalDate FIRST_DATE = LocalDate.of( 2021, 6, 25 );
+        final ExecutorService EXECUTOR_IN = Executors.newFixedThreadPool( 4 );
+        try{
+            final List<CompletableFuture<Boolean>> RESULTS = new ArrayList<>();
+            for( int task = 0; task < 4; task++ ){
+                final int SEED = task;
+                RESULTS.add( CompletableFuture.supplyAsync( () -> {
+                    final Random random = new Random( SEED );
+                    for( int i = 0; i < 20_000; i++ ){
+                        final LocalDate expected = FIRST_DATE.plusDays( random.nextInt( 200 ) );
+                        if( !expected.equals( PATTERN_IN.getLocalDateFromString( expected.format( DEFAULT_DATE_FORMATTER ) ) ) ){
+                            return false;
+                        }
+                    }
+                    return true;
+                }, EXECUTOR_IN ) );
+            }
+            for( CompletableFuture<Boolean> result : RESULTS ){
+                assertTrue( result.get( 30, TimeUnit.SECONDS ) );
+            }
+        }
+        finally{
+            EXECUTOR_IN.shutdownNow();
+        }
+
+        assertTrue( PATTERN_IN.getParseMemoSize() <= 64 );
+        assertEquals( 80_000L, PATTERN_IN.getParseMemoHitCount() + PATTERN_IN.getParseMemoMissCount() );
+    }
+
+    // ---| Tests for the format memo.
+
+    @Test
+    @DisplayName( "CompiledPattern.formatDateTime( Date:✓, ZoneId:✓ ):Same minute reuses the text" )
+    void givenDatesInSameMinute_whenFormatDateTimeIsCalled_thenReturnTheSameText(){
+        final CompiledPattern PATTERN_IN = DateTimeUtil.compile( DateTimeUtil.DEFAULT_DATE_TIME_PATTERN, DEFAULT_LOCALE );
+        final ZoneId ZONE_ID_IN = ZoneId.of( "Europe/Madrid" );
+        final long EPOCH_MILLI_IN = LocalDateTime.of( 2021, 6, 25, 17, 36 ).atZone( ZONE_ID_IN ).toInstant().toEpochMilli();
+
+        final String FIRST = PATTERN_IN.formatDateTime( new Date( EPOCH_MILLI_IN + 1_234 ), ZONE_ID_IN );
+        final String SECOND = PATTERN_IN.formatDateTime( new Date( EPOCH_MILLI_IN + 59_999 ), ZONE_ID_IN );
+        final String NEXT_MINUTE = PATTERN_IN.formatDateTime( new Date( EPOCH_MILLI_IN + 60_000 ), ZONE_ID_IN );
+        final String OTHER_ZONE = PATTERN_IN.formatDateTime( new Date( EPOCH_MILLI_IN + 1_234 ), ZoneOffset.UTC );
+
+        assertEquals( "25/06/2021 17:36", FIRST );
+        assertSame( FIRST, SECOND );
+        assertEquals( "25/06/2021 17:37", NEXT_MINUTE );
+        assertEquals( "25/06/2021 15:36", OTHER_ZONE );
+    }
+
+    @Test
+    @DisplayName( "CompiledPattern.formatDate( LocalDate:✓, ZoneId:✓ ):Same day reuses the text" )
+    void givenSameDateInDifferentZones_whenFormatDateIsCalled_thenReturnTheSameText(){
+        final CompiledPattern PATTERN_IN = DateTimeUtil.compile( "dd MMMM yyyy", new Locale( "es", "ES" ) );
+        final LocalDate DATE_IN = LocalDate.of( 2021, 6, 25 );
+
+        final String FIRST = PATTERN_IN.formatDate( DATE_IN, ZoneId.of( "Europe/Madrid" ) );
+        final String SECOND = PATTERN_IN.formatDate( LocalDate.of( 2021, 6, 25 ), ZoneId.of( "America/Sao_Paulo" ) );
+        final String SAME_DAY = PATTERN_IN.formatDateTime( DATE_IN.atTime( 23, 59 ), ZoneOffset.UTC );
+
+        assertEquals( "25 junio 2021", FIRST );
+        assertSame( FIRST, SECOND );
+        assertSame( FIRST, SAME_DAY );
+        assertEquals( "26 junio 2021", PATTERN_IN.formatDate( DATE_IN.plusDays( 1 ) ) );
+    }
+
+    @ParameterizedTest
+    @ValueSource( strings = { "dd/MM/yyyy", "dd/MM/yyyy HH:mm", "dd/MM/yyyy HH:mm:ss", "yyyy-MM-dd'T'HH:mm:ss.SSS", "EEEE d MMMM yyyy, h:mm a",
+                              "HH 'h' mm", "ww/YYYY" } )
+    @DisplayName( "CompiledPattern.formatXxx( Yyy:✓, ZoneId:✓ ):Same as DateTimeFormatter with the format memo" )
+    void givenSortedDateTimes_whenFormatMethodsAreCalled_thenReturnSameTextAsDateTimeFormatter( final String PATTERN_IN ){
+        final ZoneId ZONE_ID_IN = ZoneId.of( "Europe/Madrid" );
+        final CompiledPattern COMPILED = DateTimeUtil.compile( PATTERN_IN, DEFAULT_LOCALE );
+        final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern( PATTERN_IN, DEFAULT_LOCALE );
+        final Random RANDOM = new Random( 25 );
+        long epochMilli = LocalDateTime.of( 2021, 10, 30, 23, 0 ).atZone( ZONE_ID_IN ).toInstant().toEpochMilli();
+
+        for( int i = 0; i < 5_000; i++ ){
+            epochMilli += RANDOM.nextInt( 45_000 );
+            final ZonedDateTime EXPECTED_DATE_TIME = Instant.ofEpochMilli( epochMilli ).atZone( ZONE_ID_IN );
+            final String EXPECTED = FORMATTER.format( EXPECTED_DATE_TIME );
+            final String RESULT = COMPILED.formatEpochMillis( epochMilli, ZONE_ID_IN );
+            assertEquals( EXPECTED, RESULT, String.format( MSG_TEMPLATE_RESULT_EXPECTED, RESULT, EXPECTED ) );
+            assertEquals( EXPECTED, COMPILED.formatDateTime( new Date( epochMilli ), ZONE_ID_IN ) );
+            assertEquals( EXPECTED, COMPILED.formatDateTime( EXPECTED_DATE_TIME.toLocalDateTime(), ZONE_ID_IN ) );
+        }
+    }
+
+    /**
+     * <p>Returns random local date-times from year 1 to 9999, always the same for the same length.</p>
+     */
+    private static LocalDateTime[] randomLocalDateTimes( final int LENGTH ){
+        final Random RANDOM = new Random( LENGTH );
+        final LocalDateTime[] RESULT = new LocalDateTime[ LENGTH ];
+        for( int i = 0; i < LENGTH; i++ ){
+            RESULT[ i ] = LocalDateTime.of( 1 + RANDOM.nextInt( 9999 ), 1 + RANDOM.nextInt( 12 ), 1 + RANDOM.nextInt( 28 ), RANDOM.nextInt( 24 ),
+                                            RANDOM.nextInt( 60 ), RANDOM.nextInt( 60 ), RANDOM.nextInt( 1000 ) * 1000000 );
+        }
+        return RESULT;
+    }
+
 }